@@ -0,0 +1,40 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.types.InvitationResponse;
+import com.vortexsoftware.sdk.types.InvitationResult;
+
+import java.util.List;
+
+/**
+ * Reports how much string heap VortexStringDeduplicator saves on a generated
+ * listing where every invitation has its own id, target, message and
+ * referral code. Lives in the SDK package, next to the package-private
+ * deduplicator, and uses InvitationListingFixture from the test sources.
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.vortexsoftware.sdk.StringDeduplicationReport [-Dexec.args=100000]
+ * </pre>
+ */
+public final class StringDeduplicationReport {
+
+    private static final int DEFAULT_LISTING_SIZE = 50_000;
+
+    private StringDeduplicationReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LISTING_SIZE;
+        ObjectMapper objectMapper = VortexObjectMappers.create();
+        List<InvitationResult> invitations = objectMapper.readValue(
+                InvitationListingFixture.generate(size, 42), InvitationResponse.class).getInvitations();
+
+        long before = InvitationListingFixture.retainedStringBytes(invitations);
+        VortexStringDeduplicator.deduplicate(invitations);
+        long after = InvitationListingFixture.retainedStringBytes(invitations);
+
+        System.out.printf("%d invitations with unique ids and messages: %,d bytes of strings, %,d deduplicated (%d%% saved)%n",
+                invitations.size(), before, after, 100 * (before - after) / before);
+    }
+}
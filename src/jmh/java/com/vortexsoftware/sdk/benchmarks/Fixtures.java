@@ -0,0 +1,28 @@
+package com.vortexsoftware.sdk.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads the payload fixtures checked into src/test/resources/fixtures
+ */
+final class Fixtures {
+
+    static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.benchmark-signing-key";
+    static final String WEBHOOK_SECRET = "whsec_benchmark_secret";
+
+    private Fixtures() {
+    }
+
+    static byte[] load(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.vortexsoftware.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vortexsoftware.sdk.VortexObjectMappers;
+import com.vortexsoftware.sdk.types.InvitationResponse;
+import com.vortexsoftware.sdk.types.VortexTypesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of InvitationResponse bodies into InvitationResult objects, the
+ * way VortexClient decodes a response body: bytes to String, then the String
+ * through its ObjectMapper. "small" holds one invitation, "large" a page of 200.
+ * "generated" decodes with the pre-generated codecs of VortexTypesModule, as
+ * the SDK does, "reflective" with Jackson's own bean deserializers, and
+ * "blackbird" with Jackson's bean deserializers accelerated by the Blackbird
+ * module (VortexObjectMappers.registerBlackbird).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InvitationDecodeBenchmark {
+
+    private static final TypeReference<InvitationResponse> RESPONSE_TYPE = new TypeReference<InvitationResponse>() {};
+
+    @Param({"small", "large"})
+    public String payloadSize;
+
+    @Param({"generated", "reflective", "blackbird"})
+    public String codecs;
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        if ("generated".equals(codecs)) {
+            objectMapper.registerModule(new VortexTypesModule());
+        } else if ("blackbird".equals(codecs)) {
+            VortexObjectMappers.registerBlackbird(objectMapper);
+        }
+        payload = Fixtures.load("invitation-response-" + payloadSize + ".json");
+    }
+
+    @Benchmark
+    public InvitationResponse decode() throws IOException {
+        String responseBody = new String(payload, StandardCharsets.UTF_8);
+        return objectMapper.readValue(responseBody, RESPONSE_TYPE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.vortexsoftware.sdk.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.VortexException;
+import com.vortexsoftware.sdk.types.GenerateTokenPayload;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import com.vortexsoftware.sdk.types.TokenUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start: each measurement runs once in a fresh JVM, so it includes
+ * loading and initializing the SDK, Jackson and the HTTP client.
+ *
+ * <ul>
+ *   <li>{@code timeToFirstToken}: construct a VortexClient and mint one
+ *       token, as a token-only serverless function does</li>
+ *   <li>{@code timeToFirstApiCall}: construct a VortexClient and fetch one
+ *       invitation from a local stub server</li>
+ * </ul>
+ *
+ * The stub server is started in setup and not measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] invitation = Fixtures.load("invitation-result.json");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, invitation.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(invitation);
+            }
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String timeToFirstToken() throws VortexException {
+        VortexClient client = new VortexClient(Fixtures.TEST_API_KEY, baseUrl);
+        try {
+            return client.generateToken(new GenerateTokenPayload(
+                    new TokenUser("user-123", "Jane Doe", "user@example.com")));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Benchmark
+    public InvitationResult timeToFirstApiCall() throws VortexException {
+        VortexClient client = new VortexClient(Fixtures.TEST_API_KEY, baseUrl);
+        try {
+            return client.getInvitation("inv_000000_1c80a3b1799d");
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.vortexsoftware.sdk.benchmarks;
+
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.VortexException;
+import com.vortexsoftware.sdk.types.GenerateTokenPayload;
+import com.vortexsoftware.sdk.types.TokenUser;
+import com.vortexsoftware.sdk.types.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Locally minted signatures and tokens: sign, generateJwt and generateToken.
+ * None of these touch the network.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TokenBenchmark {
+
+    private VortexClient client;
+    private Map<String, Object> signUser;
+    private Map<String, Object> jwtParams;
+    private GenerateTokenPayload tokenPayload;
+
+    @Setup
+    public void setUp() {
+        client = new VortexClient(Fixtures.TEST_API_KEY, "http://localhost:1");
+
+        signUser = new HashMap<>();
+        signUser.put("id", "user-123");
+        signUser.put("email", "user@example.com");
+        signUser.put("name", "Jane Doe");
+
+        User user = new User("user-123", "user@example.com", List.of("autojoin"));
+        jwtParams = new HashMap<>();
+        jwtParams.put("user", user);
+        jwtParams.put("role", "admin");
+
+        tokenPayload = new GenerateTokenPayload(new TokenUser("user-123", "Jane Doe", "user@example.com"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public String sign() throws VortexException {
+        return client.sign(signUser);
+    }
+
+    @Benchmark
+    public String generateJwt() throws VortexException {
+        return client.generateJwt(jwtParams);
+    }
+
+    @Benchmark
+    public String generateToken() throws VortexException {
+        return client.generateToken(tokenPayload);
+    }
+}
@@ -0,0 +1,91 @@
+package com.vortexsoftware.sdk.benchmarks;
+
+import com.vortexsoftware.sdk.VortexEventHandler;
+import com.vortexsoftware.sdk.VortexOpenTelemetry;
+import com.vortexsoftware.sdk.VortexTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Cost of the tracing hooks around one API call and one webhook event:
+ * without a tracer ({@code none}), with OpenTelemetry and sampling off
+ * ({@code off}), and with every span recorded but not exported ({@code on}).
+ * The difference between {@code none} and {@code off} is what an application
+ * pays for trace propagation when it does not sample.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TracingBenchmark {
+
+    private static final String ROUTE = "/api/v1/invitations/{invitationId}";
+    private static final String URL = "https://api.vortexsoftware.com/api/v1/invitations/inv_123";
+
+    @Param({"none", "off", "on"})
+    public String tracing;
+
+    private VortexTracer tracer;
+    private SdkTracerProvider tracerProvider;
+    private final Map<String, String> headers = new HashMap<>();
+    private BiConsumer<String, String> headerSetter;
+    private final VortexEventHandler handler = event -> { };
+    private final Object event = new Object();
+
+    @Setup
+    public void setUp() {
+        headerSetter = headers::put;
+        if ("none".equals(tracing)) {
+            tracer = VortexTracer.NOOP;
+            return;
+        }
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler("on".equals(tracing) ? Sampler.alwaysOn() : Sampler.alwaysOff())
+                .build();
+        tracer = new VortexOpenTelemetry(OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Benchmark
+    public int apiRequest() {
+        VortexTracer.ApiSpan span = tracer.startApiRequest("GET", ROUTE, URL, headerSetter);
+        span.end(200, null);
+        return headers.size();
+    }
+
+    @Benchmark
+    public void webhook() throws Exception {
+        tracer.traceWebhook("evt_123", "invitation.accepted", handler).handle(event);
+    }
+}
@@ -0,0 +1,59 @@
+package com.vortexsoftware.sdk.benchmarks;
+
+import com.vortexsoftware.sdk.VortexWebhooks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webhook signature verification and event parsing on the
+ * fixtures/webhook-event.json payload, with eager and lazy payload decoding
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WebhookBenchmark {
+
+    @Param({"false", "true"})
+    public boolean lazyPayloads;
+
+    private VortexWebhooks webhooks;
+    private byte[] payload;
+    private String signature;
+
+    @Setup
+    public void setUp() throws Exception {
+        webhooks = new VortexWebhooks(Fixtures.WEBHOOK_SECRET, lazyPayloads);
+        payload = Fixtures.load("webhook-event.json");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Fixtures.WEBHOOK_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        signature = HexFormat.of().formatHex(mac.doFinal(payload));
+    }
+
+    @Benchmark
+    public boolean verifySignature() {
+        return webhooks.verifySignature(payload, signature);
+    }
+
+    @Benchmark
+    public Object constructEvent() throws Exception {
+        return webhooks.constructEvent(payload, signature);
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * JMH benchmarks for the SDK's hot paths.
+ *
+ * <p>Built and run through the {@code benchmarks} Maven profile, which adds
+ * {@code src/jmh/java} as a test source root. Payload fixtures are read from
+ * {@code src/test/resources/fixtures}.</p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec@jmh
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="TokenBenchmark -prof gc -f 1"
+ * </pre>
+ *
+ * <p>By default every benchmark runs with the GC profiler, so results report
+ * {@code gc.alloc.rate.norm} (bytes allocated per operation) next to
+ * throughput, and are written to {@code target/jmh-result.json}.</p>
+ */
+package com.vortexsoftware.sdk.benchmarks;
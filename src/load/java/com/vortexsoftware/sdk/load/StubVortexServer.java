@@ -0,0 +1,181 @@
+package com.vortexsoftware.sdk.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the /api/v1/invitations* endpoints of the Vortex API
+ *
+ * Responses are built once at startup from
+ * src/test/resources/fixtures/invitation-response-large.json. Each response is
+ * delayed by the configured latency plus a uniformly random jitter, without
+ * holding a server thread while it waits, and a configurable fraction of
+ * requests fails with 500.
+ */
+public class StubVortexServer implements AutoCloseable {
+
+    private static final byte[] EMPTY = "{}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ERROR = "{\"error\":\"Injected failure\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ScheduledExecutorService responders;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+
+    private final byte[] invitation;
+    private final byte[] invitationList;
+    private final byte[] acceptResponse;
+
+    /**
+     * @param latency     Fixed delay before every response
+     * @param jitter      Additional uniformly random delay, up to this much
+     * @param errorRate   Fraction of requests answered with 500, in [0, 1]
+     * @param payloadSize Number of invitations in list responses
+     */
+    public StubVortexServer(Duration latency, Duration jitter, double errorRate, int payloadSize) throws IOException {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        if (payloadSize < 0) {
+            throw new IllegalArgumentException("payloadSize cannot be negative");
+        }
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.errorRate = errorRate;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ArrayNode fixture = (ArrayNode) objectMapper.readTree(loadFixture()).get("invitations");
+        JsonNode first = fixture.get(0);
+        this.invitation = objectMapper.writeValueAsBytes(first);
+        this.invitationList = objectMapper.writeValueAsBytes(invitations(objectMapper, fixture, payloadSize));
+        this.acceptResponse = objectMapper.writeValueAsBytes(invitations(objectMapper, fixture, 1));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.handlers = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), r -> {
+            Thread t = new Thread(r, "vortex-stub-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.responders = Executors.newScheduledThreadPool(2, r -> {
+            Thread t = new Thread(r, "vortex-stub-responder-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.createContext("/api/v1/invitations", this::handle);
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    /** Base URL to pass to VortexClient. */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        responders.shutdownNow();
+        handlers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        // Drain the request body so the connection can be reused
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+
+        int status;
+        byte[] body;
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            status = 500;
+            body = ERROR;
+        } else {
+            status = 200;
+            body = route(exchange.getRequestMethod(), exchange.getRequestURI().getPath());
+            if (body == null) {
+                status = 404;
+                body = EMPTY;
+            }
+        }
+
+        long delay = latencyNanos + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0);
+        int responseStatus = status;
+        byte[] responseBody = body;
+        if (delay <= 0) {
+            respond(exchange, responseStatus, responseBody);
+        } else {
+            responders.schedule(() -> respond(exchange, responseStatus, responseBody), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private byte[] route(String method, String path) {
+        String rest = path.substring("/api/v1/invitations".length());
+        if (rest.isEmpty() || rest.equals("/")) {
+            return "GET".equals(method) ? invitationList : invitation;
+        }
+        if (rest.equals("/accept")) {
+            return acceptResponse;
+        }
+        if (rest.startsWith("/by-scope/")) {
+            return "DELETE".equals(method) ? EMPTY : invitationList;
+        }
+        if (rest.endsWith("/reinvite")) {
+            return invitation;
+        }
+        return "DELETE".equals(method) ? EMPTY : invitation;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            // The client gave up on the request; nothing to report from the stub
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static ObjectNode invitations(ObjectMapper objectMapper, ArrayNode fixture, int count) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode invitations = response.putArray("invitations");
+        for (int i = 0; i < count; i++) {
+            invitations.add(fixture.get(i % fixture.size()));
+        }
+        return response;
+    }
+
+    private static byte[] loadFixture() {
+        try (InputStream in = StubVortexServer.class.getResourceAsStream("/fixtures/invitation-response-large.json")) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture invitation-response-large.json");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.vortexsoftware.sdk.load;
+
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.VortexExecutors;
+import com.vortexsoftware.sdk.VortexHttpOptions;
+import com.vortexsoftware.sdk.types.AcceptUser;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load test of one VortexClient against {@link StubVortexServer}
+ *
+ * Requests are issued on a schedule (uniform or Poisson arrivals at --rate per
+ * second) regardless of how quickly earlier ones complete, and each runs on a
+ * worker thread. Latency is recorded in an HdrHistogram from the request's
+ * intended start, so time spent queued behind a slow client counts against
+ * it. Failed requests are timed the same way in a histogram of their own, so
+ * errors that return quickly cannot flatter the success percentiles and slow
+ * timeouts stay visible. Requests the worker pool cannot accept are reported
+ * as dropped.
+ *
+ * <pre>
+ * --rate=500               requests per second
+ * --duration=30s           measured run length
+ * --warmup=5s              unmeasured run before it
+ * --arrivals=uniform       or poisson
+ * --mix=get:60,list:30,accept:10   weights of get, list, target, accept
+ * --latency=20ms           stub response delay
+ * --jitter=5ms             additional random stub delay, up to this much
+ * --error-rate=0           fraction of stub responses that are 500s
+ * --payload-size=20        invitations per list response
+ * --max-connections=50     client connection pool size
+ * --threads=512            worker threads when virtual threads are unavailable
+ * --timeout=10s            client response timeout
+ * --hgrm=path              also write the success percentile distribution to a file
+ * --max-error-rate=0.01    exit with status 1 above this fraction of failed or dropped requests
+ * </pre>
+ */
+public final class VortexLoadTest {
+
+    private static final String API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.load-test-signing-key";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private VortexLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        Result result;
+        try (StubVortexServer server = new StubVortexServer(options.latency, options.jitter,
+                options.errorRate, options.payloadSize)) {
+            VortexHttpOptions http = new VortexHttpOptions();
+            http.setMaxConnections(options.maxConnections);
+            http.setMaxConnectionsPerRoute(options.maxConnections);
+            http.setResponseTimeout(options.timeout);
+            VortexClient client = new VortexClient(API_KEY, server.getBaseUrl(), http);
+            try {
+                if (!options.warmup.isZero()) {
+                    run(client, options, options.warmup);
+                }
+                result = run(client, options, options.duration);
+            } finally {
+                client.close();
+            }
+        }
+
+        result.print(System.out, options);
+        if (options.hgrm != null) {
+            try (PrintStream out = new PrintStream(new FileOutputStream(options.hgrm))) {
+                result.latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        if (result.errorRate() > options.maxErrorRate) {
+            System.err.printf(Locale.ROOT, "Error rate %.4f exceeds --max-error-rate=%s%n",
+                    result.errorRate(), options.maxErrorRate);
+            System.exit(1);
+        }
+    }
+
+    static Result run(VortexClient client, Options options, Duration duration) throws InterruptedException {
+        Result result = new Result();
+        ExecutorService workers = VortexExecutors.newVirtualOrBoundedExecutor("vortex-load-", options.threads,
+                options.threads * 4);
+        SplittableRandom random = new SplittableRandom(42);
+        double periodNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double next = start;
+        try {
+            while (next < end) {
+                long intendedStart = (long) next;
+                long now;
+                while ((now = System.nanoTime()) < intendedStart) {
+                    LockSupport.parkNanos(intendedStart - now);
+                }
+
+                Operation operation = options.pick(random.nextInt(options.totalWeight));
+                result.sent.increment();
+                try {
+                    workers.execute(() -> execute(client, operation, intendedStart, result));
+                } catch (RejectedExecutionException e) {
+                    result.dropped.increment();
+                }
+
+                next += options.poisson ? -Math.log(1 - random.nextDouble()) * periodNanos : periodNanos;
+            }
+        } finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(options.timeout.toMillis() + 5000, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private static void execute(VortexClient client, Operation operation, long intendedStart, Result result) {
+        try {
+            operation.invoke(client);
+            result.latency.recordValue(elapsedMicros(intendedStart));
+            result.succeeded.increment();
+        } catch (Exception e) {
+            result.failureLatency.recordValue(elapsedMicros(intendedStart));
+            result.errors.computeIfAbsent(operation.name + ": " + reason(e), k -> new LongAdder()).increment();
+        }
+    }
+
+    private static long elapsedMicros(long intendedStart) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static String reason(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        // "API request failed: 500 Internal Server Error - {...}" -> status and reason only
+        int body = message.indexOf(" - ");
+        return body > 0 ? message.substring(0, body) : message;
+    }
+
+    enum Operation {
+        GET("get") {
+            @Override
+            void invoke(VortexClient client) throws Exception {
+                client.getInvitation("inv_000001");
+            }
+        },
+        LIST("list") {
+            @Override
+            void invoke(VortexClient client) throws Exception {
+                client.getInvitationsByScope("team", "team-1");
+            }
+        },
+        TARGET("target") {
+            @Override
+            void invoke(VortexClient client) throws Exception {
+                client.getInvitationsByTarget("email", "invitee1@example.com");
+            }
+        },
+        ACCEPT("accept") {
+            @Override
+            void invoke(VortexClient client) throws Exception {
+                client.acceptInvitation("inv_000001", new AcceptUser("invitee1@example.com"));
+            }
+        };
+
+        final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        abstract void invoke(VortexClient client) throws Exception;
+
+        static Operation named(String name) {
+            for (Operation operation : values()) {
+                if (operation.name.equals(name)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation in --mix: " + name);
+        }
+    }
+
+    static final class Result {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final Histogram failureLatency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder sent = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+        long elapsedNanos;
+
+        long failed() {
+            long failed = 0;
+            for (LongAdder count : errors.values()) {
+                failed += count.sum();
+            }
+            return failed;
+        }
+
+        double errorRate() {
+            long total = sent.sum();
+            return total == 0 ? 0 : (double) (failed() + dropped.sum()) / total;
+        }
+
+        void print(PrintStream out, Options options) {
+            double seconds = elapsedNanos / 1e9;
+            out.printf(Locale.ROOT, "Offered:    %.0f req/s for %s, %s arrivals, mix %s%n",
+                    options.rate, options.duration, options.poisson ? "poisson" : "uniform", options.mix);
+            out.printf(Locale.ROOT, "Stub:       %s latency + up to %s jitter, %.2f%% errors, %d invitations per list%n",
+                    options.latency, options.jitter, options.errorRate * 100, options.payloadSize);
+            out.printf(Locale.ROOT, "Client:     %d connections%n", options.maxConnections);
+            out.printf(Locale.ROOT, "Requests:   %d sent, %d ok, %d failed, %d dropped%n",
+                    sent.sum(), succeeded.sum(), failed(), dropped.sum());
+            out.printf(Locale.ROOT, "Throughput: %.1f ok/s%n", succeeded.sum() / seconds);
+            printLatency(out, "Latency (ms, from intended start):", latency);
+            if (!errors.isEmpty()) {
+                printLatency(out, "Failure latency (ms, from intended start):", failureLatency);
+                out.println("Errors:");
+                Map<String, LongAdder> sorted = new TreeMap<>(errors);
+                sorted.forEach((reason, count) -> out.printf(Locale.ROOT, "  %-50s %d%n", reason, count.sum()));
+            }
+        }
+
+        private static void printLatency(PrintStream out, String title, Histogram histogram) {
+            out.println(title);
+            for (double percentile : new double[] {50, 90, 99, 99.9, 99.99}) {
+                out.printf(Locale.ROOT, "  p%-6s %9.3f%n", format(percentile), histogram.getValueAtPercentile(percentile) / 1000.0);
+            }
+            out.printf(Locale.ROOT, "  max     %9.3f%n", histogram.getMaxValue() / 1000.0);
+            out.printf(Locale.ROOT, "  mean    %9.3f%n", histogram.getMean() / 1000.0);
+        }
+
+        private static String format(double percentile) {
+            return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+        }
+    }
+
+    static final class Options {
+        double rate = 500;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        boolean poisson;
+        String mix = "get:60,list:30,accept:10";
+        Duration latency = Duration.ofMillis(20);
+        Duration jitter = Duration.ofMillis(5);
+        double errorRate;
+        int payloadSize = 20;
+        int maxConnections = 50;
+        int threads = 512;
+        Duration timeout = Duration.ofSeconds(10);
+        String hgrm;
+        double maxErrorRate = 0.01;
+
+        Operation[] operations;
+        int[] cumulativeWeights;
+        int totalWeight;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value, got " + arg);
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                switch (name) {
+                    case "rate": options.rate = Double.parseDouble(value); break;
+                    case "duration": options.duration = duration(value); break;
+                    case "warmup": options.warmup = duration(value); break;
+                    case "arrivals": options.poisson = arrivals(value); break;
+                    case "mix": options.mix = value; break;
+                    case "latency": options.latency = duration(value); break;
+                    case "jitter": options.jitter = duration(value); break;
+                    case "error-rate": options.errorRate = Double.parseDouble(value); break;
+                    case "payload-size": options.payloadSize = Integer.parseInt(value); break;
+                    case "max-connections": options.maxConnections = Integer.parseInt(value); break;
+                    case "threads": options.threads = Integer.parseInt(value); break;
+                    case "timeout": options.timeout = duration(value); break;
+                    case "hgrm": options.hgrm = value; break;
+                    case "max-error-rate": options.maxErrorRate = Double.parseDouble(value); break;
+                    default: throw new IllegalArgumentException("Unknown option --" + name);
+                }
+            }
+            if (options.rate <= 0) {
+                throw new IllegalArgumentException("--rate must be positive");
+            }
+            options.parseMix();
+            return options;
+        }
+
+        Operation pick(int roll) {
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        private void parseMix() {
+            String[] entries = mix.split(",");
+            operations = new Operation[entries.length];
+            cumulativeWeights = new int[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                String[] parts = entries[i].trim().split(":");
+                int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+                if (weight <= 0) {
+                    throw new IllegalArgumentException("Weights in --mix must be positive");
+                }
+                operations[i] = Operation.named(parts[0]);
+                totalWeight += weight;
+                cumulativeWeights[i] = totalWeight;
+            }
+        }
+
+        private static boolean arrivals(String value) {
+            if ("poisson".equals(value)) {
+                return true;
+            }
+            if ("uniform".equals(value)) {
+                return false;
+            }
+            throw new IllegalArgumentException("--arrivals must be uniform or poisson");
+        }
+
+        /** Parses 250ms, 30s, 2m or an ISO-8601 duration. */
+        private static Duration duration(String value) {
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            return Duration.parse(value);
+        }
+    }
+}
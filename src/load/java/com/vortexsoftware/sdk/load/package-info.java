@@ -0,0 +1,17 @@
+/**
+ * Offline load harness for {@link com.vortexsoftware.sdk.VortexClient}.
+ *
+ * <p>{@link com.vortexsoftware.sdk.load.VortexLoadTest} starts
+ * {@link com.vortexsoftware.sdk.load.StubVortexServer} on the loopback
+ * interface and drives one client against it at a fixed, open-loop arrival
+ * rate. Latency is measured from each request's intended start time, so
+ * queueing inside the client (e.g. waiting for a pooled connection) is
+ * included rather than hidden. Built and run through the {@code load-test}
+ * Maven profile; no network access is needed.</p>
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec@load
+ * mvn -Pload-test test-compile exec:exec@load -Dload.args="--rate=2000 --duration=60s --latency=50ms --error-rate=0.01 --max-error-rate=0.05"
+ * </pre>
+ */
+package com.vortexsoftware.sdk.load;
@@ -0,0 +1,261 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory rolling counters of analytics events, keyed by widget
+ * configuration and event name, over sliding 1 minute, 5 minute and 1 hour
+ * windows.
+ *
+ * <p>Each key owns two fixed rings of time buckets: 60 one-second buckets for
+ * the 1 minute window and 60 one-minute buckets for the 5 minute and 1 hour
+ * windows. A bucket packs its time stamp and its count into a single long, so
+ * recording is a lock-free compare-and-set and stale buckets are reset in
+ * place as the ring rotates. Queries read a fixed number of buckets
+ * regardless of traffic, and memory is bounded by {@code maxKeys}. Once it is
+ * reached, keys idle for an hour are evicted by a scan that runs at most once
+ * per second; events for new keys that find no room are dropped and
+ * counted.</p>
+ *
+ * <pre>{@code
+ * VortexAnalyticsAggregator funnel = new VortexAnalyticsAggregator();
+ *
+ * // In your webhook handler (or register it as a VortexEventHandler bean):
+ * funnel.handle(webhooks.constructEvent(body, signature));
+ *
+ * long loads = funnel.count("widget-config-123", "widget_loaded", VortexAnalyticsAggregator.Window.FIVE_MINUTES);
+ * }</pre>
+ */
+public class VortexAnalyticsAggregator implements VortexEventHandler {
+
+    public static final int DEFAULT_MAX_KEYS = 10_000;
+
+    /**
+     * Sliding windows available for queries. The 1 minute window has one-second
+     * resolution; the longer windows have one-minute resolution. A window
+     * counts the current, partly elapsed bucket plus the full buckets before
+     * it, so it reaches back between one bucket less than its length and its
+     * full length: {@code FIVE_MINUTES} covers the last 4–5 minutes,
+     * {@code ONE_HOUR} the last 59–60 minutes and {@code ONE_MINUTE} the last
+     * 59–60 seconds.
+     */
+    public enum Window {
+        ONE_MINUTE(60, true),
+        FIVE_MINUTES(5, false),
+        ONE_HOUR(60, false);
+
+        private final int buckets;
+        private final boolean seconds;
+
+        Window(int buckets, boolean seconds) {
+            this.buckets = buckets;
+            this.seconds = seconds;
+        }
+    }
+
+    private static final int RING_SIZE = 60;
+    private static final int COUNT_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long STAMP_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
+    private final ConcurrentHashMap<Key, Counters> counters = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongSupplier clockMillis;
+    private final LongAdder droppedEvents = new LongAdder();
+    /** Second of the last idle-key scan; idle ages only change once a second. */
+    private final AtomicLong lastEvictionSecond = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Create an aggregator tracking at most {@link #DEFAULT_MAX_KEYS} keys.
+     */
+    public VortexAnalyticsAggregator() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * @param maxKeys Maximum number of (widgetConfigurationId, name) pairs tracked at once
+     */
+    public VortexAnalyticsAggregator(int maxKeys) {
+        this(maxKeys, System::currentTimeMillis);
+    }
+
+    VortexAnalyticsAggregator(int maxKeys, LongSupplier clockMillis) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys must be positive");
+        }
+        this.maxKeys = maxKeys;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Record an event if it is a {@link VortexAnalyticsEvent}; other events are ignored.
+     */
+    @Override
+    public void handle(Object event) {
+        if (event instanceof VortexAnalyticsEvent) {
+            record((VortexAnalyticsEvent) event);
+        }
+    }
+
+    /**
+     * Count one occurrence of the event at the current time.
+     *
+     * @return false if the event was dropped because {@code maxKeys} is reached
+     */
+    public boolean record(VortexAnalyticsEvent event) {
+        Objects.requireNonNull(event, "event cannot be null");
+        return record(event.getWidgetConfigurationId(), event.getName());
+    }
+
+    /**
+     * Count one occurrence of an event name for a widget configuration at the current time.
+     *
+     * @return false if the event was dropped because {@code maxKeys} is reached
+     */
+    public boolean record(String widgetConfigurationId, String name) {
+        long nowSecond = clockMillis.getAsLong() / 1000;
+        Key key = new Key(widgetConfigurationId, name);
+        Counters c = counters.get(key);
+        if (c == null) {
+            if (counters.size() >= maxKeys) {
+                long lastEviction = lastEvictionSecond.get();
+                if (lastEviction != nowSecond && lastEvictionSecond.compareAndSet(lastEviction, nowSecond)) {
+                    evictIdle(nowSecond);
+                }
+                if (counters.size() >= maxKeys) {
+                    droppedEvents.increment();
+                    return false;
+                }
+            }
+            c = counters.computeIfAbsent(key, k -> new Counters());
+        }
+        c.lastSecond = nowSecond;
+        increment(c.seconds, nowSecond);
+        increment(c.minutes, nowSecond / 60);
+        Counters current = counters.get(key);
+        if (current != c) {
+            // Evicted while we counted: put the entry back, or count again in
+            // the one another thread created in the meantime
+            current = counters.putIfAbsent(key, c);
+            if (current != null && current != c) {
+                current.lastSecond = nowSecond;
+                increment(current.seconds, nowSecond);
+                increment(current.minutes, nowSecond / 60);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of events recorded for the pair within the window.
+     */
+    public long count(String widgetConfigurationId, String name, Window window) {
+        Counters c = counters.get(new Key(widgetConfigurationId, name));
+        return c == null ? 0 : sum(c, window, clockMillis.getAsLong() / 1000);
+    }
+
+    /**
+     * Counts for every tracked pair within the window, as
+     * widgetConfigurationId → event name → count. Pairs with no events in the
+     * window are omitted.
+     */
+    public Map<String, Map<String, Long>> snapshot(Window window) {
+        long nowSecond = clockMillis.getAsLong() / 1000;
+        Map<String, Map<String, Long>> result = new HashMap<>();
+        counters.forEach((key, c) -> {
+            long count = sum(c, window, nowSecond);
+            if (count > 0) {
+                result.computeIfAbsent(key.widgetConfigurationId, k -> new HashMap<>()).put(key.name, count);
+            }
+        });
+        return result;
+    }
+
+    /** Number of (widgetConfigurationId, name) pairs currently tracked. */
+    public int getKeyCount() {
+        return counters.size();
+    }
+
+    /** Number of events not counted because {@code maxKeys} was reached. */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Remove keys idle for an hour. A thread may still be counting into an
+     * entry as it is removed; {@link #record(String, String)} checks the map
+     * again afterwards so that the event is not lost with it.
+     */
+    private void evictIdle(long nowSecond) {
+        counters.entrySet().removeIf(e -> nowSecond - e.getValue().lastSecond >= RING_SIZE * 60L);
+    }
+
+    private static void increment(AtomicLongArray ring, long bucket) {
+        int slot = (int) (bucket % RING_SIZE);
+        long stamp = bucket & STAMP_MASK;
+        while (true) {
+            long current = ring.get(slot);
+            long next = (current >>> COUNT_BITS) == stamp
+                    ? current + 1
+                    : (stamp << COUNT_BITS) | 1;
+            if (ring.compareAndSet(slot, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static long sum(Counters c, Window window, long nowSecond) {
+        AtomicLongArray ring = window.seconds ? c.seconds : c.minutes;
+        long now = (window.seconds ? nowSecond : nowSecond / 60) & STAMP_MASK;
+        long total = 0;
+        for (int i = 0; i < RING_SIZE; i++) {
+            long value = ring.get(i);
+            long age = (now - (value >>> COUNT_BITS)) & STAMP_MASK;
+            if (age < window.buckets) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+
+    private static final class Counters {
+        final AtomicLongArray seconds = new AtomicLongArray(RING_SIZE);
+        final AtomicLongArray minutes = new AtomicLongArray(RING_SIZE);
+        volatile long lastSecond;
+    }
+
+    private static final class Key {
+        final String widgetConfigurationId;
+        final String name;
+        final int hash;
+
+        Key(String widgetConfigurationId, String name) {
+            this.widgetConfigurationId = widgetConfigurationId;
+            this.name = name;
+            this.hash = Objects.hash(widgetConfigurationId, name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return Objects.equals(widgetConfigurationId, other.widgetConfigurationId)
+                    && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
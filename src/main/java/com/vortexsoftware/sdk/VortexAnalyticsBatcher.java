@@ -0,0 +1,291 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Groups analytics events into size- and time-bounded batches and hands each
+ * batch to a {@link VortexAnalyticsSink} asynchronously.
+ *
+ * <p>A batch is flushed as soon as it holds {@code maxBatchSize} events, or
+ * {@code maxDelay} after its first event arrived, whichever comes first.
+ * Submitting never blocks: when the queue is full the event is dropped and
+ * counted in {@link #getDroppedEventCount()}.</p>
+ *
+ * <pre>{@code
+ * VortexAnalyticsBatcher batcher = new VortexAnalyticsBatcher(
+ *     batch -> warehouse.insertAll(batch), 500, Duration.ofSeconds(2));
+ *
+ * // In your webhook handler:
+ * Object event = webhooks.constructEvent(body, signature);
+ * if (event instanceof VortexAnalyticsEvent) {
+ *     batcher.submit((VortexAnalyticsEvent) event);
+ * }
+ *
+ * // On shutdown:
+ * batcher.close();
+ * }</pre>
+ */
+public class VortexAnalyticsBatcher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(VortexAnalyticsBatcher.class);
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_MAX_CONCURRENT_FLUSHES = 1;
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final VortexAnalyticsSink sink;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<VortexAnalyticsEvent> queue;
+    private final Semaphore flushPermits;
+    private final ExecutorService flushExecutor;
+    private final Thread collector;
+    private volatile boolean closed;
+
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder flushedEvents = new LongAdder();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicInteger inFlightFlushes = new AtomicInteger();
+
+    /**
+     * Create a batcher with default batch size, delay and queue capacity.
+     *
+     * @param sink Destination for flushed batches
+     */
+    public VortexAnalyticsBatcher(VortexAnalyticsSink sink) {
+        this(sink, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Create a batcher with the given batch bounds.
+     *
+     * @param sink         Destination for flushed batches
+     * @param maxBatchSize Maximum number of events per batch
+     * @param maxDelay     Maximum time an event waits before its batch is flushed
+     */
+    public VortexAnalyticsBatcher(VortexAnalyticsSink sink, int maxBatchSize, Duration maxDelay) {
+        this(sink, maxBatchSize, maxDelay, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_CONCURRENT_FLUSHES);
+    }
+
+    /**
+     * Create a fully configured batcher.
+     *
+     * @param sink                 Destination for flushed batches
+     * @param maxBatchSize         Maximum number of events per batch
+     * @param maxDelay             Maximum time an event waits before its batch is flushed
+     * @param queueCapacity        Maximum number of events buffered ahead of batching
+     * @param maxConcurrentFlushes Maximum number of batches being written at once
+     * @throws IllegalArgumentException if any bound is not positive
+     */
+    public VortexAnalyticsBatcher(VortexAnalyticsSink sink, int maxBatchSize, Duration maxDelay,
+                                  int queueCapacity, int maxConcurrentFlushes) {
+        this.sink = Objects.requireNonNull(sink, "sink cannot be null");
+        Objects.requireNonNull(maxDelay, "maxDelay cannot be null");
+        if (maxBatchSize <= 0 || queueCapacity <= 0 || maxConcurrentFlushes <= 0) {
+            throw new IllegalArgumentException("maxBatchSize, queueCapacity and maxConcurrentFlushes must be positive");
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushPermits = new Semaphore(maxConcurrentFlushes);
+        this.flushExecutor = Executors.newFixedThreadPool(maxConcurrentFlushes, r -> {
+            Thread t = new Thread(r, "vortex-analytics-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        this.collector = new Thread(this::collect, "vortex-analytics-batcher");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    /**
+     * Queue an analytics event for batching.
+     *
+     * @param event The event returned by {@link VortexWebhooks#constructEvent}
+     * @return true if the event was queued, false if it was dropped because the
+     *         queue is full or the batcher is closed
+     */
+    public boolean submit(VortexAnalyticsEvent event) {
+        Objects.requireNonNull(event, "event cannot be null");
+        if (closed || !queue.offer(event)) {
+            droppedEvents.increment();
+            return false;
+        }
+        // close() may have run between the check and the offer, and the
+        // collector may already have drained the queue and exited
+        if (closed && queue.remove(event)) {
+            droppedEvents.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /** Number of events waiting to be batched. */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /** Number of batches currently being written by the sink. */
+    public int getInFlightFlushes() {
+        return inFlightFlushes.get();
+    }
+
+    /** Number of events rejected because the queue was full or the batcher was closed. */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    /** Number of events handed to the sink in successful flushes. */
+    public long getFlushedEventCount() {
+        return flushedEvents.sum();
+    }
+
+    /** Number of completed flushes, successful or not. */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /** Number of flushes where the sink threw. */
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    /** Duration of the most recent sink write, in nanoseconds. */
+    public long getLastFlushLatencyNanos() {
+        return lastFlushNanos.get();
+    }
+
+    /** Longest sink write observed, in nanoseconds. */
+    public long getMaxFlushLatencyNanos() {
+        return maxFlushNanos.get();
+    }
+
+    /** Mean sink write duration, in nanoseconds, or 0 before the first flush. */
+    public long getAverageFlushLatencyNanos() {
+        long count = flushCount.get();
+        return count == 0 ? 0 : totalFlushNanos.get() / count;
+    }
+
+    /**
+     * Stop accepting events and flush everything already queued, waiting up to
+     * {@link #DEFAULT_SHUTDOWN_TIMEOUT}.
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Stop accepting events and flush everything already queued.
+     *
+     * @param timeout Maximum time to wait for queued events to be written
+     * @return true if every queued event was handed to the sink in time
+     */
+    public boolean close(Duration timeout) {
+        closed = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            collector.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            flushExecutor.shutdown();
+            boolean drained = !collector.isAlive()
+                    && flushExecutor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!drained) {
+                logger.warn("[Vortex SDK] Analytics batcher did not drain within {}; {} events still queued",
+                        timeout, queue.size());
+            }
+            return drained;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void collect() {
+        try {
+            while (!closed || !queue.isEmpty()) {
+                VortexAnalyticsEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<VortexAnalyticsEvent> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0 || closed) {
+                        break;
+                    }
+                    VortexAnalyticsEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(Collections.unmodifiableList(batch));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("[Vortex SDK] Analytics batcher interrupted; {} events not flushed", queue.size());
+        }
+    }
+
+    private void dispatch(List<VortexAnalyticsEvent> batch) throws InterruptedException {
+        // Blocks the collector while every flush slot is busy, so a slow sink
+        // backs up into the bounded queue instead of piling up batches.
+        flushPermits.acquire();
+        inFlightFlushes.incrementAndGet();
+        try {
+            flushExecutor.execute(() -> write(batch));
+        } catch (RejectedExecutionException e) {
+            write(batch);
+        }
+    }
+
+    private void write(List<VortexAnalyticsEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            sink.write(batch);
+            flushedEvents.add(batch.size());
+        } catch (Exception e) {
+            failedFlushCount.incrementAndGet();
+            logger.warn("[Vortex SDK] Analytics sink failed to write batch of {} events", batch.size(), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            flushCount.incrementAndGet();
+            totalFlushNanos.addAndGet(elapsed);
+            lastFlushNanos.set(elapsed);
+            maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+            inFlightFlushes.decrementAndGet();
+            flushPermits.release();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+
+import java.util.List;
+
+/**
+ * Destination for batches of analytics events produced by {@link VortexAnalyticsBatcher}.
+ *
+ * <pre>{@code
+ * VortexAnalyticsSink sink = batch -> warehouse.insertAll(batch);
+ * }</pre>
+ */
+@FunctionalInterface
+public interface VortexAnalyticsSink {
+
+    /**
+     * Write a batch of analytics events.
+     *
+     * <p>Called from the batcher's flush thread, never concurrently with itself
+     * unless more than one concurrent flush is configured. A thrown exception is
+     * logged and counted as a failed flush; the batch is not retried.</p>
+     *
+     * @param batch Non-empty, immutable list of events in arrival order
+     * @throws Exception if the batch could not be written
+     */
+    void write(List<VortexAnalyticsEvent> batch) throws Exception;
+}
@@ -0,0 +1,783 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.vortexsoftware.sdk.types.*;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking Vortex API client for reactive and event-loop based applications
+ *
+ * Every call returns immediately with a CompletableFuture that completes on the
+ * HTTP client's I/O threads, so no caller thread waits on the network. Failures
+ * complete the future exceptionally with a {@link VortexException}.
+ *
+ * <p>JWT and token generation are pure computation and remain on
+ * {@link VortexClient}.</p>
+ *
+ * <pre>{@code
+ * VortexAsyncClient client = new VortexAsyncClient(apiKey);
+ * client.getInvitation("inv-123")
+ *       .thenAccept(invitation -> System.out.println(invitation.getStatus()));
+ *
+ * // Handle a large scope listing one invitation at a time as it arrives
+ * client.streamInvitationsByScope("team", "team-1", invitation -> index.add(invitation))
+ *       .join();
+ * }</pre>
+ */
+public class VortexAsyncClient implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(VortexAsyncClient.class);
+
+    /** Bytes requested from the connection at a time while streaming a listing. */
+    private static final int STREAM_WINDOW = 64 * 1024;
+    /** Bytes a streamed listing may read ahead of its subscriber before it fails. */
+    private static final int STREAM_MAX_BUFFERED = 16 * STREAM_WINDOW;
+    private static final String SCOPE_ROUTE = "/api/v1/invitations/by-scope/{scopeType}/{scope}";
+
+    private final String apiKey;
+    private final String baseUrl;
+    private final CloseableHttpAsyncClient httpClient;
+    /** The caller's mapper for API bodies, or the shared SDK mapper. */
+    private volatile ObjectMapper objectMapper;
+    private volatile boolean deduplicateStrings;
+    private final JavaType invitationResponseType;
+    private final JavaType invitationResultType;
+    private volatile VortexMetricsRecorder metrics = VortexMetricsRecorder.NOOP;
+
+    /**
+     * Create a new non-blocking Vortex client with the given API key
+     */
+    public VortexAsyncClient(String apiKey) {
+        this(apiKey, new VortexHttpOptions());
+    }
+
+    /**
+     * Create a new non-blocking Vortex client with custom base URL
+     */
+    public VortexAsyncClient(String apiKey, String baseUrl) {
+        this(apiKey, baseUrl, new VortexHttpOptions());
+    }
+
+    /**
+     * Create a new non-blocking Vortex client with tuned connection pool and timeouts
+     */
+    public VortexAsyncClient(String apiKey, VortexHttpOptions options) {
+        this(apiKey, System.getenv().getOrDefault("VORTEX_API_BASE_URL", VortexClient.DEFAULT_BASE_URL), options);
+    }
+
+    /**
+     * Create a new non-blocking Vortex client with custom base URL, connection pool and timeouts
+     */
+    public VortexAsyncClient(String apiKey, String baseUrl, VortexHttpOptions options) {
+        this.apiKey = Objects.requireNonNull(apiKey, "API key cannot be null");
+        this.baseUrl = baseUrl != null ? baseUrl : VortexClient.DEFAULT_BASE_URL;
+        Objects.requireNonNull(options, "options cannot be null").validate();
+
+        ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+        if (options.getConnectTimeout() != null) {
+            connectionConfig.setConnectTimeout(Timeout.of(options.getConnectTimeout()));
+        }
+        if (options.getConnectionTimeToLive() != null) {
+            connectionConfig.setTimeToLive(TimeValue.of(options.getConnectionTimeToLive()));
+        }
+        RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (options.getResponseTimeout() != null) {
+            requestConfig.setResponseTimeout(Timeout.of(options.getResponseTimeout()));
+        }
+        if (options.getConnectionRequestTimeout() != null) {
+            requestConfig.setConnectionRequestTimeout(Timeout.of(options.getConnectionRequestTimeout()));
+        }
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(options.getMaxConnections())
+                        .setMaxConnPerRoute(options.getMaxConnectionsPerRoute())
+                        .setDefaultConnectionConfig(connectionConfig.build())
+                        .build())
+                .setDefaultRequestConfig(requestConfig.build());
+        if (options.getIdleConnectionTimeout() != null) {
+            builder.evictIdleConnections(TimeValue.of(options.getIdleConnectionTimeout()));
+        }
+        this.httpClient = builder.build();
+        this.httpClient.start();
+        this.objectMapper = VortexJson.mapper();
+        this.invitationResponseType = objectMapper.constructType(InvitationResponse.class);
+        this.invitationResultType = objectMapper.constructType(InvitationResult.class);
+    }
+
+    /**
+     * Report API call timings to the given recorder.
+     *
+     * @param recorder Recorder to use, or null to stop recording
+     */
+    public void setMetricsRecorder(VortexMetricsRecorder recorder) {
+        this.metrics = recorder != null ? recorder : VortexMetricsRecorder.NOOP;
+    }
+
+    /**
+     * Read and write API request and response bodies with the given mapper,
+     * e.g. one from {@link VortexObjectMappers#create(java.util.function.Consumer)}.
+     *
+     * @param mapper Mapper to use, or null to go back to the SDK's shared mapper
+     */
+    public void setObjectMapper(ObjectMapper mapper) {
+        this.objectMapper = mapper != null ? mapper : VortexJson.mapper();
+    }
+
+    /**
+     * Share one String instance among equal values that repeat across the
+     * invitations of a listing, as {@link VortexClient#setDeduplicateStrings(boolean)}
+     * does. Applies to the listing methods, and to streamed listings with one
+     * table per stream; off by default.
+     *
+     * @param deduplicateStrings Whether to deduplicate strings in decoded listings
+     */
+    public void setDeduplicateStrings(boolean deduplicateStrings) {
+        this.deduplicateStrings = deduplicateStrings;
+    }
+
+    /**
+     * Get invitations by target (email, username, phoneNumber)
+     * @param targetType Type of target (email, phone, etc.)
+     * @param targetValue The target value
+     * @return Future list of invitations
+     */
+    public CompletableFuture<List<InvitationResult>> getInvitationsByTarget(String targetType, String targetValue) {
+        SimpleRequestBuilder request = request("GET", "/api/v1/invitations")
+                .addParameter("targetType", targetType)
+                .addParameter("targetValue", targetValue);
+        return this.<InvitationResponse>execute("/api/v1/invitations", request, invitationResponseType).thenApply(this::invitations);
+    }
+
+    /**
+     * Get a specific invitation by ID
+     * @param invitationId The invitation ID
+     * @return Future invitation details
+     */
+    public CompletableFuture<InvitationResult> getInvitation(String invitationId) {
+        return execute("/api/v1/invitations/{invitationId}", request("GET", "/api/v1/invitations/" + invitationId), invitationResultType);
+    }
+
+    /**
+     * Revoke (delete) an invitation
+     * @param invitationId The invitation ID to revoke
+     */
+    public CompletableFuture<Void> revokeInvitation(String invitationId) {
+        return execute("/api/v1/invitations/{invitationId}", request("DELETE", "/api/v1/invitations/" + invitationId), null);
+    }
+
+    /**
+     * Accept multiple invitations
+     * @param invitationIds List of invitation IDs to accept
+     * @param user User object with email or phone (and optional name)
+     * @return Future accepted invitation result
+     */
+    public CompletableFuture<InvitationResult> acceptInvitations(List<String> invitationIds, AcceptUser user) {
+        if (user == null || ((user.getEmail() == null || user.getEmail().isEmpty()) &&
+                (user.getPhone() == null || user.getPhone().isEmpty()))) {
+            return CompletableFuture.failedFuture(new VortexException("User must have either email or phone"));
+        }
+        SimpleRequestBuilder request;
+        try {
+            request = request("POST", "/api/v1/invitations/accept")
+                    .setBody(objectMapper.writeValueAsBytes(new AcceptInvitationRequest(invitationIds, user)),
+                            ContentType.APPLICATION_JSON);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new VortexException("Failed to make API request", e));
+        }
+        return this.<InvitationResponse>execute("/api/v1/invitations/accept", request, invitationResponseType).thenCompose(response -> {
+            List<InvitationResult> invitations = invitations(response);
+            if (invitations.isEmpty()) {
+                return CompletableFuture.failedFuture(new VortexException("No invitations returned from accept endpoint"));
+            }
+            return CompletableFuture.completedFuture(invitations.get(0));
+        });
+    }
+
+    /**
+     * Delete all invitations for a specific scope
+     * @param scopeType The scope type (organization, team, etc.)
+     * @param scope The scope identifier
+     */
+    public CompletableFuture<Void> deleteInvitationsByScope(String scopeType, String scope) {
+        return execute(SCOPE_ROUTE, request("DELETE", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope), null);
+    }
+
+    /**
+     * Get all invitations for a specific scope
+     * @param scopeType The scope type (organization, team, etc.)
+     * @param scope The scope identifier
+     * @return Future list of invitations for the scope
+     */
+    public CompletableFuture<List<InvitationResult>> getInvitationsByScope(String scopeType, String scope) {
+        return this.<InvitationResponse>execute(SCOPE_ROUTE,
+                request("GET", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope), invitationResponseType)
+                .thenApply(this::invitations);
+    }
+
+    /**
+     * Stream all invitations for a specific scope, decoding and delivering each
+     * invitation as soon as its bytes arrive instead of buffering the listing.
+     *
+     * <p>The consumer runs on an I/O thread and must not block. If it throws,
+     * the request is aborted and the returned future fails with a
+     * VortexException wrapping that error. Cancelling the returned future
+     * aborts the request.</p>
+     *
+     * @param scopeType The scope type (organization, team, etc.)
+     * @param scope The scope identifier
+     * @param onInvitation Called once per invitation, in listing order
+     * @return Future completing when the listing has been fully delivered
+     */
+    public CompletableFuture<Void> streamInvitationsByScope(String scopeType, String scope,
+                                                            Consumer<InvitationResult> onInvitation) {
+        Objects.requireNonNull(onInvitation, "onInvitation cannot be null");
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        InvitationStream stream = new InvitationStream(new Flow.Subscriber<InvitationResult>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(InvitationResult invitation) {
+                onInvitation.accept(invitation);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(null);
+            }
+        });
+        result.whenComplete((ignored, error) -> {
+            if (error instanceof CancellationException) {
+                stream.cancel();
+            }
+        });
+        stream.start(scopeType, scope);
+        return result;
+    }
+
+    /**
+     * Stream all invitations for a specific scope to a subscriber that
+     * controls the pace with {@link Flow.Subscription#request(long)}.
+     *
+     * <p>Invitations are decoded only as they are requested, and more of the
+     * response is read from the connection only once the bytes already
+     * received are used up, so a slow subscriber holds about one read window
+     * (64 KB) of the listing in memory and the server is slowed down by TCP
+     * flow control. The HTTP client cannot suspend reading a chunked response
+     * that is already buffered by the socket, so the read-ahead is bounded
+     * instead: once more than 1 MB is waiting for demand, the stream fails
+     * with a {@link VortexException}. Subscribers that pause for long should
+     * buffer on their side.</p>
+     *
+     * <p>Each subscription sends its own request; cancelling it aborts the
+     * request. Invitations are delivered on an I/O thread or on the thread
+     * calling {@code request}, and failures are signalled as
+     * {@link VortexException}.</p>
+     *
+     * @param scopeType The scope type (organization, team, etc.)
+     * @param scope The scope identifier
+     * @return Publisher of the invitations, in listing order
+     */
+    public Flow.Publisher<InvitationResult> publishInvitationsByScope(String scopeType, String scope) {
+        return subscriber -> new InvitationStream(Objects.requireNonNull(subscriber, "subscriber cannot be null"))
+                .start(scopeType, scope);
+    }
+
+    /**
+     * Reinvite a user (send invitation again)
+     * @param invitationId The invitation ID to reinvite
+     * @return Future reinvited invitation result
+     */
+    public CompletableFuture<InvitationResult> reinvite(String invitationId) {
+        return execute("/api/v1/invitations/{invitationId}/reinvite",
+                request("POST", "/api/v1/invitations/" + invitationId + "/reinvite"), invitationResultType);
+    }
+
+    /**
+     * Shut down the I/O reactor and release pooled connections
+     */
+    @Override
+    public void close() {
+        try {
+            httpClient.close(CloseMode.GRACEFUL);
+        } catch (Exception e) {
+            logger.warn("Error closing HTTP client", e);
+        }
+    }
+
+    private SimpleRequestBuilder request(String method, String path) {
+        return SimpleRequestBuilder.create(method)
+                .setUri(baseUrl + path)
+                .addHeader("User-Agent", VortexClient.SdkVersion.USER_AGENT)
+                .addHeader("x-api-key", apiKey)
+                .addHeader("x-vortex-sdk-name", VortexClient.SDK_NAME)
+                .addHeader("x-vortex-sdk-version", VortexClient.SdkVersion.VALUE);
+    }
+
+    /**
+     * Send a request and decode the JSON response body into responseType, or
+     * complete with null when responseType is null or the body is empty.
+     */
+    private <T> CompletableFuture<T> execute(String route, SimpleRequestBuilder request, JavaType responseType) {
+        CompletableFuture<SimpleHttpResponse> exchange = new CompletableFuture<>();
+        long start = System.nanoTime();
+        exchange.whenComplete((response, error) -> metrics.recordApiRequest(request.getMethod(), route,
+                response != null ? response.getCode() : -1, System.nanoTime() - start));
+        try {
+            httpClient.execute(SimpleRequestProducer.create(request.build()), SimpleResponseConsumer.create(),
+                    callback(exchange));
+        } catch (Exception e) {
+            exchange.completeExceptionally(new VortexException("Failed to make API request", e));
+        }
+        return exchange.thenApply(response -> {
+            byte[] body = response.getBodyBytes();
+            if (response.getCode() >= 400) {
+                throw new VortexRequestFailure(VortexClient.apiError(response.getCode(), response.getReasonPhrase(),
+                        body != null ? new String(body, StandardCharsets.UTF_8) : ""));
+            }
+            if (responseType == null || body == null || isBlank(body)) {
+                return null;
+            }
+            try {
+                return objectMapper.<T>readValue(body, responseType);
+            } catch (IOException e) {
+                throw new VortexRequestFailure(new VortexException("Failed to make API request", e));
+            }
+        }).exceptionallyCompose(VortexAsyncClient::unwrap);
+    }
+
+    private static <T> FutureCallback<T> callback(CompletableFuture<T> future) {
+        return new FutureCallback<T>() {
+            @Override
+            public void completed(T result) {
+                future.complete(result);
+            }
+
+            @Override
+            public void failed(Exception e) {
+                future.completeExceptionally(e instanceof VortexException
+                        ? e : new VortexException("Failed to make API request", e));
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Surface the VortexException carried through a dependent stage instead of
+     * the CompletionException wrapping it.
+     */
+    private static <T> CompletableFuture<T> unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof VortexRequestFailure) {
+            cause = cause.getCause();
+        }
+        return CompletableFuture.failedFuture(cause);
+    }
+
+    private List<InvitationResult> invitations(InvitationResponse response) {
+        if (response == null || response.getInvitations() == null) {
+            return new ArrayList<>();
+        }
+        return deduplicateStrings
+                ? VortexStringDeduplicator.deduplicate(response.getInvitations())
+                : response.getInvitations();
+    }
+
+    private static boolean isBlank(byte[] body) {
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Carries a checked VortexException out of a CompletableFuture stage. */
+    private static final class VortexRequestFailure extends RuntimeException {
+        VortexRequestFailure(VortexException cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+
+    /**
+     * Feeds response bytes to Jackson's non-blocking parser and binds each
+     * element of the top-level {@code invitations} array once it is complete
+     * and requested. Only the element being decoded is buffered as tokens.
+     *
+     * <p>Received chunks are queued and parsed by whichever thread signals
+     * first, the I/O thread delivering bytes or the subscriber's thread
+     * requesting more, one at a time. Connection capacity is granted back to
+     * the I/O reactor only when the queue is drained and the subscriber still
+     * has demand, so an idle subscriber suspends reading. Bytes the connection
+     * delivers regardless are counted against {@link #STREAM_MAX_BUFFERED}.</p>
+     */
+    private final class InvitationStream implements AsyncResponseConsumer<Void>, Flow.Subscription {
+        private final Flow.Subscriber<? super InvitationResult> subscriber;
+        /** One mapper for the whole stream, even if the client's is replaced meanwhile */
+        private final ObjectMapper objectMapper;
+        /** Shared by every invitation of the stream when deduplicating */
+        private final VortexStringDeduplicator strings;
+
+        private final Queue<byte[]> chunks = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong buffered = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean capacityWanted = new AtomicBoolean();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile CapacityChannel capacityChannel;
+        private volatile Future<Void> call;
+        private volatile boolean cancelled;
+        private volatile boolean endOfStream;
+        private volatile int status;
+        private String reason;
+        private ByteArrayOutputStream errorBody;
+        private FutureCallback<Void> resultCallback;
+
+        // Only touched by the thread draining, see signal()
+        private JsonParser parser;
+        private ByteArrayFeeder feeder;
+        private boolean done;
+        private int depth;
+        private boolean inInvitations;
+        private boolean pendingInvitationsArray;
+        private boolean pendingElement;
+        private TokenBuffer element;
+        private int elementDepth;
+
+        InvitationStream(Flow.Subscriber<? super InvitationResult> subscriber) {
+            this.subscriber = subscriber;
+            this.objectMapper = VortexAsyncClient.this.objectMapper;
+            this.strings = deduplicateStrings ? new VortexStringDeduplicator() : null;
+        }
+
+        void start(String scopeType, String scope) {
+            subscriber.onSubscribe(this);
+            if (cancelled) {
+                return;
+            }
+            SimpleHttpRequest request = VortexAsyncClient.this.request("GET",
+                    "/api/v1/invitations/by-scope/" + scopeType + "/" + scope).build();
+            CompletableFuture<Void> exchange = new CompletableFuture<>();
+            long start = System.nanoTime();
+            exchange.whenComplete((ignored, error) -> {
+                metrics.recordApiRequest("GET", SCOPE_ROUTE, status > 0 ? status : -1, System.nanoTime() - start);
+                if (error != null) {
+                    fail(error);
+                }
+            });
+            try {
+                call = httpClient.execute(SimpleRequestProducer.create(request), this, callback(exchange));
+            } catch (Exception e) {
+                fail(new VortexException("Failed to make API request", e));
+                return;
+            }
+            if (cancelled) {
+                call.cancel(true);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested " + n + " invitations, must be positive"));
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context,
+                                    FutureCallback<Void> resultCallback) throws IOException {
+            this.resultCallback = resultCallback;
+            reason = response.getReasonPhrase();
+            if (response.getCode() >= 400) {
+                errorBody = new ByteArrayOutputStream();
+            } else {
+                parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+                feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            }
+            status = response.getCode();
+            if (entityDetails == null) {
+                streamEnd(null);
+            }
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) {
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            this.capacityChannel = capacityChannel;
+            if (errorBody != null) {
+                capacityChannel.update(STREAM_WINDOW);
+                return;
+            }
+            capacityWanted.set(true);
+            signal();
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            byte[] chunk = new byte[src.remaining()];
+            src.get(chunk);
+            if (errorBody != null) {
+                errorBody.write(chunk);
+                return;
+            }
+            chunks.add(chunk);
+            if (buffered.addAndGet(chunk.length) > STREAM_MAX_BUFFERED) {
+                fail(new VortexException("Invitation stream buffered more than " + STREAM_MAX_BUFFERED
+                        + " bytes ahead of the subscriber's demand"));
+                return;
+            }
+            signal();
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) {
+            if (errorBody != null) {
+                fail(VortexClient.apiError(status, reason, errorBody.toString(StandardCharsets.UTF_8)));
+            }
+            endOfStream = true;
+            resultCallback.completed(null);
+            signal();
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            fail(cause instanceof VortexException ? cause : new VortexException("Failed to make API request", cause));
+        }
+
+        @Override
+        public void releaseResources() {
+            // The parser outlives the exchange while queued chunks are drained
+        }
+
+        private void fail(Throwable error) {
+            Throwable cause = error;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            failure.compareAndSet(null, cause);
+            signal();
+        }
+
+        /**
+         * Drain on the calling thread unless another thread is draining, in
+         * which case that thread goes round again.
+         */
+        private void signal() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                terminate(null, false);
+                return;
+            }
+            Throwable error = failure.get();
+            if (error != null) {
+                terminate(error, true);
+                return;
+            }
+            if (status == 0 || parser == null) {
+                return;
+            }
+            try {
+                while (!cancelled) {
+                    if (pendingElement) {
+                        if (requested.get() == 0) {
+                            return;
+                        }
+                        startElement();
+                    }
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.NOT_AVAILABLE) {
+                        boolean ended = endOfStream;
+                        byte[] chunk = chunks.poll();
+                        if (chunk != null) {
+                            buffered.addAndGet(-chunk.length);
+                            feeder.feedInput(chunk, 0, chunk.length);
+                        } else if (ended) {
+                            feeder.endOfInput();
+                        } else {
+                            grantCapacity();
+                            return;
+                        }
+                        continue;
+                    }
+                    if (token == null) {
+                        terminate(null, true);
+                        return;
+                    }
+                    if (element != null) {
+                        element.copyCurrentEvent(parser);
+                        if (token.isStructStart()) {
+                            elementDepth++;
+                        } else if (token.isStructEnd() && --elementDepth == 0) {
+                            emit();
+                        }
+                        continue;
+                    }
+                    if (inInvitations && depth == 2 && token == JsonToken.START_OBJECT) {
+                        pendingElement = true;
+                        continue;
+                    }
+                    if (token == JsonToken.FIELD_NAME) {
+                        pendingInvitationsArray = depth == 1 && "invitations".equals(parser.currentName());
+                        continue;
+                    }
+                    if (token.isStructStart()) {
+                        depth++;
+                        inInvitations = token == JsonToken.START_ARRAY && depth == 2 && pendingInvitationsArray;
+                    } else if (token.isStructEnd()) {
+                        depth--;
+                        if (depth < 2) {
+                            inInvitations = false;
+                        }
+                    }
+                    pendingInvitationsArray = false;
+                }
+            } catch (Exception e) {
+                terminate(new VortexException("Failed to make API request", e), true);
+            }
+        }
+
+        private void startElement() throws IOException {
+            pendingElement = false;
+            element = new TokenBuffer(parser);
+            element.copyCurrentEvent(parser);
+            elementDepth = 1;
+        }
+
+        private void emit() throws IOException {
+            InvitationResult invitation;
+            try (JsonParser elementParser = element.asParser(objectMapper)) {
+                invitation = objectMapper.readValue(elementParser, invitationResultType);
+            } finally {
+                element.close();
+                element = null;
+            }
+            if (strings != null) {
+                strings.deduplicate(invitation);
+            }
+            if (requested.get() != Long.MAX_VALUE) {
+                requested.decrementAndGet();
+            }
+            subscriber.onNext(invitation);
+        }
+
+        private void grantCapacity() throws IOException {
+            CapacityChannel channel = capacityChannel;
+            if (channel != null && capacityWanted.compareAndSet(true, false)) {
+                channel.update(STREAM_WINDOW);
+            }
+        }
+
+        /**
+         * Stop for good, aborting the exchange if it is still running
+         */
+        private void terminate(Throwable error, boolean signal) {
+            done = true;
+            Future<Void> current = call;
+            if (current != null) {
+                current.cancel(true);
+            }
+            chunks.clear();
+            element = null;
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException ignored) {
+                }
+            }
+            if (!signal) {
+                return;
+            }
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
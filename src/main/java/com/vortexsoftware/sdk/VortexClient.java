@@ -1,25 +1,50 @@
 package com.vortexsoftware.sdk;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.vortexsoftware.sdk.types.*;
 import org.apache.hc.client5.http.classic.methods.*;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultClientConnectionReuseStrategy;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpConnection;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.impl.Http1StreamListener;
+import org.apache.hc.core5.http.impl.io.HttpRequestExecutor;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Main Vortex SDK client for Java applications
@@ -30,10 +55,38 @@ import java.util.*;
 public class VortexClient {
     private static final Logger logger = LoggerFactory.getLogger(VortexClient.class);
 
-    private static final String DEFAULT_BASE_URL = "https://api.vortexsoftware.com";
-    private static final String SDK_NAME = "vortex-java-sdk";
-    private static final String SDK_VERSION = loadSdkVersion();
-    private static final String USER_AGENT = SDK_NAME + "/" + SDK_VERSION;
+    static final String DEFAULT_BASE_URL = "https://api.vortexsoftware.com";
+    static final String SDK_NAME = "vortex-java-sdk";
+    private static final String API_ERROR_PREFIX = "API request failed: ";
+    private static final String API_ERROR_BODY_SEPARATOR = " - ";
+
+    /**
+     * Pooled connections to the Vortex API. Every request targets the same host,
+     * so the per-route limit equals the total.
+     */
+    static final int DEFAULT_MAX_CONNECTIONS = 50;
+
+    private static final AtomicInteger CLIENT_IDS = new AtomicInteger();
+
+    /** Lifetime of JWTs generated without an explicit expiresIn: 30 days. */
+    static final long DEFAULT_JWT_EXPIRES_IN_SECONDS = 2592000;
+
+    /**
+     * Accept calls run concurrently by {@link #acceptInvitationsBatch(List)}
+     */
+    public static final int DEFAULT_BATCH_CONCURRENCY = 8;
+
+    /**
+     * SDK version and User-Agent, resolved on first request rather than when
+     * the class loads since resolving them may read a resource
+     */
+    static final class SdkVersion {
+        static final String VALUE = loadSdkVersion();
+        static final String USER_AGENT = SDK_NAME + "/" + VALUE;
+
+        private SdkVersion() {
+        }
+    }
 
     private static String loadSdkVersion() {
         String version = VortexClient.class.getPackage().getImplementationVersion();
@@ -52,25 +105,237 @@ public class VortexClient {
 
     private final String apiKey;
     private final String baseUrl;
-    private final CloseableHttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final VortexHttpOptions httpOptions;
+    private final Semaphore connectionPermits;
+    private final long connectionRequestTimeoutNanos;
+    /** Created with the connection pool on the first API call; token minting never needs them. */
+    private volatile CloseableHttpClient httpClient;
+    private volatile PoolingHttpClientConnectionManager connectionManager;
+    private boolean closed;
+    private volatile VortexMetricsRecorder metrics = VortexMetricsRecorder.NOOP;
+    private volatile VortexRequestListener requestListener = VortexRequestListener.NOOP;
+    private volatile VortexTracer tracer = VortexTracer.NOOP;
+    /** Mapper for API bodies set by the caller; null means the shared SDK mapper. */
+    private volatile ObjectMapper objectMapper;
+    private volatile boolean deduplicateStrings;
+    private volatile String name = "client-" + CLIENT_IDS.incrementAndGet();
+
+    /**
+     * The call in progress on this thread when a request listener is set.
+     * Classic HTTP exchanges run on the calling thread, so the stream listener
+     * below finds the event here.
+     */
+    private static final ThreadLocal<VortexRequestEvent> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private static final Http1StreamListener REQUEST_EVENTS = new Http1StreamListener() {
+        @Override
+        public void onRequestHead(HttpConnection connection, HttpRequest request) {
+            VortexRequestEvent event = CURRENT_REQUEST.get();
+            if (event != null) {
+                event.requestSent();
+            }
+        }
+
+        @Override
+        public void onResponseHead(HttpConnection connection, HttpResponse response) {
+            VortexRequestEvent event = CURRENT_REQUEST.get();
+            if (event != null) {
+                event.firstByte(response.getCode());
+            }
+        }
+
+        @Override
+        public void onExchangeComplete(HttpConnection connection, boolean keepAlive) {
+        }
+    };
 
     /**
      * Create a new Vortex client with the given API key
      */
     public VortexClient(String apiKey) {
-        this(apiKey, System.getenv().getOrDefault("VORTEX_API_BASE_URL", DEFAULT_BASE_URL));
+        this(apiKey, new VortexHttpOptions());
     }
 
     /**
      * Create a new Vortex client with custom base URL
      */
     public VortexClient(String apiKey, String baseUrl) {
+        this(apiKey, baseUrl, new VortexHttpOptions());
+    }
+
+    /**
+     * Create a new Vortex client with tuned connection pool and timeouts
+     */
+    public VortexClient(String apiKey, VortexHttpOptions options) {
+        this(apiKey, System.getenv().getOrDefault("VORTEX_API_BASE_URL", DEFAULT_BASE_URL), options);
+    }
+
+    /**
+     * Create a new Vortex client with custom base URL, connection pool and timeouts
+     */
+    public VortexClient(String apiKey, String baseUrl, VortexHttpOptions options) {
         this.apiKey = Objects.requireNonNull(apiKey, "API key cannot be null");
         this.baseUrl = baseUrl != null ? baseUrl : DEFAULT_BASE_URL;
-        this.httpClient = HttpClients.createDefault();
-        this.objectMapper = new ObjectMapper()
-                .registerModule(new JavaTimeModule());
+        Objects.requireNonNull(options, "options cannot be null").validate();
+        this.httpOptions = options.copy();
+        // All requests share one route, so the smaller limit is the one that applies
+        this.connectionPermits = new Semaphore(Math.min(options.getMaxConnections(), options.getMaxConnectionsPerRoute()));
+        this.connectionRequestTimeoutNanos = options.getConnectionRequestTimeout() != null
+                ? options.getConnectionRequestTimeout().toNanos() : -1;
+    }
+
+    /**
+     * The mapper for API request and response bodies: the caller's, or the
+     * shared one built on first use
+     */
+    private ObjectMapper objectMapper() {
+        ObjectMapper mapper = objectMapper;
+        return mapper != null ? mapper : VortexJson.mapper();
+    }
+
+    /**
+     * The HTTP client, created with its connection pool on first use
+     */
+    private CloseableHttpClient httpClient() {
+        CloseableHttpClient client = httpClient;
+        return client != null ? client : createHttpClient();
+    }
+
+    private synchronized CloseableHttpClient createHttpClient() {
+        if (closed) {
+            throw new IllegalStateException("VortexClient is closed");
+        }
+        if (httpClient != null) {
+            return httpClient;
+        }
+        ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+        if (httpOptions.getConnectTimeout() != null) {
+            connectionConfig.setConnectTimeout(Timeout.of(httpOptions.getConnectTimeout()));
+        }
+        if (httpOptions.getConnectionTimeToLive() != null) {
+            connectionConfig.setTimeToLive(TimeValue.of(httpOptions.getConnectionTimeToLive()));
+        }
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpOptions.getMaxConnections())
+                .setMaxConnPerRoute(httpOptions.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig.build())
+                .build();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(pool)
+                .setRequestExecutor(new HttpRequestExecutor(HttpRequestExecutor.DEFAULT_WAIT_FOR_CONTINUE,
+                        DefaultClientConnectionReuseStrategy.INSTANCE, REQUEST_EVENTS));
+        if (httpOptions.getResponseTimeout() != null) {
+            builder.setDefaultRequestConfig(RequestConfig.custom()
+                    .setResponseTimeout(Timeout.of(httpOptions.getResponseTimeout()))
+                    .build());
+        }
+        if (httpOptions.getIdleConnectionTimeout() != null) {
+            builder.evictIdleConnections(TimeValue.of(httpOptions.getIdleConnectionTimeout()));
+        }
+        connectionManager = pool;
+        httpClient = builder.build();
+        return httpClient;
+    }
+
+    /**
+     * Report API call, token minting and connection pool metrics to the given
+     * recorder, e.g. {@code VortexMicrometerMetrics}.
+     *
+     * @param recorder Recorder to use, or null to stop recording
+     */
+    public void setMetricsRecorder(VortexMetricsRecorder recorder) {
+        VortexMetricsRecorder previous = this.metrics;
+        this.metrics = recorder != null ? recorder : VortexMetricsRecorder.NOOP;
+        if (previous != this.metrics) {
+            previous.unbindClient(this);
+        }
+        this.metrics.bindClient(this);
+    }
+
+    /**
+     * Name of this client in metrics, so the connection pool gauges of
+     * several clients sharing a registry stay apart. Set it before the
+     * metrics recorder; defaults to {@code client-<n>}.
+     */
+    public void setName(String name) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+    }
+
+    /** Name of this client in metrics. */
+    public String getName() {
+        return name;
+    }
+
+    /** The recorder set with setMetricsRecorder, for helpers that wrap this client. */
+    VortexMetricsRecorder metricsRecorder() {
+        return metrics;
+    }
+
+    /**
+     * Report the phases of every API call to the given listener, e.g. to
+     * separate pool wait, network and decode time of slow calls.
+     *
+     * @param listener Listener to use, or null to stop reporting
+     */
+    public void setRequestListener(VortexRequestListener listener) {
+        this.requestListener = listener != null ? listener : VortexRequestListener.NOOP;
+    }
+
+    /**
+     * Trace every API call with the given tracer, e.g. {@code VortexOpenTelemetry}.
+     *
+     * @param tracer Tracer to use, or null to stop tracing
+     */
+    public void setTracer(VortexTracer tracer) {
+        this.tracer = tracer != null ? tracer : VortexTracer.NOOP;
+    }
+
+    /**
+     * Read and write API request and response bodies with the given mapper,
+     * e.g. one from {@link VortexObjectMappers#create(java.util.function.Consumer)}.
+     * JWTs and signatures keep using the SDK's own mapper.
+     *
+     * @param mapper Mapper to use, or null to go back to the SDK's shared mapper
+     */
+    public void setObjectMapper(ObjectMapper mapper) {
+        this.objectMapper = mapper;
+    }
+
+    /**
+     * Share one String instance among equal values that repeat across the
+     * invitations of a listing (account, widget configuration and deployment
+     * ids, scope and group fields, metadata values), for applications that
+     * keep large listings in memory. Applies to getInvitationsByTarget and
+     * getInvitationsByScope; off by default.
+     *
+     * @param deduplicateStrings Whether to deduplicate strings in decoded listings
+     */
+    public void setDeduplicateStrings(boolean deduplicateStrings) {
+        this.deduplicateStrings = deduplicateStrings;
+    }
+
+    /** Connections currently in use by in-flight requests. */
+    public int getLeasedConnections() {
+        PoolingHttpClientConnectionManager pool = connectionManager;
+        return pool != null ? pool.getTotalStats().getLeased() : 0;
+    }
+
+    /** Idle pooled connections ready for reuse. */
+    public int getAvailableConnections() {
+        PoolingHttpClientConnectionManager pool = connectionManager;
+        return pool != null ? pool.getTotalStats().getAvailable() : 0;
+    }
+
+    /** Maximum number of pooled connections. */
+    public int getMaxConnections() {
+        PoolingHttpClientConnectionManager pool = connectionManager;
+        return pool != null ? pool.getTotalStats().getMax() : httpOptions.getMaxConnections();
+    }
+
+    /** Requests waiting for a connection to become free. */
+    public int getPendingConnections() {
+        PoolingHttpClientConnectionManager pool = connectionManager;
+        return connectionPermits.getQueueLength() + (pool != null ? pool.getTotalStats().getPending() : 0);
     }
 
     /**
@@ -113,6 +378,10 @@ public class VortexClient {
      * @throws VortexException if API key is invalid or signing fails
      */
     public String sign(Map<String, Object> user) throws VortexException {
+        return timedMint("sign", () -> createSignature(user));
+    }
+
+    private String createSignature(Map<String, Object> user) throws VortexException {
         String[] parts = apiKey.split("\\.");
         if (parts.length != 3 || !"VRTX".equals(parts[0])) {
             throw new VortexException("Invalid API key format");
@@ -147,7 +416,7 @@ public class VortexClient {
 
             // TreeMap is already sorted; recursively canonicalize nested structures
             Object canonicalized = canonicalizeValue(canonical);
-            String canonicalJson = objectMapper.writeValueAsString(canonicalized);
+            String canonicalJson = VortexJson.mapper().writeValueAsString(canonicalized);
 
             // HMAC-SHA256
             Mac mac = Mac.getInstance("HmacSHA256");
@@ -209,6 +478,10 @@ public class VortexClient {
     }
 
     public String generateJwt(Map<String, Object> params, GenerateTokenOptions options) throws VortexException {
+        return timedMint("generateJwt", () -> createJwt(params, options));
+    }
+
+    private String createJwt(Map<String, Object> params, GenerateTokenOptions options) throws VortexException {
         try {
             // Extract user from params
             if (params == null || !params.containsKey("user")) {
@@ -238,7 +511,7 @@ public class VortexClient {
 
             // Step 3: Calculate expiration (default: 30 days, configurable via options)
             long now = Instant.now().getEpochSecond();
-            long expiresInSeconds = (options != null && options.getExpiresIn() != null) ? parseExpiresIn(options.getExpiresIn()) : 2592000; // 30 days
+            long expiresInSeconds = (options != null && options.getExpiresIn() != null) ? parseExpiresIn(options.getExpiresIn()) : DEFAULT_JWT_EXPIRES_IN_SECONDS;
             long expires = now + expiresInSeconds;
 
             // Step 4: Derive signing key from API key + ID (same HMAC process as Node.js)
@@ -291,8 +564,8 @@ public class VortexClient {
             }
 
             // Step 6: Base64URL encode header and payload (same as Node.js)
-            String headerJson = objectMapper.writeValueAsString(header);
-            String payloadJson = objectMapper.writeValueAsString(jwtPayload);
+            String headerJson = VortexJson.mapper().writeValueAsString(header);
+            String payloadJson = VortexJson.mapper().writeValueAsString(jwtPayload);
 
             String headerB64 = Base64.getUrlEncoder().withoutPadding()
                     .encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
@@ -318,56 +591,255 @@ public class VortexClient {
 
     /**
      * Make an API request to the Vortex service
+     *
+     * @param route Template of path, recorded in metrics instead of the path itself
      */
-    private <T> T apiRequest(String method, String path, Object body, Map<String, String> queryParams, TypeReference<T> responseType) throws VortexException {
+    private <T> T apiRequest(String method, String route, String path, Object body, Map<String, String> queryParams, Class<T> responseType) throws VortexException {
+        VortexRequestEvent event = null;
         try {
-            // Build URL
-            String url = baseUrl + path;
-            ClassicRequestBuilder requestBuilder = ClassicRequestBuilder.create(method)
-                    .setUri(url);
-
-            // Add query parameters
-            if (queryParams != null) {
-                queryParams.forEach(requestBuilder::addParameter);
+            event = startRequest(method, route);
+            T result = executeRequest(method, route, path, body, queryParams, responseType, event);
+            if (event != null) {
+                event.complete();
             }
+            return result;
+        } catch (VortexException e) {
+            if (event != null) {
+                event.fail(e);
+            }
+            throw e;
+        } finally {
+            CURRENT_REQUEST.remove();
+        }
+    }
 
-            // Add headers
-            requestBuilder
-                    .addHeader("Content-Type", "application/json")
-                    .addHeader("User-Agent", USER_AGENT)
-                    .addHeader("x-api-key", apiKey)
-                    .addHeader("x-vortex-sdk-name", SDK_NAME)
-                    .addHeader("x-vortex-sdk-version", SDK_VERSION);
-
-            // Add body for POST/PUT requests
-            if (body != null && ("POST".equals(method) || "PUT".equals(method))) {
-                String bodyJson = objectMapper.writeValueAsString(body);
-                requestBuilder.setEntity(new StringEntity(bodyJson, ContentType.APPLICATION_JSON));
+    private <T> T executeRequest(String method, String route, String path, Object body, Map<String, String> queryParams, Class<T> responseType, VortexRequestEvent event) throws VortexException {
+        try {
+            ClassicRequestBuilder requestBuilder = requestBuilder(method, path, body, queryParams);
+            VortexTracer.ApiSpan span = startSpan(method, route, path, requestBuilder);
+            int status = -1;
+            Exception failure = null;
+            try {
+                acquireConnection();
+                if (event != null) {
+                    event.connectionAcquired();
+                }
+                long start = System.nanoTime();
+                VortexFlightRecorder.ApiRequest jfr = VortexFlightRecorder.beginApiRequest();
+                long responseSize = -1;
+                try (CloseableHttpResponse response = httpClient().execute(requestBuilder.build())) {
+                    status = response.getCode();
+                    byte[] responseBytes = response.getEntity().getContent().readAllBytes();
+                    responseSize = responseBytes.length;
+                    String responseBody = new String(responseBytes, StandardCharsets.UTF_8);
+                    if (event != null) {
+                        event.bodyReceived();
+                    }
+
+                    if (response.getCode() >= 400) {
+                        throw apiError(response.getCode(), response.getReasonPhrase(), responseBody);
+                    }
+
+                    // Handle empty responses
+                    T result = null;
+                    if (!responseBody.trim().isEmpty()) {
+                        // Parse JSON response
+                        result = objectMapper().readValue(responseBody, responseType);
+                    }
+                    if (event != null) {
+                        event.bodyDecoded();
+                    }
+                    return result;
+                } finally {
+                    metrics.recordApiRequest(method, route, status, System.nanoTime() - start);
+                    VortexFlightRecorder.endApiRequest(jfr, method, route, status, requestSize(requestBuilder), responseSize);
+                    connectionPermits.release();
+                }
+            } catch (Exception e) {
+                failure = e;
+                throw e;
+            } finally {
+                span.end(status, failure);
             }
+        } catch (VortexException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VortexException("Interrupted while waiting for a connection", e);
+        } catch (Exception e) {
+            throw new VortexException("Failed to make API request", e);
+        }
+    }
 
-            // Execute request
-            try (CloseableHttpResponse response = httpClient.execute(requestBuilder.build())) {
-                String responseBody = new String(response.getEntity().getContent().readAllBytes(), StandardCharsets.UTF_8);
+    /**
+     * Make a GET request and copy the JSON response body to out without binding
+     * it to objects. Nothing is written if the request fails with an error status.
+     */
+    private void apiRequestTo(String route, String path, Map<String, String> queryParams, OutputStream out, Set<String> excludedFields) throws VortexException {
+        VortexRequestEvent event = null;
+        try {
+            event = startRequest("GET", route);
+            executeRequestTo(route, path, queryParams, out, excludedFields, event);
+            if (event != null) {
+                event.complete();
+            }
+        } catch (VortexException e) {
+            if (event != null) {
+                event.fail(e);
+            }
+            throw e;
+        } finally {
+            CURRENT_REQUEST.remove();
+        }
+    }
 
-                if (response.getCode() >= 400) {
-                    throw new VortexException("API request failed: " + response.getCode() + " " + response.getReasonPhrase() + " - " + responseBody);
+    private void executeRequestTo(String route, String path, Map<String, String> queryParams, OutputStream out, Set<String> excludedFields, VortexRequestEvent event) throws VortexException {
+        try {
+            ClassicRequestBuilder requestBuilder = requestBuilder("GET", path, null, queryParams);
+            VortexTracer.ApiSpan span = startSpan("GET", route, path, requestBuilder);
+            int status = -1;
+            Exception failure = null;
+            try {
+                acquireConnection();
+                if (event != null) {
+                    event.connectionAcquired();
                 }
-
-                // Handle empty responses
-                if (responseBody.trim().isEmpty()) {
-                    return null;
+                long start = System.nanoTime();
+                VortexFlightRecorder.ApiRequest jfr = VortexFlightRecorder.beginApiRequest();
+                long responseSize = -1;
+                try (CloseableHttpResponse response = httpClient().execute(requestBuilder.build())) {
+                    status = response.getCode();
+                    if (response.getCode() >= 400) {
+                        byte[] responseBytes = response.getEntity().getContent().readAllBytes();
+                        responseSize = responseBytes.length;
+                        String responseBody = new String(responseBytes, StandardCharsets.UTF_8);
+                        throw apiError(response.getCode(), response.getReasonPhrase(), responseBody);
+                    }
+
+                    try (InputStream in = response.getEntity().getContent()) {
+                        if (excludedFields == null || excludedFields.isEmpty()) {
+                            responseSize = in.transferTo(out);
+                        } else {
+                            copyFiltered(in, out, excludedFields);
+                            responseSize = response.getEntity().getContentLength();
+                        }
+                    }
+                    out.flush();
+                    if (event != null) {
+                        event.bodyReceived();
+                    }
+                } finally {
+                    metrics.recordApiRequest("GET", route, status, System.nanoTime() - start);
+                    VortexFlightRecorder.endApiRequest(jfr, "GET", route, status, 0, responseSize);
+                    connectionPermits.release();
                 }
-
-                // Parse JSON response
-                return objectMapper.readValue(responseBody, responseType);
+            } catch (Exception e) {
+                failure = e;
+                throw e;
+            } finally {
+                span.end(status, failure);
             }
         } catch (VortexException e) {
             throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VortexException("Interrupted while waiting for a connection", e);
         } catch (Exception e) {
             throw new VortexException("Failed to make API request", e);
         }
     }
 
+    /**
+     * Start reporting a call to the request listener, or return null when
+     * there is none
+     */
+    private VortexRequestEvent startRequest(String method, String route) {
+        VortexRequestListener listener = requestListener;
+        if (listener == VortexRequestListener.NOOP) {
+            return null;
+        }
+        VortexRequestEvent event = new VortexRequestEvent(listener, method, route);
+        CURRENT_REQUEST.set(event);
+        event.start();
+        return event;
+    }
+
+    /**
+     * Start a span for a call and add its propagation headers to the request
+     */
+    private VortexTracer.ApiSpan startSpan(String method, String route, String path, ClassicRequestBuilder requestBuilder) {
+        VortexTracer current = tracer;
+        if (current == VortexTracer.NOOP) {
+            return VortexTracer.ApiSpan.NOOP;
+        }
+        return current.startApiRequest(method, route, baseUrl + path, requestBuilder::setHeader);
+    }
+
+    /**
+     * Wait for a connection slot here rather than inside the pool: the pool's
+     * lease wait is a synchronized Object.wait(), which pins virtual threads
+     * to their carrier. Parking on a Semaphore does not.
+     */
+    private void acquireConnection() throws InterruptedException, VortexException {
+        if (connectionRequestTimeoutNanos < 0) {
+            connectionPermits.acquire();
+        } else if (!connectionPermits.tryAcquire(connectionRequestTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            throw new VortexException("Timed out waiting for a connection");
+        }
+    }
+
+    private static long requestSize(ClassicRequestBuilder requestBuilder) {
+        return requestBuilder.getEntity() != null ? requestBuilder.getEntity().getContentLength() : 0;
+    }
+
+    private ClassicRequestBuilder requestBuilder(String method, String path, Object body, Map<String, String> queryParams) throws JsonProcessingException {
+        // Build URL
+        String url = baseUrl + path;
+        ClassicRequestBuilder requestBuilder = ClassicRequestBuilder.create(method)
+                .setUri(url);
+
+        // Add query parameters
+        if (queryParams != null) {
+            queryParams.forEach(requestBuilder::addParameter);
+        }
+
+        // Add headers
+        requestBuilder
+                .addHeader("Content-Type", "application/json")
+                .addHeader("User-Agent", SdkVersion.USER_AGENT)
+                .addHeader("x-api-key", apiKey)
+                .addHeader("x-vortex-sdk-name", SDK_NAME)
+                .addHeader("x-vortex-sdk-version", SdkVersion.VALUE);
+
+        // Add body for POST/PUT requests
+        if (body != null && ("POST".equals(method) || "PUT".equals(method))) {
+            String bodyJson = objectMapper().writeValueAsString(body);
+            requestBuilder.setEntity(new StringEntity(bodyJson, ContentType.APPLICATION_JSON));
+        }
+        return requestBuilder;
+    }
+
+    /**
+     * Re-emit a JSON document token by token, dropping every property whose
+     * name is in excludedFields at any depth.
+     */
+    private void copyFiltered(InputStream in, OutputStream out, Set<String> excludedFields) throws IOException {
+        TokenFilter filter = new TokenFilter() {
+            @Override
+            public TokenFilter includeProperty(String name) {
+                return excludedFields.contains(name) ? null : this;
+            }
+        };
+        try (JsonParser parser = new FilteringParserDelegate(objectMapper().getFactory().createParser(in),
+                     filter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+             JsonGenerator generator = objectMapper().getFactory().createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEventExact(parser);
+            }
+        }
+    }
+
     /**
      * Get invitations by target (email, username, phoneNumber)
      * @vortex.category invitations
@@ -381,8 +853,17 @@ public class VortexClient {
         queryParams.put("targetType", targetType);
         queryParams.put("targetValue", targetValue);
 
-        InvitationResponse response = apiRequest("GET", "/api/v1/invitations", null, queryParams, new TypeReference<InvitationResponse>() {});
-        return response != null ? response.getInvitations() : new ArrayList<>();
+        InvitationResponse response = apiRequest("GET", "/api/v1/invitations", "/api/v1/invitations", null, queryParams, InvitationResponse.class);
+        return invitations(response);
+    }
+
+    private List<InvitationResult> invitations(InvitationResponse response) {
+        if (response == null) {
+            return new ArrayList<>();
+        }
+        return deduplicateStrings
+                ? VortexStringDeduplicator.deduplicate(response.getInvitations())
+                : response.getInvitations();
     }
 
     /**
@@ -400,7 +881,21 @@ public class VortexClient {
      * @return The invitation details
      */
     public InvitationResult getInvitation(String invitationId) throws VortexException {
-        return apiRequest("GET", "/api/v1/invitations/" + invitationId, null, null, new TypeReference<InvitationResult>() {});
+        return apiRequest("GET", "/api/v1/invitations/{invitationId}", "/api/v1/invitations/" + invitationId, null, null, InvitationResult.class);
+    }
+
+    /**
+     * Write the JSON of a specific invitation to a stream as received from the
+     * API, without decoding it. Use this to forward an invitation to your own
+     * client with no per-request object mapping.
+     *
+     * @param invitationId The invitation ID
+     * @param out Destination for the JSON body; not closed
+     * @param excludedFields Property names to drop at any depth, or null to copy the body unchanged
+     * @throws VortexException if the request fails; nothing has been written if the API returned an error status
+     */
+    public void writeInvitationTo(String invitationId, OutputStream out, Set<String> excludedFields) throws VortexException {
+        apiRequestTo("/api/v1/invitations/{invitationId}", "/api/v1/invitations/" + invitationId, null, out, excludedFields);
     }
 
     /**
@@ -410,7 +905,7 @@ public class VortexClient {
      * @param invitationId The invitation ID to revoke
      */
     public void revokeInvitation(String invitationId) throws VortexException {
-        apiRequest("DELETE", "/api/v1/invitations/" + invitationId, null, null, new TypeReference<Void>() {});
+        apiRequest("DELETE", "/api/v1/invitations/{invitationId}", "/api/v1/invitations/" + invitationId, null, null, Void.class);
     }
 
     /**
@@ -430,18 +925,140 @@ public class VortexClient {
      * @throws VortexException if the API request fails
      */
     public InvitationResult acceptInvitations(List<String> invitationIds, AcceptUser user) throws VortexException {
+        // Return the first invitation from the response
+        return acceptAll(invitationIds, user).get(0);
+    }
+
+    /**
+     * Accept invitations for many users at once, running up to
+     * {@link #DEFAULT_BATCH_CONCURRENCY} accept calls concurrently
+     *
+     * @param items One entry per user, each with the invitation IDs to accept for that user
+     * @return Every accepted invitation plus one error per failed item
+     * @throws VortexException if interrupted while waiting for the batch
+     * @see #acceptInvitationsBatch(List, int)
+     */
+    public BatchAcceptInvitationsResult acceptInvitationsBatch(List<AcceptInvitationRequest> items) throws VortexException {
+        return acceptInvitationsBatch(items, DEFAULT_BATCH_CONCURRENCY);
+    }
+
+    /**
+     * Accept invitations for many users at once
+     *
+     * <p>Each item is sent as its own accept call, with at most
+     * {@code maxConcurrency} calls in flight. A failed item does not stop the
+     * others; it is reported in {@link BatchAcceptInvitationsResult#getErrors()}
+     * with its index in {@code items}. For API failures the reported error
+     * is the status line only, since the response body may describe other
+     * users' invitations; the full exception is logged at debug level.</p>
+     *
+     * <pre>{@code
+     * List<AcceptInvitationRequest> items = new ArrayList<>();
+     * for (ImportedUser u : importedUsers) {
+     *     items.add(new AcceptInvitationRequest(u.getInvitationIds(), new AcceptUser(u.getEmail())));
+     * }
+     * BatchAcceptInvitationsResult result = client.acceptInvitationsBatch(items, 16);
+     * result.getErrors().forEach(e -> retryLater(items.get(e.getIndex())));
+     * }</pre>
+     *
+     * @param items One entry per user, each with the invitation IDs to accept for that user
+     * @param maxConcurrency Maximum number of accept calls in flight
+     * @return Every accepted invitation, in item order, plus one error per failed item
+     * @throws VortexException if interrupted while waiting for the batch
+     */
+    public BatchAcceptInvitationsResult acceptInvitationsBatch(List<AcceptInvitationRequest> items, int maxConcurrency) throws VortexException {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        int count = items != null ? items.size() : 0;
+        if (count == 0) {
+            return new BatchAcceptInvitationsResult();
+        }
+
+        List<List<InvitationResult>> accepted = new ArrayList<>(Collections.nCopies(count, null));
+        List<BatchAcceptInvitationsResult.BatchAcceptError> errors = new ArrayList<>(Collections.nCopies(count, null));
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+                AcceptInvitationRequest item = items.get(i);
+                try {
+                    if (item == null) {
+                        throw new VortexException("Batch item cannot be null");
+                    }
+                    accepted.set(i, acceptAll(item.getInvitationIds(), item.getUser()));
+                } catch (Exception e) {
+                    logger.debug("Batch accept item {} failed", i, e);
+                    errors.set(i, new BatchAcceptInvitationsResult.BatchAcceptError(
+                            i, item != null ? item.getInvitationIds() : null, batchErrorMessage(e)));
+                }
+            }
+        };
+
+        // A fixed number of workers pulling items bounds concurrency without
+        // queueing one task per item
+        int workers = Math.min(maxConcurrency, count);
+        ExecutorService executor = VortexExecutors.newVirtualOrBoundedExecutor("vortex-batch-accept-", workers, workers);
+        try {
+            List<Future<?>> running = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                running.add(executor.submit(worker));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VortexException("Interrupted while accepting invitations", e);
+        } catch (ExecutionException e) {
+            throw new VortexException("Failed to accept invitations", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BatchAcceptInvitationsResult result = new BatchAcceptInvitationsResult();
+        for (int i = 0; i < count; i++) {
+            if (accepted.get(i) != null) {
+                result.getAccepted().addAll(accepted.get(i));
+            } else {
+                result.getErrors().add(errors.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Error for a failed API response. {@link #batchErrorMessage(Exception)}
+     * relies on this format to cut the response body off again.
+     */
+    static VortexException apiError(int status, String reason, String body) {
+        return new VortexException(API_ERROR_PREFIX + status + " " + reason + API_ERROR_BODY_SEPARATOR + body);
+    }
+
+    /**
+     * Error reported for a failed batch item: the status line of an API
+     * error without its response body, or the SDK's own validation message
+     */
+    static String batchErrorMessage(Exception e) {
+        String message = e.getMessage();
+        if (!(e instanceof VortexException) || message == null) {
+            return "Failed to accept invitations";
+        }
+        int body = message.startsWith(API_ERROR_PREFIX) ? message.indexOf(API_ERROR_BODY_SEPARATOR) : -1;
+        return body >= 0 ? message.substring(0, body) : message;
+    }
+
+    private List<InvitationResult> acceptAll(List<String> invitationIds, AcceptUser user) throws VortexException {
         // Validate that either email or phone is provided
-        if ((user.getEmail() == null || user.getEmail().isEmpty()) &&
-            (user.getPhone() == null || user.getPhone().isEmpty())) {
+        if (user == null || ((user.getEmail() == null || user.getEmail().isEmpty()) &&
+            (user.getPhone() == null || user.getPhone().isEmpty()))) {
             throw new VortexException("User must have either email or phone");
         }
 
         AcceptInvitationRequest request = new AcceptInvitationRequest(invitationIds, user);
-        InvitationResponse response = apiRequest("POST", "/api/v1/invitations/accept", request, null, new TypeReference<InvitationResponse>() {});
+        InvitationResponse response = apiRequest("POST", "/api/v1/invitations/accept", "/api/v1/invitations/accept", request, null, InvitationResponse.class);
 
-        // Return the first invitation from the response
         if (response.getInvitations() != null && !response.getInvitations().isEmpty()) {
-            return response.getInvitations().get(0);
+            return response.getInvitations();
         }
         throw new VortexException("No invitations returned from accept endpoint");
     }
@@ -571,7 +1188,7 @@ public class VortexClient {
      * @param scope The scope identifier
      */
     public void deleteInvitationsByScope(String scopeType, String scope) throws VortexException {
-        apiRequest("DELETE", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope, null, null, new TypeReference<Void>() {});
+        apiRequest("DELETE", "/api/v1/invitations/by-scope/{scopeType}/{scope}", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope, null, null, Void.class);
     }
 
     /**
@@ -583,8 +1200,22 @@ public class VortexClient {
      * @return List of invitations for the scope
      */
     public List<InvitationResult> getInvitationsByScope(String scopeType, String scope) throws VortexException {
-        InvitationResponse response = apiRequest("GET", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope, null, null, new TypeReference<InvitationResponse>() {});
-        return response != null ? response.getInvitations() : new ArrayList<>();
+        InvitationResponse response = apiRequest("GET", "/api/v1/invitations/by-scope/{scopeType}/{scope}", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope, null, null, InvitationResponse.class);
+        return invitations(response);
+    }
+
+    /**
+     * Write the JSON listing of invitations for a scope to a stream as received
+     * from the API ({@code {"invitations": [...]}}), without decoding it.
+     *
+     * @param scopeType The scope type (organization, team, etc.)
+     * @param scope The scope identifier
+     * @param out Destination for the JSON body; not closed
+     * @param excludedFields Property names to drop at any depth, or null to copy the body unchanged
+     * @throws VortexException if the request fails; nothing has been written if the API returned an error status
+     */
+    public void writeInvitationsByScopeTo(String scopeType, String scope, OutputStream out, Set<String> excludedFields) throws VortexException {
+        apiRequestTo("/api/v1/invitations/by-scope/{scopeType}/{scope}", "/api/v1/invitations/by-scope/" + scopeType + "/" + scope, null, out, excludedFields);
     }
 
     /**
@@ -595,7 +1226,7 @@ public class VortexClient {
      * @return The reinvited invitation result
      */
     public InvitationResult reinvite(String invitationId) throws VortexException {
-        return apiRequest("POST", "/api/v1/invitations/" + invitationId + "/reinvite", null, null, new TypeReference<InvitationResult>() {});
+        return apiRequest("POST", "/api/v1/invitations/{invitationId}/reinvite", "/api/v1/invitations/" + invitationId + "/reinvite", null, null, InvitationResult.class);
     }
 
     /**
@@ -672,7 +1303,7 @@ public class VortexClient {
             request.setGroups(request.getScopes());
         }
 
-        return apiRequest("POST", "/api/v1/invitations", request, null, new TypeReference<CreateInvitationResponse>() {});
+        return apiRequest("POST", "/api/v1/invitations", "/api/v1/invitations", request, null, CreateInvitationResponse.class);
     }
 
     /**
@@ -687,7 +1318,7 @@ public class VortexClient {
         String encodedScopeType = java.net.URLEncoder.encode(scopeType, StandardCharsets.UTF_8);
         String encodedScope = java.net.URLEncoder.encode(scope, StandardCharsets.UTF_8);
         String path = "/api/v1/invitations/by-scope/" + encodedScopeType + "/" + encodedScope + "/autojoin";
-        return apiRequest("GET", path, null, null, new TypeReference<AutojoinDomainsResponse>() {});
+        return apiRequest("GET", "/api/v1/invitations/by-scope/{scopeType}/{scope}/autojoin", path, null, null, AutojoinDomainsResponse.class);
     }
 
     /**
@@ -711,7 +1342,7 @@ public class VortexClient {
             throw new VortexException("componentId is required");
         }
 
-        return apiRequest("POST", "/api/v1/invitations/autojoin", request, null, new TypeReference<AutojoinDomainsResponse>() {});
+        return apiRequest("POST", "/api/v1/invitations/autojoin", "/api/v1/invitations/autojoin", request, null, AutojoinDomainsResponse.class);
     }
 
     /**
@@ -741,7 +1372,7 @@ public class VortexClient {
             throw new VortexException("Request cannot be null");
         }
 
-        return apiRequest("POST", "/api/v1/invitations/sync-internal-invitation", request, null, new TypeReference<SyncInternalInvitationResponse>() {});
+        return apiRequest("POST", "/api/v1/invitations/sync-internal-invitation", "/api/v1/invitations/sync-internal-invitation", request, null, SyncInternalInvitationResponse.class);
     }
 
     /**
@@ -798,6 +1429,10 @@ public class VortexClient {
      * @return Signed JWT token string
      */
     public String generateToken(GenerateTokenPayload payload, GenerateTokenOptions options) throws VortexException {
+        return timedMint("generateToken", () -> createToken(payload, options));
+    }
+
+    private String createToken(GenerateTokenPayload payload, GenerateTokenOptions options) throws VortexException {
         try {
             if (payload.getUser() == null || payload.getUser().getId() == null) {
                 logger.warn("[Vortex SDK] Warning: signing payload without user.id means invitations won't be securely attributed.");
@@ -830,15 +1465,15 @@ public class VortexClient {
             if (payload.getComponent() != null) jwtPayload.put("component", payload.getComponent());
             if (payload.getTrigger() != null) jwtPayload.put("trigger", payload.getTrigger());
             if (payload.getEmbed() != null) jwtPayload.put("embed", payload.getEmbed());
-            if (payload.getUser() != null) jwtPayload.put("user", objectMapper.convertValue(payload.getUser(), Map.class));
+            if (payload.getUser() != null) jwtPayload.put("user", VortexJson.mapper().convertValue(payload.getUser(), Map.class));
             if (payload.getScope() != null) jwtPayload.put("scope", payload.getScope());
             if (payload.getVars() != null) jwtPayload.put("vars", payload.getVars());
             if (payload.getAdditionalProperties() != null) jwtPayload.putAll(payload.getAdditionalProperties());
             jwtPayload.put("iat", now);
             jwtPayload.put("exp", exp);
 
-            String headerB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsString(header).getBytes(StandardCharsets.UTF_8));
-            String payloadB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsString(jwtPayload).getBytes(StandardCharsets.UTF_8));
+            String headerB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(VortexJson.mapper().writeValueAsString(header).getBytes(StandardCharsets.UTF_8));
+            String payloadB64 = Base64.getUrlEncoder().withoutPadding().encodeToString(VortexJson.mapper().writeValueAsString(jwtPayload).getBytes(StandardCharsets.UTF_8));
 
             String toSign = headerB64 + "." + payloadB64;
             Mac signer = Mac.getInstance("HmacSHA256");
@@ -853,12 +1488,39 @@ public class VortexClient {
         }
     }
 
+    @FunctionalInterface
+    private interface Mint {
+        String mint() throws VortexException;
+    }
+
+    private String timedMint(String operation, Mint mint) throws VortexException {
+        long start = System.nanoTime();
+        VortexFlightRecorder.TokenMint jfr = VortexFlightRecorder.beginTokenMint();
+        String token = null;
+        try {
+            token = mint.mint();
+            return token;
+        } finally {
+            metrics.recordTokenMint(operation, System.nanoTime() - start, token != null);
+            VortexFlightRecorder.endTokenMint(jfr, operation, token);
+        }
+    }
+
     /**
      * Close the HTTP client when done
      */
     public void close() {
+        CloseableHttpClient client;
+        synchronized (this) {
+            closed = true;
+            client = httpClient;
+        }
+        metrics.unbindClient(this);
+        if (client == null) {
+            return;
+        }
         try {
-            httpClient.close();
+            client.close();
         } catch (Exception e) {
             logger.warn("Error closing HTTP client", e);
         }
@@ -0,0 +1,26 @@
+package com.vortexsoftware.sdk;
+
+/**
+ * Callback for verified webhook and analytics events.
+ *
+ * <pre>{@code
+ * VortexEventHandler handler = event -> {
+ *     if (event instanceof VortexWebhookEvent) {
+ *         VortexWebhookEvent webhookEvent = (VortexWebhookEvent) event;
+ *         // ...
+ *     }
+ * };
+ * }</pre>
+ */
+@FunctionalInterface
+public interface VortexEventHandler {
+
+    /**
+     * Handle a single event.
+     *
+     * @param event A {@link com.vortexsoftware.sdk.types.VortexWebhookEvent} or
+     *              {@link com.vortexsoftware.sdk.types.VortexAnalyticsEvent}
+     * @throws Exception if the event could not be handled
+     */
+    void handle(Object event) throws Exception;
+}
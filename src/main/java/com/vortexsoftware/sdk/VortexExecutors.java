@@ -0,0 +1,106 @@
+package com.vortexsoftware.sdk;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor factories shared by the SDK's asynchronous components.
+ *
+ * <p>The SDK compiles against Java 17, so virtual threads are looked up
+ * reflectively and are only used when the running JVM provides them
+ * (Java 21+). Callers fall back to a bounded platform-thread pool otherwise.</p>
+ */
+public final class VortexExecutors {
+
+    private static final Method OF_VIRTUAL = lookup(Thread.class, "ofVirtual");
+
+    private VortexExecutors() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Whether the running JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     *
+     * @param namePrefix Prefix for thread names, followed by a counter
+     * @return A thread-per-task executor backed by virtual threads
+     * @throws UnsupportedOperationException if the JVM has no virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) java.util.concurrent.Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads are not usable on this JVM", e);
+        }
+    }
+
+    /**
+     * Create a fixed-size pool of daemon platform threads with a bounded queue.
+     * Tasks submitted while the queue is full are rejected with
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param namePrefix    Prefix for thread names, followed by a counter
+     * @param threads       Number of worker threads
+     * @param queueCapacity Maximum number of waiting tasks
+     */
+    public static ExecutorService newBoundedExecutor(String namePrefix, int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory(namePrefix));
+    }
+
+    /**
+     * Create a virtual-thread executor when available, otherwise a bounded
+     * platform-thread pool.
+     *
+     * @param namePrefix    Prefix for thread names
+     * @param threads       Worker threads for the fallback pool
+     * @param queueCapacity Queue capacity for the fallback pool
+     */
+    public static ExecutorService newVirtualOrBoundedExecutor(String namePrefix, int threads, int queueCapacity) {
+        if (isVirtualThreadsAvailable()) {
+            try {
+                return newVirtualThreadPerTaskExecutor(namePrefix);
+            } catch (UnsupportedOperationException ignored) {
+                // Preview-only virtual threads (Java 19/20); fall through
+            }
+        }
+        return newBoundedExecutor(namePrefix, threads, queueCapacity);
+    }
+
+    static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, namePrefix + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static Method lookup(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events for SDK activity, shown under "Vortex SDK" in
+ * JDK Mission Control:
+ * <ul>
+ *   <li>{@code com.vortexsoftware.sdk.ApiRequest}: each VortexClient API call,
+ *       with method, route template, status and request/response sizes</li>
+ *   <li>{@code com.vortexsoftware.sdk.TokenMint}: sign, generateJwt and
+ *       generateToken, with outcome and token size</li>
+ *   <li>{@code com.vortexsoftware.sdk.WebhookReceived}: VortexWebhooks.constructEvent,
+ *       with payload size, signature validity and event type</li>
+ * </ul>
+ *
+ * <p>When no recording is running, begin/end/shouldCommit reduce to a flag
+ * check and the event object is usually scalar-replaced; fields are only
+ * filled in for events that will be written. On runtimes without the jdk.jfr
+ * module nothing is created at all.</p>
+ */
+final class VortexFlightRecorder {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private VortexFlightRecorder() {
+    }
+
+    /** Start timing an API call, or return null when JFR is unavailable. */
+    static ApiRequest beginApiRequest() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        ApiRequest event = new ApiRequest();
+        event.begin();
+        return event;
+    }
+
+    static void endApiRequest(ApiRequest event, String method, String route, int status,
+                              long requestBytes, long responseBytes) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.route = route;
+            event.status = status;
+            event.requestBytes = requestBytes;
+            event.responseBytes = responseBytes;
+            event.commit();
+        }
+    }
+
+    /** Start timing a token mint, or return null when JFR is unavailable. */
+    static TokenMint beginTokenMint() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        TokenMint event = new TokenMint();
+        event.begin();
+        return event;
+    }
+
+    static void endTokenMint(TokenMint event, String operation, String token) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.success = token != null;
+            event.tokenBytes = token != null ? token.length() : -1;
+            event.commit();
+        }
+    }
+
+    /** Start timing webhook handling, or return null when JFR is unavailable. */
+    static WebhookReceived beginWebhook() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        WebhookReceived event = new WebhookReceived();
+        event.begin();
+        return event;
+    }
+
+    static void endWebhook(WebhookReceived event, int payloadBytes, boolean signatureValid, Object parsed) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.payloadBytes = payloadBytes;
+            event.signatureValid = signatureValid;
+            event.parsed = parsed != null;
+            if (parsed instanceof VortexWebhookEvent) {
+                event.eventType = ((VortexWebhookEvent) parsed).getType();
+            } else if (parsed instanceof VortexAnalyticsEvent) {
+                event.eventType = ((VortexAnalyticsEvent) parsed).getName();
+            }
+            event.commit();
+        }
+    }
+
+    @Name("com.vortexsoftware.sdk.ApiRequest")
+    @Label("Vortex API Request")
+    @Category("Vortex SDK")
+    @Description("A VortexClient call to the Vortex API, from acquiring a connection to reading the response")
+    static final class ApiRequest extends Event {
+        @Label("Method")
+        String method;
+
+        @Label("Route")
+        @Description("Route template of the endpoint")
+        String route;
+
+        @Label("Status")
+        @Description("HTTP status code, or -1 if no response was received")
+        int status;
+
+        @Label("Request Size")
+        @DataAmount
+        long requestBytes;
+
+        @Label("Response Size")
+        @Description("Bytes of response body read, or -1 if none was read")
+        @DataAmount
+        long responseBytes;
+    }
+
+    @Name("com.vortexsoftware.sdk.TokenMint")
+    @Label("Vortex Token Mint")
+    @Category("Vortex SDK")
+    @Description("A signature or token minted locally by VortexClient")
+    static final class TokenMint extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Success")
+        boolean success;
+
+        @Label("Token Size")
+        @Description("Size of the minted token, or -1 on failure")
+        @DataAmount
+        long tokenBytes;
+    }
+
+    @Name("com.vortexsoftware.sdk.WebhookReceived")
+    @Label("Vortex Webhook")
+    @Category("Vortex SDK")
+    @Description("Signature verification and parsing of an incoming webhook by VortexWebhooks.constructEvent")
+    static final class WebhookReceived extends Event {
+        @Label("Payload Size")
+        @DataAmount
+        long payloadBytes;
+
+        @Label("Signature Valid")
+        boolean signatureValid;
+
+        @Label("Parsed")
+        boolean parsed;
+
+        @Label("Event Type")
+        @Description("Webhook event type or analytics event name")
+        String eventType;
+    }
+}
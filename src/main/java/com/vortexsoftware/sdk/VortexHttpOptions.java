@@ -0,0 +1,93 @@
+package com.vortexsoftware.sdk;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeout settings for {@link VortexClient} and
+ * {@link VortexAsyncClient}.
+ *
+ * <p>Timeouts left null use the HTTP client's defaults.</p>
+ *
+ * <pre>{@code
+ * VortexHttpOptions options = new VortexHttpOptions();
+ * options.setMaxConnections(100);
+ * options.setResponseTimeout(Duration.ofSeconds(10));
+ * VortexClient client = new VortexClient(apiKey, options);
+ * }</pre>
+ */
+public class VortexHttpOptions {
+
+    /**
+     * Maximum number of pooled connections to the Vortex API.
+     */
+    private int maxConnections = VortexClient.DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * Maximum number of pooled connections per host.
+     */
+    private int maxConnectionsPerRoute = VortexClient.DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * Timeout for establishing a connection.
+     */
+    private Duration connectTimeout;
+
+    /**
+     * Timeout waiting for response data once the request has been sent.
+     */
+    private Duration responseTimeout;
+
+    /**
+     * Timeout waiting for a free connection when the pool is exhausted; waits indefinitely if unset.
+     */
+    private Duration connectionRequestTimeout;
+
+    /**
+     * Maximum lifetime of a pooled connection; unlimited if unset.
+     */
+    private Duration connectionTimeToLive;
+
+    /**
+     * Close pooled connections idle for longer than this; idle connections are kept if unset.
+     */
+    private Duration idleConnectionTimeout;
+
+    public int getMaxConnections() { return maxConnections; }
+    public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+
+    public int getMaxConnectionsPerRoute() { return maxConnectionsPerRoute; }
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) { this.maxConnectionsPerRoute = maxConnectionsPerRoute; }
+
+    public Duration getConnectTimeout() { return connectTimeout; }
+    public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+    public Duration getResponseTimeout() { return responseTimeout; }
+    public void setResponseTimeout(Duration responseTimeout) { this.responseTimeout = responseTimeout; }
+
+    public Duration getConnectionRequestTimeout() { return connectionRequestTimeout; }
+    public void setConnectionRequestTimeout(Duration connectionRequestTimeout) { this.connectionRequestTimeout = connectionRequestTimeout; }
+
+    public Duration getConnectionTimeToLive() { return connectionTimeToLive; }
+    public void setConnectionTimeToLive(Duration connectionTimeToLive) { this.connectionTimeToLive = connectionTimeToLive; }
+
+    public Duration getIdleConnectionTimeout() { return idleConnectionTimeout; }
+    public void setIdleConnectionTimeout(Duration idleConnectionTimeout) { this.idleConnectionTimeout = idleConnectionTimeout; }
+
+    VortexHttpOptions copy() {
+        VortexHttpOptions copy = new VortexHttpOptions();
+        copy.maxConnections = maxConnections;
+        copy.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        copy.connectTimeout = connectTimeout;
+        copy.responseTimeout = responseTimeout;
+        copy.connectionRequestTimeout = connectionRequestTimeout;
+        copy.connectionTimeToLive = connectionTimeToLive;
+        copy.idleConnectionTimeout = idleConnectionTimeout;
+        return copy;
+    }
+
+    void validate() {
+        if (maxConnections <= 0 || maxConnectionsPerRoute <= 0) {
+            throw new IllegalArgumentException("maxConnections and maxConnectionsPerRoute must be positive");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.types.TokenUser;
+import com.vortexsoftware.sdk.types.VortexTypesModule;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The ObjectMapper shared by every {@link VortexClient} and
+ * {@link VortexAsyncClient}, unless one is given its own with
+ * {@code setObjectMapper}. Tokens and signatures always use this one.
+ *
+ * <p>Built on first use rather than when a client is constructed, so a
+ * process that never touches JSON never pays for it. Jackson caches
+ * serializers per mapper; sharing one means the cost of introspecting the
+ * SDK types is paid once per process instead of once per client, and the
+ * serializers used to mint tokens are built up front so the first token is
+ * not slower than the rest.</p>
+ *
+ * <p>The SDK types are read and written by the pre-generated codecs in
+ * {@link VortexTypesModule} rather than by reflection.</p>
+ */
+final class VortexJson {
+
+    private VortexJson() {
+    }
+
+    static ObjectMapper mapper() {
+        return Holder.MAPPER;
+    }
+
+    private static final class Holder {
+        static final ObjectMapper MAPPER = warm(VortexObjectMappers.create());
+    }
+
+    /**
+     * Serialize token-shaped values once: a JWT header and payload, a
+     * converted TokenUser and a canonical signing payload
+     */
+    private static ObjectMapper warm(ObjectMapper mapper) {
+        try {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("user", mapper.convertValue(new TokenUser("id", "name", "user@example.com"), Map.class));
+            payload.put("scope", List.of("scope"));
+            payload.put("iat", 0L);
+            payload.put("expires", 0);
+            payload.put("verified", true);
+            mapper.writeValueAsString(payload);
+            mapper.writeValueAsString(new TreeMap<>(payload));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            // Warming is best effort; the serializers are built on first real use instead
+        }
+        return mapper;
+    }
+}
@@ -0,0 +1,239 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vortexsoftware.sdk.types.User;
+
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches generated JWTs per user so repeated requests for the same claims get
+ * the same token back instead of a freshly minted one.
+ *
+ * <p>Entries are keyed by user id plus a hash of all claims, so any change to
+ * the user or extra claims mints a new token. A cached token is returned until
+ * {@code refreshAfter} of its lifetime has elapsed; the next request after
+ * that mints a replacement, so callers always receive a token with at least
+ * {@code 1 - refreshAfter} of its lifetime left. The least recently used
+ * entries are evicted beyond {@code maxEntries}. Concurrent requests for
+ * claims that are not cached wait for a single mint instead of each minting
+ * their own token.</p>
+ *
+ * <p>Hits, misses and evictions are reported to the client's
+ * {@link VortexMetricsRecorder} as well as counted here.</p>
+ *
+ * <pre>{@code
+ * VortexJwtCache jwtCache = new VortexJwtCache(client);
+ * String jwt = jwtCache.generateJwt(params);   // same token on every call for the first 15 days
+ * double hitRate = jwtCache.getHitRate();
+ * }</pre>
+ */
+public class VortexJwtCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final double DEFAULT_REFRESH_AFTER = 0.5;
+
+    private final VortexClient client;
+    private final int maxEntries;
+    private final long refreshAfterMillis;
+    private final LongSupplier clockMillis;
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final LinkedHashMap<String, Entry> entries;
+    private final ConcurrentMap<String, CompletableFuture<String>> minting = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache of up to {@link #DEFAULT_MAX_ENTRIES} tokens, refreshed
+     * once half their lifetime has passed.
+     */
+    public VortexJwtCache(VortexClient client) {
+        this(client, DEFAULT_MAX_ENTRIES, DEFAULT_REFRESH_AFTER);
+    }
+
+    /**
+     * @param client       Client used to mint tokens
+     * @param maxEntries   Maximum number of cached tokens
+     * @param refreshAfter Fraction of the token lifetime, in (0, 1], after which a new token is minted
+     */
+    public VortexJwtCache(VortexClient client, int maxEntries, double refreshAfter) {
+        this(client, maxEntries, refreshAfter, System::currentTimeMillis);
+    }
+
+    VortexJwtCache(VortexClient client, int maxEntries, double refreshAfter, LongSupplier clockMillis) {
+        this.client = Objects.requireNonNull(client, "client cannot be null");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (!(refreshAfter > 0 && refreshAfter <= 1)) {
+            throw new IllegalArgumentException("refreshAfter must be in (0, 1]");
+        }
+        this.maxEntries = maxEntries;
+        this.refreshAfterMillis = (long) (VortexClient.DEFAULT_JWT_EXPIRES_IN_SECONDS * 1000 * refreshAfter);
+        this.clockMillis = clockMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > VortexJwtCache.this.maxEntries) {
+                    evictions.increment();
+                    VortexJwtCache.this.client.metricsRecorder().recordJwtCache("eviction");
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached JWT for these params, or mint one with
+     * {@link VortexClient#generateJwt(Map)} if there is none or it is due for refresh.
+     *
+     * @param params Map containing "user" key with User object and optional additional properties
+     * @return JWT token
+     * @throws VortexException if JWT generation fails
+     */
+    public String generateJwt(Map<String, Object> params) throws VortexException {
+        String key = key(params);
+        long now = clockMillis.getAsLong();
+        Entry cached = cached(key);
+        if (cached != null && now < cached.refreshAt) {
+            return hit(cached.jwt);
+        }
+        CompletableFuture<String> mint = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = minting.putIfAbsent(key, mint);
+        if (inFlight != null) {
+            return hit(await(inFlight));
+        }
+        try {
+            // Another request may have cached a token between the lookup and the claim
+            Entry current = cached(key);
+            if (current != null && now < current.refreshAt) {
+                mint.complete(current.jwt);
+                return hit(current.jwt);
+            }
+            if (current != null) {
+                refreshes.increment();
+            }
+            misses.increment();
+            client.metricsRecorder().recordJwtCache("miss");
+            String jwt = client.generateJwt(params);
+            synchronized (entries) {
+                entries.put(key, new Entry(jwt, now + refreshAfterMillis));
+            }
+            mint.complete(jwt);
+            return jwt;
+        } catch (VortexException | RuntimeException e) {
+            mint.completeExceptionally(e);
+            throw e;
+        } finally {
+            minting.remove(key, mint);
+        }
+    }
+
+    /** Number of requests answered from the cache, including those that waited for another request's mint. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Number of requests that minted a token, including refreshes. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Number of tokens replaced because they passed the refresh point. */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /** Number of tokens dropped to stay within {@code maxEntries}. */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** Fraction of requests answered from the cache, or 0 before the first request. */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /** Number of tokens currently cached. */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** Drop every cached token. */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private Entry cached(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private String hit(String jwt) {
+        hits.increment();
+        client.metricsRecorder().recordJwtCache("hit");
+        return jwt;
+    }
+
+    private static String await(CompletableFuture<String> mint) throws VortexException {
+        try {
+            return mint.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof VortexException) {
+                throw (VortexException) e.getCause();
+            }
+            throw new VortexException("Failed to generate JWT", e.getCause());
+        }
+    }
+
+    private String key(Map<String, Object> params) throws VortexException {
+        if (params == null || !(params.get("user") instanceof User)) {
+            throw new VortexException("params must contain a 'user' User object");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsBytes(params));
+            return ((User) params.get("user")).getId() + ":" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (Exception e) {
+            throw new VortexException("Failed to hash JWT claims", e);
+        }
+    }
+
+    private static final class Entry {
+        final String jwt;
+        final long refreshAt;
+
+        Entry(String jwt, long refreshAt) {
+            this.jwt = jwt;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
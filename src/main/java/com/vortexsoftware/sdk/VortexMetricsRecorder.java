@@ -0,0 +1,74 @@
+package com.vortexsoftware.sdk;
+
+/**
+ * Receives timings from {@link VortexClient}, {@link VortexAsyncClient} and
+ * {@link VortexWebhooks}, and the outcomes of {@link VortexJwtCache} lookups.
+ *
+ * <p>Routes are always templates such as {@code /api/v1/invitations/{invitationId}},
+ * never the request path, so implementations can use them as metric tags
+ * without unbounded cardinality. Methods are called on the request thread and
+ * must not block.</p>
+ *
+ * <pre>{@code
+ * client.setMetricsRecorder(new VortexMicrometerMetrics(meterRegistry));
+ * }</pre>
+ */
+public interface VortexMetricsRecorder {
+
+    /** Recorder that drops everything; the default for every client. */
+    VortexMetricsRecorder NOOP = new VortexMetricsRecorder() {};
+
+    /**
+     * Record a completed Vortex API call.
+     *
+     * @param method HTTP method
+     * @param route  Route template of the endpoint
+     * @param status HTTP status code, or -1 if no response was received
+     * @param nanos  Time from sending the request to reading the response
+     */
+    default void recordApiRequest(String method, String route, int status, long nanos) {
+    }
+
+    /**
+     * Record a token or signature minted locally.
+     *
+     * @param operation {@code sign}, {@code generateJwt} or {@code generateToken}
+     * @param nanos     Time taken
+     * @param success   Whether a token was returned
+     */
+    default void recordTokenMint(String operation, long nanos, boolean success) {
+    }
+
+    /**
+     * Record a {@link VortexJwtCache} lookup or eviction.
+     *
+     * @param result {@code hit}, {@code miss} (a token was minted, including
+     *               refreshes) or {@code eviction}
+     */
+    default void recordJwtCache(String result) {
+    }
+
+    /**
+     * Record one step of webhook processing.
+     *
+     * @param phase   {@code verify} for signature verification, {@code parse} for event decoding
+     * @param nanos   Time taken
+     * @param success Whether the signature was valid or the event decoded
+     */
+    default void recordWebhook(String phase, long nanos, boolean success) {
+    }
+
+    /**
+     * Called when this recorder is attached to a client, so implementations
+     * can register gauges over its connection pool.
+     */
+    default void bindClient(VortexClient client) {
+    }
+
+    /**
+     * Called when this recorder is replaced on a client or the client is
+     * closed, so implementations can remove what {@link #bindClient} registered.
+     */
+    default void unbindClient(VortexClient client) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.vortexsoftware.sdk;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Micrometer implementation of {@link VortexMetricsRecorder}.
+ *
+ * <p>Requires {@code io.micrometer:micrometer-core} on the classpath. Registers:</p>
+ * <ul>
+ *   <li>{@code vortex.client.requests} timer, tagged {@code method}, {@code route}
+ *       (the route template) and {@code status} ({@code 2xx}..{@code 5xx}, or
+ *       {@code IO_ERROR} when no response was received)</li>
+ *   <li>{@code vortex.token.mint} timer, tagged {@code operation} and {@code outcome}</li>
+ *   <li>{@code vortex.webhooks} timer, tagged {@code phase} ({@code verify} or
+ *       {@code parse}) and {@code outcome}</li>
+ *   <li>{@code vortex.jwt.cache} counter, tagged {@code result} ({@code hit},
+ *       {@code miss} or {@code eviction})</li>
+ *   <li>{@code vortex.client.connections} gauges, tagged {@code client}
+ *       ({@link VortexClient#getName()}) and {@code state} ({@code leased},
+ *       {@code available}, {@code pending}, {@code max}), for each bound
+ *       {@link VortexClient} until it is closed or given another recorder</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * VortexMicrometerMetrics metrics = new VortexMicrometerMetrics(meterRegistry);
+ * client.setMetricsRecorder(metrics);
+ * webhooks.setMetricsRecorder(metrics);
+ * }</pre>
+ */
+public class VortexMicrometerMetrics implements VortexMetricsRecorder {
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> jwtCacheCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<VortexClient, List<Meter>> clientGauges = new ConcurrentHashMap<>();
+
+    public VortexMicrometerMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+    }
+
+    @Override
+    public void recordApiRequest(String method, String route, int status, long nanos) {
+        String statusClass = status < 0 ? "IO_ERROR" : (status / 100) + "xx";
+        timer("vortex.client.requests", "Vortex API calls",
+                "method", method, "route", route, "status", statusClass)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordTokenMint(String operation, long nanos, boolean success) {
+        timer("vortex.token.mint", "Locally minted signatures and tokens",
+                "operation", operation, "outcome", outcome(success))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordWebhook(String phase, long nanos, boolean success) {
+        timer("vortex.webhooks", "Webhook signature verification and parsing",
+                "phase", phase, "outcome", outcome(success))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordJwtCache(String result) {
+        Counter counter = jwtCacheCounters.get(result);
+        if (counter == null) {
+            counter = jwtCacheCounters.computeIfAbsent(result, r -> Counter.builder("vortex.jwt.cache")
+                    .description("JWT cache lookups and evictions")
+                    .tag("result", r)
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void bindClient(VortexClient client) {
+        clientGauges.computeIfAbsent(client, c -> List.of(
+                connectionGauge(c, "leased", VortexClient::getLeasedConnections),
+                connectionGauge(c, "available", VortexClient::getAvailableConnections),
+                connectionGauge(c, "pending", VortexClient::getPendingConnections),
+                connectionGauge(c, "max", VortexClient::getMaxConnections)));
+    }
+
+    @Override
+    public void unbindClient(VortexClient client) {
+        List<Meter> gauges = clientGauges.remove(client);
+        if (gauges != null) {
+            gauges.forEach(registry::remove);
+        }
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        String key = name + String.join("\u0000", tags);
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, k -> Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .register(registry));
+        }
+        return timer;
+    }
+
+    private Gauge connectionGauge(VortexClient client, String state, ToIntFunction<VortexClient> value) {
+        return Gauge.builder("vortex.client.connections", client, c -> value.applyAsInt(c))
+                .description("Vortex API connection pool")
+                .tag("client", client.getName())
+                .tag("state", state)
+                .register(registry);
+    }
+
+    private static String outcome(boolean success) {
+        return success ? "SUCCESS" : "FAILURE";
+    }
+}
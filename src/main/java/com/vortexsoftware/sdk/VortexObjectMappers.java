@@ -0,0 +1,109 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.vortexsoftware.sdk.types.VortexTypesModule;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Factories for the ObjectMapper that API bodies and webhook events are read
+ * and written with.
+ *
+ * <p>The clients and {@link VortexWebhooks} use a mapper the SDK builds unless
+ * one is supplied with {@code setObjectMapper}. A supplied mapper is used as
+ * is: start from {@link #create(Consumer)} to keep the SDK's configuration,
+ * including the pre-generated codecs of {@link VortexTypesModule}, and add to
+ * it. JWTs and signatures are always serialized with the SDK's own mapper,
+ * since their exact bytes are what the Vortex API verifies.</p>
+ *
+ * <p>{@link #registerBlackbird(ObjectMapper)} is the opt-in for Jackson's
+ * Blackbird module, which replaces reflective getter, setter and constructor
+ * calls with generated lambdas. It requires
+ * {@code com.fasterxml.jackson.module:jackson-module-blackbird} on the
+ * classpath. The SDK types already bypass reflection through
+ * VortexTypesModule, so Blackbird speeds up the types it does not cover: the
+ * caller's own types, and the SDK types on a mapper configured so that the
+ * generated codecs step aside (a naming strategy, sorted properties, mix-ins).</p>
+ *
+ * <pre>{@code
+ * ObjectMapper mapper = VortexObjectMappers.create(m -> {
+ *     VortexObjectMappers.registerBlackbird(m);
+ *     m.registerModule(new MyModule());
+ * });
+ * client.setObjectMapper(mapper);
+ * webhooks.setObjectMapper(mapper);
+ * }</pre>
+ */
+public final class VortexObjectMappers {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private VortexObjectMappers() {
+        // Utility class - no instantiation
+    }
+
+    /**
+     * Create a mapper configured as the SDK's default one.
+     */
+    public static ObjectMapper create() {
+        return create(mapper -> {
+        });
+    }
+
+    /**
+     * Create a mapper configured as the SDK's default one, then customized.
+     *
+     * @param customizer Applied to the mapper after the SDK's modules are registered
+     * @return The customized mapper
+     */
+    public static ObjectMapper create(Consumer<? super ObjectMapper> customizer) {
+        Objects.requireNonNull(customizer, "customizer cannot be null");
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new VortexTypesModule());
+        customizer.accept(mapper);
+        return mapper;
+    }
+
+    /**
+     * Whether jackson-module-blackbird is on the classpath.
+     */
+    public static boolean isBlackbirdAvailable() {
+        try {
+            Class.forName(BLACKBIRD_MODULE, false, VortexObjectMappers.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Register Jackson's Blackbird module on the given mapper.
+     *
+     * @param mapper Mapper to accelerate
+     * @throws IllegalStateException if jackson-module-blackbird is not on the classpath
+     */
+    public static void registerBlackbird(ObjectMapper mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        if (!isBlackbirdAvailable()) {
+            throw new IllegalStateException(
+                    "Blackbird requires com.fasterxml.jackson.module:jackson-module-blackbird on the classpath");
+        }
+        mapper.registerModule(Blackbird.module());
+    }
+
+    /**
+     * The only reference to BlackbirdModule. Loaded on the first
+     * {@link #registerBlackbird} call with the module present, so the SDK
+     * runs without jackson-module-blackbird.
+     */
+    private static final class Blackbird {
+        static Module module() {
+            return new BlackbirdModule();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.vortexsoftware.sdk;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * OpenTelemetry implementation of {@link VortexTracer}.
+ *
+ * <p>Requires {@code io.opentelemetry:opentelemetry-api} on the classpath. Creates:</p>
+ * <ul>
+ *   <li>a {@code CLIENT} span per {@link VortexClient} API call, named
+ *       {@code {method} {route}} with the stable HTTP client attributes
+ *       ({@code http.request.method}, {@code url.full}, {@code url.template},
+ *       {@code server.address}, {@code server.port},
+ *       {@code http.response.status_code}, {@code error.type}). The span is
+ *       current while the call runs and its context is injected into the
+ *       request with the configured propagators, i.e. {@code traceparent}
+ *       by default.</li>
+ *   <li>a {@code CONSUMER} span per handled webhook event, named
+ *       {@code {event type} process}, a child of the span that received the
+ *       delivery and carrying the event id as {@code messaging.message.id},
+ *       so redeliveries of the same event can be found together.</li>
+ * </ul>
+ *
+ * <p>Attributes are only computed for spans that are recording, so with
+ * sampling off a call costs a non-recording span and the propagation
+ * headers.</p>
+ *
+ * <pre>{@code
+ * VortexOpenTelemetry tracing = new VortexOpenTelemetry(openTelemetry);
+ * client.setTracer(tracing);
+ * }</pre>
+ */
+public class VortexOpenTelemetry implements VortexTracer {
+
+    static final String INSTRUMENTATION_NAME = "com.vortexsoftware.sdk";
+
+    private static final AttributeKey<String> HTTP_REQUEST_METHOD = AttributeKey.stringKey("http.request.method");
+    private static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+    private static final AttributeKey<String> URL_FULL = AttributeKey.stringKey("url.full");
+    private static final AttributeKey<String> URL_TEMPLATE = AttributeKey.stringKey("url.template");
+    private static final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+    private static final AttributeKey<Long> SERVER_PORT = AttributeKey.longKey("server.port");
+    private static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+    private static final AttributeKey<String> MESSAGING_SYSTEM = AttributeKey.stringKey("messaging.system");
+    private static final AttributeKey<String> MESSAGING_OPERATION_NAME = AttributeKey.stringKey("messaging.operation.name");
+    private static final AttributeKey<String> MESSAGING_OPERATION_TYPE = AttributeKey.stringKey("messaging.operation.type");
+    private static final AttributeKey<String> MESSAGING_DESTINATION_NAME = AttributeKey.stringKey("messaging.destination.name");
+    private static final AttributeKey<String> MESSAGING_MESSAGE_ID = AttributeKey.stringKey("messaging.message.id");
+
+    private static final TextMapSetter<BiConsumer<String, String>> HEADER_SETTER =
+            (headers, name, value) -> headers.accept(name, value);
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+
+    public VortexOpenTelemetry(OpenTelemetry openTelemetry) {
+        Objects.requireNonNull(openTelemetry, "openTelemetry cannot be null");
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME, VortexClient.SdkVersion.VALUE);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    @Override
+    public ApiSpan startApiRequest(String method, String route, String url,
+                                   BiConsumer<String, String> headers) {
+        Span span = tracer.spanBuilder(method + " " + route)
+                .setSpanKind(SpanKind.CLIENT)
+                .startSpan();
+        if (span.isRecording()) {
+            span.setAttribute(HTTP_REQUEST_METHOD, method);
+            span.setAttribute(URL_FULL, url);
+            span.setAttribute(URL_TEMPLATE, route);
+            setServer(span, url);
+        }
+        Context context = Context.current().with(span);
+        propagator.inject(context, headers, HEADER_SETTER);
+        return new ApiRequestSpan(span, context.makeCurrent());
+    }
+
+    @Override
+    public VortexEventHandler traceWebhook(String eventId, String eventType, VortexEventHandler handler) {
+        Context received = Context.current();
+        return event -> {
+            Span span = tracer.spanBuilder((eventType != null ? eventType : "webhook") + " process")
+                    .setParent(received)
+                    .setSpanKind(SpanKind.CONSUMER)
+                    .startSpan();
+            if (span.isRecording()) {
+                span.setAttribute(MESSAGING_SYSTEM, "vortex");
+                span.setAttribute(MESSAGING_OPERATION_NAME, "process");
+                span.setAttribute(MESSAGING_OPERATION_TYPE, "process");
+                if (eventType != null) {
+                    span.setAttribute(MESSAGING_DESTINATION_NAME, eventType);
+                }
+                if (eventId != null) {
+                    span.setAttribute(MESSAGING_MESSAGE_ID, eventId);
+                }
+            }
+            try (Scope ignored = span.makeCurrent()) {
+                handler.handle(event);
+            } catch (Exception e) {
+                span.recordException(e);
+                span.setAttribute(ERROR_TYPE, e.getClass().getName());
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.end();
+            }
+        };
+    }
+
+    private static void setServer(Span span, String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() != null) {
+                span.setAttribute(SERVER_ADDRESS, uri.getHost());
+                int port = uri.getPort() != -1 ? uri.getPort() : "http".equals(uri.getScheme()) ? 80 : 443;
+                span.setAttribute(SERVER_PORT, (long) port);
+            }
+        } catch (IllegalArgumentException e) {
+            // Leave the server attributes unset for a URL we cannot parse
+        }
+    }
+
+    private static final class ApiRequestSpan implements ApiSpan {
+        private final Span span;
+        private final Scope scope;
+
+        ApiRequestSpan(Span span, Scope scope) {
+            this.span = span;
+            this.scope = scope;
+        }
+
+        @Override
+        public void end(int status, Throwable error) {
+            scope.close();
+            if (span.isRecording()) {
+                if (status >= 0) {
+                    span.setAttribute(HTTP_RESPONSE_STATUS_CODE, (long) status);
+                }
+                if (status >= 400) {
+                    span.setAttribute(ERROR_TYPE, Integer.toString(status));
+                    span.setStatus(StatusCode.ERROR);
+                } else if (error != null) {
+                    span.setAttribute(ERROR_TYPE, error.getClass().getName());
+                    span.recordException(error);
+                    span.setStatus(StatusCode.ERROR);
+                }
+            }
+            span.end();
+        }
+    }
+}
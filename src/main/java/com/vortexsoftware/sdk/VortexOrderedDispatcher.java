@@ -0,0 +1,228 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Dispatches events to a fixed set of single-threaded lanes so that events
+ * sharing a key are handled one at a time, in arrival order, while events for
+ * different keys run in parallel.
+ *
+ * <p>By default webhook events are keyed by the invitation they refer to
+ * ({@code data.invitationId}, then {@code data.id}, then the event id), so
+ * {@code invitation.created} is always handled before {@code invitation.accepted}
+ * for the same invitation. Analytics events are keyed by session id.</p>
+ *
+ * <pre>{@code
+ * VortexOrderedDispatcher dispatcher = new VortexOrderedDispatcher(event -> {
+ *     VortexWebhookEvent webhookEvent = (VortexWebhookEvent) event;
+ *     invitationStore.apply(webhookEvent);
+ * });
+ *
+ * // In your webhook handler:
+ * dispatcher.dispatch(webhooks.constructEvent(body, signature));
+ * }</pre>
+ */
+public class VortexOrderedDispatcher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(VortexOrderedDispatcher.class);
+
+    public static final int DEFAULT_LANE_CAPACITY = 1_000;
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Default key: the invitation an event refers to, falling back to the event id. */
+    public static final Function<Object, String> INVITATION_KEY = VortexOrderedDispatcher::defaultKey;
+
+    private final VortexEventHandler handler;
+    private final Function<Object, String> keyExtractor;
+    private final ThreadPoolExecutor[] lanes;
+
+    private final LongAdder handledCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Create a dispatcher with one lane per available processor, keyed by invitation id.
+     *
+     * @param handler Handler invoked for every dispatched event
+     */
+    public VortexOrderedDispatcher(VortexEventHandler handler) {
+        this(handler, Runtime.getRuntime().availableProcessors(), DEFAULT_LANE_CAPACITY, INVITATION_KEY);
+    }
+
+    /**
+     * Create a dispatcher with a custom lane layout and key.
+     *
+     * @param handler      Handler invoked for every dispatched event
+     * @param laneCount    Number of single-threaded lanes
+     * @param laneCapacity Maximum number of events waiting in each lane
+     * @param keyExtractor Returns the ordering key for an event; events with a null key go to lane 0
+     * @throws IllegalArgumentException if laneCount or laneCapacity is not positive
+     */
+    public VortexOrderedDispatcher(VortexEventHandler handler, int laneCount, int laneCapacity,
+                                   Function<Object, String> keyExtractor) {
+        this.handler = Objects.requireNonNull(handler, "handler cannot be null");
+        this.keyExtractor = Objects.requireNonNull(keyExtractor, "keyExtractor cannot be null");
+        if (laneCount <= 0 || laneCapacity <= 0) {
+            throw new IllegalArgumentException("laneCount and laneCapacity must be positive");
+        }
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String name = "vortex-webhook-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneCapacity), r -> {
+                        Thread t = new Thread(r, name);
+                        t.setDaemon(true);
+                        return t;
+                    });
+        }
+    }
+
+    /**
+     * Queue an event on the lane owning its key.
+     *
+     * @param event The event returned by {@link VortexWebhooks#constructEvent}
+     * @return true if the event was queued, false if its lane is full or the dispatcher is closed
+     */
+    public boolean dispatch(Object event) {
+        Objects.requireNonNull(event, "event cannot be null");
+        ThreadPoolExecutor lane = lanes[laneFor(keyExtractor.apply(event))];
+        try {
+            lane.execute(() -> handle(event));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            return false;
+        }
+    }
+
+    /** Number of lanes events are spread across. */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /** Total number of events waiting across all lanes. */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    /** Number of events handled without error. */
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+
+    /** Number of events whose handler threw. */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /** Number of events refused because their lane was full or the dispatcher was closed. */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Stop accepting events and wait up to {@link #DEFAULT_SHUTDOWN_TIMEOUT}
+     * for queued events to be handled.
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Stop accepting events and wait for queued events to be handled.
+     *
+     * @param timeout Maximum time to wait
+     * @return true if every lane drained in time
+     */
+    public boolean close(Duration timeout) {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    logger.warn("[Vortex SDK] Ordered dispatcher did not drain within {}; {} events still queued",
+                            timeout, getQueueDepth());
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    int laneFor(String key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return (h & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    private void handle(Object event) {
+        try {
+            handler.handle(event);
+            handledCount.increment();
+        } catch (Exception e) {
+            failedCount.increment();
+            logger.error("[Vortex SDK] Webhook handler failed for {}", VortexWebhooks.describe(event), e);
+        }
+    }
+
+    private static String defaultKey(Object event) {
+        if (event instanceof VortexWebhookEvent) {
+            VortexWebhookEvent webhookEvent = (VortexWebhookEvent) event;
+            if (webhookEvent.getRawData() != null) {
+                // Lazy mode: read just the key instead of decoding the whole payload
+                try {
+                    String invitationId = webhookEvent.getRawData().at("/invitationId", String.class);
+                    if (invitationId != null) {
+                        return invitationId;
+                    }
+                    String id = webhookEvent.getRawData().at("/id", String.class);
+                    return id != null ? id : webhookEvent.getId();
+                } catch (VortexException e) {
+                    return webhookEvent.getId();
+                }
+            }
+            Map<String, Object> data = webhookEvent.getData();
+            if (data != null) {
+                Object invitationId = data.get("invitationId");
+                if (invitationId != null) {
+                    return invitationId.toString();
+                }
+                Object id = data.get("id");
+                if (id != null) {
+                    return id.toString();
+                }
+            }
+            return webhookEvent.getId();
+        }
+        if (event instanceof VortexAnalyticsEvent) {
+            VortexAnalyticsEvent analyticsEvent = (VortexAnalyticsEvent) event;
+            return analyticsEvent.getSessionId() != null ? analyticsEvent.getSessionId() : analyticsEvent.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.vortexsoftware.sdk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One {@link VortexClient} API call, as seen by a {@link VortexRequestListener}.
+ *
+ * <p>Phase timings are nanoseconds from the start of the call, or -1 for a
+ * phase not reached yet. They are cumulative: pool wait is
+ * {@link #getConnectionAcquiredNanos()}, server and network time up to the
+ * response head is {@code getFirstByteNanos() - getConnectionAcquiredNanos()},
+ * and JSON decoding is {@code getBodyDecodedNanos() - getBodyReceivedNanos()}.</p>
+ *
+ * <p>An exception thrown by the listener is logged and otherwise ignored, so
+ * it never fails the call or skips its later callbacks.</p>
+ */
+public final class VortexRequestEvent {
+
+    private static final Logger logger = LoggerFactory.getLogger(VortexRequestEvent.class);
+
+    private final VortexRequestListener listener;
+    private final String method;
+    private final String route;
+    private final long startNanos;
+
+    private volatile int status = -1;
+    private volatile long connectionAcquired = -1;
+    private volatile long requestSent = -1;
+    private volatile long firstByte = -1;
+    private volatile long bodyReceived = -1;
+    private volatile long bodyDecoded = -1;
+    private volatile long end = -1;
+
+    VortexRequestEvent(VortexRequestListener listener, String method, String route) {
+        this.listener = listener;
+        this.method = method;
+        this.route = route;
+        this.startNanos = System.nanoTime();
+    }
+
+    /** HTTP method. */
+    public String getMethod() { return method; }
+
+    /** Route template of the endpoint, e.g. {@code /api/v1/invitations/{invitationId}}. */
+    public String getRoute() { return route; }
+
+    /** HTTP status code, or -1 until the response head is received. */
+    public int getStatus() { return status; }
+
+    /** {@link System#nanoTime()} when the call started. */
+    public long getStartNanos() { return startNanos; }
+
+    /** Time until a connection slot was available. */
+    public long getConnectionAcquiredNanos() { return connectionAcquired; }
+
+    /** Time until the request head was written. */
+    public long getRequestSentNanos() { return requestSent; }
+
+    /** Time until the response head was received. */
+    public long getFirstByteNanos() { return firstByte; }
+
+    /** Time until the whole response body was read. */
+    public long getBodyReceivedNanos() { return bodyReceived; }
+
+    /** Time until the response body was decoded. */
+    public long getBodyDecodedNanos() { return bodyDecoded; }
+
+    /** Time until the call completed or failed. */
+    public long getTotalNanos() { return end; }
+
+    void start() {
+        try {
+            listener.onRequestStart(this);
+        } catch (RuntimeException e) {
+            listenerFailed("onRequestStart", e);
+        }
+    }
+
+    void connectionAcquired() {
+        connectionAcquired = elapsed();
+        try {
+            listener.onConnectionAcquired(this);
+        } catch (RuntimeException e) {
+            listenerFailed("onConnectionAcquired", e);
+        }
+    }
+
+    void requestSent() {
+        requestSent = elapsed();
+        try {
+            listener.onRequestSent(this);
+        } catch (RuntimeException e) {
+            listenerFailed("onRequestSent", e);
+        }
+    }
+
+    void firstByte(int status) {
+        firstByte = elapsed();
+        this.status = status;
+        try {
+            listener.onFirstByte(this);
+        } catch (RuntimeException e) {
+            listenerFailed("onFirstByte", e);
+        }
+    }
+
+    void bodyReceived() {
+        bodyReceived = elapsed();
+    }
+
+    void bodyDecoded() {
+        bodyDecoded = elapsed();
+        try {
+            listener.onBodyDecoded(this);
+        } catch (RuntimeException e) {
+            listenerFailed("onBodyDecoded", e);
+        }
+    }
+
+    void complete() {
+        end = elapsed();
+        try {
+            listener.onComplete(this);
+        } catch (RuntimeException e) {
+            listenerFailed("onComplete", e);
+        }
+    }
+
+    void fail(VortexException error) {
+        end = elapsed();
+        try {
+            listener.onFailure(this, error);
+        } catch (RuntimeException e) {
+            listenerFailed("onFailure", e);
+        }
+    }
+
+    private void listenerFailed(String callback, RuntimeException e) {
+        logger.warn("Request listener {} failed for {} {}", callback, method, route, e);
+    }
+
+    private long elapsed() {
+        return System.nanoTime() - startNanos;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + route + " " + status
+                + " [acquired=" + connectionAcquired + "ns, sent=" + requestSent
+                + "ns, firstByte=" + firstByte + "ns, received=" + bodyReceived
+                + "ns, decoded=" + bodyDecoded + "ns, total=" + end + "ns]";
+    }
+}
@@ -0,0 +1,68 @@
+package com.vortexsoftware.sdk;
+
+/**
+ * Receives the lifecycle of each {@link VortexClient} API call, with
+ * nanosecond phase timings.
+ *
+ * <p>Every callback for one call gets the same {@link VortexRequestEvent}, so
+ * implementations can tell time spent waiting for a pooled connection from
+ * time on the network and time spent decoding JSON. A call ends with exactly
+ * one of {@link #onComplete} or {@link #onFailure}; phases the call never
+ * reached are skipped. Methods are called on the request thread and must not
+ * block; an exception they throw is logged and does not affect the call.</p>
+ *
+ * <pre>{@code
+ * client.setRequestListener(new VortexRequestListener() {
+ *     public void onComplete(VortexRequestEvent request) {
+ *         if (request.getTotalNanos() > slowThresholdNanos) {
+ *             log.warn("Slow {} {}: pool {}ns, first byte {}ns, decoded {}ns",
+ *                     request.getMethod(), request.getRoute(),
+ *                     request.getConnectionAcquiredNanos(),
+ *                     request.getFirstByteNanos(),
+ *                     request.getBodyDecodedNanos());
+ *         }
+ *     }
+ * });
+ * }</pre>
+ */
+public interface VortexRequestListener {
+
+    /** Listener that ignores everything; the default for every client. */
+    VortexRequestListener NOOP = new VortexRequestListener() {};
+
+    /** The call is about to wait for a connection. */
+    default void onRequestStart(VortexRequestEvent request) {
+    }
+
+    /** A connection slot is available; everything before this was pool wait. */
+    default void onConnectionAcquired(VortexRequestEvent request) {
+    }
+
+    /**
+     * The request head has been written to the connection, after connecting
+     * if no pooled connection was idle. Fires again if the HTTP client
+     * retries the request.
+     */
+    default void onRequestSent(VortexRequestEvent request) {
+    }
+
+    /** The response status line and headers have been received; the status is now set. */
+    default void onFirstByte(VortexRequestEvent request) {
+    }
+
+    /** The response body has been read and decoded. Not fired for pass-through calls. */
+    default void onBodyDecoded(VortexRequestEvent request) {
+    }
+
+    /** The call returned normally. */
+    default void onComplete(VortexRequestEvent request) {
+    }
+
+    /**
+     * The call failed, either with an error status or without a response.
+     *
+     * @param error The exception the call is about to throw
+     */
+    default void onFailure(VortexRequestEvent request, VortexException error) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.InvitationAcceptance;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import com.vortexsoftware.sdk.types.InvitationScope;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Replaces equal strings that repeat across the invitations of one listing
+ * with a single instance, for clients with string deduplication enabled.
+ *
+ * <p>Jackson allocates a new String for every value it reads, so a listing
+ * of 50k invitations from one account holds 50k copies of the account id,
+ * the widget configuration id, the scope type and so on. Only fields that
+ * repeat across invitations are looked up: ids and timestamps unique to one
+ * invitation are left alone. The table lives as long as one response and
+ * holds at most {@code maxEntries} values; once full, values not yet in it
+ * are kept as decoded rather than growing it.</p>
+ *
+ * <p>The free-form maps mix enum-like values, such as a locale or a role,
+ * with one-off ones such as messages or referral codes, which would only
+ * fill the table. Map values longer than {@value #MAX_MAP_VALUE_LENGTH}
+ * characters are left alone, and shorter ones enter the table only when
+ * seen a second time; a small direct-mapped array remembers values seen
+ * once.</p>
+ */
+final class VortexStringDeduplicator {
+
+    /** Distinct values remembered per response */
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    /** Longest free-form map value looked up */
+    static final int MAX_MAP_VALUE_LENGTH = 20;
+
+    /** Slots remembering map values seen once; a power of two */
+    private static final int CANDIDATE_SLOTS = 1024;
+
+    private final Map<String, String> table = new HashMap<>();
+    private final int maxEntries;
+    private String[] candidates;
+
+    VortexStringDeduplicator() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    VortexStringDeduplicator(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Deduplicate the strings of a whole listing with a table of its own
+     *
+     * @return the same list
+     */
+    static List<InvitationResult> deduplicate(List<InvitationResult> invitations) {
+        if (invitations != null && invitations.size() > 1) {
+            VortexStringDeduplicator strings = new VortexStringDeduplicator();
+            for (InvitationResult invitation : invitations) {
+                strings.deduplicate(invitation);
+            }
+        }
+        return invitations;
+    }
+
+    @SuppressWarnings("deprecation")
+    void deduplicate(InvitationResult invitation) {
+        if (invitation == null) {
+            return;
+        }
+        invitation.setAccountId(canonical(invitation.getAccountId()));
+        invitation.setWidgetConfigurationId(canonical(invitation.getWidgetConfigurationId()));
+        invitation.setDeploymentId(canonical(invitation.getDeploymentId()));
+        invitation.setScope(canonical(invitation.getScope()));
+        invitation.setScopeType(canonical(invitation.getScopeType()));
+        invitation.setSource(canonical(invitation.getSource()));
+        invitation.setSubtype(canonical(invitation.getSubtype()));
+        invitation.setForeignCreatorId(canonical(invitation.getForeignCreatorId()));
+        invitation.setCreatorName(canonical(invitation.getCreatorName()));
+        invitation.setCreatorAvatarUrl(canonical(invitation.getCreatorAvatarUrl()));
+        values(invitation.getFormSubmissionData());
+        values(invitation.getConfigurationAttributes());
+        values(invitation.getAttributes());
+        values(invitation.getMetadata());
+
+        if (invitation.getGroups() != null) {
+            for (InvitationScope group : invitation.getGroups()) {
+                if (group != null) {
+                    group.setId(canonical(group.getId()));
+                    group.setAccountId(canonical(group.getAccountId()));
+                    group.setGroupId(canonical(group.getGroupId()));
+                    group.setType(canonical(group.getType()));
+                    group.setName(canonical(group.getName()));
+                    group.setCreatedAt(canonical(group.getCreatedAt()));
+                }
+            }
+        }
+        if (invitation.getAccepts() != null) {
+            for (InvitationAcceptance accept : invitation.getAccepts()) {
+                if (accept != null) {
+                    accept.setAccountId(canonical(accept.getAccountId()));
+                    accept.setTargetType(canonical(accept.getTargetType()));
+                }
+            }
+        }
+    }
+
+    /**
+     * The instance already seen for {@code value}, or {@code value} itself
+     */
+    String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = table.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (table.size() < maxEntries) {
+            table.put(value, value);
+        }
+        return value;
+    }
+
+    int size() {
+        return table.size();
+    }
+
+    /**
+     * Like {@link #canonical(String)}, but a value only enters the table
+     * once it has been seen before
+     */
+    private String mapValue(String value) {
+        if (value.length() > MAX_MAP_VALUE_LENGTH) {
+            return value;
+        }
+        String existing = table.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (candidates == null) {
+            candidates = new String[CANDIDATE_SLOTS];
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (CANDIDATE_SLOTS - 1);
+        String candidate = candidates[slot];
+        if (value.equals(candidate)) {
+            candidates[slot] = null;
+            return canonical(candidate);
+        }
+        candidates[slot] = value;
+        return value;
+    }
+
+    /** Free-form maps such as metadata hold short enum-like values next to free text */
+    private void values(Map<String, Object> map) {
+        if (map == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object canonical = value(value);
+            if (canonical != value) {
+                entry.setValue(canonical);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object value(Object value) {
+        if (value instanceof String) {
+            return mapValue((String) value);
+        } else if (value instanceof Map) {
+            values((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            for (ListIterator<Object> elements = ((List<Object>) value).listIterator(); elements.hasNext(); ) {
+                Object element = elements.next();
+                Object canonical = value(element);
+                if (canonical != element) {
+                    elements.set(canonical);
+                }
+            }
+        }
+        return value;
+    }
+}
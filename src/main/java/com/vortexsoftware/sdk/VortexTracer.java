@@ -0,0 +1,66 @@
+package com.vortexsoftware.sdk;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Creates trace spans for {@link VortexClient} API calls and webhook
+ * handling.
+ *
+ * <p>Like {@link VortexMetricsRecorder}, routes are always templates such as
+ * {@code /api/v1/invitations/{invitationId}}. Methods are called on the
+ * request thread and must not block or throw.</p>
+ *
+ * <pre>{@code
+ * VortexOpenTelemetry tracing = new VortexOpenTelemetry(openTelemetry);
+ * client.setTracer(tracing);
+ * webhookController.setTracer(tracing);
+ * }</pre>
+ */
+public interface VortexTracer {
+
+    /** Tracer that creates no spans; the default for every client. */
+    VortexTracer NOOP = new VortexTracer() {};
+
+    /**
+     * Start a client span for an API call.
+     *
+     * @param method  HTTP method
+     * @param route   Route template of the endpoint
+     * @param url     Request URL, without query parameters
+     * @param headers Adds a header to the outgoing request, e.g. {@code traceparent}
+     * @return The span, ended once the call completes
+     */
+    default ApiSpan startApiRequest(String method, String route, String url, BiConsumer<String, String> headers) {
+        return ApiSpan.NOOP;
+    }
+
+    /**
+     * Wrap the handler of one verified webhook event so that handling it is
+     * traced. Called on the thread that received the event; the returned
+     * handler may run later on another thread.
+     *
+     * @param eventId   Id of the webhook or analytics event
+     * @param eventType Webhook event type or analytics event name
+     * @param handler   Handler the event will be given to
+     * @return The handler to invoke instead
+     */
+    default VortexEventHandler traceWebhook(String eventId, String eventType, VortexEventHandler handler) {
+        return handler;
+    }
+
+    /** An API call span in progress. */
+    interface ApiSpan {
+
+        /** Span that records nothing. */
+        ApiSpan NOOP = new ApiSpan() {};
+
+        /**
+         * End the span.
+         *
+         * @param status HTTP status code, or -1 if no response was received
+         * @param error  The exception the call failed with, or null
+         */
+        default void end(int status, Throwable error) {
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.vortexsoftware.sdk;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.types.LazyJsonPayload;
 import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import com.vortexsoftware.sdk.types.VortexTypesModule;
 import com.vortexsoftware.sdk.types.VortexWebhookEvent;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Core webhook verification and parsing.
@@ -30,9 +37,18 @@ import java.security.MessageDigest;
 public class VortexWebhooks {
 
     private static final String HMAC_SHA256 = "HmacSHA256";
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * Binds events through the generated codecs of {@link VortexTypesModule},
+     * which decode exactly as a plain {@code ObjectMapper} does, unknown and
+     * null fields included. Use {@link #setObjectMapper(ObjectMapper)} to
+     * parse with a mapper of your own instead.
+     */
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper().registerModule(new VortexTypesModule());
 
     private final String secret;
+    private final boolean lazyPayloads;
+    private volatile VortexMetricsRecorder metrics = VortexMetricsRecorder.NOOP;
+    private volatile ObjectMapper objectMapper = DEFAULT_MAPPER;
 
     /**
      * Create a new VortexWebhooks instance.
@@ -41,10 +57,55 @@ public class VortexWebhooks {
      * @throws IllegalArgumentException if secret is null or empty
      */
     public VortexWebhooks(String secret) {
+        this(secret, false);
+    }
+
+    /**
+     * Create a new VortexWebhooks instance, optionally in lazy payload mode.
+     *
+     * <p>In lazy mode {@code data} and {@code payload} are not decoded while
+     * parsing. They are kept as raw JSON ({@link VortexWebhookEvent#getRawData()},
+     * {@link VortexAnalyticsEvent#getRawPayload()}) and decoded on first access,
+     * so handlers that filter by event type or read a single field skip the
+     * nested map allocation entirely.</p>
+     *
+     * @param secret       The webhook signing secret from your Vortex dashboard
+     * @param lazyPayloads Whether to defer decoding of event payloads
+     * @throws IllegalArgumentException if secret is null or empty
+     */
+    public VortexWebhooks(String secret, boolean lazyPayloads) {
         if (secret == null || secret.isEmpty()) {
             throw new IllegalArgumentException("VortexWebhooks requires a secret");
         }
         this.secret = secret;
+        this.lazyPayloads = lazyPayloads;
+    }
+
+    /**
+     * Report signature verification and event parsing timings to the given recorder.
+     *
+     * @param recorder Recorder to use, or null to stop recording
+     */
+    public void setMetricsRecorder(VortexMetricsRecorder recorder) {
+        this.metrics = recorder != null ? recorder : VortexMetricsRecorder.NOOP;
+    }
+
+    /**
+     * Parse events with the given mapper, e.g. one from
+     * {@link VortexObjectMappers#create(java.util.function.Consumer)}.
+     * Lazy payloads decode with it too.
+     *
+     * @param mapper Mapper to use, or null to go back to the SDK's own mapper
+     */
+    public void setObjectMapper(ObjectMapper mapper) {
+        this.objectMapper = mapper != null ? mapper : DEFAULT_MAPPER;
+    }
+
+    /**
+     * The mapper events are parsed with.
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
     }
 
     /**
@@ -55,6 +116,24 @@ public class VortexWebhooks {
      * @return true if the signature is valid
      */
     public boolean verifySignature(String payload, String signature) {
+        return verifySignature(payload.getBytes(StandardCharsets.UTF_8), signature);
+    }
+
+    /**
+     * Verify the HMAC-SHA256 signature of an incoming webhook payload.
+     *
+     * @param payload   The raw request body bytes, exactly as received
+     * @param signature The value of the X-Vortex-Signature header
+     * @return true if the signature is valid
+     */
+    public boolean verifySignature(byte[] payload, String signature) {
+        long start = System.nanoTime();
+        boolean valid = computeAndCompare(payload, signature);
+        metrics.recordWebhook("verify", System.nanoTime() - start, valid);
+        return valid;
+    }
+
+    private boolean computeAndCompare(byte[] payload, String signature) {
         if (signature == null || signature.isEmpty()) {
             return false;
         }
@@ -64,7 +143,7 @@ public class VortexWebhooks {
             SecretKeySpec keySpec = new SecretKeySpec(
                     secret.getBytes(StandardCharsets.UTF_8), HMAC_SHA256);
             mac.init(keySpec);
-            byte[] hash = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            byte[] hash = mac.doFinal(payload);
             String expected = bytesToHex(hash);
 
             // Timing-safe comparison
@@ -87,21 +166,111 @@ public class VortexWebhooks {
      */
     public Object constructEvent(String payload, String signature)
             throws VortexWebhookSignatureException, VortexException {
-        if (!verifySignature(payload, signature)) {
-            throw new VortexWebhookSignatureException(
-                    "Webhook signature verification failed. Ensure you are using " +
-                            "the raw request body and the correct signing secret.");
-        }
+        return constructEvent(payload.getBytes(StandardCharsets.UTF_8), signature);
+    }
 
+    /**
+     * Verify and parse an incoming webhook payload.
+     *
+     * <p>Prefer this overload when the body is already available as bytes, so it
+     * is neither decoded to a String nor re-encoded for verification.</p>
+     *
+     * @param payload   The raw request body bytes, exactly as received
+     * @param signature The value of the X-Vortex-Signature header
+     * @return A {@link VortexWebhookEvent} or {@link VortexAnalyticsEvent}
+     * @throws VortexWebhookSignatureException if the signature is invalid
+     * @throws VortexException                 if the payload cannot be parsed
+     */
+    public Object constructEvent(byte[] payload, String signature)
+            throws VortexWebhookSignatureException, VortexException {
+        VortexFlightRecorder.WebhookReceived jfr = VortexFlightRecorder.beginWebhook();
+        boolean valid = false;
+        Object event = null;
         try {
-            JsonNode node = objectMapper.readTree(payload);
-            if (node.has("name")) {
-                return objectMapper.treeToValue(node, VortexAnalyticsEvent.class);
-            } else {
-                return objectMapper.treeToValue(node, VortexWebhookEvent.class);
+            valid = verifySignature(payload, signature);
+            if (!valid) {
+                throw new VortexWebhookSignatureException(
+                        "Webhook signature verification failed. Ensure you are using " +
+                                "the raw request body and the correct signing secret.");
             }
-        } catch (Exception e) {
-            throw new VortexException("Failed to parse webhook event", e);
+
+            long start = System.nanoTime();
+            try {
+                event = parse(payload);
+                return event;
+            } catch (Exception e) {
+                throw new VortexException("Failed to parse webhook event", e);
+            } finally {
+                metrics.recordWebhook("parse", System.nanoTime() - start, event != null);
+            }
+        } finally {
+            VortexFlightRecorder.endWebhook(jfr, payload.length, valid, event);
+        }
+    }
+
+    private Object parse(byte[] payload) throws java.io.IOException {
+        ObjectMapper objectMapper = this.objectMapper;
+        if (lazyPayloads) {
+            return parseLazily(objectMapper, payload);
+        }
+        JsonNode node = objectMapper.readTree(payload);
+        if (node.has("name")) {
+            return objectMapper.treeToValue(node, VortexAnalyticsEvent.class);
+        } else {
+            return objectMapper.treeToValue(node, VortexWebhookEvent.class);
+        }
+    }
+
+    /**
+     * Read the top-level fields with a streaming parser, recording only the
+     * byte ranges of the {@code data} and {@code payload} objects instead of
+     * decoding them. Whichever of the two the event type does not keep lazily
+     * is bound as an ordinary field, as is any other object or array field,
+     * so binding sees the same fields as the eager parse.
+     */
+    private static Object parseLazily(ObjectMapper objectMapper, byte[] payload) throws java.io.IOException {
+        Map<String, Object> fields = new HashMap<>();
+        Map<String, LazyJsonPayload> nested = new HashMap<>(4);
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Webhook payload must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                fields.remove(name);
+                nested.remove(name);
+                if (("data".equals(name) || "payload".equals(name)) && value == JsonToken.START_OBJECT) {
+                    int start = (int) parser.currentTokenLocation().getByteOffset();
+                    parser.skipChildren();
+                    int end = (int) parser.currentTokenLocation().getByteOffset() + 1;
+                    nested.put(name, new LazyJsonPayload(objectMapper, payload, start, end - start));
+                } else if (value.isScalarValue()) {
+                    fields.put(name, value == JsonToken.VALUE_NULL ? null : parser.getValueAsString());
+                } else {
+                    fields.put(name, objectMapper.readTree(parser));
+                }
+            }
+        }
+
+        if (fields.containsKey("name")) {
+            LazyJsonPayload rawPayload = nested.get("payload");
+            bindEagerly(objectMapper, fields, "data", nested.get("data"));
+            VortexAnalyticsEvent event = objectMapper.convertValue(fields, VortexAnalyticsEvent.class);
+            event.setRawPayload(rawPayload);
+            return event;
+        }
+        LazyJsonPayload rawData = nested.get("data");
+        bindEagerly(objectMapper, fields, "payload", nested.get("payload"));
+        VortexWebhookEvent event = objectMapper.convertValue(fields, VortexWebhookEvent.class);
+        event.setRawData(rawData);
+        return event;
+    }
+
+    private static void bindEagerly(ObjectMapper objectMapper, Map<String, Object> fields, String name,
+                                    LazyJsonPayload value) throws java.io.IOException {
+        if (value != null) {
+            fields.put(name, objectMapper.readTree(value.toString()));
         }
     }
 
@@ -125,6 +294,26 @@ public class VortexWebhooks {
         return event instanceof VortexAnalyticsEvent;
     }
 
+    /**
+     * Describe a parsed event for logs by its id and type, or its name for an
+     * analytics event. Data and payload are left out, since they carry
+     * invitation contents, emails and phone numbers.
+     *
+     * @param event The event returned by {@link #constructEvent}
+     * @return e.g. {@code webhook evt_123 (invitation.accepted)}
+     */
+    public static String describe(Object event) {
+        if (event instanceof VortexWebhookEvent) {
+            VortexWebhookEvent webhookEvent = (VortexWebhookEvent) event;
+            return "webhook " + webhookEvent.getId() + " (" + webhookEvent.getType() + ")";
+        }
+        if (event instanceof VortexAnalyticsEvent) {
+            VortexAnalyticsEvent analyticsEvent = (VortexAnalyticsEvent) event;
+            return "analytics event " + analyticsEvent.getId() + " (" + analyticsEvent.getName() + ")";
+        }
+        return event == null ? "null" : event.getClass().getSimpleName();
+    }
+
     private static String bytesToHex(byte[] bytes) {
         StringBuilder sb = new StringBuilder(bytes.length * 2);
         for (byte b : bytes) {
@@ -0,0 +1,185 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.VortexExecutors;
+import com.vortexsoftware.sdk.types.AcceptInvitationRequest;
+import com.vortexsoftware.sdk.types.BatchAcceptInvitationsRequest;
+import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Asynchronous variant of {@link VortexController}
+ *
+ * Serves the same routes, but only the auth checks run on the servlet
+ * thread: the VortexClient call runs on the given executor (virtual threads
+ * when enabled through auto-configuration) and the servlet thread is released
+ * while it is in flight. VortexConfig is therefore always called on the
+ * request thread, where thread-bound state such as Spring Security's
+ * SecurityContextHolder is set. Request attributes and the logging MDC are
+ * carried over to the executing thread for pass-through responses and logs.
+ */
+@RestController
+@RequestMapping(VortexRoutes.BASE)
+public class VortexAsyncController implements AutoCloseable {
+
+    private final VortexController delegate;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    public VortexAsyncController(VortexClient vortexClient, VortexConfig config, Executor executor) {
+        this(new VortexController(vortexClient, config), executor);
+    }
+
+    /**
+     * Serve the routes of an existing controller asynchronously, on an
+     * executor the caller owns and shuts down
+     */
+    public VortexAsyncController(VortexController delegate, Executor executor) {
+        this(delegate, executor, null);
+    }
+
+    /**
+     * Serve the routes of an existing controller asynchronously, on an
+     * executor of this controller's own: virtual threads on Java 21+,
+     * otherwise a bounded pool of platform threads. It is shut down by
+     * {@link #close()}.
+     *
+     * @param threads       Worker threads for the platform thread pool
+     * @param queueCapacity Queue capacity for the platform thread pool
+     */
+    public VortexAsyncController(VortexController delegate, int threads, int queueCapacity) {
+        this(delegate, null, VortexExecutors.newVirtualOrBoundedExecutor("vortex-controller-", threads, queueCapacity));
+    }
+
+    private VortexAsyncController(VortexController delegate, Executor executor, ExecutorService ownedExecutor) {
+        this.delegate = delegate;
+        this.executor = ownedExecutor != null ? ownedExecutor : executor;
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /**
+     * Generate JWT for the authenticated user
+     * POST /jwt
+     */
+    @PostMapping(VortexRoutes.JWT)
+    public CompletableFuture<ResponseEntity<?>> generateJWT() {
+        return async(delegate.generateJWTRoute());
+    }
+
+    /**
+     * Get invitations by target
+     * GET /invitations?targetType=email&amp;targetValue=user@example.com
+     */
+    @GetMapping(VortexRoutes.INVITATIONS)
+    public CompletableFuture<ResponseEntity<?>> getInvitationsByTarget(
+            @RequestParam("targetType") String targetType,
+            @RequestParam("targetValue") String targetValue) {
+        return async(delegate.getInvitationsByTargetRoute(targetType, targetValue));
+    }
+
+    /**
+     * Get specific invitation by ID
+     * GET /invitations/{invitationId}
+     */
+    @GetMapping(VortexRoutes.INVITATION)
+    public CompletableFuture<ResponseEntity<?>> getInvitation(@PathVariable("invitationId") String invitationId) {
+        return async(delegate.getInvitationRoute(invitationId));
+    }
+
+    /**
+     * Revoke (delete) invitation
+     * DELETE /invitations/{invitationId}
+     */
+    @DeleteMapping(VortexRoutes.INVITATION)
+    public CompletableFuture<ResponseEntity<?>> revokeInvitation(@PathVariable("invitationId") String invitationId) {
+        return async(delegate.revokeInvitationRoute(invitationId));
+    }
+
+    /**
+     * Accept invitations
+     * POST /invitations/accept
+     */
+    @PostMapping(VortexRoutes.INVITATIONS_ACCEPT)
+    public CompletableFuture<ResponseEntity<?>> acceptInvitations(@RequestBody AcceptInvitationRequest request) {
+        return async(delegate.acceptInvitationsRoute(request));
+    }
+
+    /**
+     * Accept invitations for many users at once
+     * POST /invitations/accept/batch
+     */
+    @PostMapping(VortexRoutes.INVITATIONS_ACCEPT_BATCH)
+    public CompletableFuture<ResponseEntity<?>> acceptInvitationsBatch(@RequestBody BatchAcceptInvitationsRequest request) {
+        return async(delegate.acceptInvitationsBatchRoute(request));
+    }
+
+    /**
+     * Get invitations by group
+     * GET /invitations/by-scope/{scopeType}/{scope}
+     */
+    @GetMapping(VortexRoutes.INVITATIONS_BY_GROUP)
+    public CompletableFuture<ResponseEntity<?>> getInvitationsByScope(
+            @PathVariable("scopeType") String scopeType,
+            @PathVariable("scope") String scope) {
+        return async(delegate.getInvitationsByScopeRoute(scopeType, scope));
+    }
+
+    /**
+     * Delete invitations by group
+     * DELETE /invitations/by-scope/{scopeType}/{scope}
+     */
+    @DeleteMapping(VortexRoutes.INVITATIONS_BY_GROUP)
+    public CompletableFuture<ResponseEntity<?>> deleteInvitationsByScope(
+            @PathVariable("scopeType") String scopeType,
+            @PathVariable("scope") String scope) {
+        return async(delegate.deleteInvitationsByScopeRoute(scopeType, scope));
+    }
+
+    /**
+     * Reinvite user
+     * POST /invitations/{invitationId}/reinvite
+     */
+    @PostMapping(VortexRoutes.INVITATION_REINVITE)
+    public CompletableFuture<ResponseEntity<?>> reinvite(@PathVariable("invitationId") String invitationId) {
+        return async(delegate.reinviteRoute(invitationId));
+    }
+
+    /**
+     * Shut down the controller's own executor, if it has one. Requests
+     * already dispatched still complete.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private CompletableFuture<ResponseEntity<?>> async(VortexController.Route route) {
+        if (route.isDenied()) {
+            return CompletableFuture.completedFuture(route.get());
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return CompletableFuture.supplyAsync(() -> {
+            RequestContextHolder.setRequestAttributes(attributes);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return route.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                MDC.clear();
+            }
+        }, executor);
+    }
+}
@@ -1,27 +1,87 @@
 package com.vortexsoftware.sdk.spring;
 
 import com.vortexsoftware.sdk.VortexClient;
-import org.springframework.beans.factory.annotation.Value;
+import com.vortexsoftware.sdk.VortexJwtCache;
+import com.vortexsoftware.sdk.VortexMetricsRecorder;
+import com.vortexsoftware.sdk.VortexRequestListener;
+import com.vortexsoftware.sdk.VortexTracer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 /**
  * Auto-configuration for Vortex Spring Boot integration
  *
  * This automatically sets up VortexClient and related beans when the
- * vortex.api.key property is provided.
+ * vortex.api.key property is provided. The connection pool and timeouts are
+ * tuned with vortex.http.*, and the opt-in POST /jwt token cache with
+ * vortex.cache.jwt.* (see VortexProperties).
+ *
+ * Set vortex.controller.virtual-threads=true to serve the Vortex routes
+ * asynchronously on virtual threads (Java 21+) instead of servlet threads. On
+ * Java 17 the handlers run on a bounded platform thread pool instead.
+ *
+ * Set vortex.controller.pass-through=true to stream invitation GET responses
+ * from the Vortex API without decoding them, optionally dropping the fields
+ * listed in vortex.controller.pass-through-excluded-fields.
+ *
+ * The invitation GET routes answer with strong ETags computed from the
+ * response body and with 304 Not Modified when If-None-Match matches; set
+ * vortex.controller.etag.enabled=false to turn this off. Pass-through
+ * responses are streamed without an ETag, since computing one would buffer
+ * the body. Set
+ * vortex.controller.cache-control (e.g. "private, max-age=30") to let browser
+ * and CDN caches reuse those responses.
+ *
+ * The controllers are registered for servlet applications only; WebFlux
+ * applications get VortexReactiveController from
+ * VortexReactiveAutoConfiguration.
+ *
+ * When Micrometer is on the classpath and the application has a MeterRegistry,
+ * API calls, token minting, webhook processing and the connection pool are
+ * recorded through VortexMicrometerMetrics (see
+ * VortexObservabilityAutoConfiguration). Set vortex.metrics.enabled=false
+ * to turn this off.
+ *
+ * When the OpenTelemetry API is on the classpath and the application has an
+ * OpenTelemetry bean, every VortexClient API call gets a client span and a
+ * traceparent header, and webhook handling gets consumer spans, through
+ * VortexOpenTelemetry. Set vortex.tracing.enabled=false to turn this off.
+ *
+ * A VortexRequestListener bean, if the application defines one, receives the
+ * phase timings of every VortexClient API call.
  */
 @Configuration
 @ConditionalOnProperty(name = "vortex.api.key")
+@AutoConfigureAfter(VortexObservabilityAutoConfiguration.class)
+@EnableConfigurationProperties(VortexProperties.class)
 public class VortexAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public VortexClient vortexClient(@Value("${vortex.api.key}") String apiKey,
-                                    @Value("${vortex.api.base-url:#{null}}") String baseUrl) {
-        return baseUrl != null ? new VortexClient(apiKey, baseUrl) : new VortexClient(apiKey);
+    public VortexClient vortexClient(VortexProperties properties,
+                                    ObjectProvider<VortexMetricsRecorder> vortexMetricsRecorder,
+                                    ObjectProvider<VortexRequestListener> vortexRequestListener,
+                                    ObjectProvider<VortexTracer> vortexTracer) {
+        String apiKey = properties.getApi().getKey();
+        String baseUrl = properties.getApi().getBaseUrl();
+        VortexClient client = baseUrl != null
+                ? new VortexClient(apiKey, baseUrl, properties.getHttp())
+                : new VortexClient(apiKey, properties.getHttp());
+        client.setName("vortexClient");
+        vortexMetricsRecorder.ifAvailable(client::setMetricsRecorder);
+        vortexRequestListener.ifAvailable(client::setRequestListener);
+        vortexTracer.ifAvailable(client::setTracer);
+        return client;
     }
 
     @Bean
@@ -30,14 +90,91 @@ public class VortexAutoConfiguration {
         return new DefaultVortexConfig();
     }
 
+    /**
+     * Per-user cache for POST /jwt, off unless vortex.cache.jwt.enabled=true.
+     * Cached tokens are reused until vortex.cache.jwt.refresh-after of their
+     * lifetime has passed, instead of minted per request.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "vortex.cache.jwt.enabled", havingValue = "true")
+    public VortexJwtCache vortexJwtCache(VortexClient vortexClient, VortexProperties properties) {
+        VortexProperties.Cache.Jwt jwt = properties.getCache().getJwt();
+        return new VortexJwtCache(vortexClient, jwt.getMaxEntries(), jwt.getRefreshAfter());
+    }
+
     @Bean
     @ConditionalOnMissingBean
-    public VortexController vortexController(VortexClient vortexClient, VortexConfig vortexConfig) {
-        return new VortexController(vortexClient, vortexConfig);
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "vortex.controller.virtual-threads", havingValue = "false", matchIfMissing = true)
+    public VortexController vortexController(
+            VortexClient vortexClient,
+            VortexConfig vortexConfig,
+            ObjectProvider<VortexJwtCache> vortexJwtCache,
+            VortexProperties properties) {
+        return controller(vortexClient, vortexConfig, vortexJwtCache, properties.getController());
+    }
+
+    /**
+     * Asynchronous controller running the VortexClient calls on an executor
+     * of its own: virtual threads on Java 21+, otherwise a bounded pool of
+     * platform threads. The executor is not a bean, so it neither replaces
+     * Spring Boot's applicationTaskExecutor nor competes with it for Executor
+     * injection.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "vortex.controller.virtual-threads", havingValue = "true")
+    public VortexAsyncController vortexAsyncController(
+            VortexClient vortexClient,
+            VortexConfig vortexConfig,
+            ObjectProvider<VortexJwtCache> vortexJwtCache,
+            VortexProperties properties) {
+        VortexProperties.Controller settings = properties.getController();
+        return new VortexAsyncController(controller(vortexClient, vortexConfig, vortexJwtCache, settings),
+                settings.getThreads(), settings.getQueueCapacity());
+    }
+
+    private static VortexController controller(VortexClient vortexClient, VortexConfig vortexConfig,
+                                               ObjectProvider<VortexJwtCache> vortexJwtCache,
+                                               VortexProperties.Controller settings) {
+        VortexController controller = new VortexController(vortexClient, vortexConfig,
+                vortexJwtCache.getIfAvailable(), settings.isPassThrough(), settings.getPassThroughExcludedFields());
+        controller.setCacheControl(settings.getCacheControl());
+        controller.setMaxBatchItems(settings.getMaxBatchItems());
+        return controller;
+    }
+
+    /**
+     * Strong ETags and If-None-Match handling for the invitation GET routes.
+     * Only GET and HEAD requests are buffered; the filter also runs on async
+     * dispatches so it covers VortexAsyncController. Pass-through responses
+     * disable the buffering for themselves and get no ETag.
+     */
+    @Bean(name = "vortexETagFilter")
+    @ConditionalOnMissingBean(name = "vortexETagFilter")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "vortex.controller.etag.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> vortexETagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return !"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod());
+            }
+        };
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setName("vortexETagFilter");
+        registration.addUrlPatterns(VortexRoutes.BASE + VortexRoutes.INVITATIONS,
+                VortexRoutes.BASE + VortexRoutes.INVITATIONS + "/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return registration;
     }
 
     /**
-     * Default configuration that allows all operations
+     * Default configuration that allows all operations except
+     * BATCH_ACCEPT_INVITATIONS, which accepts on behalf of other users and
+     * must be granted explicitly.
      * Applications should override this with their own security logic
      */
     private static class DefaultVortexConfig implements VortexConfig {
@@ -50,8 +187,9 @@ public class VortexAutoConfiguration {
 
         @Override
         public boolean authorizeOperation(String operation, VortexUser user) {
-            // Default implementation - allows all operations if user is authenticated
-            return user != null;
+            // Default implementation - allows all operations if user is authenticated,
+            // except batch accept, which an application has to grant itself
+            return user != null && !"BATCH_ACCEPT_INVITATIONS".equals(operation);
         }
     }
 }
\ No newline at end of file
@@ -2,35 +2,112 @@ package com.vortexsoftware.sdk.spring;
 
 import com.vortexsoftware.sdk.VortexClient;
 import com.vortexsoftware.sdk.VortexException;
+import com.vortexsoftware.sdk.VortexJwtCache;
 import com.vortexsoftware.sdk.types.*;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Spring Boot controller providing Vortex API endpoints
  *
  * This controller provides the same route structure as the Express SDK,
  * ensuring compatibility with React providers and other frontend frameworks.
+ *
+ * In pass-through mode the invitation GET routes copy the Vortex API response
+ * body straight to the servlet response after the auth checks, instead of
+ * decoding it into InvitationResult objects and encoding it again.
+ *
+ * Successful invitation GET responses carry the Cache-Control value given to
+ * setCacheControl, if any. Strong ETags and If-None-Match handling for these
+ * routes come from a ShallowEtagHeaderFilter, which VortexAutoConfiguration
+ * registers; applications wiring the controller themselves can register one
+ * for /api/vortex/invitations/*. Pass-through responses opt out of that
+ * filter and carry no ETag, since hashing them means buffering the body.
  */
 @RestController
-@RequestMapping("/api/vortex")
+@RequestMapping(VortexRoutes.BASE)
 public class VortexController {
 
     private static final Logger logger = LoggerFactory.getLogger(VortexController.class);
 
+    /** Items accepted by one POST /invitations/accept/batch request unless set otherwise */
+    public static final int DEFAULT_MAX_BATCH_ITEMS = 100;
+
     private final VortexClient vortexClient;
     private final VortexConfig config;
+    private final VortexJwtCache jwtCache;
+    private final boolean passThrough;
+    private final Set<String> passThroughExcludedFields;
+    private volatile String cacheControl;
+    private volatile int maxBatchItems = DEFAULT_MAX_BATCH_ITEMS;
 
     public VortexController(VortexClient vortexClient, VortexConfig config) {
+        this(vortexClient, config, null, false, null);
+    }
+
+    /**
+     * @param passThrough               Stream GET invitation responses from the API without decoding them
+     * @param passThroughExcludedFields Property names removed at any depth while streaming, or null for none
+     */
+    public VortexController(VortexClient vortexClient, VortexConfig config, boolean passThrough,
+                            Set<String> passThroughExcludedFields) {
+        this(vortexClient, config, null, passThrough, passThroughExcludedFields);
+    }
+
+    /**
+     * @param jwtCache                  Cache answering POST /jwt, or null to mint a new token per request
+     * @param passThrough               Stream GET invitation responses from the API without decoding them
+     * @param passThroughExcludedFields Property names removed at any depth while streaming, or null for none
+     */
+    public VortexController(VortexClient vortexClient, VortexConfig config, VortexJwtCache jwtCache,
+                            boolean passThrough, Set<String> passThroughExcludedFields) {
         this.vortexClient = vortexClient;
         this.config = config;
+        this.jwtCache = jwtCache;
+        this.passThrough = passThrough;
+        this.passThroughExcludedFields = passThroughExcludedFields != null ? Set.copyOf(passThroughExcludedFields) : Set.of();
+    }
+
+    /**
+     * Cache-Control header sent with successful invitation GET responses, e.g.
+     * "private, max-age=30" to let browsers reuse a response or "private,
+     * no-cache" to have them revalidate it by ETag
+     *
+     * @param cacheControl Header value, or null to send none
+     */
+    public void setCacheControl(String cacheControl) {
+        this.cacheControl = cacheControl != null && !cacheControl.isBlank() ? cacheControl : null;
+    }
+
+    /**
+     * Largest number of items POST /invitations/accept/batch takes; larger
+     * batches are rejected with 400 before any invitation is accepted
+     *
+     * @param maxBatchItems Positive item limit
+     */
+    public void setMaxBatchItems(int maxBatchItems) {
+        if (maxBatchItems <= 0) {
+            throw new IllegalArgumentException("maxBatchItems must be positive");
+        }
+        this.maxBatchItems = maxBatchItems;
     }
 
     /**
@@ -39,41 +116,35 @@ public class VortexController {
      */
     @PostMapping(VortexRoutes.JWT)
     public ResponseEntity<?> generateJWT() {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
-
-            if (!config.authorizeOperation("JWT", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to generate JWT"));
-            }
-
-            // Build User object with adminScopes
-            List<String> adminScopes = null;
-            if (user.getUserIsAutojoinAdmin() != null && user.getUserIsAutojoinAdmin()) {
-                adminScopes = List.of("autojoin");
-            }
+        return generateJWTRoute().get();
+    }
 
-            User vortexUser = new User(user.getUserId(), user.getUserEmail(), adminScopes);
+    Route generateJWTRoute() {
+        return route("JWT", "Not authorized to generate JWT", user -> {
+            try {
+                // Build User object with adminScopes
+                List<String> adminScopes = null;
+                if (user.getUserIsAutojoinAdmin() != null && user.getUserIsAutojoinAdmin()) {
+                    adminScopes = List.of("autojoin");
+                }
 
-            logger.debug("Generating JWT for user {}", user.getUserId());
+                User vortexUser = new User(user.getUserId(), user.getUserEmail(), adminScopes);
 
-            // Build params map matching Node.js SDK pattern
-            Map<String, Object> params = new HashMap<>();
-            params.put("user", vortexUser);
+                logger.debug("Generating JWT for user {}", user.getUserId());
 
-            String jwt = vortexClient.generateJwt(params);
+                // Build params map matching Node.js SDK pattern
+                Map<String, Object> params = new HashMap<>();
+                params.put("user", vortexUser);
 
-            return ResponseEntity.ok(Map.of("jwt", jwt));
+                String jwt = jwtCache != null ? jwtCache.generateJwt(params) : vortexClient.generateJwt(params);
 
-        } catch (VortexException e) {
-            logger.error("Failed to generate JWT", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to generate JWT"));
-        }
+                return ResponseEntity.ok(Map.of("jwt", jwt));
+            } catch (VortexException e) {
+                logger.error("Failed to generate JWT", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to generate JWT"));
+            }
+        });
     }
 
     /**
@@ -84,26 +155,20 @@ public class VortexController {
     public ResponseEntity<?> getInvitationsByTarget(
             @RequestParam("targetType") String targetType,
             @RequestParam("targetValue") String targetValue) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return getInvitationsByTargetRoute(targetType, targetValue).get();
+    }
 
-            if (!config.authorizeOperation("GET_INVITATIONS", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to get invitations"));
+    Route getInvitationsByTargetRoute(String targetType, String targetValue) {
+        return route("GET_INVITATIONS", "Not authorized to get invitations", user -> {
+            try {
+                List<InvitationResult> invitations = vortexClient.getInvitationsByTarget(targetType, targetValue);
+                return cacheable(Map.of("invitations", invitations));
+            } catch (VortexException e) {
+                logger.error("Failed to get invitations by target", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to get invitations"));
             }
-
-            List<InvitationResult> invitations = vortexClient.getInvitationsByTarget(targetType, targetValue);
-            return ResponseEntity.ok(Map.of("invitations", invitations));
-
-        } catch (VortexException e) {
-            logger.error("Failed to get invitations by target", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to get invitations"));
-        }
+        });
     }
 
     /**
@@ -112,26 +177,26 @@ public class VortexController {
      */
     @GetMapping(VortexRoutes.INVITATION)
     public ResponseEntity<?> getInvitation(@PathVariable("invitationId") String invitationId) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return getInvitationRoute(invitationId).get();
+    }
 
-            if (!config.authorizeOperation("GET_INVITATION", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to get invitation"));
+    Route getInvitationRoute(String invitationId) {
+        return route("GET_INVITATION", "Not authorized to get invitation", user -> {
+            try {
+                HttpServletResponse servletResponse = passThroughResponse();
+                if (servletResponse != null) {
+                    return passThrough(servletResponse,
+                            out -> vortexClient.writeInvitationTo(invitationId, out, passThroughExcludedFields));
+                }
+
+                InvitationResult invitation = vortexClient.getInvitation(invitationId);
+                return cacheable(invitation);
+            } catch (VortexException e) {
+                logger.error("Failed to get invitation", e);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Invitation not found"));
             }
-
-            InvitationResult invitation = vortexClient.getInvitation(invitationId);
-            return ResponseEntity.ok(invitation);
-
-        } catch (VortexException e) {
-            logger.error("Failed to get invitation", e);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Map.of("error", "Invitation not found"));
-        }
+        });
     }
 
     /**
@@ -140,26 +205,20 @@ public class VortexController {
      */
     @DeleteMapping(VortexRoutes.INVITATION)
     public ResponseEntity<?> revokeInvitation(@PathVariable("invitationId") String invitationId) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return revokeInvitationRoute(invitationId).get();
+    }
 
-            if (!config.authorizeOperation("REVOKE_INVITATION", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to revoke invitation"));
+    Route revokeInvitationRoute(String invitationId) {
+        return route("REVOKE_INVITATION", "Not authorized to revoke invitation", user -> {
+            try {
+                vortexClient.revokeInvitation(invitationId);
+                return ResponseEntity.ok(Map.of("success", true));
+            } catch (VortexException e) {
+                logger.error("Failed to revoke invitation", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to revoke invitation"));
             }
-
-            vortexClient.revokeInvitation(invitationId);
-            return ResponseEntity.ok(Map.of("success", true));
-
-        } catch (VortexException e) {
-            logger.error("Failed to revoke invitation", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to revoke invitation"));
-        }
+        });
     }
 
     /**
@@ -168,29 +227,60 @@ public class VortexController {
      */
     @PostMapping(VortexRoutes.INVITATIONS_ACCEPT)
     public ResponseEntity<?> acceptInvitations(@RequestBody AcceptInvitationRequest request) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return acceptInvitationsRoute(request).get();
+    }
 
-            if (!config.authorizeOperation("ACCEPT_INVITATIONS", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to accept invitations"));
+    Route acceptInvitationsRoute(AcceptInvitationRequest request) {
+        return route("ACCEPT_INVITATIONS", "Not authorized to accept invitations", user -> {
+            try {
+                InvitationResult result = vortexClient.acceptInvitations(
+                        request.getInvitationIds(),
+                        request.getUser()
+                );
+                return ResponseEntity.ok(result);
+            } catch (VortexException e) {
+                logger.error("Failed to accept invitations", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to accept invitations"));
             }
+        });
+    }
 
-            InvitationResult result = vortexClient.acceptInvitations(
-                    request.getInvitationIds(),
-                    request.getUser()
-            );
-            return ResponseEntity.ok(result);
+    /**
+     * Accept invitations for many users at once
+     * POST /invitations/accept/batch
+     *
+     * Items are accepted concurrently. Items that fail are listed under
+     * "errors" with their index; the rest are still accepted. Authorized as
+     * BATCH_ACCEPT_INVITATIONS, since one caller accepts on behalf of many
+     * users; the default VortexConfig denies it, so applications must grant
+     * it themselves. Batches over setMaxBatchItems are rejected with 400.
+     */
+    @PostMapping(VortexRoutes.INVITATIONS_ACCEPT_BATCH)
+    public ResponseEntity<?> acceptInvitationsBatch(@RequestBody BatchAcceptInvitationsRequest request) {
+        return acceptInvitationsBatchRoute(request).get();
+    }
 
-        } catch (VortexException e) {
-            logger.error("Failed to accept invitations", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to accept invitations"));
-        }
+    Route acceptInvitationsBatchRoute(BatchAcceptInvitationsRequest request) {
+        return route("BATCH_ACCEPT_INVITATIONS", "Not authorized to batch accept invitations", user -> {
+            List<AcceptInvitationRequest> items = request.getItems() != null ? request.getItems() : List.of();
+            int limit = maxBatchItems;
+            if (items.size() > limit) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "Batch holds " + items.size() + " items; the limit is " + limit));
+            }
+            try {
+                BatchAcceptInvitationsResult result = vortexClient.acceptInvitationsBatch(items);
+                if (!result.getErrors().isEmpty()) {
+                    logger.warn("Failed to accept {} of {} batch items", result.getErrors().size(), items.size());
+                }
+                return ResponseEntity.ok(result);
+            } catch (VortexException e) {
+                logger.error("Failed to accept invitations", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to accept invitations"));
+            }
+        });
     }
 
     /**
@@ -201,26 +291,26 @@ public class VortexController {
     public ResponseEntity<?> getInvitationsByScope(
             @PathVariable("scopeType") String scopeType,
             @PathVariable("scope") String scope) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return getInvitationsByScopeRoute(scopeType, scope).get();
+    }
 
-            if (!config.authorizeOperation("GET_GROUP_INVITATIONS", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to get group invitations"));
+    Route getInvitationsByScopeRoute(String scopeType, String scope) {
+        return route("GET_GROUP_INVITATIONS", "Not authorized to get group invitations", user -> {
+            try {
+                HttpServletResponse servletResponse = passThroughResponse();
+                if (servletResponse != null) {
+                    return passThrough(servletResponse,
+                            out -> vortexClient.writeInvitationsByScopeTo(scopeType, scope, out, passThroughExcludedFields));
+                }
+
+                List<InvitationResult> invitations = vortexClient.getInvitationsByScope(scopeType, scope);
+                return cacheable(Map.of("invitations", invitations));
+            } catch (VortexException e) {
+                logger.error("Failed to get group invitations", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to get group invitations"));
             }
-
-            List<InvitationResult> invitations = vortexClient.getInvitationsByScope(scopeType, scope);
-            return ResponseEntity.ok(Map.of("invitations", invitations));
-
-        } catch (VortexException e) {
-            logger.error("Failed to get group invitations", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to get group invitations"));
-        }
+        });
     }
 
     /**
@@ -231,26 +321,20 @@ public class VortexController {
     public ResponseEntity<?> deleteInvitationsByScope(
             @PathVariable("scopeType") String scopeType,
             @PathVariable("scope") String scope) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return deleteInvitationsByScopeRoute(scopeType, scope).get();
+    }
 
-            if (!config.authorizeOperation("DELETE_GROUP_INVITATIONS", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to delete group invitations"));
+    Route deleteInvitationsByScopeRoute(String scopeType, String scope) {
+        return route("DELETE_GROUP_INVITATIONS", "Not authorized to delete group invitations", user -> {
+            try {
+                vortexClient.deleteInvitationsByScope(scopeType, scope);
+                return ResponseEntity.ok(Map.of("success", true));
+            } catch (VortexException e) {
+                logger.error("Failed to delete group invitations", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to delete group invitations"));
             }
-
-            vortexClient.deleteInvitationsByScope(scopeType, scope);
-            return ResponseEntity.ok(Map.of("success", true));
-
-        } catch (VortexException e) {
-            logger.error("Failed to delete group invitations", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to delete group invitations"));
-        }
+        });
     }
 
     /**
@@ -259,25 +343,138 @@ public class VortexController {
      */
     @PostMapping(VortexRoutes.INVITATION_REINVITE)
     public ResponseEntity<?> reinvite(@PathVariable("invitationId") String invitationId) {
-        try {
-            VortexConfig.VortexUser user = config.authenticateUser();
-            if (user == null) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Authentication required"));
-            }
+        return reinviteRoute(invitationId).get();
+    }
 
-            if (!config.authorizeOperation("REINVITE", user)) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(Map.of("error", "Not authorized to reinvite"));
+    Route reinviteRoute(String invitationId) {
+        return route("REINVITE", "Not authorized to reinvite", user -> {
+            try {
+                InvitationResult result = vortexClient.reinvite(invitationId);
+                return ResponseEntity.ok(result);
+            } catch (VortexException e) {
+                logger.error("Failed to reinvite", e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", "Failed to reinvite"));
             }
+        });
+    }
+
+    /**
+     * Run the auth checks of a route: the returned route either already holds
+     * the 401 or 403 response, or makes the VortexClient call for the
+     * authenticated user when invoked. VortexAsyncController runs the checks
+     * on the servlet thread, where request-bound security contexts are set,
+     * and only the call on its executor.
+     */
+    private Route route(String operation, String deniedMessage,
+                        Function<VortexConfig.VortexUser, ResponseEntity<?>> call) {
+        VortexConfig.VortexUser user = config.authenticateUser();
+        if (user == null) {
+            return new Route(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Authentication required")), null);
+        }
+
+        if (!config.authorizeOperation(operation, user)) {
+            return new Route(ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", deniedMessage)), null);
+        }
+
+        return new Route(null, () -> call.apply(user));
+    }
 
-            InvitationResult result = vortexClient.reinvite(invitationId);
-            return ResponseEntity.ok(result);
+    /**
+     * 200 response carrying the configured Cache-Control header
+     */
+    private ResponseEntity<?> cacheable(Object body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        String value = cacheControl;
+        if (value != null) {
+            builder.header(HttpHeaders.CACHE_CONTROL, value);
+        }
+        return builder.body(body);
+    }
 
+    /**
+     * The current servlet response when pass-through mode is on, otherwise
+     * null. The response is exempted from ShallowEtagHeaderFilter, which
+     * would otherwise buffer the whole body to hash it.
+     */
+    private HttpServletResponse passThroughResponse() {
+        if (!passThrough) {
+            return null;
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        ServletRequestAttributes servletAttributes = (ServletRequestAttributes) attributes;
+        ShallowEtagHeaderFilter.disableContentCaching(servletAttributes.getRequest());
+        return servletAttributes.getResponse();
+    }
+
+    /**
+     * Stream an API response body to the servlet response. Returns null once the
+     * body is written, since the response is then complete. If the API call
+     * fails before anything reaches the client, the exception propagates so the
+     * route can answer with its usual error response.
+     */
+    private ResponseEntity<?> passThrough(HttpServletResponse response, PassThroughBody body) throws VortexException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/json");
+        String value = cacheControl;
+        if (value != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, value);
+        }
+        try {
+            body.writeTo(response.getOutputStream());
+            return null;
+        } catch (IOException e) {
+            throw new VortexException("Failed to write response", e);
         } catch (VortexException e) {
-            logger.error("Failed to reinvite", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to reinvite"));
+            if (response.isCommitted()) {
+                logger.error("Pass-through response failed after it was committed", e);
+                return null;
+            }
+            response.resetBuffer();
+            if (value != null) {
+                // Keep the error response that follows out of caches
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface PassThroughBody {
+        void writeTo(OutputStream out) throws VortexException;
+    }
+
+    /**
+     * A route whose auth checks have run
+     */
+    static final class Route implements Supplier<ResponseEntity<?>> {
+
+        private final ResponseEntity<?> denied;
+        private final Supplier<ResponseEntity<?>> call;
+
+        private Route(ResponseEntity<?> denied, Supplier<ResponseEntity<?>> call) {
+            this.denied = denied;
+            this.call = call;
+        }
+
+        /**
+         * Whether the auth checks already answered the request
+         */
+        boolean isDenied() {
+            return denied != null;
+        }
+
+        /**
+         * The denial, or the response of the VortexClient call
+         */
+        @Override
+        public ResponseEntity<?> get() {
+            return denied != null ? denied : call.get();
         }
     }
-}
\ No newline at end of file
+}
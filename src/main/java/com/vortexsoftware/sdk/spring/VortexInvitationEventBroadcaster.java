@@ -0,0 +1,353 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.VortexEventHandler;
+import com.vortexsoftware.sdk.VortexExecutors;
+import com.vortexsoftware.sdk.VortexObjectMappers;
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes verified invitation webhook events to Server-Sent Events subscribers
+ *
+ * Each subscriber watches one (scopeType, scope) pair and receives the
+ * invitation.* events whose invitation belongs to that scope, either as its
+ * primary scope or through one of its groups. Every event is serialized once
+ * and shared by all matching subscribers.
+ *
+ * Each subscriber has a bounded buffer drained on the send executor. A
+ * subscriber whose buffer fills up is evicted: its stream is completed and
+ * the browser's EventSource reconnects and refetches. Periodic heartbeat
+ * comments keep idle connections open through proxies and flush out dead
+ * ones.
+ */
+public class VortexInvitationEventBroadcaster implements VortexEventHandler, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VortexInvitationEventBroadcaster.class);
+
+    public static final int DEFAULT_BUFFER_SIZE = 64;
+
+    private static final Message HEARTBEAT = new Message(null, null, null);
+
+    private static final ObjectMapper DEFAULT_MAPPER = VortexObjectMappers.create();
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Executor sendExecutor;
+    private final ExecutorService ownedSendExecutor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService heartbeat;
+    private volatile ObjectMapper objectMapper = DEFAULT_MAPPER;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param sendExecutor      Executor writing to subscriber connections, owned and shut down by the caller
+     * @param bufferSize        Events buffered per subscriber before it is evicted
+     * @param timeout           How long a stream stays open before the client has to reconnect
+     * @param heartbeatInterval Interval between heartbeat comments
+     */
+    public VortexInvitationEventBroadcaster(Executor sendExecutor, int bufferSize, Duration timeout,
+                                            Duration heartbeatInterval) {
+        this(sendExecutor, null, bufferSize, timeout, heartbeatInterval);
+    }
+
+    /**
+     * Write to subscriber connections on an executor of the broadcaster's
+     * own: virtual threads on Java 21+, otherwise a bounded pool of platform
+     * threads. It is shut down by {@link #close()}.
+     *
+     * @param threads           Worker threads for the platform thread pool
+     * @param queueCapacity     Queue capacity for the platform thread pool
+     * @param bufferSize        Events buffered per subscriber before it is evicted
+     * @param timeout           How long a stream stays open before the client has to reconnect
+     * @param heartbeatInterval Interval between heartbeat comments
+     */
+    public VortexInvitationEventBroadcaster(int threads, int queueCapacity, int bufferSize, Duration timeout,
+                                            Duration heartbeatInterval) {
+        this(null, VortexExecutors.newVirtualOrBoundedExecutor("vortex-sse-", threads, queueCapacity),
+                bufferSize, timeout, heartbeatInterval);
+    }
+
+    private VortexInvitationEventBroadcaster(Executor sendExecutor, ExecutorService ownedSendExecutor,
+                                             int bufferSize, Duration timeout, Duration heartbeatInterval) {
+        if (bufferSize <= 0) {
+            if (ownedSendExecutor != null) {
+                ownedSendExecutor.shutdown();
+            }
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.sendExecutor = ownedSendExecutor != null ? ownedSendExecutor : sendExecutor;
+        this.ownedSendExecutor = ownedSendExecutor;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "vortex-sse-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Serialize events with the given mapper, e.g. the one the events were
+     * parsed with by {@link com.vortexsoftware.sdk.VortexWebhooks}.
+     *
+     * @param mapper Mapper to use, or null for the SDK's default one
+     */
+    public void setObjectMapper(ObjectMapper mapper) {
+        this.objectMapper = mapper != null ? mapper : DEFAULT_MAPPER;
+    }
+
+    /**
+     * Open a stream of invitation events for a scope
+     */
+    public SseEmitter subscribe(String scopeType, String scope) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        String key = key(scopeType, scope);
+        Subscriber subscriber = new Subscriber(key, emitter);
+        emitter.onCompletion(() -> subscriber.remove());
+        emitter.onTimeout(() -> subscriber.remove());
+        emitter.onError(e -> subscriber.remove());
+        subscribers.compute(key, (k, watching) -> {
+            Set<Subscriber> updated = watching != null ? watching : ConcurrentHashMap.<Subscriber>newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        logger.debug("SSE subscriber added for {}/{}", scopeType, scope);
+        return emitter;
+    }
+
+    /**
+     * Fan an invitation event out to the subscribers of its scopes. Other
+     * events are ignored.
+     */
+    @Override
+    public void handle(Object event) throws Exception {
+        if (!(event instanceof VortexWebhookEvent)) {
+            return;
+        }
+        VortexWebhookEvent webhookEvent = (VortexWebhookEvent) event;
+        if (webhookEvent.getType() == null || !webhookEvent.getType().startsWith("invitation.")
+                || subscribers.isEmpty()) {
+            return;
+        }
+
+        Message message = null;
+        for (String key : scopeKeys(webhookEvent.getData())) {
+            Set<Subscriber> watching = subscribers.get(key);
+            if (watching == null || watching.isEmpty()) {
+                continue;
+            }
+            if (message == null) {
+                String json;
+                try {
+                    json = objectMapper.writeValueAsString(webhookEvent);
+                } catch (JsonProcessingException e) {
+                    logger.error("Failed to serialize invitation event {} for SSE subscribers", webhookEvent.getId(), e);
+                    return;
+                }
+                message = new Message(webhookEvent.getId(), webhookEvent.getType(), json);
+                published.increment();
+            }
+            for (Subscriber subscriber : watching) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    /** Number of open streams. */
+    public int getSubscriberCount() {
+        int count = 0;
+        for (Set<Subscriber> watching : subscribers.values()) {
+            count += watching.size();
+        }
+        return count;
+    }
+
+    /** Number of events delivered to at least one subscriber. */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /** Number of subscribers dropped because they could not keep up. */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Stop heartbeats, complete every open stream and shut down the
+     * broadcaster's own send executor, if it has one
+     */
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        for (Set<Subscriber> watching : subscribers.values()) {
+            for (Subscriber subscriber : watching) {
+                subscriber.remove();
+                subscriber.emitter.complete();
+            }
+        }
+        if (ownedSendExecutor != null) {
+            ownedSendExecutor.shutdownNow();
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (Set<Subscriber> watching : subscribers.values()) {
+            for (Subscriber subscriber : watching) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * Scopes of the invitation in the event data: its primary scope plus the
+     * (type, groupId) of each of its groups.
+     */
+    private static Set<String> scopeKeys(Map<String, Object> data) {
+        Set<String> keys = new HashSet<>();
+        if (data == null) {
+            return keys;
+        }
+        addKey(keys, data.get("scopeType"), data.get("scope"));
+        if (data.get("groups") instanceof List) {
+            for (Object group : (List<?>) data.get("groups")) {
+                if (group instanceof Map) {
+                    Map<?, ?> g = (Map<?, ?>) group;
+                    addKey(keys, g.get("type"), g.get("groupId"));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static void addKey(Set<String> keys, Object scopeType, Object scope) {
+        if (scopeType != null && scope != null) {
+            keys.add(key(scopeType.toString(), scope.toString()));
+        }
+    }
+
+    private static String key(String scopeType, String scope) {
+        return scopeType + '\u0000' + scope;
+    }
+
+    private static final class Message {
+        final String id;
+        final String name;
+        final String json;
+
+        Message(String id, String name, String json) {
+            this.id = id;
+            this.name = name;
+            this.json = json;
+        }
+    }
+
+    private final class Subscriber {
+        final String key;
+        final SseEmitter emitter;
+        final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(String key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(message)) {
+                evict();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    evict();
+                }
+            }
+        }
+
+        void drain() {
+            try {
+                Message message;
+                while (!closed.get() && (message = buffer.poll()) != null) {
+                    if (message == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(message.id)
+                                .name(message.name)
+                                .data(message.json, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (Exception e) {
+                // The connection is gone; the container completes the emitter
+                logger.debug("SSE subscriber disconnected", e);
+                remove();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void evict() {
+            if (remove()) {
+                evictions.increment();
+                logger.warn("Evicting slow SSE subscriber after {} buffered events", bufferSize);
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Stop delivering to this subscriber; returns false if it was already removed
+         */
+        boolean remove() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            buffer.clear();
+            subscribers.computeIfPresent(key, (k, watching) -> {
+                watching.remove(this);
+                return watching.isEmpty() ? null : watching;
+            });
+            return true;
+        }
+    }
+}
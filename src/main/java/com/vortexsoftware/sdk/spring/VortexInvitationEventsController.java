@@ -0,0 +1,59 @@
+package com.vortexsoftware.sdk.spring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Spring Boot endpoint streaming invitation changes to the browser
+ *
+ * Frontends open an EventSource on the events route of a scope instead of
+ * polling GET /invitations/by-scope/{scopeType}/{scope}. Each event is named
+ * after the webhook event type (e.g. invitation.accepted) and carries the
+ * webhook event as JSON.
+ *
+ * Authentication and authorization failures are answered with 401 and 403
+ * and no body, since an EventSource cannot read error bodies.
+ */
+@RestController
+@RequestMapping(VortexRoutes.BASE)
+public class VortexInvitationEventsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(VortexInvitationEventsController.class);
+
+    private final VortexInvitationEventBroadcaster broadcaster;
+    private final VortexConfig config;
+
+    public VortexInvitationEventsController(VortexInvitationEventBroadcaster broadcaster, VortexConfig config) {
+        this.broadcaster = broadcaster;
+        this.config = config;
+    }
+
+    /**
+     * Stream invitation changes for a group
+     * GET /invitations/by-scope/{scopeType}/{scope}/events
+     */
+    @GetMapping(value = VortexRoutes.INVITATIONS_BY_GROUP_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamInvitationEvents(
+            @PathVariable("scopeType") String scopeType,
+            @PathVariable("scope") String scope) {
+        VortexConfig.VortexUser user = config.authenticateUser();
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        if (!config.authorizeOperation("GET_GROUP_INVITATIONS", user)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        logger.debug("Streaming invitation events for {}/{} to user {}", scopeType, scope, user.getUserId());
+        return ResponseEntity.ok(broadcaster.subscribe(scopeType, scope));
+    }
+}
@@ -0,0 +1,63 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexMetricsRecorder;
+import com.vortexsoftware.sdk.VortexMicrometerMetrics;
+import com.vortexsoftware.sdk.VortexOpenTelemetry;
+import com.vortexsoftware.sdk.VortexTracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration for Vortex metrics and tracing
+ *
+ * This provides the VortexMetricsRecorder and VortexTracer beans shared by
+ * VortexAutoConfiguration and VortexWebhookAutoConfiguration. It does not
+ * depend on vortex.api.key, so an application that only receives webhooks
+ * (vortex.webhooks.secret) gets webhook metrics and spans too.
+ *
+ * When Micrometer is on the classpath and the application has a MeterRegistry,
+ * a VortexMicrometerMetrics is registered unless vortex.metrics.enabled=false.
+ *
+ * When the OpenTelemetry API is on the classpath and the application has an
+ * OpenTelemetry bean, a VortexOpenTelemetry is registered unless
+ * vortex.tracing.enabled=false.
+ */
+@Configuration
+@AutoConfigureAfter(name = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration"})
+public class VortexObservabilityAutoConfiguration {
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(name = "vortex.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    static class VortexMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public VortexMetricsRecorder vortexMetricsRecorder(MeterRegistry meterRegistry) {
+            return new VortexMicrometerMetrics(meterRegistry);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.opentelemetry.api.OpenTelemetry")
+    @ConditionalOnBean(type = "io.opentelemetry.api.OpenTelemetry")
+    @ConditionalOnProperty(name = "vortex.tracing.enabled", havingValue = "true", matchIfMissing = true)
+    static class VortexTracingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public VortexTracer vortexTracer(OpenTelemetry openTelemetry) {
+            return new VortexOpenTelemetry(openTelemetry);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexHttpOptions;
+import com.vortexsoftware.sdk.VortexJwtCache;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Spring Boot properties for the Vortex SDK
+ *
+ * <pre>
+ * vortex.api.key=VRTX.xxx
+ * vortex.http.max-connections=100
+ * vortex.http.response-timeout=10s
+ * vortex.cache.jwt.enabled=true
+ * vortex.cache.jwt.max-entries=50000
+ * vortex.controller.pass-through=true
+ * vortex.webhooks.secret=whsec_xxx
+ * vortex.webhooks.threads=16
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "vortex")
+public class VortexProperties {
+
+    private final Api api = new Api();
+
+    /**
+     * Connection pool and timeouts for calls to the Vortex API.
+     */
+    @NestedConfigurationProperty
+    private final VortexHttpOptions http = new VortexHttpOptions();
+
+    private final Cache cache = new Cache();
+
+    private final Controller controller = new Controller();
+
+    private final Webhooks webhooks = new Webhooks();
+
+    public Api getApi() { return api; }
+    public VortexHttpOptions getHttp() { return http; }
+    public Cache getCache() { return cache; }
+    public Controller getController() { return controller; }
+    public Webhooks getWebhooks() { return webhooks; }
+
+    public static class Api {
+
+        /**
+         * Vortex API key. The SDK is only configured when this is set.
+         */
+        private String key;
+
+        /**
+         * Vortex API base URL. Defaults to VORTEX_API_BASE_URL, then https://api.vortexsoftware.com.
+         */
+        private String baseUrl;
+
+        public String getKey() { return key; }
+        public void setKey(String key) { this.key = key; }
+
+        public String getBaseUrl() { return baseUrl; }
+        public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+    }
+
+    public static class Cache {
+
+        private final Jwt jwt = new Jwt();
+
+        public Jwt getJwt() { return jwt; }
+
+        public static class Jwt {
+
+            /**
+             * Whether POST /jwt answers from a per-user token cache instead of minting a token per request.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Maximum number of cached tokens.
+             */
+            private int maxEntries = VortexJwtCache.DEFAULT_MAX_ENTRIES;
+
+            /**
+             * Fraction of the token lifetime, in (0, 1], after which a new token is minted.
+             */
+            private double refreshAfter = VortexJwtCache.DEFAULT_REFRESH_AFTER;
+
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+            public int getMaxEntries() { return maxEntries; }
+            public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+            public double getRefreshAfter() { return refreshAfter; }
+            public void setRefreshAfter(double refreshAfter) { this.refreshAfter = refreshAfter; }
+        }
+    }
+
+    public static class Controller {
+
+        /**
+         * Whether to serve the Vortex routes asynchronously on virtual threads (Java 21+), or a bounded platform thread pool on older JVMs.
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * Maximum number of platform threads running controller handlers when virtual threads are unavailable.
+         */
+        private int threads = 64;
+
+        /**
+         * Maximum number of controller requests queued for a platform thread when virtual threads are unavailable.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Whether invitation GET routes stream the Vortex API response without decoding it.
+         */
+        private boolean passThrough = false;
+
+        /**
+         * Field names dropped from pass-through responses, at any depth.
+         */
+        private Set<String> passThroughExcludedFields = new LinkedHashSet<>();
+
+        /**
+         * Cache-Control header sent with successful invitation GET responses, e.g. "private, max-age=30". None is sent by default.
+         */
+        private String cacheControl;
+
+        /**
+         * Maximum number of items accepted by one POST /invitations/accept/batch request; larger batches get 400.
+         */
+        private int maxBatchItems = VortexController.DEFAULT_MAX_BATCH_ITEMS;
+
+        private final Etag etag = new Etag();
+
+        public boolean isVirtualThreads() { return virtualThreads; }
+        public void setVirtualThreads(boolean virtualThreads) { this.virtualThreads = virtualThreads; }
+
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+        public boolean isPassThrough() { return passThrough; }
+        public void setPassThrough(boolean passThrough) { this.passThrough = passThrough; }
+
+        public Set<String> getPassThroughExcludedFields() { return passThroughExcludedFields; }
+        public void setPassThroughExcludedFields(Set<String> passThroughExcludedFields) { this.passThroughExcludedFields = passThroughExcludedFields; }
+
+        public String getCacheControl() { return cacheControl; }
+        public void setCacheControl(String cacheControl) { this.cacheControl = cacheControl; }
+
+        public int getMaxBatchItems() { return maxBatchItems; }
+        public void setMaxBatchItems(int maxBatchItems) { this.maxBatchItems = maxBatchItems; }
+
+        public Etag getEtag() { return etag; }
+
+        public static class Etag {
+
+            /**
+             * Whether invitation GET routes send strong ETags computed from the response body and answer If-None-Match with 304.
+             */
+            private boolean enabled = true;
+
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        }
+    }
+
+    public static class Webhooks {
+
+        /**
+         * Webhook signing secret. The webhook endpoint is only registered when this is set.
+         */
+        private String secret;
+
+        /**
+         * Whether event data and payloads are decoded on first access instead of while parsing.
+         */
+        private boolean lazyPayloads = false;
+
+        /**
+         * Maximum number of threads running webhook handlers when virtual threads are unavailable.
+         */
+        private int threads = 8;
+
+        /**
+         * Maximum number of events queued for a handler thread when virtual threads are unavailable.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Maximum number of accepted events not yet handled before the endpoint answers 503.
+         */
+        private int maxPending = 10000;
+
+        private final Events events = new Events();
+
+        public String getSecret() { return secret; }
+        public void setSecret(String secret) { this.secret = secret; }
+
+        public boolean isLazyPayloads() { return lazyPayloads; }
+        public void setLazyPayloads(boolean lazyPayloads) { this.lazyPayloads = lazyPayloads; }
+
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+        public int getMaxPending() { return maxPending; }
+        public void setMaxPending(int maxPending) { this.maxPending = maxPending; }
+
+        public Events getEvents() { return events; }
+
+        public static class Events {
+
+            /**
+             * Whether to stream invitation webhook events to browsers over Server-Sent Events.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Events buffered per subscriber; a subscriber that falls further behind is disconnected.
+             */
+            private int bufferSize = VortexInvitationEventBroadcaster.DEFAULT_BUFFER_SIZE;
+
+            /**
+             * How long a stream stays open before the browser has to reconnect.
+             */
+            private Duration timeout = Duration.ofMinutes(30);
+
+            /**
+             * Interval between heartbeat comments on idle streams.
+             */
+            private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+            /**
+             * Maximum number of threads writing to streams when virtual threads are unavailable.
+             */
+            private int threads = 16;
+
+            /**
+             * Maximum number of stream writes queued for a thread when virtual threads are unavailable.
+             */
+            private int queueCapacity = 10000;
+
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+            public int getBufferSize() { return bufferSize; }
+            public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+
+            public Duration getTimeout() { return timeout; }
+            public void setTimeout(Duration timeout) { this.timeout = timeout; }
+
+            public Duration getHeartbeatInterval() { return heartbeatInterval; }
+            public void setHeartbeatInterval(Duration heartbeatInterval) { this.heartbeatInterval = heartbeatInterval; }
+
+            public int getThreads() { return threads; }
+            public void setThreads(int threads) { this.threads = threads; }
+
+            public int getQueueCapacity() { return queueCapacity; }
+            public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+        }
+    }
+}
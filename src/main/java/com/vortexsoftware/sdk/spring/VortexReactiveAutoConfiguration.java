@@ -0,0 +1,66 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexAsyncClient;
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.VortexJwtCache;
+import com.vortexsoftware.sdk.VortexMetricsRecorder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration for Vortex in Spring WebFlux applications
+ *
+ * When vortex.api.key is provided in a reactive web application, this
+ * registers VortexReactiveController in place of the servlet controller,
+ * backed by a non-blocking VortexAsyncClient. The application must define a
+ * VortexReactiveConfig bean; startup fails without one rather than running a
+ * blocking VortexConfig that cannot see the exchange.
+ */
+@Configuration
+@ConditionalOnProperty(name = "vortex.api.key")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+@EnableConfigurationProperties(VortexProperties.class)
+public class VortexReactiveAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VortexAsyncClient vortexAsyncClient(VortexProperties properties,
+                                               ObjectProvider<VortexMetricsRecorder> vortexMetricsRecorder) {
+        String apiKey = properties.getApi().getKey();
+        String baseUrl = properties.getApi().getBaseUrl();
+        VortexAsyncClient client = baseUrl != null
+                ? new VortexAsyncClient(apiKey, baseUrl, properties.getHttp())
+                : new VortexAsyncClient(apiKey, properties.getHttp());
+        vortexMetricsRecorder.ifAvailable(client::setMetricsRecorder);
+        return client;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VortexReactiveClient vortexReactiveClient(VortexAsyncClient vortexAsyncClient) {
+        return new VortexReactiveClient(vortexAsyncClient);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VortexReactiveController vortexReactiveController(VortexClient vortexClient,
+                                                             VortexReactiveClient vortexReactiveClient,
+                                                             ObjectProvider<VortexReactiveConfig> vortexReactiveConfig,
+                                                             ObjectProvider<VortexJwtCache> vortexJwtCache) {
+        VortexReactiveConfig config = vortexReactiveConfig.getIfAvailable();
+        if (config == null) {
+            throw new IllegalStateException("Vortex in a WebFlux application needs a VortexReactiveConfig bean "
+                    + "that resolves the user from the ServerWebExchange or ReactiveSecurityContextHolder; "
+                    + "a blocking VortexConfig is not adapted automatically");
+        }
+        return new VortexReactiveController(vortexClient, vortexReactiveClient, config,
+                vortexJwtCache.getIfAvailable());
+    }
+}
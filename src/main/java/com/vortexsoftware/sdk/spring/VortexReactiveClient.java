@@ -0,0 +1,67 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexAsyncClient;
+import com.vortexsoftware.sdk.types.AcceptUser;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactor view of {@link VortexAsyncClient}
+ *
+ * Every call is lazy: the request is sent on subscription. Errors are
+ * signalled as {@code VortexException}. Cancelling a streamed listing aborts
+ * its request.
+ */
+public class VortexReactiveClient {
+
+    private final VortexAsyncClient client;
+
+    public VortexReactiveClient(VortexAsyncClient client) {
+        this.client = client;
+    }
+
+    public Mono<List<InvitationResult>> getInvitationsByTarget(String targetType, String targetValue) {
+        return Mono.fromFuture(() -> client.getInvitationsByTarget(targetType, targetValue));
+    }
+
+    public Mono<InvitationResult> getInvitation(String invitationId) {
+        return Mono.fromFuture(() -> client.getInvitation(invitationId));
+    }
+
+    public Mono<Void> revokeInvitation(String invitationId) {
+        return Mono.fromFuture(() -> client.revokeInvitation(invitationId));
+    }
+
+    public Mono<InvitationResult> acceptInvitations(List<String> invitationIds, AcceptUser user) {
+        return Mono.fromFuture(() -> client.acceptInvitations(invitationIds, user));
+    }
+
+    public Mono<List<InvitationResult>> getInvitationsByScope(String scopeType, String scope) {
+        return Mono.fromFuture(() -> client.getInvitationsByScope(scopeType, scope));
+    }
+
+    /**
+     * Stream the invitations for a scope, emitting each one as soon as it is
+     * decoded from the response instead of waiting for the whole listing.
+     *
+     * The response is read as downstream requests invitations, so the stream
+     * honours backpressure instead of buffering the listing; see
+     * {@link VortexAsyncClient#publishInvitationsByScope(String, String)} for
+     * the read-ahead bound.
+     */
+    public Flux<InvitationResult> streamInvitationsByScope(String scopeType, String scope) {
+        return JdkFlowAdapter.flowPublisherToFlux(client.publishInvitationsByScope(scopeType, scope));
+    }
+
+    public Mono<Void> deleteInvitationsByScope(String scopeType, String scope) {
+        return Mono.fromFuture(() -> client.deleteInvitationsByScope(scopeType, scope));
+    }
+
+    public Mono<InvitationResult> reinvite(String invitationId) {
+        return Mono.fromFuture(() -> client.reinvite(invitationId));
+    }
+}
@@ -0,0 +1,33 @@
+package com.vortexsoftware.sdk.spring;
+
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link VortexConfig} for Spring WebFlux
+ *
+ * WebFlux has no thread-bound request, so the current exchange is passed in
+ * explicitly. Implementations must not block; resolve the user from the
+ * exchange or from {@code ReactiveSecurityContextHolder}. Reactive
+ * applications must define this bean: a blocking VortexConfig is not adapted,
+ * since it usually reads thread-bound state that an event loop does not have.
+ */
+public interface VortexReactiveConfig {
+
+    /**
+     * Resolve the Vortex user for the current exchange
+     *
+     * @param exchange The current server exchange
+     * @return The user, or an empty Mono if not authenticated
+     */
+    Mono<VortexConfig.VortexUser> authenticateUser(ServerWebExchange exchange);
+
+    /**
+     * Check if the user can perform a specific operation
+     *
+     * @param operation The operation being performed (JWT, GET_INVITATIONS, etc.)
+     * @param user The authenticated user
+     * @return true if authorized, false otherwise
+     */
+    Mono<Boolean> authorizeOperation(String operation, VortexConfig.VortexUser user);
+}
@@ -0,0 +1,233 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.VortexJwtCache;
+import com.vortexsoftware.sdk.types.AcceptInvitationRequest;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import com.vortexsoftware.sdk.types.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Spring WebFlux controller providing Vortex API endpoints
+ *
+ * Serves the same routes and responses as {@link VortexController}, but
+ * every handler is non-blocking: Vortex API calls go through
+ * {@link VortexReactiveClient} and never hold a Netty event loop thread.
+ *
+ * Requesting {@code GET /invitations/by-scope/{scopeType}/{scope}} with
+ * {@code Accept: application/x-ndjson} streams the invitations one per line as
+ * they are decoded, instead of returning a single JSON document.
+ */
+@RestController
+@RequestMapping(VortexRoutes.BASE)
+public class VortexReactiveController {
+
+    private static final Logger logger = LoggerFactory.getLogger(VortexReactiveController.class);
+
+    private final VortexClient vortexClient;
+    private final VortexReactiveClient reactiveClient;
+    private final VortexReactiveConfig config;
+    private final VortexJwtCache jwtCache;
+
+    /**
+     * @param vortexClient   Client used for JWT generation, which is local computation only
+     * @param reactiveClient Client used for Vortex API calls
+     * @param config         Authentication and authorization for the current exchange
+     */
+    public VortexReactiveController(VortexClient vortexClient, VortexReactiveClient reactiveClient,
+                                    VortexReactiveConfig config) {
+        this(vortexClient, reactiveClient, config, null);
+    }
+
+    /**
+     * @param jwtCache Cache answering POST /jwt, or null to mint a new token per request
+     */
+    public VortexReactiveController(VortexClient vortexClient, VortexReactiveClient reactiveClient,
+                                    VortexReactiveConfig config, VortexJwtCache jwtCache) {
+        this.vortexClient = vortexClient;
+        this.reactiveClient = reactiveClient;
+        this.config = config;
+        this.jwtCache = jwtCache;
+    }
+
+    /**
+     * Generate JWT for the authenticated user
+     * POST /jwt
+     */
+    @PostMapping(VortexRoutes.JWT)
+    public Mono<ResponseEntity<?>> generateJWT(ServerWebExchange exchange) {
+        return authorized(exchange, "JWT", "Not authorized to generate JWT", user -> Mono.<ResponseEntity<?>>fromCallable(() -> {
+            List<String> adminScopes = null;
+            if (user.getUserIsAutojoinAdmin() != null && user.getUserIsAutojoinAdmin()) {
+                adminScopes = List.of("autojoin");
+            }
+
+            Map<String, Object> params = new HashMap<>();
+            params.put("user", new User(user.getUserId(), user.getUserEmail(), adminScopes));
+
+            logger.debug("Generating JWT for user {}", user.getUserId());
+            String jwt = jwtCache != null ? jwtCache.generateJwt(params) : vortexClient.generateJwt(params);
+            return ok(Map.of("jwt", jwt));
+        }).onErrorResume(e -> failed(e, "Failed to generate JWT", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Get invitations by target
+     * GET /invitations?targetType=email&amp;targetValue=user@example.com
+     */
+    @GetMapping(VortexRoutes.INVITATIONS)
+    public Mono<ResponseEntity<?>> getInvitationsByTarget(
+            @RequestParam("targetType") String targetType,
+            @RequestParam("targetValue") String targetValue,
+            ServerWebExchange exchange) {
+        return authorized(exchange, "GET_INVITATIONS", "Not authorized to get invitations", user ->
+                reactiveClient.getInvitationsByTarget(targetType, targetValue)
+                        .<ResponseEntity<?>>map(invitations -> ok(Map.of("invitations", invitations)))
+                        .onErrorResume(e -> failed(e, "Failed to get invitations", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Get specific invitation by ID
+     * GET /invitations/{invitationId}
+     */
+    @GetMapping(VortexRoutes.INVITATION)
+    public Mono<ResponseEntity<?>> getInvitation(@PathVariable("invitationId") String invitationId,
+                                                 ServerWebExchange exchange) {
+        return authorized(exchange, "GET_INVITATION", "Not authorized to get invitation", user ->
+                reactiveClient.getInvitation(invitationId)
+                        .<ResponseEntity<?>>map(VortexReactiveController::ok)
+                        .onErrorResume(e -> failed(e, "Invitation not found", HttpStatus.NOT_FOUND)));
+    }
+
+    /**
+     * Revoke (delete) invitation
+     * DELETE /invitations/{invitationId}
+     */
+    @DeleteMapping(VortexRoutes.INVITATION)
+    public Mono<ResponseEntity<?>> revokeInvitation(@PathVariable("invitationId") String invitationId,
+                                                    ServerWebExchange exchange) {
+        return authorized(exchange, "REVOKE_INVITATION", "Not authorized to revoke invitation", user ->
+                reactiveClient.revokeInvitation(invitationId)
+                        .<ResponseEntity<?>>thenReturn(ok(Map.of("success", true)))
+                        .onErrorResume(e -> failed(e, "Failed to revoke invitation", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Accept invitations
+     * POST /invitations/accept
+     */
+    @PostMapping(VortexRoutes.INVITATIONS_ACCEPT)
+    public Mono<ResponseEntity<?>> acceptInvitations(@RequestBody AcceptInvitationRequest request,
+                                                     ServerWebExchange exchange) {
+        return authorized(exchange, "ACCEPT_INVITATIONS", "Not authorized to accept invitations", user ->
+                reactiveClient.acceptInvitations(request.getInvitationIds(), request.getUser())
+                        .<ResponseEntity<?>>map(VortexReactiveController::ok)
+                        .onErrorResume(e -> failed(e, "Failed to accept invitations", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Get invitations by group
+     * GET /invitations/by-scope/{scopeType}/{scope}
+     */
+    @GetMapping(VortexRoutes.INVITATIONS_BY_GROUP)
+    public Mono<ResponseEntity<?>> getInvitationsByScope(
+            @PathVariable("scopeType") String scopeType,
+            @PathVariable("scope") String scope,
+            ServerWebExchange exchange) {
+        return authorized(exchange, "GET_GROUP_INVITATIONS", "Not authorized to get group invitations", user ->
+                reactiveClient.getInvitationsByScope(scopeType, scope)
+                        .<ResponseEntity<?>>map(invitations -> ok(Map.of("invitations", invitations)))
+                        .onErrorResume(e -> failed(e, "Failed to get group invitations", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Stream invitations by group as newline-delimited JSON
+     * GET /invitations/by-scope/{scopeType}/{scope} (Accept: application/x-ndjson)
+     *
+     * Authentication and authorization failures are reported with the usual
+     * status codes; an upstream failure after streaming has started ends the
+     * response early.
+     */
+    @GetMapping(value = VortexRoutes.INVITATIONS_BY_GROUP, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<?>> streamInvitationsByScope(
+            @PathVariable("scopeType") String scopeType,
+            @PathVariable("scope") String scope,
+            ServerWebExchange exchange) {
+        return authorized(exchange, "GET_GROUP_INVITATIONS", "Not authorized to get group invitations", user -> {
+            Flux<InvitationResult> invitations = reactiveClient.streamInvitationsByScope(scopeType, scope)
+                    .onErrorResume(e -> {
+                        logger.error("Failed to stream group invitations", e);
+                        return Flux.error(e);
+                    });
+            return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(invitations));
+        });
+    }
+
+    /**
+     * Delete invitations by group
+     * DELETE /invitations/by-scope/{scopeType}/{scope}
+     */
+    @DeleteMapping(VortexRoutes.INVITATIONS_BY_GROUP)
+    public Mono<ResponseEntity<?>> deleteInvitationsByScope(
+            @PathVariable("scopeType") String scopeType,
+            @PathVariable("scope") String scope,
+            ServerWebExchange exchange) {
+        return authorized(exchange, "DELETE_GROUP_INVITATIONS", "Not authorized to delete group invitations", user ->
+                reactiveClient.deleteInvitationsByScope(scopeType, scope)
+                        .<ResponseEntity<?>>thenReturn(ok(Map.of("success", true)))
+                        .onErrorResume(e -> failed(e, "Failed to delete group invitations", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Reinvite user
+     * POST /invitations/{invitationId}/reinvite
+     */
+    @PostMapping(VortexRoutes.INVITATION_REINVITE)
+    public Mono<ResponseEntity<?>> reinvite(@PathVariable("invitationId") String invitationId,
+                                            ServerWebExchange exchange) {
+        return authorized(exchange, "REINVITE", "Not authorized to reinvite", user ->
+                reactiveClient.reinvite(invitationId)
+                        .<ResponseEntity<?>>map(VortexReactiveController::ok)
+                        .onErrorResume(e -> failed(e, "Failed to reinvite", HttpStatus.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * Authenticate and authorize the exchange, then run the action: 401 when
+     * there is no user, 403 when the operation is not allowed.
+     */
+    private Mono<ResponseEntity<?>> authorized(ServerWebExchange exchange, String operation, String forbiddenMessage,
+                                               Function<VortexConfig.VortexUser, Mono<ResponseEntity<?>>> action) {
+        return config.authenticateUser(exchange)
+                .flatMap(user -> config.authorizeOperation(operation, user)
+                        .flatMap(allowed -> allowed
+                                ? action.apply(user)
+                                : Mono.just(error(HttpStatus.FORBIDDEN, forbiddenMessage))))
+                .switchIfEmpty(Mono.fromSupplier(() -> error(HttpStatus.UNAUTHORIZED, "Authentication required")));
+    }
+
+    private static ResponseEntity<?> ok(Object body) {
+        return ResponseEntity.ok(body);
+    }
+
+    private static ResponseEntity<?> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(Map.of("error", message));
+    }
+
+    private static Mono<ResponseEntity<?>> failed(Throwable e, String message, HttpStatus status) {
+        logger.error(message, e);
+        return Mono.just(error(status, message));
+    }
+}
@@ -8,6 +8,11 @@ package com.vortexsoftware.sdk.spring;
  */
 public final class VortexRoutes {
 
+    /**
+     * Path the Vortex controllers are mapped under; the routes below are relative to it
+     */
+    public static final String BASE = "/api/vortex";
+
     /**
      * Base routes that match the React provider's API calls
      */
@@ -15,7 +20,9 @@ public final class VortexRoutes {
     public static final String INVITATIONS = "/invitations";
     public static final String INVITATION = "/invitations/{invitationId}";
     public static final String INVITATIONS_ACCEPT = "/invitations/accept";
+    public static final String INVITATIONS_ACCEPT_BATCH = "/invitations/accept/batch";
     public static final String INVITATIONS_BY_GROUP = "/invitations/by-scope/{scopeType}/{scope}";
+    public static final String INVITATIONS_BY_GROUP_EVENTS = "/invitations/by-scope/{scopeType}/{scope}/events";
     public static final String INVITATION_REINVITE = "/invitations/{invitationId}/reinvite";
 
     private VortexRoutes() {
@@ -0,0 +1,122 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexEventHandler;
+import com.vortexsoftware.sdk.VortexMetricsRecorder;
+import com.vortexsoftware.sdk.VortexTracer;
+import com.vortexsoftware.sdk.VortexWebhooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Auto-configuration for receiving Vortex webhooks
+ *
+ * This sets up VortexWebhooks and the webhook endpoint when the
+ * vortex.webhooks.secret property is provided. Every VortexEventHandler bean
+ * in the context receives each verified event, in bean order.
+ *
+ * Set vortex.webhooks.events.enabled=true to also stream invitation events to
+ * browsers at GET /api/vortex/invitations/by-scope/{scopeType}/{scope}/events
+ * (Server-Sent Events, servlet applications only). This route uses the
+ * VortexConfig bean from VortexAutoConfiguration for authorization.
+ *
+ * Webhook metrics and spans come from VortexObservabilityAutoConfiguration,
+ * so they are recorded whether or not vortex.api.key is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "vortex.webhooks.secret")
+@AutoConfigureAfter(VortexObservabilityAutoConfiguration.class)
+@EnableConfigurationProperties(VortexProperties.class)
+public class VortexWebhookAutoConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(VortexWebhookAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VortexWebhooks vortexWebhooks(VortexProperties properties,
+                                         ObjectProvider<VortexMetricsRecorder> vortexMetricsRecorder) {
+        VortexWebhooks webhooks = new VortexWebhooks(properties.getWebhooks().getSecret(),
+                properties.getWebhooks().isLazyPayloads());
+        vortexMetricsRecorder.ifAvailable(webhooks::setMetricsRecorder);
+        return webhooks;
+    }
+
+    /**
+     * Webhook endpoint running handlers on an executor of its own: virtual
+     * threads on Java 21+, otherwise a bounded pool of platform threads. The
+     * executor is not a bean, so it neither replaces Spring Boot's
+     * applicationTaskExecutor nor competes with it for Executor injection.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public VortexWebhookController vortexWebhookController(
+            VortexWebhooks vortexWebhooks,
+            ObjectProvider<VortexEventHandler> handlers,
+            VortexProperties properties,
+            ObjectProvider<VortexTracer> vortexTracer) {
+        List<VortexEventHandler> ordered = handlers.orderedStream().collect(Collectors.toList());
+        if (ordered.isEmpty()) {
+            logger.warn("No VortexEventHandler beans found; verified webhooks will be acknowledged and dropped");
+        }
+        VortexEventHandler composite = compositeHandler(ordered);
+        VortexProperties.Webhooks webhooks = properties.getWebhooks();
+        VortexWebhookController controller = new VortexWebhookController(vortexWebhooks, composite,
+                webhooks.getThreads(), webhooks.getQueueCapacity(), webhooks.getMaxPending());
+        vortexTracer.ifAvailable(controller::setTracer);
+        return controller;
+    }
+
+    /**
+     * Pass each event to every handler in order. A handler that throws is
+     * logged and does not keep the handlers after it from seeing the event.
+     */
+    static VortexEventHandler compositeHandler(List<VortexEventHandler> handlers) {
+        return event -> {
+            for (VortexEventHandler handler : handlers) {
+                try {
+                    handler.handle(event);
+                } catch (Exception e) {
+                    logger.error("Webhook handler {} failed for {}", handler, event, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Broadcaster writing to Server-Sent Events streams on an executor of its
+     * own: virtual threads on Java 21+, otherwise a bounded pool of platform
+     * threads. The executor is not a bean, see vortexWebhookController.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "vortex.webhooks.events.enabled", havingValue = "true")
+    public VortexInvitationEventBroadcaster vortexInvitationEventBroadcaster(VortexWebhooks vortexWebhooks,
+                                                                             VortexProperties properties) {
+        VortexProperties.Webhooks.Events events = properties.getWebhooks().getEvents();
+        VortexInvitationEventBroadcaster broadcaster = new VortexInvitationEventBroadcaster(events.getThreads(),
+                events.getQueueCapacity(), events.getBufferSize(), events.getTimeout(), events.getHeartbeatInterval());
+        broadcaster.setObjectMapper(vortexWebhooks.getObjectMapper());
+        return broadcaster;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "vortex.webhooks.events.enabled", havingValue = "true")
+    public VortexInvitationEventsController vortexInvitationEventsController(
+            VortexInvitationEventBroadcaster vortexInvitationEventBroadcaster,
+            VortexConfig vortexConfig) {
+        return new VortexInvitationEventsController(vortexInvitationEventBroadcaster, vortexConfig);
+    }
+}
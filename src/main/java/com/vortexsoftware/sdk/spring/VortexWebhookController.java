@@ -0,0 +1,172 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexEventHandler;
+import com.vortexsoftware.sdk.VortexException;
+import com.vortexsoftware.sdk.VortexExecutors;
+import com.vortexsoftware.sdk.VortexTracer;
+import com.vortexsoftware.sdk.VortexWebhookSignatureException;
+import com.vortexsoftware.sdk.VortexWebhooks;
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Spring Boot endpoint receiving Vortex webhooks
+ *
+ * The raw body is read once as bytes and verified against the X-Vortex-Signature
+ * header. Verified events are acknowledged with 200 immediately and handled on
+ * the configured executor, so slow handlers never hold a servlet worker thread.
+ * When too many events are pending the endpoint answers 503 and Vortex retries
+ * the delivery later.
+ */
+@RestController
+public class VortexWebhookController implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(VortexWebhookController.class);
+
+    public static final String SIGNATURE_HEADER = "X-Vortex-Signature";
+
+    private final VortexWebhooks webhooks;
+    private final VortexEventHandler handler;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int maxPendingEvents;
+    private final Semaphore pending;
+    private volatile VortexTracer tracer = VortexTracer.NOOP;
+
+    /**
+     * Handle events on an executor the caller owns and shuts down
+     */
+    public VortexWebhookController(VortexWebhooks webhooks, VortexEventHandler handler,
+                                   Executor executor, int maxPendingEvents) {
+        this(webhooks, handler, executor, null, maxPendingEvents);
+    }
+
+    /**
+     * Handle events on an executor of the controller's own: virtual threads
+     * on Java 21+, otherwise a bounded pool of platform threads. It is shut
+     * down by {@link #close()}.
+     *
+     * @param threads       Worker threads for the platform thread pool
+     * @param queueCapacity Queue capacity for the platform thread pool
+     */
+    public VortexWebhookController(VortexWebhooks webhooks, VortexEventHandler handler,
+                                   int threads, int queueCapacity, int maxPendingEvents) {
+        this(webhooks, handler, null,
+                VortexExecutors.newVirtualOrBoundedExecutor("vortex-webhook-", threads, queueCapacity),
+                maxPendingEvents);
+    }
+
+    private VortexWebhookController(VortexWebhooks webhooks, VortexEventHandler handler, Executor executor,
+                                    ExecutorService ownedExecutor, int maxPendingEvents) {
+        this.webhooks = webhooks;
+        this.handler = handler;
+        this.executor = ownedExecutor != null ? ownedExecutor : executor;
+        this.ownedExecutor = ownedExecutor;
+        this.maxPendingEvents = maxPendingEvents;
+        this.pending = new Semaphore(maxPendingEvents);
+    }
+
+    /**
+     * Trace the handling of every accepted event with the given tracer, e.g.
+     * {@code VortexOpenTelemetry}.
+     *
+     * @param tracer Tracer to use, or null to stop tracing
+     */
+    public void setTracer(VortexTracer tracer) {
+        this.tracer = tracer != null ? tracer : VortexTracer.NOOP;
+    }
+
+    /**
+     * Receive a webhook delivery
+     * POST ${vortex.webhooks.path:/api/vortex/webhooks}
+     */
+    @PostMapping("${vortex.webhooks.path:/api/vortex/webhooks}")
+    public ResponseEntity<?> receiveWebhook(
+            @RequestBody byte[] body,
+            @RequestHeader(value = SIGNATURE_HEADER, required = false) String signature) {
+        Object event;
+        try {
+            event = webhooks.constructEvent(body, signature);
+        } catch (VortexWebhookSignatureException e) {
+            logger.warn("Rejected webhook with invalid signature");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid signature"));
+        } catch (VortexException e) {
+            logger.error("Failed to parse webhook", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Invalid payload"));
+        }
+
+        if (!pending.tryAcquire()) {
+            logger.warn("Webhook pipeline saturated, asking Vortex to retry {}", VortexWebhooks.describe(event));
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Webhook pipeline saturated"));
+        }
+        VortexEventHandler target = traced(event);
+        try {
+            executor.execute(() -> handle(target, event));
+        } catch (RejectedExecutionException e) {
+            pending.release();
+            logger.warn("Webhook executor rejected {}", VortexWebhooks.describe(event));
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Webhook pipeline saturated"));
+        }
+
+        return ResponseEntity.ok(Map.of("received", true));
+    }
+
+    /**
+     * Number of accepted events not yet handled
+     */
+    public int getPendingEvents() {
+        return maxPendingEvents - pending.availablePermits();
+    }
+
+    /**
+     * Shut down the controller's own executor, if it has one. Events already
+     * accepted are still handled.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private VortexEventHandler traced(Object event) {
+        VortexTracer current = tracer;
+        if (current == VortexTracer.NOOP) {
+            return handler;
+        }
+        if (event instanceof VortexWebhookEvent) {
+            VortexWebhookEvent webhookEvent = (VortexWebhookEvent) event;
+            return current.traceWebhook(webhookEvent.getId(), webhookEvent.getType(), handler);
+        }
+        VortexAnalyticsEvent analyticsEvent = (VortexAnalyticsEvent) event;
+        return current.traceWebhook(analyticsEvent.getId(), analyticsEvent.getName(), handler);
+    }
+
+    private void handle(VortexEventHandler target, Object event) {
+        try {
+            target.handle(event);
+        } catch (Exception e) {
+            logger.error("Webhook handler failed for {}", VortexWebhooks.describe(event), e);
+        } finally {
+            pending.release();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Request payload for accepting invitations for many users at once
+ */
+public class BatchAcceptInvitationsRequest {
+
+    @JsonProperty("items")
+    private List<AcceptInvitationRequest> items;
+
+    public BatchAcceptInvitationsRequest() {}
+
+    public BatchAcceptInvitationsRequest(List<AcceptInvitationRequest> items) {
+        this.items = items;
+    }
+
+    public List<AcceptInvitationRequest> getItems() { return items; }
+    public void setItems(List<AcceptInvitationRequest> items) { this.items = items; }
+}
@@ -0,0 +1,64 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a batch accept: every accepted invitation, in request order, and
+ * one error per request item that failed
+ */
+public class BatchAcceptInvitationsResult {
+
+    @JsonProperty("accepted")
+    private List<InvitationResult> accepted = new ArrayList<>();
+
+    @JsonProperty("errors")
+    private List<BatchAcceptError> errors = new ArrayList<>();
+
+    public BatchAcceptInvitationsResult() {}
+
+    public BatchAcceptInvitationsResult(List<InvitationResult> accepted, List<BatchAcceptError> errors) {
+        this.accepted = accepted;
+        this.errors = errors;
+    }
+
+    public List<InvitationResult> getAccepted() { return accepted; }
+    public void setAccepted(List<InvitationResult> accepted) { this.accepted = accepted; }
+
+    public List<BatchAcceptError> getErrors() { return errors; }
+    public void setErrors(List<BatchAcceptError> errors) { this.errors = errors; }
+
+    /**
+     * A request item that could not be accepted
+     */
+    public static class BatchAcceptError {
+
+        /** Position of the item in the request */
+        @JsonProperty("index")
+        private int index;
+
+        @JsonProperty("invitationIds")
+        private List<String> invitationIds;
+
+        @JsonProperty("error")
+        private String error;
+
+        public BatchAcceptError() {}
+
+        public BatchAcceptError(int index, List<String> invitationIds, String error) {
+            this.index = index;
+            this.invitationIds = invitationIds;
+            this.error = error;
+        }
+
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+
+        public List<String> getInvitationIds() { return invitationIds; }
+        public void setInvitationIds(List<String> invitationIds) { this.invitationIds = invitationIds; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
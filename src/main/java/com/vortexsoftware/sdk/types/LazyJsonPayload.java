@@ -0,0 +1,177 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.vortexsoftware.sdk.VortexException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A JSON object kept as its raw bytes and bound only when read.
+ *
+ * <p>Returned by {@link VortexWebhookEvent#getRawData()} and
+ * {@link VortexAnalyticsEvent#getRawPayload()} when webhooks are parsed in lazy
+ * mode. Holding one costs a reference to the request body; nothing is decoded
+ * until {@link #as}, {@link #at} or {@link #asMap} is called, and each call
+ * decodes again from the bytes.</p>
+ *
+ * <pre>{@code
+ * VortexWebhooks webhooks = new VortexWebhooks(secret, true);
+ * VortexWebhookEvent event = (VortexWebhookEvent) webhooks.constructEvent(body, signature);
+ *
+ * String invitationId = event.getRawData().at("/invitationId", String.class);
+ * InvitationResult invitation = event.getRawData().as(InvitationResult.class);
+ * }</pre>
+ */
+public final class LazyJsonPayload {
+    private static final JavaType MAP_TYPE = TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class);
+
+    private final ObjectMapper objectMapper;
+    private final byte[] source;
+    private final int offset;
+    private final int length;
+
+    /**
+     * @param objectMapper Mapper used for binding
+     * @param source       Buffer holding the JSON document (not copied)
+     * @param offset       Start of the JSON value within source
+     * @param length       Length of the JSON value in bytes
+     */
+    public LazyJsonPayload(ObjectMapper objectMapper, byte[] source, int offset, int length) {
+        this.objectMapper = objectMapper;
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Bind the whole payload to a type.
+     *
+     * @param type Target class, e.g. {@code InvitationResult.class}
+     * @throws VortexException if the payload cannot be bound to the type
+     */
+    public <T> T as(Class<T> type) throws VortexException {
+        try {
+            return objectMapper.readValue(source, offset, length, type);
+        } catch (Exception e) {
+            throw new VortexException("Failed to bind payload to " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Bind the whole payload to a generic type.
+     *
+     * @throws VortexException if the payload cannot be bound to the type
+     */
+    public <T> T as(TypeReference<T> type) throws VortexException {
+        try {
+            return objectMapper.readValue(source, offset, length, type);
+        } catch (Exception e) {
+            throw new VortexException("Failed to bind payload to " + type.getType(), e);
+        }
+    }
+
+    /**
+     * Decode the payload into nested maps and lists, as in eager mode.
+     *
+     * @throws VortexException if the payload is not a JSON object
+     */
+    public Map<String, Object> asMap() throws VortexException {
+        try {
+            return objectMapper.readValue(source, offset, length, MAP_TYPE);
+        } catch (Exception e) {
+            throw new VortexException("Failed to bind payload to Map", e);
+        }
+    }
+
+    /**
+     * Bind a single value addressed by a JSON pointer, skipping over everything
+     * else without decoding it.
+     *
+     * @param pointer JSON pointer such as {@code "/invitationId"} or {@code "/groups/0/id"}
+     * @param type    Target class for the addressed value
+     * @return The bound value, or null if the pointer does not resolve or the value is null
+     * @throws VortexException if the pointer is malformed or the value cannot be bound
+     */
+    public <T> T at(String pointer, Class<T> type) throws VortexException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(source, offset, length)) {
+            parser.nextToken();
+            JsonPointer remaining = JsonPointer.compile(pointer);
+            while (!remaining.matches()) {
+                if (!advanceTo(parser, remaining)) {
+                    return null;
+                }
+                remaining = remaining.tail();
+            }
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return objectMapper.readValue(parser, type);
+        } catch (Exception e) {
+            throw new VortexException("Failed to read " + pointer + " from payload", e);
+        }
+    }
+
+    /**
+     * Size of the raw payload in bytes.
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * A copy of the raw payload bytes.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(source, offset, offset + length);
+    }
+
+    /**
+     * The raw payload as a JSON string.
+     */
+    @Override
+    public String toString() {
+        return new String(source, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Move the parser from the current container start to the value matched by
+     * the head of the pointer. Returns false if there is no such value.
+     */
+    private static boolean advanceTo(JsonParser parser, JsonPointer pointer) throws java.io.IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            String property = pointer.getMatchingProperty();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (property.equals(name)) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            int index = pointer.getMatchingIndex();
+            if (index < 0) {
+                return false;
+            }
+            for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+                if (i == index) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+        return false;
+    }
+}
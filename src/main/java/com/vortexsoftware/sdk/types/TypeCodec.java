@@ -0,0 +1,396 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.type.LogicalType;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A pre-generated serializer and deserializer pair for one type in this
+ * package, together with the property signatures it was generated from.
+ *
+ * <p>The codecs wrap the bean serializer and deserializer Jackson builds by
+ * reflection and only take over the common case: writing a type as a plain
+ * object, and reading one from a JSON object. Everything else (polymorphic
+ * typing, views, updating an existing value, coercing other JSON shapes) goes
+ * to the wrapped reflective codec, so behavior only differs in speed.</p>
+ *
+ * @see VortexTypesModule
+ */
+final class TypeCodec {
+
+    final Class<?> type;
+    final String serializationSignature;
+    final String deserializationSignature;
+    final Function<JsonSerializer<Object>, JsonSerializer<?>> serializer;
+    final Function<JsonDeserializer<Object>, JsonDeserializer<?>> deserializer;
+
+    TypeCodec(Class<?> type, String serializationSignature, String deserializationSignature,
+              Function<JsonSerializer<Object>, JsonSerializer<?>> serializer,
+              Function<JsonDeserializer<Object>, JsonDeserializer<?>> deserializer) {
+        this.type = type;
+        this.serializationSignature = serializationSignature;
+        this.deserializationSignature = deserializationSignature;
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+    }
+
+    private static JsonMappingException wrap(Exception e, Object bean, String name, boolean wrapExceptions)
+            throws IOException {
+        if (e instanceof IOException) {
+            if (!wrapExceptions || !(e instanceof JacksonException)) {
+                throw (IOException) e;
+            }
+        } else if (!wrapExceptions && e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        return JsonMappingException.wrapWithPath(e, bean, name);
+    }
+
+    /**
+     * Base of the generated serializers: subclasses write the properties
+     * between the start and end of the object
+     */
+    abstract static class Serializer<T> extends JsonSerializer<T> implements ResolvableSerializer, ContextualSerializer {
+
+        private final Class<T> type;
+        private final JsonSerializer<Object> fallback;
+
+        Serializer(Class<T> type, JsonSerializer<Object> fallback) {
+            this.type = type;
+            this.fallback = fallback;
+        }
+
+        /** Write the properties of {@code value}, in the order Jackson would */
+        abstract void writeProperties(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+        /** Look up the serializers of nested types once the serializer is cached */
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+        }
+
+        @Override
+        public final void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (provider.getActiveView() != null) {
+                fallback.serialize(value, gen, provider);
+                return;
+            }
+            gen.writeStartObject(value);
+            JsonStreamContext object = gen.getOutputContext();
+            try {
+                writeProperties(value, gen, provider);
+            } catch (Exception e) {
+                // Name the property being written, as BeanSerializer does
+                throw wrap(e, value, object.getCurrentName(), provider.isEnabled(SerializationFeature.WRAP_EXCEPTIONS));
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public final void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider,
+                                            TypeSerializer typeSer) throws IOException {
+            fallback.serializeWithType(value, gen, provider, typeSer);
+        }
+
+        @Override
+        public final void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (fallback instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) fallback).resolve(provider);
+            }
+            resolveProperties(provider);
+        }
+
+        @Override
+        public final JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (fallback instanceof ContextualSerializer) {
+                JsonSerializer<?> contextual = ((ContextualSerializer) fallback).createContextual(provider, property);
+                if (contextual != fallback) {
+                    // Annotations on the referring property change the output; let Jackson handle it
+                    return contextual;
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public final boolean isEmpty(SerializerProvider provider, T value) {
+            return fallback.isEmpty(provider, value);
+        }
+
+        @Override
+        public final boolean usesObjectId() {
+            return fallback.usesObjectId();
+        }
+
+        @Override
+        public final JsonSerializer<T> unwrappingSerializer(NameTransformer unwrapper) {
+            @SuppressWarnings("unchecked")
+            JsonSerializer<T> unwrapping = (JsonSerializer<T>) fallback.unwrappingSerializer(unwrapper);
+            return unwrapping;
+        }
+
+        @Override
+        public final void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
+                throws JsonMappingException {
+            fallback.acceptJsonFormatVisitor(visitor, typeHint);
+        }
+
+        @Override
+        public final Class<T> handledType() {
+            return type;
+        }
+
+        static void writeStringList(List<String> values, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartArray(values, values.size());
+            for (String value : values) {
+                if (value == null) {
+                    provider.defaultSerializeNull(gen);
+                } else {
+                    gen.writeString(value);
+                }
+            }
+            gen.writeEndArray();
+        }
+
+        static <E> void writeList(List<E> values, Class<E> elementType, JsonSerializer<Object> elementSerializer,
+                                  JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(values, values.size());
+            for (E value : values) {
+                writeValue(value, elementType, elementSerializer, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+
+        /** Write a value with the serializer of its declared type, unless it is a subclass */
+        static <V> void writeValue(V value, Class<V> type, JsonSerializer<Object> serializer,
+                                   JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value == null) {
+                provider.defaultSerializeNull(gen);
+            } else if (value.getClass() == type) {
+                serializer.serialize(value, gen, provider);
+            } else {
+                // Such as an InvitationGroup in a List<InvitationScope>
+                provider.defaultSerializeValue(value, gen);
+            }
+        }
+    }
+
+    /**
+     * Base of the generated deserializers: subclasses create the bean and
+     * bind the properties of an object whose START_OBJECT was consumed
+     */
+    abstract static class Deserializer<T> extends JsonDeserializer<T> implements ResolvableDeserializer, ContextualDeserializer {
+
+        private final Class<T> type;
+        private final JsonDeserializer<Object> fallback;
+
+        Deserializer(Class<T> type, JsonDeserializer<Object> fallback) {
+            this.type = type;
+            this.fallback = fallback;
+        }
+
+        /** Bind the fields of the current object up to and including its END_OBJECT */
+        abstract T readProperties(JsonParser p, DeserializationContext ctxt) throws IOException;
+
+        /** Look up the deserializers of nested types once the deserializer is cached */
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+        }
+
+        @Override
+        public final T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.isExpectedStartObjectToken()) {
+                return readProperties(p, ctxt);
+            }
+            return type.cast(fallback.deserialize(p, ctxt));
+        }
+
+        @Override
+        public final T deserialize(JsonParser p, DeserializationContext ctxt, T intoValue) throws IOException {
+            return type.cast(fallback.deserialize(p, ctxt, intoValue));
+        }
+
+        @Override
+        public final Object deserializeWithType(JsonParser p, DeserializationContext ctxt,
+                                                TypeDeserializer typeDeserializer) throws IOException {
+            return fallback.deserializeWithType(p, ctxt, typeDeserializer);
+        }
+
+        @Override
+        public final void resolve(DeserializationContext ctxt) throws JsonMappingException {
+            if (fallback instanceof ResolvableDeserializer) {
+                ((ResolvableDeserializer) fallback).resolve(ctxt);
+            }
+            resolveProperties(ctxt);
+        }
+
+        @Override
+        public final JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+                throws JsonMappingException {
+            if (fallback instanceof ContextualDeserializer) {
+                JsonDeserializer<?> contextual = ((ContextualDeserializer) fallback).createContextual(ctxt, property);
+                if (contextual != fallback) {
+                    return contextual;
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public final Collection<Object> getKnownPropertyNames() {
+            return fallback.getKnownPropertyNames();
+        }
+
+        @Override
+        public final Boolean supportsUpdate(DeserializationConfig config) {
+            return fallback.supportsUpdate(config);
+        }
+
+        @Override
+        public final LogicalType logicalType() {
+            return fallback.logicalType();
+        }
+
+        @Override
+        public final boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public final Class<?> handledType() {
+            return type;
+        }
+
+        /** Add the property to the path of a failure, as BeanDeserializer does */
+        static JsonMappingException wrap(Exception e, Object bean, String name, DeserializationContext ctxt)
+                throws IOException {
+            return TypeCodec.wrap(e, bean, name, ctxt.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS));
+        }
+
+        /** Skip a property the type does not declare, or report it as Jackson would */
+        final void unknownProperty(JsonParser p, DeserializationContext ctxt, Object bean, String name,
+                                   boolean ignoreUnknown) throws IOException {
+            if (ignoreUnknown) {
+                p.skipChildren();
+            } else {
+                ctxt.handleUnknownProperty(p, this, bean, name);
+            }
+        }
+
+        static JsonDeserializer<Object> find(DeserializationContext ctxt, Class<?> type) throws JsonMappingException {
+            return ctxt.findRootValueDeserializer(ctxt.constructType(type));
+        }
+
+        static JsonDeserializer<Object> find(DeserializationContext ctxt, JavaType type) throws JsonMappingException {
+            return ctxt.findRootValueDeserializer(type);
+        }
+
+        static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+            switch (p.currentTokenId()) {
+                case JsonTokenId.ID_STRING:
+                    return p.getText();
+                case JsonTokenId.ID_NULL:
+                    return null;
+                default:
+                    return ctxt.readValue(p, String.class);
+            }
+        }
+
+        static int readInt(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentTokenId() == JsonTokenId.ID_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+                return p.getIntValue();
+            }
+            return ctxt.readValue(p, Integer.TYPE);
+        }
+
+        static boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+            switch (p.currentTokenId()) {
+                case JsonTokenId.ID_TRUE:
+                    return true;
+                case JsonTokenId.ID_FALSE:
+                    return false;
+                default:
+                    return ctxt.readValue(p, Boolean.TYPE);
+            }
+        }
+
+        static Boolean readBooleanObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+            switch (p.currentTokenId()) {
+                case JsonTokenId.ID_TRUE:
+                    return Boolean.TRUE;
+                case JsonTokenId.ID_FALSE:
+                    return Boolean.FALSE;
+                case JsonTokenId.ID_NULL:
+                    return null;
+                default:
+                    return ctxt.readValue(p, Boolean.class);
+            }
+        }
+
+        /** Read a value with a deserializer looked up in resolveProperties */
+        @SuppressWarnings("unchecked")
+        static <V> V readValue(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> deserializer)
+                throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return (V) deserializer.deserialize(p, ctxt);
+        }
+
+        /**
+         * Read a List&lt;String&gt;; anything but an array (such as a single
+         * value accepted as an array) goes to the list deserializer
+         */
+        static List<String> readStringList(JsonParser p, DeserializationContext ctxt,
+                                           JsonDeserializer<Object> listDeserializer) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                return readValue(p, ctxt, listDeserializer);
+            }
+            List<String> values = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                values.add(readString(p, ctxt));
+            }
+            return values;
+        }
+
+        /** Read a List of a type with its own deserializer, such as a nested bean */
+        static <E> List<E> readList(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> listDeserializer,
+                                    JsonDeserializer<Object> elementDeserializer) throws IOException {
+            if (p.currentToken() != JsonToken.START_ARRAY) {
+                return readValue(p, ctxt, listDeserializer);
+            }
+            List<E> values = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                values.add(readValue(p, ctxt, elementDeserializer));
+            }
+            return values;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.vortexsoftware.sdk.types;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Map;
@@ -50,9 +51,13 @@ public class VortexAnalyticsEvent {
     @JsonProperty("sessionId")
     private String sessionId;
 
-    /** Event-specific payload data */
+    /** Event-specific payload data; volatile because lazy mode decodes it on first access, possibly on a handler thread */
     @JsonProperty("payload")
-    private Map<String, Object> payload;
+    private volatile Map<String, Object> payload;
+
+    /** Undecoded payload when parsed in lazy mode; payload is bound from it on first access */
+    @JsonIgnore
+    private LazyJsonPayload rawPayload;
 
     /** Platform: "web", "ios", "android", "react-native" */
     @JsonProperty("platform")
@@ -98,9 +103,30 @@ public class VortexAnalyticsEvent {
     public String getSessionId() { return sessionId; }
     public void setSessionId(String sessionId) { this.sessionId = sessionId; }
 
-    public Map<String, Object> getPayload() { return payload; }
+    public Map<String, Object> getPayload() {
+        Map<String, Object> decoded = payload;
+        if (decoded == null && rawPayload != null) {
+            try {
+                decoded = rawPayload.asMap();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to decode payload", e);
+            }
+            payload = decoded;
+        }
+        return decoded;
+    }
     public void setPayload(Map<String, Object> payload) { this.payload = payload; }
 
+    /**
+     * Raw payload as received, or null unless the event was parsed in lazy mode.
+     * Use it to bind the payload to a typed class or read a single field without
+     * decoding the rest.
+     */
+    @JsonIgnore
+    public LazyJsonPayload getRawPayload() { return rawPayload; }
+    @JsonIgnore
+    public void setRawPayload(LazyJsonPayload rawPayload) { this.rawPayload = rawPayload; }
+
     public String getPlatform() { return platform; }
     public void setPlatform(String platform) { this.platform = platform; }
 
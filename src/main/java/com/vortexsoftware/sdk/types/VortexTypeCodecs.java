@@ -0,0 +1,3378 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializers and deserializers for the types in this package, generated
+ * from their Jackson annotations by VortexTypeCodecsGenerator. Do not edit;
+ * regenerate with
+ * mvn test -Dtest=VortexTypesModuleTest -Dvortex.codecs.regenerate=true
+ *
+ * Left to Jackson's reflective codecs:
+ * <ul>
+ *   <li>AnalyticsEventType: no properties</li>
+ *   <li>Group: property scope has no public getter</li>
+ *   <li>LazyJsonPayload: no properties</li>
+ *   <li>WebhookEventType: no properties</li>
+ * </ul>
+ *
+ * @see VortexTypesModule
+ */
+@SuppressWarnings("deprecation")
+final class VortexTypeCodecs {
+
+    private static final Map<Class<?>, TypeCodec> CODECS = Map.ofEntries(
+            Map.entry(AcceptInvitationRequest.class, new TypeCodec(AcceptInvitationRequest.class,
+                    "invitationIds=getInvitationIds:NON_NULL,user=getUser:NON_NULL",
+                    "invitationIds=setInvitationIds,user=setUser;ignoreUnknown=false;ignored=[]",
+                    AcceptInvitationRequestSerializer::new, AcceptInvitationRequestDeserializer::new)),
+            Map.entry(AcceptUser.class, new TypeCodec(AcceptUser.class,
+                    "email=getEmail:NON_NULL,phone=getPhone:NON_NULL,name=getName:NON_NULL,isExisting=getIsExisting:NON_NULL",
+                    "email=setEmail,phone=setPhone,name=setName,isExisting=setIsExisting;ignoreUnknown=false;ignored=[]",
+                    AcceptUserSerializer::new, AcceptUserDeserializer::new)),
+            Map.entry(AutojoinDomain.class, new TypeCodec(AutojoinDomain.class,
+                    "id=getId:ALWAYS,domain=getDomain:ALWAYS",
+                    "id=setId,domain=setDomain;ignoreUnknown=false;ignored=[]",
+                    AutojoinDomainSerializer::new, AutojoinDomainDeserializer::new)),
+            Map.entry(AutojoinDomainsResponse.class, new TypeCodec(AutojoinDomainsResponse.class,
+                    "autojoinDomains=getAutojoinDomains:ALWAYS,invitation=getInvitation:ALWAYS",
+                    "autojoinDomains=setAutojoinDomains,invitation=setInvitation;ignoreUnknown=false;ignored=[]",
+                    AutojoinDomainsResponseSerializer::new, AutojoinDomainsResponseDeserializer::new)),
+            Map.entry(BatchAcceptInvitationsRequest.class, new TypeCodec(BatchAcceptInvitationsRequest.class,
+                    "items=getItems:ALWAYS",
+                    "items=setItems;ignoreUnknown=false;ignored=[]",
+                    BatchAcceptInvitationsRequestSerializer::new, BatchAcceptInvitationsRequestDeserializer::new)),
+            Map.entry(BatchAcceptInvitationsResult.class, new TypeCodec(BatchAcceptInvitationsResult.class,
+                    "accepted=getAccepted:ALWAYS,errors=getErrors:ALWAYS",
+                    "accepted=setAccepted,errors=setErrors;ignoreUnknown=false;ignored=[]",
+                    BatchAcceptInvitationsResultSerializer::new, BatchAcceptInvitationsResultDeserializer::new)),
+            Map.entry(BatchAcceptInvitationsResult.BatchAcceptError.class, new TypeCodec(BatchAcceptInvitationsResult.BatchAcceptError.class,
+                    "index=getIndex:ALWAYS,invitationIds=getInvitationIds:ALWAYS,error=getError:ALWAYS",
+                    "index=setIndex,invitationIds=setInvitationIds,error=setError;ignoreUnknown=false;ignored=[]",
+                    BatchAcceptErrorSerializer::new, BatchAcceptErrorDeserializer::new)),
+            Map.entry(ConfigureAutojoinRequest.class, new TypeCodec(ConfigureAutojoinRequest.class,
+                    "scope=getScope:NON_NULL,scopeType=getScopeType:NON_NULL,scopeName=getScopeName:NON_NULL,domains=getDomains:NON_NULL,componentId=getComponentId:NON_NULL,metadata=getMetadata:NON_NULL",
+                    "scope=setScope,scopeType=setScopeType,scopeName=setScopeName,domains=setDomains,componentId=setComponentId,metadata=setMetadata;ignoreUnknown=false;ignored=[]",
+                    ConfigureAutojoinRequestSerializer::new, ConfigureAutojoinRequestDeserializer::new)),
+            Map.entry(CreateInvitationGroup.class, new TypeCodec(CreateInvitationGroup.class,
+                    "groupId=getGroupId:NON_NULL,type=getType:NON_NULL,name=getName:NON_NULL",
+                    "groupId=setGroupId,type=setType,name=setName;ignoreUnknown=false;ignored=[]",
+                    CreateInvitationGroupSerializer::new, CreateInvitationGroupDeserializer::new)),
+            Map.entry(CreateInvitationRequest.class, new TypeCodec(CreateInvitationRequest.class,
+                    "widgetConfigurationId=getWidgetConfigurationId:NON_NULL,target=getTarget:NON_NULL,inviter=getInviter:NON_NULL,groups=getGroups:NON_NULL,source=getSource:NON_NULL,subtype=getSubtype:NON_NULL,templateVariables=getTemplateVariables:NON_NULL,metadata=getMetadata:NON_NULL,unfurlConfig=getUnfurlConfig:NON_NULL",
+                    "widgetConfigurationId=setWidgetConfigurationId,target=setTarget,inviter=setInviter,groups=setGroups,source=setSource,subtype=setSubtype,templateVariables=setTemplateVariables,metadata=setMetadata,unfurlConfig=setUnfurlConfig;ignoreUnknown=false;ignored=[]",
+                    CreateInvitationRequestSerializer::new, CreateInvitationRequestDeserializer::new)),
+            Map.entry(CreateInvitationResponse.class, new TypeCodec(CreateInvitationResponse.class,
+                    "id=getId:ALWAYS,shortLink=getShortLink:ALWAYS,status=getStatus:ALWAYS,createdAt=getCreatedAt:ALWAYS",
+                    "id=setId,shortLink=setShortLink,status=setStatus,createdAt=setCreatedAt;ignoreUnknown=false;ignored=[]",
+                    CreateInvitationResponseSerializer::new, CreateInvitationResponseDeserializer::new)),
+            Map.entry(CreateInvitationScope.class, new TypeCodec(CreateInvitationScope.class,
+                    "groupId=getGroupId:NON_NULL,type=getType:NON_NULL,name=getName:NON_NULL",
+                    "groupId=setGroupId,type=setType,name=setName;ignoreUnknown=false;ignored=[]",
+                    CreateInvitationScopeSerializer::new, CreateInvitationScopeDeserializer::new)),
+            Map.entry(CreateInvitationTarget.class, new TypeCodec(CreateInvitationTarget.class,
+                    "type=getType:NON_NULL,value=getValue:NON_NULL,name=getName:NON_NULL,avatarUrl=getAvatarUrl:NON_NULL",
+                    "type=setType,value=setValue,name=setName,avatarUrl=setAvatarUrl;ignoreUnknown=false;ignored=[]",
+                    CreateInvitationTargetSerializer::new, CreateInvitationTargetDeserializer::new)),
+            Map.entry(GenerateTokenOptions.class, new TypeCodec(GenerateTokenOptions.class,
+                    "expiresIn=getExpiresIn:ALWAYS",
+                    "expiresIn=setExpiresIn;ignoreUnknown=false;ignored=[]",
+                    GenerateTokenOptionsSerializer::new, GenerateTokenOptionsDeserializer::new)),
+            Map.entry(GenerateTokenPayload.class, new TypeCodec(GenerateTokenPayload.class,
+                    "additionalProperties=getAdditionalProperties:NON_NULL,user=getUser:NON_NULL,component=getComponent:NON_NULL,trigger=getTrigger:NON_NULL,embed=getEmbed:NON_NULL,scope=getScope:NON_NULL,vars=getVars:NON_NULL",
+                    "additionalProperties=setAdditionalProperties,user=setUser,component=setComponent,trigger=setTrigger,embed=setEmbed,scope=setScope,vars=setVars;ignoreUnknown=false;ignored=[]",
+                    GenerateTokenPayloadSerializer::new, GenerateTokenPayloadDeserializer::new)),
+            Map.entry(Identifier.class, new TypeCodec(Identifier.class,
+                    "type=getType:ALWAYS,value=getValue:ALWAYS",
+                    "type=setType,value=setValue;ignoreUnknown=false;ignored=[]",
+                    IdentifierSerializer::new, IdentifierDeserializer::new)),
+            Map.entry(InvitationAcceptance.class, new TypeCodec(InvitationAcceptance.class,
+                    "id=getId:ALWAYS,accountId=getAccountId:ALWAYS,acceptedAt=getAcceptedAt:ALWAYS,targetType=getTargetType:ALWAYS,targetValue=getTargetValue:ALWAYS,identifiers=getIdentifiers:ALWAYS",
+                    "id=setId,accountId=setAccountId,acceptedAt=setAcceptedAt,targetType=setTargetType,targetValue=setTargetValue,identifiers=setIdentifiers;ignoreUnknown=true;ignored=[]",
+                    InvitationAcceptanceSerializer::new, InvitationAcceptanceDeserializer::new)),
+            Map.entry(InvitationGroup.class, new TypeCodec(InvitationGroup.class,
+                    "scopeId=getScopeId:ALWAYS,groupId=getGroupId:ALWAYS,id=getId:ALWAYS,accountId=getAccountId:ALWAYS,type=getType:ALWAYS,name=getName:ALWAYS,createdAt=getCreatedAt:ALWAYS",
+                    "scopeId=setScopeId,groupId=setGroupId,id=setId,accountId=setAccountId,type=setType,name=setName,createdAt=setCreatedAt;ignoreUnknown=false;ignored=[]",
+                    InvitationGroupSerializer::new, InvitationGroupDeserializer::new)),
+            Map.entry(InvitationResponse.class, new TypeCodec(InvitationResponse.class,
+                    "invitations=getInvitations:ALWAYS",
+                    "invitations=setInvitations;ignoreUnknown=false;ignored=[]",
+                    InvitationResponseSerializer::new, InvitationResponseDeserializer::new)),
+            Map.entry(InvitationResult.class, new TypeCodec(InvitationResult.class,
+                    "scopes=getScopes:ALWAYS,id=getId:ALWAYS,accountId=getAccountId:ALWAYS,clickThroughs=getClickThroughs:ALWAYS,formSubmissionData=getFormSubmissionData:ALWAYS,configurationAttributes=getConfigurationAttributes:ALWAYS,attributes=getAttributes:ALWAYS,createdAt=getCreatedAt:ALWAYS,deactivated=isDeactivated:ALWAYS,deliveryCount=getDeliveryCount:ALWAYS,deliveryTypes=getDeliveryTypes:ALWAYS,foreignCreatorId=getForeignCreatorId:ALWAYS,invitationType=getInvitationType:ALWAYS,modifiedAt=getModifiedAt:ALWAYS,status=getStatus:ALWAYS,target=getTarget:ALWAYS,views=getViews:ALWAYS,widgetConfigurationId=getWidgetConfigurationId:ALWAYS,deploymentId=getDeploymentId:ALWAYS,groups=getGroups:ALWAYS,accepts=getAccepts:ALWAYS,scope=getScope:ALWAYS,scopeType=getScopeType:ALWAYS,expired=isExpired:ALWAYS,expires=getExpires:ALWAYS,metadata=getMetadata:ALWAYS,passThrough=getPassThrough:ALWAYS,source=getSource:ALWAYS,subtype=getSubtype:ALWAYS,creatorName=getCreatorName:ALWAYS,creatorAvatarUrl=getCreatorAvatarUrl:ALWAYS",
+                    "scopes=setScopes,id=setId,accountId=setAccountId,clickThroughs=setClickThroughs,formSubmissionData=setFormSubmissionData,configurationAttributes=setConfigurationAttributes,attributes=setAttributes,createdAt=setCreatedAt,deactivated=setDeactivated,deliveryCount=setDeliveryCount,deliveryTypes=setDeliveryTypes,foreignCreatorId=setForeignCreatorId,invitationType=setInvitationType,modifiedAt=setModifiedAt,status=setStatus,target=setTarget,views=setViews,widgetConfigurationId=setWidgetConfigurationId,deploymentId=setDeploymentId,groups=setGroups,accepts=setAccepts,scope=setScope,scopeType=setScopeType,expired=setExpired,expires=setExpires,metadata=setMetadata,passThrough=setPassThrough,source=setSource,subtype=setSubtype,creatorName=setCreatorName,creatorAvatarUrl=setCreatorAvatarUrl;ignoreUnknown=true;ignored=[]",
+                    InvitationResultSerializer::new, InvitationResultDeserializer::new)),
+            Map.entry(InvitationScope.class, new TypeCodec(InvitationScope.class,
+                    "scopeId=getScopeId:ALWAYS,groupId=getGroupId:ALWAYS,id=getId:ALWAYS,accountId=getAccountId:ALWAYS,type=getType:ALWAYS,name=getName:ALWAYS,createdAt=getCreatedAt:ALWAYS",
+                    "scopeId=setScopeId,groupId=setGroupId,id=setId,accountId=setAccountId,type=setType,name=setName,createdAt=setCreatedAt;ignoreUnknown=false;ignored=[]",
+                    InvitationScopeSerializer::new, InvitationScopeDeserializer::new)),
+            Map.entry(InvitationTarget.class, new TypeCodec(InvitationTarget.class,
+                    "type=getType:NON_NULL,value=getValue:NON_NULL,name=getName:NON_NULL,avatarUrl=getAvatarUrl:NON_NULL",
+                    "type=setType,value=setValue,name=setName,avatarUrl=setAvatarUrl;ignoreUnknown=false;ignored=[]",
+                    InvitationTargetSerializer::new, InvitationTargetDeserializer::new)),
+            Map.entry(Inviter.class, new TypeCodec(Inviter.class,
+                    "userId=getUserId:NON_NULL,userEmail=getUserEmail:NON_NULL,name=getName:NON_NULL,avatarUrl=getAvatarUrl:NON_NULL,userName=getUserName:NON_NULL,userAvatarUrl=getUserAvatarUrl:NON_NULL",
+                    "userId=setUserId,userEmail=setUserEmail,name=setName,avatarUrl=setAvatarUrl,userName=setUserName,userAvatarUrl=setUserAvatarUrl;ignoreUnknown=false;ignored=[]",
+                    InviterSerializer::new, InviterDeserializer::new)),
+            Map.entry(JWTPayload.class, new TypeCodec(JWTPayload.class,
+                    "userId=getUserId:NON_NULL,userEmail=getUserEmail:NON_NULL,userIsAutojoinAdmin=getUserIsAutojoinAdmin:NON_NULL,identifiers=getIdentifiers:NON_NULL,groups=getGroups:NON_NULL,role=getRole:NON_NULL",
+                    "userId=setUserId,userEmail=setUserEmail,userIsAutojoinAdmin=setUserIsAutojoinAdmin,identifiers=setIdentifiers,groups=setGroups,role=setRole;ignoreUnknown=false;ignored=[]",
+                    JWTPayloadSerializer::new, JWTPayloadDeserializer::new)),
+            Map.entry(SyncInternalInvitationRequest.class, new TypeCodec(SyncInternalInvitationRequest.class,
+                    "creatorId=getCreatorId:ALWAYS,targetValue=getTargetValue:ALWAYS,action=getAction:ALWAYS,componentId=getComponentId:ALWAYS",
+                    "creatorId=setCreatorId,targetValue=setTargetValue,action=setAction,componentId=setComponentId;ignoreUnknown=false;ignored=[]",
+                    SyncInternalInvitationRequestSerializer::new, SyncInternalInvitationRequestDeserializer::new)),
+            Map.entry(SyncInternalInvitationResponse.class, new TypeCodec(SyncInternalInvitationResponse.class,
+                    "processed=getProcessed:ALWAYS,invitationIds=getInvitationIds:ALWAYS",
+                    "processed=setProcessed,invitationIds=setInvitationIds;ignoreUnknown=false;ignored=[]",
+                    SyncInternalInvitationResponseSerializer::new, SyncInternalInvitationResponseDeserializer::new)),
+            Map.entry(TokenUser.class, new TypeCodec(TokenUser.class,
+                    "id=getId:NON_NULL,name=getName:NON_NULL,email=getEmail:NON_NULL,avatarUrl=getAvatarUrl:NON_NULL,adminScopes=getAdminScopes:NON_NULL,allowedEmailDomains=getAllowedEmailDomains:NON_NULL",
+                    "id=setId,name=setName,email=setEmail,avatarUrl=setAvatarUrl,adminScopes=setAdminScopes,allowedEmailDomains=setAllowedEmailDomains;ignoreUnknown=false;ignored=[]",
+                    TokenUserSerializer::new, TokenUserDeserializer::new)),
+            Map.entry(UnfurlConfig.class, new TypeCodec(UnfurlConfig.class,
+                    "title=getTitle:NON_NULL,description=getDescription:NON_NULL,image=getImage:NON_NULL,type=getType:NON_NULL,siteName=getSiteName:NON_NULL",
+                    "title=setTitle,description=setDescription,image=setImage,type=setType,siteName=setSiteName;ignoreUnknown=false;ignored=[]",
+                    UnfurlConfigSerializer::new, UnfurlConfigDeserializer::new)),
+            Map.entry(User.class, new TypeCodec(User.class,
+                    "id=getId:NON_NULL,email=getEmail:NON_NULL,name=getName:NON_NULL,avatarUrl=getAvatarUrl:NON_NULL,userName=getUserName:NON_NULL,userAvatarUrl=getUserAvatarUrl:NON_NULL,adminScopes=getAdminScopes:NON_NULL,allowedEmailDomains=getAllowedEmailDomains:NON_NULL",
+                    "id=setId,email=setEmail,name=setName,avatarUrl=setAvatarUrl,userName=setUserName,userAvatarUrl=setUserAvatarUrl,adminScopes=setAdminScopes,allowedEmailDomains=setAllowedEmailDomains;ignoreUnknown=false;ignored=[]",
+                    UserSerializer::new, UserDeserializer::new)),
+            Map.entry(VortexAnalyticsEvent.class, new TypeCodec(VortexAnalyticsEvent.class,
+                    "id=getId:ALWAYS,name=getName:ALWAYS,accountId=getAccountId:ALWAYS,organizationId=getOrganizationId:ALWAYS,projectId=getProjectId:ALWAYS,environmentId=getEnvironmentId:ALWAYS,deploymentId=getDeploymentId:ALWAYS,widgetConfigurationId=getWidgetConfigurationId:ALWAYS,foreignUserId=getForeignUserId:ALWAYS,sessionId=getSessionId:ALWAYS,payload=getPayload:ALWAYS,platform=getPlatform:ALWAYS,segmentation=getSegmentation:ALWAYS,timestamp=getTimestamp:ALWAYS",
+                    "id=setId,name=setName,accountId=setAccountId,organizationId=setOrganizationId,projectId=setProjectId,environmentId=setEnvironmentId,deploymentId=setDeploymentId,widgetConfigurationId=setWidgetConfigurationId,foreignUserId=setForeignUserId,sessionId=setSessionId,payload=setPayload,platform=setPlatform,segmentation=setSegmentation,timestamp=setTimestamp;ignoreUnknown=true;ignored=[]",
+                    VortexAnalyticsEventSerializer::new, VortexAnalyticsEventDeserializer::new)),
+            Map.entry(VortexWebhookEvent.class, new TypeCodec(VortexWebhookEvent.class,
+                    "id=getId:ALWAYS,type=getType:ALWAYS,timestamp=getTimestamp:ALWAYS,accountId=getAccountId:ALWAYS,environmentId=getEnvironmentId:ALWAYS,sourceTable=getSourceTable:ALWAYS,operation=getOperation:ALWAYS,data=getData:ALWAYS",
+                    "id=setId,type=setType,timestamp=setTimestamp,accountId=setAccountId,environmentId=setEnvironmentId,sourceTable=setSourceTable,operation=setOperation,data=setData;ignoreUnknown=true;ignored=[]",
+                    VortexWebhookEventSerializer::new, VortexWebhookEventDeserializer::new)));
+
+    private VortexTypeCodecs() {
+    }
+
+    /** The generated codec for a type, or null if it has none */
+    static TypeCodec forType(Class<?> type) {
+        return CODECS.get(type);
+    }
+
+    static Set<Class<?>> types() {
+        return CODECS.keySet();
+    }
+
+    static final class AcceptInvitationRequestSerializer extends TypeCodec.Serializer<AcceptInvitationRequest> {
+
+        private static final SerializedString INVITATION_IDS = new SerializedString("invitationIds");
+        private static final SerializedString USER = new SerializedString("user");
+
+        private JsonSerializer<Object> acceptUserSerializer;
+
+        AcceptInvitationRequestSerializer(JsonSerializer<Object> fallback) {
+            super(AcceptInvitationRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            acceptUserSerializer = provider.findValueSerializer(AcceptUser.class, null);
+        }
+
+        @Override
+        void writeProperties(AcceptInvitationRequest bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<String> invitationIds = bean.getInvitationIds();
+            if (invitationIds != null) {
+                gen.writeFieldName(INVITATION_IDS);
+                writeStringList(invitationIds, gen, provider);
+            }
+            AcceptUser user = bean.getUser();
+            if (user != null) {
+                gen.writeFieldName(USER);
+                writeValue(user, AcceptUser.class, acceptUserSerializer, gen, provider);
+            }
+        }
+    }
+
+    static final class AcceptInvitationRequestDeserializer extends TypeCodec.Deserializer<AcceptInvitationRequest> {
+
+        private JsonDeserializer<Object> acceptUserDeserializer;
+        private JsonDeserializer<Object> stringListDeserializer;
+
+        AcceptInvitationRequestDeserializer(JsonDeserializer<Object> fallback) {
+            super(AcceptInvitationRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            acceptUserDeserializer = find(ctxt, AcceptUser.class);
+            stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+
+        @Override
+        AcceptInvitationRequest readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            AcceptInvitationRequest bean = new AcceptInvitationRequest();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "invitationIds":
+                            bean.setInvitationIds(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        case "user":
+                            bean.setUser(readValue(p, ctxt, acceptUserDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class AcceptUserSerializer extends TypeCodec.Serializer<AcceptUser> {
+
+        private static final SerializedString EMAIL = new SerializedString("email");
+        private static final SerializedString PHONE = new SerializedString("phone");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString IS_EXISTING = new SerializedString("isExisting");
+
+        AcceptUserSerializer(JsonSerializer<Object> fallback) {
+            super(AcceptUser.class, fallback);
+        }
+
+        @Override
+        void writeProperties(AcceptUser bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String email = bean.getEmail();
+            if (email != null) {
+                gen.writeFieldName(EMAIL);
+                gen.writeString(email);
+            }
+            String phone = bean.getPhone();
+            if (phone != null) {
+                gen.writeFieldName(PHONE);
+                gen.writeString(phone);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+            Boolean isExisting = bean.getIsExisting();
+            if (isExisting != null) {
+                gen.writeFieldName(IS_EXISTING);
+                gen.writeBoolean(isExisting);
+            }
+        }
+    }
+
+    static final class AcceptUserDeserializer extends TypeCodec.Deserializer<AcceptUser> {
+
+        AcceptUserDeserializer(JsonDeserializer<Object> fallback) {
+            super(AcceptUser.class, fallback);
+        }
+
+        @Override
+        AcceptUser readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            AcceptUser bean = new AcceptUser();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "email":
+                            bean.setEmail(readString(p, ctxt));
+                            continue;
+                        case "phone":
+                            bean.setPhone(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "isExisting":
+                            bean.setIsExisting(readBooleanObject(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class AutojoinDomainSerializer extends TypeCodec.Serializer<AutojoinDomain> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString DOMAIN = new SerializedString("domain");
+
+        AutojoinDomainSerializer(JsonSerializer<Object> fallback) {
+            super(AutojoinDomain.class, fallback);
+        }
+
+        @Override
+        void writeProperties(AutojoinDomain bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String domain = bean.getDomain();
+            gen.writeFieldName(DOMAIN);
+            if (domain == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(domain);
+            }
+        }
+    }
+
+    static final class AutojoinDomainDeserializer extends TypeCodec.Deserializer<AutojoinDomain> {
+
+        AutojoinDomainDeserializer(JsonDeserializer<Object> fallback) {
+            super(AutojoinDomain.class, fallback);
+        }
+
+        @Override
+        AutojoinDomain readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            AutojoinDomain bean = new AutojoinDomain();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "domain":
+                            bean.setDomain(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class AutojoinDomainsResponseSerializer extends TypeCodec.Serializer<AutojoinDomainsResponse> {
+
+        private static final SerializedString AUTOJOIN_DOMAINS = new SerializedString("autojoinDomains");
+        private static final SerializedString INVITATION = new SerializedString("invitation");
+
+        private JsonSerializer<Object> autojoinDomainSerializer;
+        private JsonSerializer<Object> invitationResultSerializer;
+
+        AutojoinDomainsResponseSerializer(JsonSerializer<Object> fallback) {
+            super(AutojoinDomainsResponse.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            autojoinDomainSerializer = provider.findValueSerializer(AutojoinDomain.class, null);
+            invitationResultSerializer = provider.findValueSerializer(InvitationResult.class, null);
+        }
+
+        @Override
+        void writeProperties(AutojoinDomainsResponse bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<AutojoinDomain> autojoinDomains = bean.getAutojoinDomains();
+            gen.writeFieldName(AUTOJOIN_DOMAINS);
+            if (autojoinDomains == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(autojoinDomains, AutojoinDomain.class, autojoinDomainSerializer, gen, provider);
+            }
+            InvitationResult invitation = bean.getInvitation();
+            gen.writeFieldName(INVITATION);
+            if (invitation == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeValue(invitation, InvitationResult.class, invitationResultSerializer, gen, provider);
+            }
+        }
+    }
+
+    static final class AutojoinDomainsResponseDeserializer extends TypeCodec.Deserializer<AutojoinDomainsResponse> {
+
+        private JsonDeserializer<Object> autojoinDomainDeserializer;
+        private JsonDeserializer<Object> autojoinDomainListDeserializer;
+        private JsonDeserializer<Object> invitationResultDeserializer;
+
+        AutojoinDomainsResponseDeserializer(JsonDeserializer<Object> fallback) {
+            super(AutojoinDomainsResponse.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            autojoinDomainDeserializer = find(ctxt, AutojoinDomain.class);
+            autojoinDomainListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, AutojoinDomain.class));
+            invitationResultDeserializer = find(ctxt, InvitationResult.class);
+        }
+
+        @Override
+        AutojoinDomainsResponse readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            AutojoinDomainsResponse bean = new AutojoinDomainsResponse();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "autojoinDomains":
+                            bean.setAutojoinDomains(readList(p, ctxt, autojoinDomainListDeserializer, autojoinDomainDeserializer));
+                            continue;
+                        case "invitation":
+                            bean.setInvitation(readValue(p, ctxt, invitationResultDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class BatchAcceptInvitationsRequestSerializer extends TypeCodec.Serializer<BatchAcceptInvitationsRequest> {
+
+        private static final SerializedString ITEMS = new SerializedString("items");
+
+        private JsonSerializer<Object> acceptInvitationRequestSerializer;
+
+        BatchAcceptInvitationsRequestSerializer(JsonSerializer<Object> fallback) {
+            super(BatchAcceptInvitationsRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            acceptInvitationRequestSerializer = provider.findValueSerializer(AcceptInvitationRequest.class, null);
+        }
+
+        @Override
+        void writeProperties(BatchAcceptInvitationsRequest bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<AcceptInvitationRequest> items = bean.getItems();
+            gen.writeFieldName(ITEMS);
+            if (items == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(items, AcceptInvitationRequest.class, acceptInvitationRequestSerializer, gen, provider);
+            }
+        }
+    }
+
+    static final class BatchAcceptInvitationsRequestDeserializer extends TypeCodec.Deserializer<BatchAcceptInvitationsRequest> {
+
+        private JsonDeserializer<Object> acceptInvitationRequestDeserializer;
+        private JsonDeserializer<Object> acceptInvitationRequestListDeserializer;
+
+        BatchAcceptInvitationsRequestDeserializer(JsonDeserializer<Object> fallback) {
+            super(BatchAcceptInvitationsRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            acceptInvitationRequestDeserializer = find(ctxt, AcceptInvitationRequest.class);
+            acceptInvitationRequestListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, AcceptInvitationRequest.class));
+        }
+
+        @Override
+        BatchAcceptInvitationsRequest readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BatchAcceptInvitationsRequest bean = new BatchAcceptInvitationsRequest();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "items":
+                            bean.setItems(readList(p, ctxt, acceptInvitationRequestListDeserializer, acceptInvitationRequestDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class BatchAcceptInvitationsResultSerializer extends TypeCodec.Serializer<BatchAcceptInvitationsResult> {
+
+        private static final SerializedString ACCEPTED = new SerializedString("accepted");
+        private static final SerializedString ERRORS = new SerializedString("errors");
+
+        private JsonSerializer<Object> batchAcceptErrorSerializer;
+        private JsonSerializer<Object> invitationResultSerializer;
+
+        BatchAcceptInvitationsResultSerializer(JsonSerializer<Object> fallback) {
+            super(BatchAcceptInvitationsResult.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            batchAcceptErrorSerializer = provider.findValueSerializer(BatchAcceptInvitationsResult.BatchAcceptError.class, null);
+            invitationResultSerializer = provider.findValueSerializer(InvitationResult.class, null);
+        }
+
+        @Override
+        void writeProperties(BatchAcceptInvitationsResult bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<InvitationResult> accepted = bean.getAccepted();
+            gen.writeFieldName(ACCEPTED);
+            if (accepted == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(accepted, InvitationResult.class, invitationResultSerializer, gen, provider);
+            }
+            List<BatchAcceptInvitationsResult.BatchAcceptError> errors = bean.getErrors();
+            gen.writeFieldName(ERRORS);
+            if (errors == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(errors, BatchAcceptInvitationsResult.BatchAcceptError.class, batchAcceptErrorSerializer, gen, provider);
+            }
+        }
+    }
+
+    static final class BatchAcceptInvitationsResultDeserializer extends TypeCodec.Deserializer<BatchAcceptInvitationsResult> {
+
+        private JsonDeserializer<Object> batchAcceptErrorDeserializer;
+        private JsonDeserializer<Object> batchAcceptErrorListDeserializer;
+        private JsonDeserializer<Object> invitationResultDeserializer;
+        private JsonDeserializer<Object> invitationResultListDeserializer;
+
+        BatchAcceptInvitationsResultDeserializer(JsonDeserializer<Object> fallback) {
+            super(BatchAcceptInvitationsResult.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            batchAcceptErrorDeserializer = find(ctxt, BatchAcceptInvitationsResult.BatchAcceptError.class);
+            batchAcceptErrorListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, BatchAcceptInvitationsResult.BatchAcceptError.class));
+            invitationResultDeserializer = find(ctxt, InvitationResult.class);
+            invitationResultListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, InvitationResult.class));
+        }
+
+        @Override
+        BatchAcceptInvitationsResult readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BatchAcceptInvitationsResult bean = new BatchAcceptInvitationsResult();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "accepted":
+                            bean.setAccepted(readList(p, ctxt, invitationResultListDeserializer, invitationResultDeserializer));
+                            continue;
+                        case "errors":
+                            bean.setErrors(readList(p, ctxt, batchAcceptErrorListDeserializer, batchAcceptErrorDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class BatchAcceptErrorSerializer extends TypeCodec.Serializer<BatchAcceptInvitationsResult.BatchAcceptError> {
+
+        private static final SerializedString INDEX = new SerializedString("index");
+        private static final SerializedString INVITATION_IDS = new SerializedString("invitationIds");
+        private static final SerializedString ERROR = new SerializedString("error");
+
+        BatchAcceptErrorSerializer(JsonSerializer<Object> fallback) {
+            super(BatchAcceptInvitationsResult.BatchAcceptError.class, fallback);
+        }
+
+        @Override
+        void writeProperties(BatchAcceptInvitationsResult.BatchAcceptError bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int index = bean.getIndex();
+            gen.writeFieldName(INDEX);
+            gen.writeNumber(index);
+            List<String> invitationIds = bean.getInvitationIds();
+            gen.writeFieldName(INVITATION_IDS);
+            if (invitationIds == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeStringList(invitationIds, gen, provider);
+            }
+            String error = bean.getError();
+            gen.writeFieldName(ERROR);
+            if (error == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(error);
+            }
+        }
+    }
+
+    static final class BatchAcceptErrorDeserializer extends TypeCodec.Deserializer<BatchAcceptInvitationsResult.BatchAcceptError> {
+
+        private JsonDeserializer<Object> stringListDeserializer;
+
+        BatchAcceptErrorDeserializer(JsonDeserializer<Object> fallback) {
+            super(BatchAcceptInvitationsResult.BatchAcceptError.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+
+        @Override
+        BatchAcceptInvitationsResult.BatchAcceptError readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BatchAcceptInvitationsResult.BatchAcceptError bean = new BatchAcceptInvitationsResult.BatchAcceptError();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "index":
+                            bean.setIndex(readInt(p, ctxt));
+                            continue;
+                        case "invitationIds":
+                            bean.setInvitationIds(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        case "error":
+                            bean.setError(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class ConfigureAutojoinRequestSerializer extends TypeCodec.Serializer<ConfigureAutojoinRequest> {
+
+        private static final SerializedString SCOPE = new SerializedString("scope");
+        private static final SerializedString SCOPE_TYPE = new SerializedString("scopeType");
+        private static final SerializedString SCOPE_NAME = new SerializedString("scopeName");
+        private static final SerializedString DOMAINS = new SerializedString("domains");
+        private static final SerializedString COMPONENT_ID = new SerializedString("componentId");
+        private static final SerializedString METADATA = new SerializedString("metadata");
+
+        ConfigureAutojoinRequestSerializer(JsonSerializer<Object> fallback) {
+            super(ConfigureAutojoinRequest.class, fallback);
+        }
+
+        @Override
+        void writeProperties(ConfigureAutojoinRequest bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String scope = bean.getScope();
+            if (scope != null) {
+                gen.writeFieldName(SCOPE);
+                gen.writeString(scope);
+            }
+            String scopeType = bean.getScopeType();
+            if (scopeType != null) {
+                gen.writeFieldName(SCOPE_TYPE);
+                gen.writeString(scopeType);
+            }
+            String scopeName = bean.getScopeName();
+            if (scopeName != null) {
+                gen.writeFieldName(SCOPE_NAME);
+                gen.writeString(scopeName);
+            }
+            List<String> domains = bean.getDomains();
+            if (domains != null) {
+                gen.writeFieldName(DOMAINS);
+                writeStringList(domains, gen, provider);
+            }
+            String componentId = bean.getComponentId();
+            if (componentId != null) {
+                gen.writeFieldName(COMPONENT_ID);
+                gen.writeString(componentId);
+            }
+            Map<String, Object> metadata = bean.getMetadata();
+            if (metadata != null) {
+                gen.writeFieldName(METADATA);
+                provider.defaultSerializeValue(metadata, gen);
+            }
+        }
+    }
+
+    static final class ConfigureAutojoinRequestDeserializer extends TypeCodec.Deserializer<ConfigureAutojoinRequest> {
+
+        private JsonDeserializer<Object> stringListDeserializer;
+        private JsonDeserializer<Object> stringObjectMapDeserializer;
+
+        ConfigureAutojoinRequestDeserializer(JsonDeserializer<Object> fallback) {
+            super(ConfigureAutojoinRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+            stringObjectMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        }
+
+        @Override
+        ConfigureAutojoinRequest readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            ConfigureAutojoinRequest bean = new ConfigureAutojoinRequest();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "scope":
+                            bean.setScope(readString(p, ctxt));
+                            continue;
+                        case "scopeType":
+                            bean.setScopeType(readString(p, ctxt));
+                            continue;
+                        case "scopeName":
+                            bean.setScopeName(readString(p, ctxt));
+                            continue;
+                        case "domains":
+                            bean.setDomains(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        case "componentId":
+                            bean.setComponentId(readString(p, ctxt));
+                            continue;
+                        case "metadata":
+                            bean.setMetadata(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class CreateInvitationGroupSerializer extends TypeCodec.Serializer<CreateInvitationGroup> {
+
+        private static final SerializedString GROUP_ID = new SerializedString("groupId");
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString NAME = new SerializedString("name");
+
+        CreateInvitationGroupSerializer(JsonSerializer<Object> fallback) {
+            super(CreateInvitationGroup.class, fallback);
+        }
+
+        @Override
+        void writeProperties(CreateInvitationGroup bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String groupId = bean.getGroupId();
+            if (groupId != null) {
+                gen.writeFieldName(GROUP_ID);
+                gen.writeString(groupId);
+            }
+            String type = bean.getType();
+            if (type != null) {
+                gen.writeFieldName(TYPE);
+                gen.writeString(type);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+        }
+    }
+
+    static final class CreateInvitationGroupDeserializer extends TypeCodec.Deserializer<CreateInvitationGroup> {
+
+        CreateInvitationGroupDeserializer(JsonDeserializer<Object> fallback) {
+            super(CreateInvitationGroup.class, fallback);
+        }
+
+        @Override
+        CreateInvitationGroup readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            CreateInvitationGroup bean = new CreateInvitationGroup();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "groupId":
+                            bean.setGroupId(readString(p, ctxt));
+                            continue;
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class CreateInvitationRequestSerializer extends TypeCodec.Serializer<CreateInvitationRequest> {
+
+        private static final SerializedString WIDGET_CONFIGURATION_ID = new SerializedString("widgetConfigurationId");
+        private static final SerializedString TARGET = new SerializedString("target");
+        private static final SerializedString INVITER = new SerializedString("inviter");
+        private static final SerializedString GROUPS = new SerializedString("groups");
+        private static final SerializedString SOURCE = new SerializedString("source");
+        private static final SerializedString SUBTYPE = new SerializedString("subtype");
+        private static final SerializedString TEMPLATE_VARIABLES = new SerializedString("templateVariables");
+        private static final SerializedString METADATA = new SerializedString("metadata");
+        private static final SerializedString UNFURL_CONFIG = new SerializedString("unfurlConfig");
+
+        private JsonSerializer<Object> createInvitationScopeSerializer;
+        private JsonSerializer<Object> createInvitationTargetSerializer;
+        private JsonSerializer<Object> inviterSerializer;
+        private JsonSerializer<Object> unfurlConfigSerializer;
+
+        CreateInvitationRequestSerializer(JsonSerializer<Object> fallback) {
+            super(CreateInvitationRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            createInvitationScopeSerializer = provider.findValueSerializer(CreateInvitationScope.class, null);
+            createInvitationTargetSerializer = provider.findValueSerializer(CreateInvitationTarget.class, null);
+            inviterSerializer = provider.findValueSerializer(Inviter.class, null);
+            unfurlConfigSerializer = provider.findValueSerializer(UnfurlConfig.class, null);
+        }
+
+        @Override
+        void writeProperties(CreateInvitationRequest bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String widgetConfigurationId = bean.getWidgetConfigurationId();
+            if (widgetConfigurationId != null) {
+                gen.writeFieldName(WIDGET_CONFIGURATION_ID);
+                gen.writeString(widgetConfigurationId);
+            }
+            CreateInvitationTarget target = bean.getTarget();
+            if (target != null) {
+                gen.writeFieldName(TARGET);
+                writeValue(target, CreateInvitationTarget.class, createInvitationTargetSerializer, gen, provider);
+            }
+            Inviter inviter = bean.getInviter();
+            if (inviter != null) {
+                gen.writeFieldName(INVITER);
+                writeValue(inviter, Inviter.class, inviterSerializer, gen, provider);
+            }
+            List<CreateInvitationScope> groups = bean.getGroups();
+            if (groups != null) {
+                gen.writeFieldName(GROUPS);
+                writeList(groups, CreateInvitationScope.class, createInvitationScopeSerializer, gen, provider);
+            }
+            String source = bean.getSource();
+            if (source != null) {
+                gen.writeFieldName(SOURCE);
+                gen.writeString(source);
+            }
+            String subtype = bean.getSubtype();
+            if (subtype != null) {
+                gen.writeFieldName(SUBTYPE);
+                gen.writeString(subtype);
+            }
+            Map<String, String> templateVariables = bean.getTemplateVariables();
+            if (templateVariables != null) {
+                gen.writeFieldName(TEMPLATE_VARIABLES);
+                provider.defaultSerializeValue(templateVariables, gen);
+            }
+            Map<String, Object> metadata = bean.getMetadata();
+            if (metadata != null) {
+                gen.writeFieldName(METADATA);
+                provider.defaultSerializeValue(metadata, gen);
+            }
+            UnfurlConfig unfurlConfig = bean.getUnfurlConfig();
+            if (unfurlConfig != null) {
+                gen.writeFieldName(UNFURL_CONFIG);
+                writeValue(unfurlConfig, UnfurlConfig.class, unfurlConfigSerializer, gen, provider);
+            }
+        }
+    }
+
+    static final class CreateInvitationRequestDeserializer extends TypeCodec.Deserializer<CreateInvitationRequest> {
+
+        private JsonDeserializer<Object> createInvitationScopeDeserializer;
+        private JsonDeserializer<Object> createInvitationScopeListDeserializer;
+        private JsonDeserializer<Object> createInvitationTargetDeserializer;
+        private JsonDeserializer<Object> inviterDeserializer;
+        private JsonDeserializer<Object> stringObjectMapDeserializer;
+        private JsonDeserializer<Object> stringStringMapDeserializer;
+        private JsonDeserializer<Object> unfurlConfigDeserializer;
+
+        CreateInvitationRequestDeserializer(JsonDeserializer<Object> fallback) {
+            super(CreateInvitationRequest.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            createInvitationScopeDeserializer = find(ctxt, CreateInvitationScope.class);
+            createInvitationScopeListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, CreateInvitationScope.class));
+            createInvitationTargetDeserializer = find(ctxt, CreateInvitationTarget.class);
+            inviterDeserializer = find(ctxt, Inviter.class);
+            stringObjectMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+            stringStringMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+            unfurlConfigDeserializer = find(ctxt, UnfurlConfig.class);
+        }
+
+        @Override
+        CreateInvitationRequest readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            CreateInvitationRequest bean = new CreateInvitationRequest();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "widgetConfigurationId":
+                            bean.setWidgetConfigurationId(readString(p, ctxt));
+                            continue;
+                        case "target":
+                            bean.setTarget(readValue(p, ctxt, createInvitationTargetDeserializer));
+                            continue;
+                        case "inviter":
+                            bean.setInviter(readValue(p, ctxt, inviterDeserializer));
+                            continue;
+                        case "groups":
+                            bean.setGroups(readList(p, ctxt, createInvitationScopeListDeserializer, createInvitationScopeDeserializer));
+                            continue;
+                        case "source":
+                            bean.setSource(readString(p, ctxt));
+                            continue;
+                        case "subtype":
+                            bean.setSubtype(readString(p, ctxt));
+                            continue;
+                        case "templateVariables":
+                            bean.setTemplateVariables(readValue(p, ctxt, stringStringMapDeserializer));
+                            continue;
+                        case "metadata":
+                            bean.setMetadata(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "unfurlConfig":
+                            bean.setUnfurlConfig(readValue(p, ctxt, unfurlConfigDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class CreateInvitationResponseSerializer extends TypeCodec.Serializer<CreateInvitationResponse> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString SHORT_LINK = new SerializedString("shortLink");
+        private static final SerializedString STATUS = new SerializedString("status");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+        CreateInvitationResponseSerializer(JsonSerializer<Object> fallback) {
+            super(CreateInvitationResponse.class, fallback);
+        }
+
+        @Override
+        void writeProperties(CreateInvitationResponse bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String shortLink = bean.getShortLink();
+            gen.writeFieldName(SHORT_LINK);
+            if (shortLink == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(shortLink);
+            }
+            String status = bean.getStatus();
+            gen.writeFieldName(STATUS);
+            if (status == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(status);
+            }
+            String createdAt = bean.getCreatedAt();
+            gen.writeFieldName(CREATED_AT);
+            if (createdAt == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(createdAt);
+            }
+        }
+    }
+
+    static final class CreateInvitationResponseDeserializer extends TypeCodec.Deserializer<CreateInvitationResponse> {
+
+        CreateInvitationResponseDeserializer(JsonDeserializer<Object> fallback) {
+            super(CreateInvitationResponse.class, fallback);
+        }
+
+        @Override
+        CreateInvitationResponse readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            CreateInvitationResponse bean = new CreateInvitationResponse();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "shortLink":
+                            bean.setShortLink(readString(p, ctxt));
+                            continue;
+                        case "status":
+                            bean.setStatus(readString(p, ctxt));
+                            continue;
+                        case "createdAt":
+                            bean.setCreatedAt(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class CreateInvitationScopeSerializer extends TypeCodec.Serializer<CreateInvitationScope> {
+
+        private static final SerializedString GROUP_ID = new SerializedString("groupId");
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString NAME = new SerializedString("name");
+
+        CreateInvitationScopeSerializer(JsonSerializer<Object> fallback) {
+            super(CreateInvitationScope.class, fallback);
+        }
+
+        @Override
+        void writeProperties(CreateInvitationScope bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String groupId = bean.getGroupId();
+            if (groupId != null) {
+                gen.writeFieldName(GROUP_ID);
+                gen.writeString(groupId);
+            }
+            String type = bean.getType();
+            if (type != null) {
+                gen.writeFieldName(TYPE);
+                gen.writeString(type);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+        }
+    }
+
+    static final class CreateInvitationScopeDeserializer extends TypeCodec.Deserializer<CreateInvitationScope> {
+
+        CreateInvitationScopeDeserializer(JsonDeserializer<Object> fallback) {
+            super(CreateInvitationScope.class, fallback);
+        }
+
+        @Override
+        CreateInvitationScope readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            CreateInvitationScope bean = new CreateInvitationScope();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "groupId":
+                            bean.setGroupId(readString(p, ctxt));
+                            continue;
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class CreateInvitationTargetSerializer extends TypeCodec.Serializer<CreateInvitationTarget> {
+
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString VALUE = new SerializedString("value");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+
+        CreateInvitationTargetSerializer(JsonSerializer<Object> fallback) {
+            super(CreateInvitationTarget.class, fallback);
+        }
+
+        @Override
+        void writeProperties(CreateInvitationTarget bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            CreateInvitationTargetType type = bean.getType();
+            if (type != null) {
+                gen.writeFieldName(TYPE);
+                gen.writeString(type.getValue());
+            }
+            String value = bean.getValue();
+            if (value != null) {
+                gen.writeFieldName(VALUE);
+                gen.writeString(value);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+            String avatarUrl = bean.getAvatarUrl();
+            if (avatarUrl != null) {
+                gen.writeFieldName(AVATAR_URL);
+                gen.writeString(avatarUrl);
+            }
+        }
+    }
+
+    static final class CreateInvitationTargetDeserializer extends TypeCodec.Deserializer<CreateInvitationTarget> {
+
+        private JsonDeserializer<Object> createInvitationTargetTypeDeserializer;
+
+        CreateInvitationTargetDeserializer(JsonDeserializer<Object> fallback) {
+            super(CreateInvitationTarget.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            createInvitationTargetTypeDeserializer = find(ctxt, CreateInvitationTargetType.class);
+        }
+
+        @Override
+        CreateInvitationTarget readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            CreateInvitationTarget bean = new CreateInvitationTarget();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "type":
+                            bean.setType(readCreateInvitationTargetType(p, ctxt, createInvitationTargetTypeDeserializer));
+                            continue;
+                        case "value":
+                            bean.setValue(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "avatarUrl":
+                            bean.setAvatarUrl(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class GenerateTokenOptionsSerializer extends TypeCodec.Serializer<GenerateTokenOptions> {
+
+        private static final SerializedString EXPIRES_IN = new SerializedString("expiresIn");
+
+        GenerateTokenOptionsSerializer(JsonSerializer<Object> fallback) {
+            super(GenerateTokenOptions.class, fallback);
+        }
+
+        @Override
+        void writeProperties(GenerateTokenOptions bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Object expiresIn = bean.getExpiresIn();
+            gen.writeFieldName(EXPIRES_IN);
+            provider.defaultSerializeValue(expiresIn, gen);
+        }
+    }
+
+    static final class GenerateTokenOptionsDeserializer extends TypeCodec.Deserializer<GenerateTokenOptions> {
+
+        private JsonDeserializer<Object> objectDeserializer;
+
+        GenerateTokenOptionsDeserializer(JsonDeserializer<Object> fallback) {
+            super(GenerateTokenOptions.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            objectDeserializer = find(ctxt, Object.class);
+        }
+
+        @Override
+        GenerateTokenOptions readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            GenerateTokenOptions bean = new GenerateTokenOptions();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "expiresIn":
+                            bean.setExpiresIn(readValue(p, ctxt, objectDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class GenerateTokenPayloadSerializer extends TypeCodec.Serializer<GenerateTokenPayload> {
+
+        private static final SerializedString ADDITIONAL_PROPERTIES = new SerializedString("additionalProperties");
+        private static final SerializedString USER = new SerializedString("user");
+        private static final SerializedString COMPONENT = new SerializedString("component");
+        private static final SerializedString TRIGGER = new SerializedString("trigger");
+        private static final SerializedString EMBED = new SerializedString("embed");
+        private static final SerializedString SCOPE = new SerializedString("scope");
+        private static final SerializedString VARS = new SerializedString("vars");
+
+        private JsonSerializer<Object> tokenUserSerializer;
+
+        GenerateTokenPayloadSerializer(JsonSerializer<Object> fallback) {
+            super(GenerateTokenPayload.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            tokenUserSerializer = provider.findValueSerializer(TokenUser.class, null);
+        }
+
+        @Override
+        void writeProperties(GenerateTokenPayload bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Map<String, Object> additionalProperties = bean.getAdditionalProperties();
+            if (additionalProperties != null) {
+                gen.writeFieldName(ADDITIONAL_PROPERTIES);
+                provider.defaultSerializeValue(additionalProperties, gen);
+            }
+            TokenUser user = bean.getUser();
+            if (user != null) {
+                gen.writeFieldName(USER);
+                writeValue(user, TokenUser.class, tokenUserSerializer, gen, provider);
+            }
+            String component = bean.getComponent();
+            if (component != null) {
+                gen.writeFieldName(COMPONENT);
+                gen.writeString(component);
+            }
+            String trigger = bean.getTrigger();
+            if (trigger != null) {
+                gen.writeFieldName(TRIGGER);
+                gen.writeString(trigger);
+            }
+            String embed = bean.getEmbed();
+            if (embed != null) {
+                gen.writeFieldName(EMBED);
+                gen.writeString(embed);
+            }
+            String scope = bean.getScope();
+            if (scope != null) {
+                gen.writeFieldName(SCOPE);
+                gen.writeString(scope);
+            }
+            Map<String, Object> vars = bean.getVars();
+            if (vars != null) {
+                gen.writeFieldName(VARS);
+                provider.defaultSerializeValue(vars, gen);
+            }
+        }
+    }
+
+    static final class GenerateTokenPayloadDeserializer extends TypeCodec.Deserializer<GenerateTokenPayload> {
+
+        private JsonDeserializer<Object> stringObjectMapDeserializer;
+        private JsonDeserializer<Object> tokenUserDeserializer;
+
+        GenerateTokenPayloadDeserializer(JsonDeserializer<Object> fallback) {
+            super(GenerateTokenPayload.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringObjectMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+            tokenUserDeserializer = find(ctxt, TokenUser.class);
+        }
+
+        @Override
+        GenerateTokenPayload readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            GenerateTokenPayload bean = new GenerateTokenPayload();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "additionalProperties":
+                            bean.setAdditionalProperties(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "user":
+                            bean.setUser(readValue(p, ctxt, tokenUserDeserializer));
+                            continue;
+                        case "component":
+                            bean.setComponent(readString(p, ctxt));
+                            continue;
+                        case "trigger":
+                            bean.setTrigger(readString(p, ctxt));
+                            continue;
+                        case "embed":
+                            bean.setEmbed(readString(p, ctxt));
+                            continue;
+                        case "scope":
+                            bean.setScope(readString(p, ctxt));
+                            continue;
+                        case "vars":
+                            bean.setVars(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class IdentifierSerializer extends TypeCodec.Serializer<Identifier> {
+
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString VALUE = new SerializedString("value");
+
+        IdentifierSerializer(JsonSerializer<Object> fallback) {
+            super(Identifier.class, fallback);
+        }
+
+        @Override
+        void writeProperties(Identifier bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String type = bean.getType();
+            gen.writeFieldName(TYPE);
+            if (type == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(type);
+            }
+            String value = bean.getValue();
+            gen.writeFieldName(VALUE);
+            if (value == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(value);
+            }
+        }
+    }
+
+    static final class IdentifierDeserializer extends TypeCodec.Deserializer<Identifier> {
+
+        IdentifierDeserializer(JsonDeserializer<Object> fallback) {
+            super(Identifier.class, fallback);
+        }
+
+        @Override
+        Identifier readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Identifier bean = new Identifier();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "value":
+                            bean.setValue(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class InvitationAcceptanceSerializer extends TypeCodec.Serializer<InvitationAcceptance> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+        private static final SerializedString ACCEPTED_AT = new SerializedString("acceptedAt");
+        private static final SerializedString TARGET_TYPE = new SerializedString("targetType");
+        private static final SerializedString TARGET_VALUE = new SerializedString("targetValue");
+        private static final SerializedString IDENTIFIERS = new SerializedString("identifiers");
+
+        InvitationAcceptanceSerializer(JsonSerializer<Object> fallback) {
+            super(InvitationAcceptance.class, fallback);
+        }
+
+        @Override
+        void writeProperties(InvitationAcceptance bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String accountId = bean.getAccountId();
+            gen.writeFieldName(ACCOUNT_ID);
+            if (accountId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(accountId);
+            }
+            String acceptedAt = bean.getAcceptedAt();
+            gen.writeFieldName(ACCEPTED_AT);
+            if (acceptedAt == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(acceptedAt);
+            }
+            String targetType = bean.getTargetType();
+            gen.writeFieldName(TARGET_TYPE);
+            if (targetType == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(targetType);
+            }
+            String targetValue = bean.getTargetValue();
+            gen.writeFieldName(TARGET_VALUE);
+            if (targetValue == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(targetValue);
+            }
+            Map<String, String> identifiers = bean.getIdentifiers();
+            gen.writeFieldName(IDENTIFIERS);
+            provider.defaultSerializeValue(identifiers, gen);
+        }
+    }
+
+    static final class InvitationAcceptanceDeserializer extends TypeCodec.Deserializer<InvitationAcceptance> {
+
+        private JsonDeserializer<Object> stringStringMapDeserializer;
+
+        InvitationAcceptanceDeserializer(JsonDeserializer<Object> fallback) {
+            super(InvitationAcceptance.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringStringMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+        }
+
+        @Override
+        InvitationAcceptance readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InvitationAcceptance bean = new InvitationAcceptance();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "accountId":
+                            bean.setAccountId(readString(p, ctxt));
+                            continue;
+                        case "acceptedAt":
+                            bean.setAcceptedAt(readString(p, ctxt));
+                            continue;
+                        case "targetType":
+                            bean.setTargetType(readString(p, ctxt));
+                            continue;
+                        case "targetValue":
+                            bean.setTargetValue(readString(p, ctxt));
+                            continue;
+                        case "identifiers":
+                            bean.setIdentifiers(readValue(p, ctxt, stringStringMapDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, true);
+            }
+            return bean;
+        }
+    }
+
+    static final class InvitationGroupSerializer extends TypeCodec.Serializer<InvitationGroup> {
+
+        private static final SerializedString SCOPE_ID = new SerializedString("scopeId");
+        private static final SerializedString GROUP_ID = new SerializedString("groupId");
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+        InvitationGroupSerializer(JsonSerializer<Object> fallback) {
+            super(InvitationGroup.class, fallback);
+        }
+
+        @Override
+        void writeProperties(InvitationGroup bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String scopeId = bean.getScopeId();
+            gen.writeFieldName(SCOPE_ID);
+            if (scopeId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(scopeId);
+            }
+            String groupId = bean.getGroupId();
+            gen.writeFieldName(GROUP_ID);
+            if (groupId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(groupId);
+            }
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String accountId = bean.getAccountId();
+            gen.writeFieldName(ACCOUNT_ID);
+            if (accountId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(accountId);
+            }
+            String type = bean.getType();
+            gen.writeFieldName(TYPE);
+            if (type == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(type);
+            }
+            String nameValue = bean.getName();
+            gen.writeFieldName(NAME);
+            if (nameValue == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(nameValue);
+            }
+            String createdAt = bean.getCreatedAt();
+            gen.writeFieldName(CREATED_AT);
+            if (createdAt == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(createdAt);
+            }
+        }
+    }
+
+    static final class InvitationGroupDeserializer extends TypeCodec.Deserializer<InvitationGroup> {
+
+        InvitationGroupDeserializer(JsonDeserializer<Object> fallback) {
+            super(InvitationGroup.class, fallback);
+        }
+
+        @Override
+        InvitationGroup readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InvitationGroup bean = new InvitationGroup();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "scopeId":
+                            bean.setScopeId(readString(p, ctxt));
+                            continue;
+                        case "groupId":
+                            bean.setGroupId(readString(p, ctxt));
+                            continue;
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "accountId":
+                            bean.setAccountId(readString(p, ctxt));
+                            continue;
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "createdAt":
+                            bean.setCreatedAt(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class InvitationResponseSerializer extends TypeCodec.Serializer<InvitationResponse> {
+
+        private static final SerializedString INVITATIONS = new SerializedString("invitations");
+
+        private JsonSerializer<Object> invitationResultSerializer;
+
+        InvitationResponseSerializer(JsonSerializer<Object> fallback) {
+            super(InvitationResponse.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            invitationResultSerializer = provider.findValueSerializer(InvitationResult.class, null);
+        }
+
+        @Override
+        void writeProperties(InvitationResponse bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<InvitationResult> invitations = bean.getInvitations();
+            gen.writeFieldName(INVITATIONS);
+            if (invitations == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(invitations, InvitationResult.class, invitationResultSerializer, gen, provider);
+            }
+        }
+    }
+
+    static final class InvitationResponseDeserializer extends TypeCodec.Deserializer<InvitationResponse> {
+
+        private JsonDeserializer<Object> invitationResultDeserializer;
+        private JsonDeserializer<Object> invitationResultListDeserializer;
+
+        InvitationResponseDeserializer(JsonDeserializer<Object> fallback) {
+            super(InvitationResponse.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            invitationResultDeserializer = find(ctxt, InvitationResult.class);
+            invitationResultListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, InvitationResult.class));
+        }
+
+        @Override
+        InvitationResponse readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InvitationResponse bean = new InvitationResponse();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "invitations":
+                            bean.setInvitations(readList(p, ctxt, invitationResultListDeserializer, invitationResultDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class InvitationResultSerializer extends TypeCodec.Serializer<InvitationResult> {
+
+        private static final SerializedString SCOPES = new SerializedString("scopes");
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+        private static final SerializedString CLICK_THROUGHS = new SerializedString("clickThroughs");
+        private static final SerializedString FORM_SUBMISSION_DATA = new SerializedString("formSubmissionData");
+        private static final SerializedString CONFIGURATION_ATTRIBUTES = new SerializedString("configurationAttributes");
+        private static final SerializedString ATTRIBUTES = new SerializedString("attributes");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+        private static final SerializedString DEACTIVATED = new SerializedString("deactivated");
+        private static final SerializedString DELIVERY_COUNT = new SerializedString("deliveryCount");
+        private static final SerializedString DELIVERY_TYPES = new SerializedString("deliveryTypes");
+        private static final SerializedString FOREIGN_CREATOR_ID = new SerializedString("foreignCreatorId");
+        private static final SerializedString INVITATION_TYPE = new SerializedString("invitationType");
+        private static final SerializedString MODIFIED_AT = new SerializedString("modifiedAt");
+        private static final SerializedString STATUS = new SerializedString("status");
+        private static final SerializedString TARGET = new SerializedString("target");
+        private static final SerializedString VIEWS = new SerializedString("views");
+        private static final SerializedString WIDGET_CONFIGURATION_ID = new SerializedString("widgetConfigurationId");
+        private static final SerializedString DEPLOYMENT_ID = new SerializedString("deploymentId");
+        private static final SerializedString GROUPS = new SerializedString("groups");
+        private static final SerializedString ACCEPTS = new SerializedString("accepts");
+        private static final SerializedString SCOPE = new SerializedString("scope");
+        private static final SerializedString SCOPE_TYPE = new SerializedString("scopeType");
+        private static final SerializedString EXPIRED = new SerializedString("expired");
+        private static final SerializedString EXPIRES = new SerializedString("expires");
+        private static final SerializedString METADATA = new SerializedString("metadata");
+        private static final SerializedString PASS_THROUGH = new SerializedString("passThrough");
+        private static final SerializedString SOURCE = new SerializedString("source");
+        private static final SerializedString SUBTYPE = new SerializedString("subtype");
+        private static final SerializedString CREATOR_NAME = new SerializedString("creatorName");
+        private static final SerializedString CREATOR_AVATAR_URL = new SerializedString("creatorAvatarUrl");
+
+        private JsonSerializer<Object> invitationAcceptanceSerializer;
+        private JsonSerializer<Object> invitationScopeSerializer;
+        private JsonSerializer<Object> invitationTargetSerializer;
+
+        InvitationResultSerializer(JsonSerializer<Object> fallback) {
+            super(InvitationResult.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            invitationAcceptanceSerializer = provider.findValueSerializer(InvitationAcceptance.class, null);
+            invitationScopeSerializer = provider.findValueSerializer(InvitationScope.class, null);
+            invitationTargetSerializer = provider.findValueSerializer(InvitationTarget.class, null);
+        }
+
+        @Override
+        void writeProperties(InvitationResult bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<InvitationScope> scopes = bean.getScopes();
+            gen.writeFieldName(SCOPES);
+            if (scopes == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(scopes, InvitationScope.class, invitationScopeSerializer, gen, provider);
+            }
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String accountId = bean.getAccountId();
+            gen.writeFieldName(ACCOUNT_ID);
+            if (accountId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(accountId);
+            }
+            int clickThroughs = bean.getClickThroughs();
+            gen.writeFieldName(CLICK_THROUGHS);
+            gen.writeNumber(clickThroughs);
+            Map<String, Object> formSubmissionData = bean.getFormSubmissionData();
+            gen.writeFieldName(FORM_SUBMISSION_DATA);
+            provider.defaultSerializeValue(formSubmissionData, gen);
+            Map<String, Object> configurationAttributes = bean.getConfigurationAttributes();
+            gen.writeFieldName(CONFIGURATION_ATTRIBUTES);
+            provider.defaultSerializeValue(configurationAttributes, gen);
+            Map<String, Object> attributes = bean.getAttributes();
+            gen.writeFieldName(ATTRIBUTES);
+            provider.defaultSerializeValue(attributes, gen);
+            String createdAt = bean.getCreatedAt();
+            gen.writeFieldName(CREATED_AT);
+            if (createdAt == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(createdAt);
+            }
+            boolean deactivated = bean.isDeactivated();
+            gen.writeFieldName(DEACTIVATED);
+            gen.writeBoolean(deactivated);
+            int deliveryCount = bean.getDeliveryCount();
+            gen.writeFieldName(DELIVERY_COUNT);
+            gen.writeNumber(deliveryCount);
+            List<DeliveryType> deliveryTypes = bean.getDeliveryTypes();
+            gen.writeFieldName(DELIVERY_TYPES);
+            if (deliveryTypes == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeStartArray(deliveryTypes, deliveryTypes.size());
+                for (DeliveryType element : deliveryTypes) {
+                    if (element == null) {
+                        provider.defaultSerializeNull(gen);
+                    } else {
+                        gen.writeString(element.getValue());
+                    }
+                }
+                gen.writeEndArray();
+            }
+            String foreignCreatorId = bean.getForeignCreatorId();
+            gen.writeFieldName(FOREIGN_CREATOR_ID);
+            if (foreignCreatorId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(foreignCreatorId);
+            }
+            InvitationType invitationType = bean.getInvitationType();
+            gen.writeFieldName(INVITATION_TYPE);
+            if (invitationType == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(invitationType.getValue());
+            }
+            String modifiedAt = bean.getModifiedAt();
+            gen.writeFieldName(MODIFIED_AT);
+            if (modifiedAt == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(modifiedAt);
+            }
+            InvitationStatus status = bean.getStatus();
+            gen.writeFieldName(STATUS);
+            if (status == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(status.getValue());
+            }
+            List<InvitationTarget> target = bean.getTarget();
+            gen.writeFieldName(TARGET);
+            if (target == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(target, InvitationTarget.class, invitationTargetSerializer, gen, provider);
+            }
+            int views = bean.getViews();
+            gen.writeFieldName(VIEWS);
+            gen.writeNumber(views);
+            String widgetConfigurationId = bean.getWidgetConfigurationId();
+            gen.writeFieldName(WIDGET_CONFIGURATION_ID);
+            if (widgetConfigurationId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(widgetConfigurationId);
+            }
+            String deploymentId = bean.getDeploymentId();
+            gen.writeFieldName(DEPLOYMENT_ID);
+            if (deploymentId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(deploymentId);
+            }
+            List<InvitationScope> groups = bean.getGroups();
+            gen.writeFieldName(GROUPS);
+            if (groups == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(groups, InvitationScope.class, invitationScopeSerializer, gen, provider);
+            }
+            List<InvitationAcceptance> accepts = bean.getAccepts();
+            gen.writeFieldName(ACCEPTS);
+            if (accepts == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeList(accepts, InvitationAcceptance.class, invitationAcceptanceSerializer, gen, provider);
+            }
+            String scope = bean.getScope();
+            gen.writeFieldName(SCOPE);
+            if (scope == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(scope);
+            }
+            String scopeType = bean.getScopeType();
+            gen.writeFieldName(SCOPE_TYPE);
+            if (scopeType == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(scopeType);
+            }
+            boolean expired = bean.isExpired();
+            gen.writeFieldName(EXPIRED);
+            gen.writeBoolean(expired);
+            String expires = bean.getExpires();
+            gen.writeFieldName(EXPIRES);
+            if (expires == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(expires);
+            }
+            Map<String, Object> metadata = bean.getMetadata();
+            gen.writeFieldName(METADATA);
+            provider.defaultSerializeValue(metadata, gen);
+            String passThrough = bean.getPassThrough();
+            gen.writeFieldName(PASS_THROUGH);
+            if (passThrough == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(passThrough);
+            }
+            String source = bean.getSource();
+            gen.writeFieldName(SOURCE);
+            if (source == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(source);
+            }
+            String subtype = bean.getSubtype();
+            gen.writeFieldName(SUBTYPE);
+            if (subtype == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(subtype);
+            }
+            String creatorName = bean.getCreatorName();
+            gen.writeFieldName(CREATOR_NAME);
+            if (creatorName == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(creatorName);
+            }
+            String creatorAvatarUrl = bean.getCreatorAvatarUrl();
+            gen.writeFieldName(CREATOR_AVATAR_URL);
+            if (creatorAvatarUrl == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(creatorAvatarUrl);
+            }
+        }
+    }
+
+    static final class InvitationResultDeserializer extends TypeCodec.Deserializer<InvitationResult> {
+
+        private JsonDeserializer<Object> deliveryTypeDeserializer;
+        private JsonDeserializer<Object> deliveryTypeListDeserializer;
+        private JsonDeserializer<Object> invitationAcceptanceDeserializer;
+        private JsonDeserializer<Object> invitationAcceptanceListDeserializer;
+        private JsonDeserializer<Object> invitationScopeDeserializer;
+        private JsonDeserializer<Object> invitationScopeListDeserializer;
+        private JsonDeserializer<Object> invitationStatusDeserializer;
+        private JsonDeserializer<Object> invitationTargetDeserializer;
+        private JsonDeserializer<Object> invitationTargetListDeserializer;
+        private JsonDeserializer<Object> invitationTypeDeserializer;
+        private JsonDeserializer<Object> stringObjectMapDeserializer;
+
+        InvitationResultDeserializer(JsonDeserializer<Object> fallback) {
+            super(InvitationResult.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            deliveryTypeDeserializer = find(ctxt, DeliveryType.class);
+            deliveryTypeListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, DeliveryType.class));
+            invitationAcceptanceDeserializer = find(ctxt, InvitationAcceptance.class);
+            invitationAcceptanceListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, InvitationAcceptance.class));
+            invitationScopeDeserializer = find(ctxt, InvitationScope.class);
+            invitationScopeListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, InvitationScope.class));
+            invitationStatusDeserializer = find(ctxt, InvitationStatus.class);
+            invitationTargetDeserializer = find(ctxt, InvitationTarget.class);
+            invitationTargetListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, InvitationTarget.class));
+            invitationTypeDeserializer = find(ctxt, InvitationType.class);
+            stringObjectMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        }
+
+        @Override
+        InvitationResult readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InvitationResult bean = new InvitationResult();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "scopes":
+                            bean.setScopes(readList(p, ctxt, invitationScopeListDeserializer, invitationScopeDeserializer));
+                            continue;
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "accountId":
+                            bean.setAccountId(readString(p, ctxt));
+                            continue;
+                        case "clickThroughs":
+                            bean.setClickThroughs(readInt(p, ctxt));
+                            continue;
+                        case "formSubmissionData":
+                            bean.setFormSubmissionData(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "configurationAttributes":
+                            bean.setConfigurationAttributes(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "attributes":
+                            bean.setAttributes(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "createdAt":
+                            bean.setCreatedAt(readString(p, ctxt));
+                            continue;
+                        case "deactivated":
+                            bean.setDeactivated(readBoolean(p, ctxt));
+                            continue;
+                        case "deliveryCount":
+                            bean.setDeliveryCount(readInt(p, ctxt));
+                            continue;
+                        case "deliveryTypes":
+                            bean.setDeliveryTypes(readDeliveryTypeList(p, ctxt, deliveryTypeListDeserializer, deliveryTypeDeserializer));
+                            continue;
+                        case "foreignCreatorId":
+                            bean.setForeignCreatorId(readString(p, ctxt));
+                            continue;
+                        case "invitationType":
+                            bean.setInvitationType(readInvitationType(p, ctxt, invitationTypeDeserializer));
+                            continue;
+                        case "modifiedAt":
+                            bean.setModifiedAt(readString(p, ctxt));
+                            continue;
+                        case "status":
+                            bean.setStatus(readInvitationStatus(p, ctxt, invitationStatusDeserializer));
+                            continue;
+                        case "target":
+                            bean.setTarget(readList(p, ctxt, invitationTargetListDeserializer, invitationTargetDeserializer));
+                            continue;
+                        case "views":
+                            bean.setViews(readInt(p, ctxt));
+                            continue;
+                        case "widgetConfigurationId":
+                            bean.setWidgetConfigurationId(readString(p, ctxt));
+                            continue;
+                        case "deploymentId":
+                            bean.setDeploymentId(readString(p, ctxt));
+                            continue;
+                        case "groups":
+                            bean.setGroups(readList(p, ctxt, invitationScopeListDeserializer, invitationScopeDeserializer));
+                            continue;
+                        case "accepts":
+                            bean.setAccepts(readList(p, ctxt, invitationAcceptanceListDeserializer, invitationAcceptanceDeserializer));
+                            continue;
+                        case "scope":
+                            bean.setScope(readString(p, ctxt));
+                            continue;
+                        case "scopeType":
+                            bean.setScopeType(readString(p, ctxt));
+                            continue;
+                        case "expired":
+                            bean.setExpired(readBoolean(p, ctxt));
+                            continue;
+                        case "expires":
+                            bean.setExpires(readString(p, ctxt));
+                            continue;
+                        case "metadata":
+                            bean.setMetadata(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "passThrough":
+                            bean.setPassThrough(readString(p, ctxt));
+                            continue;
+                        case "source":
+                            bean.setSource(readString(p, ctxt));
+                            continue;
+                        case "subtype":
+                            bean.setSubtype(readString(p, ctxt));
+                            continue;
+                        case "creatorName":
+                            bean.setCreatorName(readString(p, ctxt));
+                            continue;
+                        case "creatorAvatarUrl":
+                            bean.setCreatorAvatarUrl(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, true);
+            }
+            return bean;
+        }
+    }
+
+    static final class InvitationScopeSerializer extends TypeCodec.Serializer<InvitationScope> {
+
+        private static final SerializedString SCOPE_ID = new SerializedString("scopeId");
+        private static final SerializedString GROUP_ID = new SerializedString("groupId");
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+        InvitationScopeSerializer(JsonSerializer<Object> fallback) {
+            super(InvitationScope.class, fallback);
+        }
+
+        @Override
+        void writeProperties(InvitationScope bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String scopeId = bean.getScopeId();
+            gen.writeFieldName(SCOPE_ID);
+            if (scopeId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(scopeId);
+            }
+            String groupId = bean.getGroupId();
+            gen.writeFieldName(GROUP_ID);
+            if (groupId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(groupId);
+            }
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String accountId = bean.getAccountId();
+            gen.writeFieldName(ACCOUNT_ID);
+            if (accountId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(accountId);
+            }
+            String type = bean.getType();
+            gen.writeFieldName(TYPE);
+            if (type == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(type);
+            }
+            String nameValue = bean.getName();
+            gen.writeFieldName(NAME);
+            if (nameValue == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(nameValue);
+            }
+            String createdAt = bean.getCreatedAt();
+            gen.writeFieldName(CREATED_AT);
+            if (createdAt == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(createdAt);
+            }
+        }
+    }
+
+    static final class InvitationScopeDeserializer extends TypeCodec.Deserializer<InvitationScope> {
+
+        InvitationScopeDeserializer(JsonDeserializer<Object> fallback) {
+            super(InvitationScope.class, fallback);
+        }
+
+        @Override
+        InvitationScope readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InvitationScope bean = new InvitationScope();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "scopeId":
+                            bean.setScopeId(readString(p, ctxt));
+                            continue;
+                        case "groupId":
+                            bean.setGroupId(readString(p, ctxt));
+                            continue;
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "accountId":
+                            bean.setAccountId(readString(p, ctxt));
+                            continue;
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "createdAt":
+                            bean.setCreatedAt(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class InvitationTargetSerializer extends TypeCodec.Serializer<InvitationTarget> {
+
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString VALUE = new SerializedString("value");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+
+        InvitationTargetSerializer(JsonSerializer<Object> fallback) {
+            super(InvitationTarget.class, fallback);
+        }
+
+        @Override
+        void writeProperties(InvitationTarget bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            InvitationTargetType type = bean.getType();
+            if (type != null) {
+                gen.writeFieldName(TYPE);
+                gen.writeString(type.getValue());
+            }
+            String value = bean.getValue();
+            if (value != null) {
+                gen.writeFieldName(VALUE);
+                gen.writeString(value);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+            String avatarUrl = bean.getAvatarUrl();
+            if (avatarUrl != null) {
+                gen.writeFieldName(AVATAR_URL);
+                gen.writeString(avatarUrl);
+            }
+        }
+    }
+
+    static final class InvitationTargetDeserializer extends TypeCodec.Deserializer<InvitationTarget> {
+
+        private JsonDeserializer<Object> invitationTargetTypeDeserializer;
+
+        InvitationTargetDeserializer(JsonDeserializer<Object> fallback) {
+            super(InvitationTarget.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            invitationTargetTypeDeserializer = find(ctxt, InvitationTargetType.class);
+        }
+
+        @Override
+        InvitationTarget readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            InvitationTarget bean = new InvitationTarget();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "type":
+                            bean.setType(readInvitationTargetType(p, ctxt, invitationTargetTypeDeserializer));
+                            continue;
+                        case "value":
+                            bean.setValue(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "avatarUrl":
+                            bean.setAvatarUrl(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class InviterSerializer extends TypeCodec.Serializer<Inviter> {
+
+        private static final SerializedString USER_ID = new SerializedString("userId");
+        private static final SerializedString USER_EMAIL = new SerializedString("userEmail");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+        private static final SerializedString USER_NAME = new SerializedString("userName");
+        private static final SerializedString USER_AVATAR_URL = new SerializedString("userAvatarUrl");
+
+        InviterSerializer(JsonSerializer<Object> fallback) {
+            super(Inviter.class, fallback);
+        }
+
+        @Override
+        void writeProperties(Inviter bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String userId = bean.getUserId();
+            if (userId != null) {
+                gen.writeFieldName(USER_ID);
+                gen.writeString(userId);
+            }
+            String userEmail = bean.getUserEmail();
+            if (userEmail != null) {
+                gen.writeFieldName(USER_EMAIL);
+                gen.writeString(userEmail);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+            String avatarUrl = bean.getAvatarUrl();
+            if (avatarUrl != null) {
+                gen.writeFieldName(AVATAR_URL);
+                gen.writeString(avatarUrl);
+            }
+            String userName = bean.getUserName();
+            if (userName != null) {
+                gen.writeFieldName(USER_NAME);
+                gen.writeString(userName);
+            }
+            String userAvatarUrl = bean.getUserAvatarUrl();
+            if (userAvatarUrl != null) {
+                gen.writeFieldName(USER_AVATAR_URL);
+                gen.writeString(userAvatarUrl);
+            }
+        }
+    }
+
+    static final class InviterDeserializer extends TypeCodec.Deserializer<Inviter> {
+
+        InviterDeserializer(JsonDeserializer<Object> fallback) {
+            super(Inviter.class, fallback);
+        }
+
+        @Override
+        Inviter readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Inviter bean = new Inviter();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "userId":
+                            bean.setUserId(readString(p, ctxt));
+                            continue;
+                        case "userEmail":
+                            bean.setUserEmail(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "avatarUrl":
+                            bean.setAvatarUrl(readString(p, ctxt));
+                            continue;
+                        case "userName":
+                            bean.setUserName(readString(p, ctxt));
+                            continue;
+                        case "userAvatarUrl":
+                            bean.setUserAvatarUrl(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class JWTPayloadSerializer extends TypeCodec.Serializer<JWTPayload> {
+
+        private static final SerializedString USER_ID = new SerializedString("userId");
+        private static final SerializedString USER_EMAIL = new SerializedString("userEmail");
+        private static final SerializedString USER_IS_AUTOJOIN_ADMIN = new SerializedString("userIsAutojoinAdmin");
+        private static final SerializedString IDENTIFIERS = new SerializedString("identifiers");
+        private static final SerializedString GROUPS = new SerializedString("groups");
+        private static final SerializedString ROLE = new SerializedString("role");
+
+        private JsonSerializer<Object> identifierSerializer;
+
+        JWTPayloadSerializer(JsonSerializer<Object> fallback) {
+            super(JWTPayload.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(SerializerProvider provider) throws JsonMappingException {
+            identifierSerializer = provider.findValueSerializer(Identifier.class, null);
+        }
+
+        @Override
+        void writeProperties(JWTPayload bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String userId = bean.getUserId();
+            if (userId != null) {
+                gen.writeFieldName(USER_ID);
+                gen.writeString(userId);
+            }
+            String userEmail = bean.getUserEmail();
+            if (userEmail != null) {
+                gen.writeFieldName(USER_EMAIL);
+                gen.writeString(userEmail);
+            }
+            Boolean userIsAutojoinAdmin = bean.getUserIsAutojoinAdmin();
+            if (userIsAutojoinAdmin != null) {
+                gen.writeFieldName(USER_IS_AUTOJOIN_ADMIN);
+                gen.writeBoolean(userIsAutojoinAdmin);
+            }
+            List<Identifier> identifiers = bean.getIdentifiers();
+            if (identifiers != null) {
+                gen.writeFieldName(IDENTIFIERS);
+                writeList(identifiers, Identifier.class, identifierSerializer, gen, provider);
+            }
+            List<Group> groups = bean.getGroups();
+            if (groups != null) {
+                gen.writeFieldName(GROUPS);
+                provider.defaultSerializeValue(groups, gen);
+            }
+            String role = bean.getRole();
+            if (role != null) {
+                gen.writeFieldName(ROLE);
+                gen.writeString(role);
+            }
+        }
+    }
+
+    static final class JWTPayloadDeserializer extends TypeCodec.Deserializer<JWTPayload> {
+
+        private JsonDeserializer<Object> groupListDeserializer;
+        private JsonDeserializer<Object> identifierDeserializer;
+        private JsonDeserializer<Object> identifierListDeserializer;
+
+        JWTPayloadDeserializer(JsonDeserializer<Object> fallback) {
+            super(JWTPayload.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            groupListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, Group.class));
+            identifierDeserializer = find(ctxt, Identifier.class);
+            identifierListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, Identifier.class));
+        }
+
+        @Override
+        JWTPayload readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JWTPayload bean = new JWTPayload();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "userId":
+                            bean.setUserId(readString(p, ctxt));
+                            continue;
+                        case "userEmail":
+                            bean.setUserEmail(readString(p, ctxt));
+                            continue;
+                        case "userIsAutojoinAdmin":
+                            bean.setUserIsAutojoinAdmin(readBooleanObject(p, ctxt));
+                            continue;
+                        case "identifiers":
+                            bean.setIdentifiers(readList(p, ctxt, identifierListDeserializer, identifierDeserializer));
+                            continue;
+                        case "groups":
+                            bean.setGroups(readValue(p, ctxt, groupListDeserializer));
+                            continue;
+                        case "role":
+                            bean.setRole(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class SyncInternalInvitationRequestSerializer extends TypeCodec.Serializer<SyncInternalInvitationRequest> {
+
+        private static final SerializedString CREATOR_ID = new SerializedString("creatorId");
+        private static final SerializedString TARGET_VALUE = new SerializedString("targetValue");
+        private static final SerializedString ACTION = new SerializedString("action");
+        private static final SerializedString COMPONENT_ID = new SerializedString("componentId");
+
+        SyncInternalInvitationRequestSerializer(JsonSerializer<Object> fallback) {
+            super(SyncInternalInvitationRequest.class, fallback);
+        }
+
+        @Override
+        void writeProperties(SyncInternalInvitationRequest bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String creatorId = bean.getCreatorId();
+            gen.writeFieldName(CREATOR_ID);
+            if (creatorId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(creatorId);
+            }
+            String targetValue = bean.getTargetValue();
+            gen.writeFieldName(TARGET_VALUE);
+            if (targetValue == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(targetValue);
+            }
+            String action = bean.getAction();
+            gen.writeFieldName(ACTION);
+            if (action == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(action);
+            }
+            String componentId = bean.getComponentId();
+            gen.writeFieldName(COMPONENT_ID);
+            if (componentId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(componentId);
+            }
+        }
+    }
+
+    static final class SyncInternalInvitationRequestDeserializer extends TypeCodec.Deserializer<SyncInternalInvitationRequest> {
+
+        SyncInternalInvitationRequestDeserializer(JsonDeserializer<Object> fallback) {
+            super(SyncInternalInvitationRequest.class, fallback);
+        }
+
+        @Override
+        SyncInternalInvitationRequest readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            SyncInternalInvitationRequest bean = new SyncInternalInvitationRequest();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "creatorId":
+                            bean.setCreatorId(readString(p, ctxt));
+                            continue;
+                        case "targetValue":
+                            bean.setTargetValue(readString(p, ctxt));
+                            continue;
+                        case "action":
+                            bean.setAction(readString(p, ctxt));
+                            continue;
+                        case "componentId":
+                            bean.setComponentId(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class SyncInternalInvitationResponseSerializer extends TypeCodec.Serializer<SyncInternalInvitationResponse> {
+
+        private static final SerializedString PROCESSED = new SerializedString("processed");
+        private static final SerializedString INVITATION_IDS = new SerializedString("invitationIds");
+
+        SyncInternalInvitationResponseSerializer(JsonSerializer<Object> fallback) {
+            super(SyncInternalInvitationResponse.class, fallback);
+        }
+
+        @Override
+        void writeProperties(SyncInternalInvitationResponse bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int processed = bean.getProcessed();
+            gen.writeFieldName(PROCESSED);
+            gen.writeNumber(processed);
+            List<String> invitationIds = bean.getInvitationIds();
+            gen.writeFieldName(INVITATION_IDS);
+            if (invitationIds == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                writeStringList(invitationIds, gen, provider);
+            }
+        }
+    }
+
+    static final class SyncInternalInvitationResponseDeserializer extends TypeCodec.Deserializer<SyncInternalInvitationResponse> {
+
+        private JsonDeserializer<Object> stringListDeserializer;
+
+        SyncInternalInvitationResponseDeserializer(JsonDeserializer<Object> fallback) {
+            super(SyncInternalInvitationResponse.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+
+        @Override
+        SyncInternalInvitationResponse readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            SyncInternalInvitationResponse bean = new SyncInternalInvitationResponse();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "processed":
+                            bean.setProcessed(readInt(p, ctxt));
+                            continue;
+                        case "invitationIds":
+                            bean.setInvitationIds(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class TokenUserSerializer extends TypeCodec.Serializer<TokenUser> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString EMAIL = new SerializedString("email");
+        private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+        private static final SerializedString ADMIN_SCOPES = new SerializedString("adminScopes");
+        private static final SerializedString ALLOWED_EMAIL_DOMAINS = new SerializedString("allowedEmailDomains");
+
+        TokenUserSerializer(JsonSerializer<Object> fallback) {
+            super(TokenUser.class, fallback);
+        }
+
+        @Override
+        void writeProperties(TokenUser bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            if (id != null) {
+                gen.writeFieldName(ID);
+                gen.writeString(id);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+            String email = bean.getEmail();
+            if (email != null) {
+                gen.writeFieldName(EMAIL);
+                gen.writeString(email);
+            }
+            String avatarUrl = bean.getAvatarUrl();
+            if (avatarUrl != null) {
+                gen.writeFieldName(AVATAR_URL);
+                gen.writeString(avatarUrl);
+            }
+            List<String> adminScopes = bean.getAdminScopes();
+            if (adminScopes != null) {
+                gen.writeFieldName(ADMIN_SCOPES);
+                writeStringList(adminScopes, gen, provider);
+            }
+            List<String> allowedEmailDomains = bean.getAllowedEmailDomains();
+            if (allowedEmailDomains != null) {
+                gen.writeFieldName(ALLOWED_EMAIL_DOMAINS);
+                writeStringList(allowedEmailDomains, gen, provider);
+            }
+        }
+    }
+
+    static final class TokenUserDeserializer extends TypeCodec.Deserializer<TokenUser> {
+
+        private JsonDeserializer<Object> stringListDeserializer;
+
+        TokenUserDeserializer(JsonDeserializer<Object> fallback) {
+            super(TokenUser.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+
+        @Override
+        TokenUser readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            TokenUser bean = new TokenUser();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "email":
+                            bean.setEmail(readString(p, ctxt));
+                            continue;
+                        case "avatarUrl":
+                            bean.setAvatarUrl(readString(p, ctxt));
+                            continue;
+                        case "adminScopes":
+                            bean.setAdminScopes(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        case "allowedEmailDomains":
+                            bean.setAllowedEmailDomains(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class UnfurlConfigSerializer extends TypeCodec.Serializer<UnfurlConfig> {
+
+        private static final SerializedString TITLE = new SerializedString("title");
+        private static final SerializedString DESCRIPTION = new SerializedString("description");
+        private static final SerializedString IMAGE = new SerializedString("image");
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString SITE_NAME = new SerializedString("siteName");
+
+        UnfurlConfigSerializer(JsonSerializer<Object> fallback) {
+            super(UnfurlConfig.class, fallback);
+        }
+
+        @Override
+        void writeProperties(UnfurlConfig bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String title = bean.getTitle();
+            if (title != null) {
+                gen.writeFieldName(TITLE);
+                gen.writeString(title);
+            }
+            String description = bean.getDescription();
+            if (description != null) {
+                gen.writeFieldName(DESCRIPTION);
+                gen.writeString(description);
+            }
+            String image = bean.getImage();
+            if (image != null) {
+                gen.writeFieldName(IMAGE);
+                gen.writeString(image);
+            }
+            String type = bean.getType();
+            if (type != null) {
+                gen.writeFieldName(TYPE);
+                gen.writeString(type);
+            }
+            String siteName = bean.getSiteName();
+            if (siteName != null) {
+                gen.writeFieldName(SITE_NAME);
+                gen.writeString(siteName);
+            }
+        }
+    }
+
+    static final class UnfurlConfigDeserializer extends TypeCodec.Deserializer<UnfurlConfig> {
+
+        UnfurlConfigDeserializer(JsonDeserializer<Object> fallback) {
+            super(UnfurlConfig.class, fallback);
+        }
+
+        @Override
+        UnfurlConfig readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            UnfurlConfig bean = new UnfurlConfig();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "title":
+                            bean.setTitle(readString(p, ctxt));
+                            continue;
+                        case "description":
+                            bean.setDescription(readString(p, ctxt));
+                            continue;
+                        case "image":
+                            bean.setImage(readString(p, ctxt));
+                            continue;
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "siteName":
+                            bean.setSiteName(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class UserSerializer extends TypeCodec.Serializer<User> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString EMAIL = new SerializedString("email");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString AVATAR_URL = new SerializedString("avatarUrl");
+        private static final SerializedString USER_NAME = new SerializedString("userName");
+        private static final SerializedString USER_AVATAR_URL = new SerializedString("userAvatarUrl");
+        private static final SerializedString ADMIN_SCOPES = new SerializedString("adminScopes");
+        private static final SerializedString ALLOWED_EMAIL_DOMAINS = new SerializedString("allowedEmailDomains");
+
+        UserSerializer(JsonSerializer<Object> fallback) {
+            super(User.class, fallback);
+        }
+
+        @Override
+        void writeProperties(User bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            if (id != null) {
+                gen.writeFieldName(ID);
+                gen.writeString(id);
+            }
+            String email = bean.getEmail();
+            if (email != null) {
+                gen.writeFieldName(EMAIL);
+                gen.writeString(email);
+            }
+            String nameValue = bean.getName();
+            if (nameValue != null) {
+                gen.writeFieldName(NAME);
+                gen.writeString(nameValue);
+            }
+            String avatarUrl = bean.getAvatarUrl();
+            if (avatarUrl != null) {
+                gen.writeFieldName(AVATAR_URL);
+                gen.writeString(avatarUrl);
+            }
+            String userName = bean.getUserName();
+            if (userName != null) {
+                gen.writeFieldName(USER_NAME);
+                gen.writeString(userName);
+            }
+            String userAvatarUrl = bean.getUserAvatarUrl();
+            if (userAvatarUrl != null) {
+                gen.writeFieldName(USER_AVATAR_URL);
+                gen.writeString(userAvatarUrl);
+            }
+            List<String> adminScopes = bean.getAdminScopes();
+            if (adminScopes != null) {
+                gen.writeFieldName(ADMIN_SCOPES);
+                writeStringList(adminScopes, gen, provider);
+            }
+            List<String> allowedEmailDomains = bean.getAllowedEmailDomains();
+            if (allowedEmailDomains != null) {
+                gen.writeFieldName(ALLOWED_EMAIL_DOMAINS);
+                writeStringList(allowedEmailDomains, gen, provider);
+            }
+        }
+    }
+
+    static final class UserDeserializer extends TypeCodec.Deserializer<User> {
+
+        private JsonDeserializer<Object> stringListDeserializer;
+
+        UserDeserializer(JsonDeserializer<Object> fallback) {
+            super(User.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringListDeserializer = find(ctxt, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+
+        @Override
+        User readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            User bean = new User();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "email":
+                            bean.setEmail(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "avatarUrl":
+                            bean.setAvatarUrl(readString(p, ctxt));
+                            continue;
+                        case "userName":
+                            bean.setUserName(readString(p, ctxt));
+                            continue;
+                        case "userAvatarUrl":
+                            bean.setUserAvatarUrl(readString(p, ctxt));
+                            continue;
+                        case "adminScopes":
+                            bean.setAdminScopes(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        case "allowedEmailDomains":
+                            bean.setAllowedEmailDomains(readStringList(p, ctxt, stringListDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, false);
+            }
+            return bean;
+        }
+    }
+
+    static final class VortexAnalyticsEventSerializer extends TypeCodec.Serializer<VortexAnalyticsEvent> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString NAME = new SerializedString("name");
+        private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+        private static final SerializedString ORGANIZATION_ID = new SerializedString("organizationId");
+        private static final SerializedString PROJECT_ID = new SerializedString("projectId");
+        private static final SerializedString ENVIRONMENT_ID = new SerializedString("environmentId");
+        private static final SerializedString DEPLOYMENT_ID = new SerializedString("deploymentId");
+        private static final SerializedString WIDGET_CONFIGURATION_ID = new SerializedString("widgetConfigurationId");
+        private static final SerializedString FOREIGN_USER_ID = new SerializedString("foreignUserId");
+        private static final SerializedString SESSION_ID = new SerializedString("sessionId");
+        private static final SerializedString PAYLOAD = new SerializedString("payload");
+        private static final SerializedString PLATFORM = new SerializedString("platform");
+        private static final SerializedString SEGMENTATION = new SerializedString("segmentation");
+        private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+        VortexAnalyticsEventSerializer(JsonSerializer<Object> fallback) {
+            super(VortexAnalyticsEvent.class, fallback);
+        }
+
+        @Override
+        void writeProperties(VortexAnalyticsEvent bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String nameValue = bean.getName();
+            gen.writeFieldName(NAME);
+            if (nameValue == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(nameValue);
+            }
+            String accountId = bean.getAccountId();
+            gen.writeFieldName(ACCOUNT_ID);
+            if (accountId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(accountId);
+            }
+            String organizationId = bean.getOrganizationId();
+            gen.writeFieldName(ORGANIZATION_ID);
+            if (organizationId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(organizationId);
+            }
+            String projectId = bean.getProjectId();
+            gen.writeFieldName(PROJECT_ID);
+            if (projectId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(projectId);
+            }
+            String environmentId = bean.getEnvironmentId();
+            gen.writeFieldName(ENVIRONMENT_ID);
+            if (environmentId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(environmentId);
+            }
+            String deploymentId = bean.getDeploymentId();
+            gen.writeFieldName(DEPLOYMENT_ID);
+            if (deploymentId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(deploymentId);
+            }
+            String widgetConfigurationId = bean.getWidgetConfigurationId();
+            gen.writeFieldName(WIDGET_CONFIGURATION_ID);
+            if (widgetConfigurationId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(widgetConfigurationId);
+            }
+            String foreignUserId = bean.getForeignUserId();
+            gen.writeFieldName(FOREIGN_USER_ID);
+            if (foreignUserId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(foreignUserId);
+            }
+            String sessionId = bean.getSessionId();
+            gen.writeFieldName(SESSION_ID);
+            if (sessionId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(sessionId);
+            }
+            Map<String, Object> payload = bean.getPayload();
+            gen.writeFieldName(PAYLOAD);
+            provider.defaultSerializeValue(payload, gen);
+            String platform = bean.getPlatform();
+            gen.writeFieldName(PLATFORM);
+            if (platform == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(platform);
+            }
+            String segmentation = bean.getSegmentation();
+            gen.writeFieldName(SEGMENTATION);
+            if (segmentation == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(segmentation);
+            }
+            String timestamp = bean.getTimestamp();
+            gen.writeFieldName(TIMESTAMP);
+            if (timestamp == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(timestamp);
+            }
+        }
+    }
+
+    static final class VortexAnalyticsEventDeserializer extends TypeCodec.Deserializer<VortexAnalyticsEvent> {
+
+        private JsonDeserializer<Object> stringObjectMapDeserializer;
+
+        VortexAnalyticsEventDeserializer(JsonDeserializer<Object> fallback) {
+            super(VortexAnalyticsEvent.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringObjectMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        }
+
+        @Override
+        VortexAnalyticsEvent readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            VortexAnalyticsEvent bean = new VortexAnalyticsEvent();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "name":
+                            bean.setName(readString(p, ctxt));
+                            continue;
+                        case "accountId":
+                            bean.setAccountId(readString(p, ctxt));
+                            continue;
+                        case "organizationId":
+                            bean.setOrganizationId(readString(p, ctxt));
+                            continue;
+                        case "projectId":
+                            bean.setProjectId(readString(p, ctxt));
+                            continue;
+                        case "environmentId":
+                            bean.setEnvironmentId(readString(p, ctxt));
+                            continue;
+                        case "deploymentId":
+                            bean.setDeploymentId(readString(p, ctxt));
+                            continue;
+                        case "widgetConfigurationId":
+                            bean.setWidgetConfigurationId(readString(p, ctxt));
+                            continue;
+                        case "foreignUserId":
+                            bean.setForeignUserId(readString(p, ctxt));
+                            continue;
+                        case "sessionId":
+                            bean.setSessionId(readString(p, ctxt));
+                            continue;
+                        case "payload":
+                            bean.setPayload(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        case "platform":
+                            bean.setPlatform(readString(p, ctxt));
+                            continue;
+                        case "segmentation":
+                            bean.setSegmentation(readString(p, ctxt));
+                            continue;
+                        case "timestamp":
+                            bean.setTimestamp(readString(p, ctxt));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, true);
+            }
+            return bean;
+        }
+    }
+
+    static final class VortexWebhookEventSerializer extends TypeCodec.Serializer<VortexWebhookEvent> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString TYPE = new SerializedString("type");
+        private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+        private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+        private static final SerializedString ENVIRONMENT_ID = new SerializedString("environmentId");
+        private static final SerializedString SOURCE_TABLE = new SerializedString("sourceTable");
+        private static final SerializedString OPERATION = new SerializedString("operation");
+        private static final SerializedString DATA = new SerializedString("data");
+
+        VortexWebhookEventSerializer(JsonSerializer<Object> fallback) {
+            super(VortexWebhookEvent.class, fallback);
+        }
+
+        @Override
+        void writeProperties(VortexWebhookEvent bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String id = bean.getId();
+            gen.writeFieldName(ID);
+            if (id == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(id);
+            }
+            String type = bean.getType();
+            gen.writeFieldName(TYPE);
+            if (type == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(type);
+            }
+            String timestamp = bean.getTimestamp();
+            gen.writeFieldName(TIMESTAMP);
+            if (timestamp == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(timestamp);
+            }
+            String accountId = bean.getAccountId();
+            gen.writeFieldName(ACCOUNT_ID);
+            if (accountId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(accountId);
+            }
+            String environmentId = bean.getEnvironmentId();
+            gen.writeFieldName(ENVIRONMENT_ID);
+            if (environmentId == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(environmentId);
+            }
+            String sourceTable = bean.getSourceTable();
+            gen.writeFieldName(SOURCE_TABLE);
+            if (sourceTable == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(sourceTable);
+            }
+            String operation = bean.getOperation();
+            gen.writeFieldName(OPERATION);
+            if (operation == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                gen.writeString(operation);
+            }
+            Map<String, Object> data = bean.getData();
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(data, gen);
+        }
+    }
+
+    static final class VortexWebhookEventDeserializer extends TypeCodec.Deserializer<VortexWebhookEvent> {
+
+        private JsonDeserializer<Object> stringObjectMapDeserializer;
+
+        VortexWebhookEventDeserializer(JsonDeserializer<Object> fallback) {
+            super(VortexWebhookEvent.class, fallback);
+        }
+
+        @Override
+        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {
+            stringObjectMapDeserializer = find(ctxt, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        }
+
+        @Override
+        VortexWebhookEvent readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {
+            VortexWebhookEvent bean = new VortexWebhookEvent();
+            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                try {
+                    switch (name) {
+                        case "id":
+                            bean.setId(readString(p, ctxt));
+                            continue;
+                        case "type":
+                            bean.setType(readString(p, ctxt));
+                            continue;
+                        case "timestamp":
+                            bean.setTimestamp(readString(p, ctxt));
+                            continue;
+                        case "accountId":
+                            bean.setAccountId(readString(p, ctxt));
+                            continue;
+                        case "environmentId":
+                            bean.setEnvironmentId(readString(p, ctxt));
+                            continue;
+                        case "sourceTable":
+                            bean.setSourceTable(readString(p, ctxt));
+                            continue;
+                        case "operation":
+                            bean.setOperation(readString(p, ctxt));
+                            continue;
+                        case "data":
+                            bean.setData(readValue(p, ctxt, stringObjectMapDeserializer));
+                            continue;
+                        default:
+                            break;
+                    }
+                } catch (Exception e) {
+                    throw wrap(e, bean, name, ctxt);
+                }
+                unknownProperty(p, ctxt, bean, name, true);
+            }
+            return bean;
+        }
+    }
+
+    static CreateInvitationTargetType readCreateInvitationTargetType(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> fallback)
+            throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            switch (p.getText()) {
+                case "email":
+                    return CreateInvitationTargetType.EMAIL;
+                case "phone":
+                    return CreateInvitationTargetType.PHONE;
+                case "internal":
+                    return CreateInvitationTargetType.INTERNAL;
+                default:
+                    break;
+            }
+        }
+        return TypeCodec.Deserializer.readValue(p, ctxt, fallback);
+    }
+
+    static DeliveryType readDeliveryType(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> fallback)
+            throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            switch (p.getText()) {
+                case "email":
+                    return DeliveryType.EMAIL;
+                case "phone":
+                    return DeliveryType.PHONE;
+                case "share":
+                    return DeliveryType.SHARE;
+                case "internal":
+                    return DeliveryType.INTERNAL;
+                default:
+                    break;
+            }
+        }
+        return TypeCodec.Deserializer.readValue(p, ctxt, fallback);
+    }
+
+    static List<DeliveryType> readDeliveryTypeList(JsonParser p, DeserializationContext ctxt,
+            JsonDeserializer<Object> listFallback, JsonDeserializer<Object> fallback) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            return TypeCodec.Deserializer.readValue(p, ctxt, listFallback);
+        }
+        List<DeliveryType> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readDeliveryType(p, ctxt, fallback));
+        }
+        return values;
+    }
+
+    static InvitationStatus readInvitationStatus(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> fallback)
+            throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            switch (p.getText()) {
+                case "queued":
+                    return InvitationStatus.QUEUED;
+                case "sending":
+                    return InvitationStatus.SENDING;
+                case "sent":
+                    return InvitationStatus.SENT;
+                case "delivered":
+                    return InvitationStatus.DELIVERED;
+                case "accepted":
+                    return InvitationStatus.ACCEPTED;
+                case "shared":
+                    return InvitationStatus.SHARED;
+                case "unfurled":
+                    return InvitationStatus.UNFURLED;
+                case "accepted_elsewhere":
+                    return InvitationStatus.ACCEPTED_ELSEWHERE;
+                default:
+                    break;
+            }
+        }
+        return TypeCodec.Deserializer.readValue(p, ctxt, fallback);
+    }
+
+    static InvitationTargetType readInvitationTargetType(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> fallback)
+            throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            switch (p.getText()) {
+                case "email":
+                    return InvitationTargetType.EMAIL;
+                case "phone":
+                    return InvitationTargetType.PHONE;
+                case "share":
+                    return InvitationTargetType.SHARE;
+                case "internal":
+                    return InvitationTargetType.INTERNAL;
+                default:
+                    break;
+            }
+        }
+        return TypeCodec.Deserializer.readValue(p, ctxt, fallback);
+    }
+
+    static InvitationType readInvitationType(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> fallback)
+            throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            switch (p.getText()) {
+                case "single_use":
+                    return InvitationType.SINGLE_USE;
+                case "multi_use":
+                    return InvitationType.MULTI_USE;
+                case "autojoin":
+                    return InvitationType.AUTOJOIN;
+                default:
+                    break;
+            }
+        }
+        return TypeCodec.Deserializer.readValue(p, ctxt, fallback);
+    }
+}
@@ -0,0 +1,146 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * Jackson module that reads and writes the types in this package with
+ * pre-generated code instead of reflection.
+ *
+ * <p>The codecs in {@code VortexTypeCodecs} are generated from the Jackson
+ * annotations on these types, so they bind exactly the properties the
+ * reflective path binds, in the same order and with the same null handling,
+ * but call the getters and setters directly. That skips bean introspection
+ * when a mapper first sees a type and the reflective property dispatch on
+ * every value, which matters most for large invitation listings.</p>
+ *
+ * <p>The SDK registers this module on the mappers it creates. It can also be
+ * registered on an application's mapper; a codec only replaces Jackson's own
+ * bean codec when that mapper sees the same properties the codec was
+ * generated from. When a mapper is configured differently (a naming
+ * strategy, sorted properties, another inclusion rule, a mix-in, or its own
+ * serializer for the type), that type keeps Jackson's reflective codec.</p>
+ *
+ * <pre>{@code
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new VortexTypesModule());
+ * }</pre>
+ */
+public final class VortexTypesModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public VortexTypesModule() {
+        super(VortexTypesModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                TypeCodec codec = VortexTypeCodecs.forType(beanDesc.getBeanClass());
+                if (codec == null
+                        || !(serializer instanceof BeanSerializerBase)
+                        || config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()) != null
+                        || config.getDefaultTyper(config.constructType(codec.type)) != null
+                        || !codec.serializationSignature.equals(serializationSignature(config, beanDesc))) {
+                    return serializer;
+                }
+                return codec.serializer.apply((JsonSerializer<Object>) serializer);
+            }
+        });
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                TypeCodec codec = VortexTypeCodecs.forType(beanDesc.getBeanClass());
+                if (codec == null
+                        || !(deserializer instanceof BeanDeserializerBase)
+                        || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                        || config.isEnabled(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+                        || config.getDefaultTyper(config.constructType(codec.type)) != null
+                        || !codec.deserializationSignature.equals(deserializationSignature(config, beanDesc))) {
+                    return deserializer;
+                }
+                return codec.deserializer.apply((JsonDeserializer<Object>) deserializer);
+            }
+        });
+    }
+
+    /**
+     * The properties a mapper writes for a type, in order, with the getter
+     * and inclusion rule of each
+     */
+    static String serializationSignature(SerializationConfig config, BeanDescription beanDesc) {
+        Class<?> type = beanDesc.getBeanClass();
+        JsonInclude.Value classInclusion = JsonInclude.Value.merge(
+                beanDesc.findPropertyInclusion(JsonInclude.Value.empty()),
+                config.getDefaultPropertyInclusion(type, JsonInclude.Value.empty()));
+        StringJoiner signature = new StringJoiner(",");
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            if (property.getAccessor() == null) {
+                continue;
+            }
+            signature.add(property.getName() + "=" + property.getAccessor().getName() + ":"
+                    + inclusion(config, type, property, classInclusion));
+        }
+        return signature.toString();
+    }
+
+    /**
+     * The properties a mapper reads for a type, with the setter of each, and
+     * how it treats properties the type does not declare
+     */
+    static String deserializationSignature(DeserializationConfig config, BeanDescription beanDesc) {
+        Class<?> type = beanDesc.getBeanClass();
+        StringJoiner signature = new StringJoiner(",");
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            if (property.getMutator() == null) {
+                continue;
+            }
+            List<PropertyName> aliases = aliases(config, property);
+            signature.add(property.getName() + "=" + property.getMutator().getName()
+                    + (aliases.isEmpty() ? "" : aliases.toString()));
+        }
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(type, beanDesc.getClassInfo());
+        return signature + ";ignoreUnknown=" + ignorals.getIgnoreUnknown()
+                + ";ignored=" + new TreeSet<>(ignorals.findIgnoredForDeserialization());
+    }
+
+    /** The alternative names a property is read from, as BeanDeserializerBase collects them */
+    static List<PropertyName> aliases(DeserializationConfig config, BeanPropertyDefinition property) {
+        List<PropertyName> aliases = config.getAnnotationIntrospector().findPropertyAliases(property.getMutator());
+        return aliases != null ? aliases : Collections.emptyList();
+    }
+
+    /** The effective inclusion of one property, as Jackson's PropertyBuilder computes it */
+    static JsonInclude.Include inclusion(SerializationConfig config, Class<?> type, BeanPropertyDefinition property,
+                                         JsonInclude.Value classInclusion) {
+        JsonInclude.Value inclusion = config.getDefaultInclusion(type, property.getRawPrimaryType(), classInclusion)
+                .withOverrides(property.findInclusion());
+        JsonInclude.Include value = inclusion.getValueInclusion();
+        return value == JsonInclude.Include.USE_DEFAULTS ? JsonInclude.Include.ALWAYS : value;
+    }
+}
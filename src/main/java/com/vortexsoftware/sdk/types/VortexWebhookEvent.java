@@ -1,5 +1,6 @@
 package com.vortexsoftware.sdk.types;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Map;
@@ -38,9 +39,13 @@ public class VortexWebhookEvent {
     @JsonProperty("operation")
     private String operation;
 
-    /** Event payload containing the relevant entity data */
+    /** Event payload containing the relevant entity data; volatile because lazy mode decodes it on first access, possibly on a handler thread */
     @JsonProperty("data")
-    private Map<String, Object> data;
+    private volatile Map<String, Object> data;
+
+    /** Undecoded data when parsed in lazy mode; data is bound from it on first access */
+    @JsonIgnore
+    private LazyJsonPayload rawData;
 
     public VortexWebhookEvent() {}
 
@@ -65,9 +70,30 @@ public class VortexWebhookEvent {
     public String getOperation() { return operation; }
     public void setOperation(String operation) { this.operation = operation; }
 
-    public Map<String, Object> getData() { return data; }
+    public Map<String, Object> getData() {
+        Map<String, Object> decoded = data;
+        if (decoded == null && rawData != null) {
+            try {
+                decoded = rawData.asMap();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to decode data", e);
+            }
+            data = decoded;
+        }
+        return decoded;
+    }
     public void setData(Map<String, Object> data) { this.data = data; }
 
+    /**
+     * Raw data as received, or null unless the event was parsed in lazy mode.
+     * Use it to bind the data to a typed class or read a single field without
+     * decoding the rest.
+     */
+    @JsonIgnore
+    public LazyJsonPayload getRawData() { return rawData; }
+    @JsonIgnore
+    public void setRawData(LazyJsonPayload rawData) { this.rawData = rawData; }
+
     @Override
     public String toString() {
         return "VortexWebhookEvent{" +
@@ -0,0 +1,155 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.GenerateTokenPayload;
+import com.vortexsoftware.sdk.types.TokenUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the bytes allocated per call on the token minting and webhook hot
+ * paths against the budgets in allocation-budgets.properties.
+ *
+ * Each operation is warmed up so the JIT has compiled it, then measured over
+ * several rounds on the test thread with
+ * com.sun.management.ThreadMXBean#getThreadAllocatedBytes; the lowest round
+ * is compared with the budget so a stray GC or deoptimization does not fail
+ * the build. When a change legitimately allocates more, update the budget in
+ * the same change and say why.
+ */
+public class AllocationBudgetTest {
+
+    private static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.test-signing-key";
+    private static final String WEBHOOK_SECRET = "whsec_test_secret_123";
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int ROUNDS = 5;
+    private static final int CALLS_PER_ROUND = 2_000;
+
+    private static volatile Object sink;
+
+    private com.sun.management.ThreadMXBean threads;
+    private Properties budgets;
+    private VortexClient client;
+    private byte[] webhookPayload;
+    private String webhookSignature;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "Per-thread allocation counters are not available on this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try (InputStream in = resource("allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+
+        client = new VortexClient(TEST_API_KEY, "http://localhost:1");
+        try (InputStream in = resource("fixtures/webhook-event.json")) {
+            webhookPayload = in.readAllBytes();
+        }
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(WEBHOOK_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        webhookSignature = HexFormat.of().formatHex(mac.doFinal(webhookPayload));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void testSign() throws Exception {
+        Map<String, Object> user = new HashMap<>();
+        user.put("id", "user-123");
+        user.put("email", "user@example.com");
+        user.put("name", "Jane Doe");
+
+        assertWithinBudget("sign", () -> client.sign(user));
+    }
+
+    @Test
+    void testGenerateToken() throws Exception {
+        GenerateTokenPayload payload = new GenerateTokenPayload(
+                new TokenUser("user-123", "Jane Doe", "user@example.com"));
+
+        assertWithinBudget("generateToken", () -> client.generateToken(payload));
+    }
+
+    @Test
+    void testVerifySignature() throws Exception {
+        VortexWebhooks webhooks = new VortexWebhooks(WEBHOOK_SECRET);
+
+        assertWithinBudget("verifySignature", () -> webhooks.verifySignature(webhookPayload, webhookSignature));
+    }
+
+    @Test
+    void testConstructEvent() throws Exception {
+        VortexWebhooks webhooks = new VortexWebhooks(WEBHOOK_SECRET);
+
+        assertWithinBudget("constructEvent", () -> webhooks.constructEvent(webhookPayload, webhookSignature));
+    }
+
+    @Test
+    void testConstructEventLazily() throws Exception {
+        VortexWebhooks webhooks = new VortexWebhooks(WEBHOOK_SECRET, true);
+
+        assertWithinBudget("constructEvent.lazy", () -> webhooks.constructEvent(webhookPayload, webhookSignature));
+    }
+
+    private void assertWithinBudget(String operation, Callable<?> call) throws Exception {
+        String budget = budgets.getProperty(operation);
+        assertNotNull(budget, "No allocation budget for " + operation);
+
+        long allocated = allocatedBytesPerCall(call);
+        assertTrue(allocated <= Long.parseLong(budget.trim()),
+                operation + " allocated " + allocated + " bytes per call, over its budget of " + budget);
+    }
+
+    private long allocatedBytesPerCall(Callable<?> call) throws Exception {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink = call.call();
+        }
+        long thread = Thread.currentThread().getId();
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                sink = call.call();
+            }
+            long after = threads.getThreadAllocatedBytes(thread);
+            lowest = Math.min(lowest, (after - before) / CALLS_PER_ROUND);
+        }
+        return lowest;
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = AllocationBudgetTest.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException("Missing test resource " + name);
+        }
+        return in;
+    }
+}
@@ -0,0 +1,133 @@
+package com.vortexsoftware.sdk;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates InvitationResponse bodies of any size for heap measurements, and
+ * measures the string heap of what they decode to.
+ *
+ * <p>Unlike the checked-in fixtures, repeated to reach a size, every
+ * invitation has its own id, target, message, referral code and timestamps.
+ * Values shared across a listing come from realistic pools: one account,
+ * a few widget configurations and deployments, 200 teams, 500 creators and
+ * a handful of statuses, locales, plans and campaigns.</p>
+ */
+final class InvitationListingFixture {
+
+    private static final String[] STATUSES = {"queued", "sent", "delivered", "accepted", "unfurled"};
+    private static final String[] ROLES = {"member", "admin", "viewer"};
+    private static final String[] LOCALES = {"en-US", "en-GB", "de-DE", "fr-FR", "ja-JP"};
+    private static final String[] PLANS = {"free", "team", "business"};
+    private static final String[] SOURCES = {"dashboard", "api", "import"};
+
+    private InvitationListingFixture() {
+    }
+
+    /**
+     * @param count Number of invitations
+     * @param seed  Seed of the random parts, so equal arguments give equal bodies
+     */
+    static byte[] generate(int count, long seed) {
+        Random random = new Random(seed);
+        Instant start = Instant.parse("2026-01-05T08:00:00Z");
+        StringBuilder json = new StringBuilder(count * 1400).append("{\"invitations\":[");
+        for (int i = 0; i < count; i++) {
+            int team = random.nextInt(200);
+            int creator = random.nextInt(500);
+            Instant created = start.plusMillis(i * 61_000L + random.nextInt(60_000));
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"inv_").append(i).append('_').append(Long.toHexString(random.nextLong()))
+                    .append("\",\"accountId\":\"acc_7f3c2a91e0b84d55\"")
+                    .append(",\"clickThroughs\":").append(random.nextInt(20))
+                    .append(",\"formSubmissionData\":{\"role\":\"").append(pick(ROLES, random))
+                    .append("\",\"referralCode\":\"ref-").append(Integer.toString(random.nextInt(Integer.MAX_VALUE), 36))
+                    .append("\",\"message\":\"Hi Invitee ").append(i).append(", Creator ").append(creator)
+                    .append(" invited you to join Team ").append(team).append(" (").append(random.nextInt(1_000_000))
+                    .append(")\"},\"configurationAttributes\":{\"brandColor\":\"#4f46e5\",\"allowShare\":true}")
+                    .append(",\"attributes\":{\"source\":\"").append(pick(SOURCES, random))
+                    .append("\",\"campaign\":\"q").append(1 + random.nextInt(4)).append("-onboarding\"}")
+                    .append(",\"createdAt\":\"").append(created)
+                    .append("\",\"deactivated\":false,\"deliveryCount\":").append(1 + random.nextInt(3))
+                    .append(",\"deliveryTypes\":[\"email\"],\"foreignCreatorId\":\"user_").append(creator)
+                    .append("\",\"invitationType\":\"single_use\",\"modifiedAt\":\"").append(created.plusSeconds(random.nextInt(86_400)))
+                    .append("\",\"status\":\"").append(pick(STATUSES, random))
+                    .append("\",\"target\":[{\"type\":\"email\",\"value\":\"invitee").append(i)
+                    .append("@example.com\",\"name\":\"Invitee ").append(i).append("\",\"avatarUrl\":null}]")
+                    .append(",\"views\":").append(random.nextInt(30))
+                    .append(",\"widgetConfigurationId\":\"wc_").append(random.nextInt(3))
+                    .append("\",\"deploymentId\":\"dep_").append(random.nextInt(2))
+                    .append("\",\"groups\":[{\"id\":\"grp_").append(team)
+                    .append("\",\"accountId\":\"acc_7f3c2a91e0b84d55\",\"groupId\":\"team-").append(team)
+                    .append("\",\"type\":\"team\",\"name\":\"Team ").append(team)
+                    .append("\",\"createdAt\":\"").append(start.minusSeconds(86_400L * (team + 1)))
+                    .append("\"}],\"accepts\":[],\"scope\":\"team-").append(team)
+                    .append("\",\"scopeType\":\"team\",\"expired\":false,\"expires\":\"").append(created.plusSeconds(30L * 86_400))
+                    .append("\",\"metadata\":{\"locale\":\"").append(pick(LOCALES, random))
+                    .append("\",\"plan\":\"").append(pick(PLANS, random))
+                    .append("\"},\"passThrough\":null,\"source\":\"widget\",\"subtype\":null")
+                    .append(",\"creatorName\":\"Creator ").append(creator)
+                    .append("\",\"creatorAvatarUrl\":\"https://cdn.example.com/avatars/").append(creator).append(".png\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Shallow size of every distinct String instance reachable from the
+     * listing, assuming compressed oops and compact strings: a 24 byte String
+     * plus its byte[] (16 byte header, padded to 8 bytes)
+     */
+    static long retainedStringBytes(Object listing) throws IllegalAccessException {
+        Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(listing, strings, Collections.newSetFromMap(new IdentityHashMap<>()));
+        long bytes = 0;
+        for (String string : strings) {
+            int length = string.chars().allMatch(c -> c < 256) ? string.length() : 2 * string.length();
+            bytes += 24 + ((16 + length + 7) & ~7);
+        }
+        return bytes;
+    }
+
+    private static void collect(Object value, Set<String> strings, Set<Object> seen) throws IllegalAccessException {
+        if (value == null || value instanceof Enum || value instanceof Number || value instanceof Boolean) {
+            return;
+        }
+        if (value instanceof String) {
+            strings.add((String) value);
+        } else if (!seen.add(value)) {
+            return;
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                collect(entry.getKey(), strings, seen);
+                collect(entry.getValue(), strings, seen);
+            }
+        } else if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                collect(element, strings, seen);
+            }
+        } else {
+            for (Class<?> type = value.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        collect(field.get(value), strings, seen);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,74 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keeps the shipped native-image metadata in step with the code: every class
+ * in the types package must be registered for reflection, since Jackson binds
+ * them reflectively. The generated codecs and their module are excluded:
+ * they are plain code that calls the types directly.
+ */
+public class NativeImageConfigTest {
+
+    private static final String CONFIG_DIR = "META-INF/native-image/com.vortexsoftware/vortex-java-sdk/";
+
+    private static final Set<String> CODEC_CLASSES = Set.of("TypeCodec", "VortexTypeCodecs", "VortexTypesModule");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testReflectConfigCoversTypesPackage() throws Exception {
+        Path types = Path.of(InvitationResult.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .resolve("com/vortexsoftware/sdk/types");
+        Set<String> classes;
+        try (Stream<Path> files = Files.list(types)) {
+            classes = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".class") && !name.equals("package-info.class"))
+                    .filter(name -> !CODEC_CLASSES.contains(name.split("[$.]")[0]))
+                    .map(name -> "com.vortexsoftware.sdk.types." + name.substring(0, name.length() - ".class".length()))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+        assertFalse(classes.isEmpty());
+
+        Set<String> registered = new TreeSet<>();
+        for (JsonNode entry : read("reflect-config.json")) {
+            registered.add(entry.get("name").asText());
+            assertTrue(entry.path("allDeclaredConstructors").asBoolean()
+                            && entry.path("allDeclaredMethods").asBoolean()
+                            && entry.path("allDeclaredFields").asBoolean(),
+                    entry.get("name").asText() + " must expose its constructors, methods and fields");
+        }
+
+        assertEquals(classes, registered, "reflect-config.json is out of date with the types package");
+    }
+
+    @Test
+    void testResourceConfigIncludesSdkVersion() throws Exception {
+        JsonNode includes = read("resource-config.json").path("resources").path("includes");
+        boolean found = false;
+        for (JsonNode include : includes) {
+            found |= "vortex-sdk.properties".matches(include.get("pattern").asText());
+        }
+        assertTrue(found, "vortex-sdk.properties must be bundled into native images");
+    }
+
+    private JsonNode read(String name) throws Exception {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(CONFIG_DIR + name)) {
+            assertNotNull(in, "Missing " + CONFIG_DIR + name);
+            return objectMapper.readTree(in);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.vortexsoftware.sdk;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vortexsoftware.sdk.types.GenerateTokenPayload;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import com.vortexsoftware.sdk.types.TokenUser;
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end checks of the paths that depend on reflection and resources:
+ * token minting, webhook parsing, API response decoding and the SDK version.
+ *
+ * Runs with the regular suite on the JVM, and is the suite the native
+ * profile compiles into a native image and runs (mvn -Pnative test), so it
+ * only uses the JDK: the API is a local com.sun.net.httpserver stub.
+ */
+public class NativeImageSmokeTest {
+
+    private static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.test-signing-key";
+    private static final String WEBHOOK_SECRET = "whsec_test_secret_123";
+
+    private HttpServer server;
+    private VortexClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Map<String, byte[]> responses = Map.of(
+                "/api/v1/invitations/inv_000000_1c80a3b1799d", fixture("invitation-result.json"),
+                "/api/v1/invitations/by-scope/team/team-1", fixture("invitation-response-small.json"));
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = responses.get(exchange.getRequestURI().getPath());
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(body != null ? 200 : 404, body != null ? body.length : -1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (body != null) {
+                    out.write(body);
+                }
+            }
+        });
+        server.start();
+        client = new VortexClient(TEST_API_KEY,
+                "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testSdkVersionIsBundled() {
+        assertNotEquals("unknown", VortexClient.SdkVersion.VALUE);
+    }
+
+    @Test
+    void testMintsTokens() throws VortexException {
+        String token = client.generateToken(new GenerateTokenPayload(
+                new TokenUser("user-123", "Jane Doe", "user@example.com")));
+        assertEquals(3, token.split("\\.").length);
+
+        Map<String, Object> user = new HashMap<>();
+        user.put("id", "user-123");
+        user.put("email", "user@example.com");
+        assertNotNull(client.sign(user));
+    }
+
+    @Test
+    void testDecodesApiResponses() throws VortexException {
+        InvitationResult invitation = client.getInvitation("inv_000000_1c80a3b1799d");
+        assertEquals("inv_000000_1c80a3b1799d", invitation.getId());
+        assertNotNull(invitation.getStatus());
+
+        List<InvitationResult> invitations = client.getInvitationsByScope("team", "team-1");
+        assertEquals(1, invitations.size());
+
+        assertThrows(VortexException.class, () -> client.getInvitation("missing"));
+    }
+
+    @Test
+    void testParsesWebhookEvents() throws Exception {
+        byte[] payload = fixture("webhook-event.json");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(WEBHOOK_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String signature = HexFormat.of().formatHex(mac.doFinal(payload));
+
+        VortexWebhookEvent eager = (VortexWebhookEvent) new VortexWebhooks(WEBHOOK_SECRET)
+                .constructEvent(payload, signature);
+        assertEquals("invitation.accepted", eager.getType());
+        assertNotNull(eager.getData().get("id"));
+
+        VortexWebhookEvent lazy = (VortexWebhookEvent) new VortexWebhooks(WEBHOOK_SECRET, true)
+                .constructEvent(payload, signature);
+        assertEquals(eager.getData().get("id"), lazy.getRawData().as(InvitationResult.class).getId());
+        assertEquals(eager.getData(), lazy.getRawData().asMap());
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = NativeImageSmokeTest.class.getClassLoader().getResourceAsStream("fixtures/" + name)) {
+            assertNotNull(in, "Missing fixture " + name);
+            return in.readAllBytes();
+        }
+    }
+}
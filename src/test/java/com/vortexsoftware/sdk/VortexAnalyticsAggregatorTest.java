@@ -0,0 +1,134 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.VortexAnalyticsAggregator.Window;
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VortexAnalyticsAggregatorTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+    private static VortexAnalyticsEvent event(String widget, String name) {
+        VortexAnalyticsEvent event = new VortexAnalyticsEvent();
+        event.setWidgetConfigurationId(widget);
+        event.setName(name);
+        return event;
+    }
+
+    @Test
+    void countsPerWidgetAndName() {
+        VortexAnalyticsAggregator aggregator = new VortexAnalyticsAggregator(100, clock::get);
+
+        aggregator.handle(event("w1", "widget_loaded"));
+        aggregator.handle(event("w1", "widget_loaded"));
+        aggregator.handle(event("w1", "invite_sent"));
+        aggregator.handle(event("w2", "widget_loaded"));
+        aggregator.handle("not an analytics event");
+
+        assertEquals(2, aggregator.count("w1", "widget_loaded", Window.ONE_MINUTE));
+        assertEquals(1, aggregator.count("w1", "invite_sent", Window.ONE_HOUR));
+        assertEquals(1, aggregator.count("w2", "widget_loaded", Window.FIVE_MINUTES));
+        assertEquals(0, aggregator.count("w3", "widget_loaded", Window.ONE_MINUTE));
+        assertEquals(2L, (long) aggregator.snapshot(Window.ONE_MINUTE).get("w1").get("widget_loaded"));
+    }
+
+    @Test
+    void windowsSlideAndBucketsRotate() {
+        VortexAnalyticsAggregator aggregator = new VortexAnalyticsAggregator(100, clock::get);
+
+        aggregator.record("w1", "widget_loaded");
+        clock.addAndGet(90_000);
+        aggregator.record("w1", "widget_loaded");
+
+        assertEquals(1, aggregator.count("w1", "widget_loaded", Window.ONE_MINUTE));
+        assertEquals(2, aggregator.count("w1", "widget_loaded", Window.FIVE_MINUTES));
+
+        clock.addAndGet(10 * 60_000);
+        assertEquals(0, aggregator.count("w1", "widget_loaded", Window.FIVE_MINUTES));
+        assertEquals(2, aggregator.count("w1", "widget_loaded", Window.ONE_HOUR));
+
+        // Exactly one ring revolution later the same slots are reused, not added to
+        clock.addAndGet(60 * 60_000);
+        aggregator.record("w1", "widget_loaded");
+        assertEquals(1, aggregator.count("w1", "widget_loaded", Window.ONE_HOUR));
+        assertEquals(1, aggregator.count("w1", "widget_loaded", Window.ONE_MINUTE));
+    }
+
+    @Test
+    void windowsReachBackOneBucketLessThanTheirLength() {
+        VortexAnalyticsAggregator aggregator = new VortexAnalyticsAggregator(100, clock::get);
+        clock.set(1_700_000_040_000L); // start of a minute
+
+        aggregator.record("w1", "at_minute_start");
+        clock.addAndGet(59_000);
+        aggregator.record("w1", "at_minute_end");
+
+        // 4:59 after the first event, 4:01 after the second: both in the same minute bucket
+        clock.addAndGet(4 * 60_000);
+        assertEquals(1, aggregator.count("w1", "at_minute_start", Window.FIVE_MINUTES));
+        assertEquals(1, aggregator.count("w1", "at_minute_end", Window.FIVE_MINUTES));
+
+        // One second later their bucket leaves the window, 5:00 and 4:01 after them
+        clock.addAndGet(1_000);
+        assertEquals(0, aggregator.count("w1", "at_minute_start", Window.FIVE_MINUTES));
+        assertEquals(0, aggregator.count("w1", "at_minute_end", Window.FIVE_MINUTES));
+
+        clock.addAndGet(54 * 60_000);
+        assertEquals(1, aggregator.count("w1", "at_minute_end", Window.ONE_HOUR));
+        clock.addAndGet(60_000);
+        assertEquals(0, aggregator.count("w1", "at_minute_end", Window.ONE_HOUR));
+    }
+
+    @Test
+    void boundsTrackedKeys() {
+        VortexAnalyticsAggregator aggregator = new VortexAnalyticsAggregator(2, clock::get);
+
+        assertTrue(aggregator.record("w1", "a"));
+        assertTrue(aggregator.record("w1", "b"));
+        assertFalse(aggregator.record("w1", "c"));
+        assertFalse(aggregator.record("w1", "d"));
+        assertEquals(2, aggregator.getDroppedEventCount());
+
+        // Idle keys are evicted to make room once they fall out of the longest window
+        clock.addAndGet(61 * 60_000);
+        assertTrue(aggregator.record("w1", "c"));
+        assertEquals(1, aggregator.getKeyCount());
+    }
+
+    @Test
+    void scansForIdleKeysAtMostOncePerSecond() {
+        VortexAnalyticsAggregator aggregator = new VortexAnalyticsAggregator(1, clock::get);
+        assertTrue(aggregator.record("w1", "a"));
+
+        // Overflows within one second share a scan; the key is evicted by the scan of the second it turns idle
+        clock.addAndGet(60 * 60_000 - 1_000);
+        assertFalse(aggregator.record("w1", "b"));
+        clock.addAndGet(999);
+        assertFalse(aggregator.record("w1", "b"));
+        clock.addAndGet(1);
+        assertTrue(aggregator.record("w1", "b"));
+        assertEquals(2, aggregator.getDroppedEventCount());
+    }
+
+    @Test
+    void concurrentRecordingIsExact() throws Exception {
+        VortexAnalyticsAggregator aggregator = new VortexAnalyticsAggregator(100, clock::get);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    aggregator.record("w1", "widget_loaded");
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(80_000, aggregator.count("w1", "widget_loaded", Window.ONE_MINUTE));
+    }
+}
@@ -0,0 +1,117 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VortexAnalyticsBatcherTest {
+
+    private static VortexAnalyticsEvent event(String id) {
+        VortexAnalyticsEvent event = new VortexAnalyticsEvent();
+        event.setId(id);
+        event.setName("widget_loaded");
+        return event;
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() throws Exception {
+        List<List<VortexAnalyticsEvent>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch flushed = new CountDownLatch(2);
+        VortexAnalyticsBatcher batcher = new VortexAnalyticsBatcher(batch -> {
+            batches.add(batch);
+            flushed.countDown();
+        }, 3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(batcher.submit(event("evt_" + i)));
+        }
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        assertEquals(3, batches.get(0).size());
+        assertEquals("evt_0", batches.get(0).get(0).getId());
+        assertEquals(3, batches.get(1).size());
+        assertTrue(batcher.close(Duration.ofSeconds(5)));
+        assertEquals(6, batcher.getFlushedEventCount());
+    }
+
+    @Test
+    void flushesPartialBatchAfterMaxDelay() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+        VortexAnalyticsBatcher batcher = new VortexAnalyticsBatcher(batch -> {
+            assertEquals(1, batch.size());
+            flushed.countDown();
+        }, 100, Duration.ofMillis(50));
+
+        batcher.submit(event("evt_1"));
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        batcher.close();
+        assertEquals(1, batcher.getFlushCount());
+        assertTrue(batcher.getMaxFlushLatencyNanos() >= batcher.getLastFlushLatencyNanos());
+    }
+
+    @Test
+    void closeDrainsQueuedEvents() {
+        List<VortexAnalyticsEvent> written = new CopyOnWriteArrayList<>();
+        VortexAnalyticsBatcher batcher = new VortexAnalyticsBatcher(written::addAll, 10, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 25; i++) {
+            batcher.submit(event("evt_" + i));
+        }
+
+        assertTrue(batcher.close(Duration.ofSeconds(5)));
+        assertEquals(25, written.size());
+        assertEquals(0, batcher.getQueueDepth());
+        assertFalse(batcher.submit(event("late")));
+        assertEquals(1, batcher.getDroppedEventCount());
+    }
+
+    @Test
+    void eventsAcceptedWhileClosingAreWritten() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            List<VortexAnalyticsEvent> written = new CopyOnWriteArrayList<>();
+            VortexAnalyticsBatcher batcher = new VortexAnalyticsBatcher(written::addAll, 10, Duration.ofMillis(1));
+            AtomicInteger accepted = new AtomicInteger();
+            Thread[] submitters = new Thread[4];
+            for (int t = 0; t < submitters.length; t++) {
+                submitters[t] = new Thread(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        if (batcher.submit(event("evt_" + i))) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+                submitters[t].start();
+            }
+
+            assertTrue(batcher.close(Duration.ofSeconds(5)));
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+            assertEquals(accepted.get(), written.size());
+            assertEquals(2000, accepted.get() + batcher.getDroppedEventCount());
+            assertEquals(0, batcher.getQueueDepth());
+        }
+    }
+
+    @Test
+    void sinkFailureIsCounted() {
+        VortexAnalyticsBatcher batcher = new VortexAnalyticsBatcher(batch -> {
+            throw new IllegalStateException("warehouse down");
+        }, 1, Duration.ofMillis(10));
+
+        batcher.submit(event("evt_1"));
+
+        assertTrue(batcher.close(Duration.ofSeconds(5)));
+        assertEquals(1, batcher.getFailedFlushCount());
+        assertEquals(0, batcher.getFlushedEventCount());
+    }
+}
@@ -0,0 +1,163 @@
+package com.vortexsoftware.sdk;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the non-blocking VortexAsyncClient
+ */
+public class VortexAsyncClientTest {
+
+    private static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.test-signing-key";
+    private static final String INVITATION_JSON = "{\"id\": \"%s\", \"status\": \"delivered\", \"accountId\": \"acc-123\", \"projectId\": \"proj-123\", \"clickThroughs\": 0, \"deliveryCount\": 1, \"views\": 0, \"deactivated\": false, \"deliveryTypes\": [\"email\"], \"foreignCreatorId\": \"creator-123\", \"invitationType\": \"single_use\", \"createdAt\": \"2023-01-01T00:00:00Z\", \"target\": [], \"groups\": [], \"accepts\": []}";
+
+    private WireMockServer wireMockServer;
+    private VortexAsyncClient client;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(8090);
+        wireMockServer.start();
+        WireMock.configureFor("localhost", 8090);
+
+        client = new VortexAsyncClient(TEST_API_KEY, "http://localhost:8090");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        if (wireMockServer != null) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void testGetInvitation() throws Exception {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/inv-123"))
+                .withHeader("x-api-key", equalTo(TEST_API_KEY))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format(INVITATION_JSON, "inv-123"))));
+
+        InvitationResult result = client.getInvitation("inv-123").get(5, TimeUnit.SECONDS);
+
+        assertEquals("inv-123", result.getId());
+    }
+
+    @Test
+    void testErrorResponseFailsWithVortexException() {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/missing"))
+                .willReturn(aResponse().withStatus(404).withBody("not found")));
+
+        CompletionException e = assertThrows(CompletionException.class, () -> client.getInvitation("missing").join());
+
+        assertInstanceOf(VortexException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("404"));
+    }
+
+    @Test
+    void testStreamInvitationsByScope() throws Exception {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/by-scope/team/team-1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withChunkedDribbleDelay(20, 200)
+                        .withBody(listing(500))));
+
+        List<String> ids = new ArrayList<>();
+        client.streamInvitationsByScope("team", "team-1", invitation -> ids.add(invitation.getId()))
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(500, ids.size());
+        assertEquals("inv-0", ids.get(0));
+        assertEquals("inv-499", ids.get(499));
+        assertEquals(client.getInvitationsByScope("team", "team-1").get(10, TimeUnit.SECONDS).size(), ids.size());
+    }
+
+    @Test
+    void testPublishInvitationsByScopeFollowsDemand() throws Exception {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/by-scope/team/team-3"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(listing(500))));
+
+        BlockingQueue<String> ids = new LinkedBlockingQueue<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        client.publishInvitationsByScope("team", "team-3").subscribe(new Flow.Subscriber<InvitationResult>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+                s.request(2);
+            }
+
+            @Override
+            public void onNext(InvitationResult invitation) {
+                ids.add(invitation.getId());
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                done.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+
+        assertEquals("inv-0", ids.poll(5, TimeUnit.SECONDS));
+        assertEquals("inv-1", ids.poll(5, TimeUnit.SECONDS));
+        assertNull(ids.poll(200, TimeUnit.MILLISECONDS));
+        assertFalse(done.isDone());
+
+        subscription.get().request(Long.MAX_VALUE);
+        done.get(10, TimeUnit.SECONDS);
+        assertEquals(498, ids.size());
+    }
+
+    @Test
+    void testStreamErrorResponse() {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/by-scope/team/team-2"))
+                .willReturn(aResponse().withStatus(500).withBody("boom")));
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> client.streamInvitationsByScope("team", "team-2", invitation -> fail("no invitations expected")).join());
+
+        assertInstanceOf(VortexException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("boom"));
+    }
+
+    private static String listing(int count) {
+        StringBuilder body = new StringBuilder("{\"invitations\": [");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(String.format(INVITATION_JSON, "inv-" + i));
+        }
+        return body.append("]}").toString();
+    }
+}
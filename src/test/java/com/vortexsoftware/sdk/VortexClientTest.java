@@ -7,10 +7,16 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -167,6 +173,46 @@ public class VortexClientTest {
         assertEquals(InvitationStatus.DELIVERED, result.getStatus());
     }
 
+    @Test
+    void testWriteInvitationToCopiesBodyUnchanged() throws VortexException {
+        String body = "{\"id\": \"inv-123\", \"status\": \"delivered\", \"amount\": 1.50}";
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/inv-123"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        client.writeInvitationTo("inv-123", out, null);
+
+        assertEquals(body, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteInvitationsByScopeToDropsExcludedFields() throws VortexException {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/by-scope/team/team-1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"invitations\": [{\"id\": \"inv-1\", \"metadata\": {\"a\": [1, 2]}, \"groups\": [{\"id\": \"g-1\", \"metadata\": null}]}]}")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        client.writeInvitationsByScopeTo("team", "team-1", out, Set.of("metadata"));
+
+        assertEquals("{\"invitations\":[{\"id\":\"inv-1\",\"groups\":[{\"id\":\"g-1\"}]}]}",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteInvitationToWritesNothingOnError() {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/missing"))
+                .willReturn(aResponse().withStatus(404).withBody("not found")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(VortexException.class, () -> client.writeInvitationTo("missing", out, null));
+        assertEquals(0, out.size());
+    }
+
     @Test
     void testRevokeInvitation() throws VortexException {
         String invitationId = "inv-123";
@@ -242,6 +288,30 @@ public class VortexClientTest {
         assertEquals("inv-123", results.get(0).getId());
     }
 
+    @Test
+    void testGetInvitationsByScopeDeduplicatesStrings() throws Exception {
+        byte[] body;
+        try (java.io.InputStream in = getClass().getResourceAsStream("/fixtures/invitation-response-large.json")) {
+            body = in.readAllBytes();
+        }
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/by-scope/team/team-1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+
+        List<InvitationResult> decoded = client.getInvitationsByScope("team", "team-1");
+        assertNotSame(decoded.get(0).getAccountId(), decoded.get(1).getAccountId());
+
+        client.setDeduplicateStrings(true);
+        List<InvitationResult> deduplicated = client.getInvitationsByScope("team", "team-1");
+        assertEquals(decoded.size(), deduplicated.size());
+        assertSame(deduplicated.get(0).getAccountId(), deduplicated.get(1).getAccountId());
+        assertSame(deduplicated.get(0).getWidgetConfigurationId(), deduplicated.get(1).getWidgetConfigurationId());
+        assertEquals(VortexObjectMappers.create().writeValueAsString(decoded),
+                VortexObjectMappers.create().writeValueAsString(deduplicated));
+    }
+
     @Test
     void testDeleteInvitationsByGroup() throws VortexException {
         String scopeType = "team";
@@ -534,4 +604,239 @@ public class VortexClientTest {
         assertNotNull(token);
         assertEquals(3, token.split("\\.").length);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMetricsRecordRouteTemplatesAndTokenMints() throws VortexException {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/missing"))
+                .willReturn(aResponse().withStatus(404).withBody("not found")));
+        List<String> recorded = new ArrayList<>();
+        client.setMetricsRecorder(new VortexMetricsRecorder() {
+            @Override
+            public void recordApiRequest(String method, String route, int status, long nanos) {
+                recorded.add(method + " " + route + " " + status);
+            }
+
+            @Override
+            public void recordTokenMint(String operation, long nanos, boolean success) {
+                recorded.add(operation + " " + success);
+            }
+        });
+
+        assertThrows(VortexException.class, () -> client.getInvitation("missing"));
+        client.generateToken(new GenerateTokenPayload().setUser(new TokenUser("user-1")));
+        Map<String, Object> params = new HashMap<>();
+        params.put("user", createTestUser());
+        client.generateJwt(params);
+        assertThrows(VortexException.class, () -> client.generateJwt(new HashMap<>()));
+
+        assertEquals(List.of(
+                "GET /api/v1/invitations/{invitationId} 404",
+                "generateToken true",
+                "generateJwt true",
+                "generateJwt false"), recorded);
+        assertEquals(0, client.getLeasedConnections());
+        assertEquals(50, client.getMaxConnections());
+    }
+
+    @Test
+    void testRequestListenerReportsPhases() throws VortexException {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/inv-1"))
+                .willReturn(aResponse().withStatus(200).withBody("{\"id\":\"inv-1\",\"status\":\"delivered\"}")));
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/missing"))
+                .willReturn(aResponse().withStatus(404).withBody("not found")));
+        List<String> phases = new ArrayList<>();
+        List<VortexRequestEvent> completed = new ArrayList<>();
+        client.setRequestListener(new VortexRequestListener() {
+            @Override
+            public void onRequestStart(VortexRequestEvent request) { phases.add("start"); }
+
+            @Override
+            public void onConnectionAcquired(VortexRequestEvent request) { phases.add("acquired"); }
+
+            @Override
+            public void onRequestSent(VortexRequestEvent request) { phases.add("sent"); }
+
+            @Override
+            public void onFirstByte(VortexRequestEvent request) { phases.add("firstByte " + request.getStatus()); }
+
+            @Override
+            public void onBodyDecoded(VortexRequestEvent request) { phases.add("decoded"); }
+
+            @Override
+            public void onComplete(VortexRequestEvent request) {
+                phases.add("complete");
+                completed.add(request);
+            }
+
+            @Override
+            public void onFailure(VortexRequestEvent request, VortexException error) {
+                phases.add("failure " + request.getStatus());
+            }
+        });
+
+        client.getInvitation("inv-1");
+        assertThrows(VortexException.class, () -> client.getInvitation("missing"));
+
+        assertEquals(List.of(
+                "start", "acquired", "sent", "firstByte 200", "decoded", "complete",
+                "start", "acquired", "sent", "firstByte 404", "failure 404"), phases);
+        VortexRequestEvent request = completed.get(0);
+        assertEquals("GET", request.getMethod());
+        assertEquals("/api/v1/invitations/{invitationId}", request.getRoute());
+        assertTrue(request.getConnectionAcquiredNanos() >= 0);
+        assertTrue(request.getRequestSentNanos() >= request.getConnectionAcquiredNanos());
+        assertTrue(request.getFirstByteNanos() >= request.getRequestSentNanos());
+        assertTrue(request.getBodyReceivedNanos() >= request.getFirstByteNanos());
+        assertTrue(request.getBodyDecodedNanos() >= request.getBodyReceivedNanos());
+        assertTrue(request.getTotalNanos() >= request.getBodyDecodedNanos());
+    }
+
+    @Test
+    void testThrowingRequestListenerDoesNotFailCalls() throws VortexException {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/inv-1"))
+                .willReturn(aResponse().withStatus(200).withBody("{\"id\":\"inv-1\",\"status\":\"delivered\"}")));
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/missing"))
+                .willReturn(aResponse().withStatus(404).withBody("not found")));
+        List<String> phases = new ArrayList<>();
+        client.setRequestListener(new VortexRequestListener() {
+            @Override
+            public void onRequestStart(VortexRequestEvent request) { throw new IllegalStateException("start"); }
+
+            @Override
+            public void onFirstByte(VortexRequestEvent request) { throw new IllegalStateException("firstByte"); }
+
+            @Override
+            public void onComplete(VortexRequestEvent request) {
+                phases.add("complete");
+                throw new IllegalStateException("complete");
+            }
+
+            @Override
+            public void onFailure(VortexRequestEvent request, VortexException error) {
+                phases.add("failure " + request.getStatus());
+                throw new IllegalStateException("failure");
+            }
+        });
+
+        assertEquals("inv-1", client.getInvitation("inv-1").getId());
+        VortexException error = assertThrows(VortexException.class, () -> client.getInvitation("missing"));
+        assertTrue(error.getMessage().contains("404"), error.getMessage());
+        assertEquals(List.of("complete", "failure 404"), phases);
+
+        client.setRequestListener(VortexRequestListener.NOOP);
+        assertEquals("inv-1", client.getInvitation("inv-1").getId());
+        assertEquals(List.of("complete", "failure 404"), phases);
+    }
+
+    @Test
+    void testTracerPropagatesContextAndEndsSpans() throws VortexException {
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/inv-1"))
+                .willReturn(aResponse().withStatus(200).withBody("{\"id\":\"inv-1\",\"status\":\"delivered\"}")));
+        stubFor(get(urlPathEqualTo("/api/v1/invitations/missing"))
+                .willReturn(aResponse().withStatus(404).withBody("not found")));
+        List<String> spans = new ArrayList<>();
+        client.setTracer(new VortexTracer() {
+            @Override
+            public ApiSpan startApiRequest(String method, String route, String url,
+                                           BiConsumer<String, String> headers) {
+                spans.add("start " + method + " " + route + " " + url);
+                headers.accept("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+                return new ApiSpan() {
+                    @Override
+                    public void end(int status, Throwable error) {
+                        spans.add("end " + status + " " + (error != null));
+                    }
+                };
+            }
+        });
+
+        client.getInvitation("inv-1");
+        assertThrows(VortexException.class, () -> client.getInvitation("missing"));
+
+        assertEquals(List.of(
+                "start GET /api/v1/invitations/{invitationId} http://localhost:8089/api/v1/invitations/inv-1",
+                "end 200 false",
+                "start GET /api/v1/invitations/{invitationId} http://localhost:8089/api/v1/invitations/missing",
+                "end 404 true"), spans);
+        verify(getRequestedFor(urlPathEqualTo("/api/v1/invitations/inv-1"))
+                .withHeader("traceparent", equalTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")));
+    }
+
+    @Test
+    void testClosedClientMintsTokensButRejectsApiCalls() throws VortexException {
+        VortexClient unused = new VortexClient(TEST_API_KEY, "http://localhost:8089");
+        unused.close();
+
+        String token = unused.generateToken(new GenerateTokenPayload(new TokenUser("user-1", "Jane", "jane@example.com")));
+        assertEquals(3, token.split("\\.").length);
+        assertThrows(VortexException.class, () -> unused.getInvitation("inv-1"));
+        assertEquals(50, unused.getMaxConnections());
+    }
+
+    @Test
+    void testHttpOptionsApplied() {
+        VortexHttpOptions options = new VortexHttpOptions();
+        options.setMaxConnections(8);
+        options.setMaxConnectionsPerRoute(4);
+        options.setConnectTimeout(Duration.ofSeconds(2));
+        options.setResponseTimeout(Duration.ofSeconds(5));
+        options.setIdleConnectionTimeout(Duration.ofMinutes(1));
+
+        VortexClient tuned = new VortexClient(TEST_API_KEY, "http://localhost:8089", options);
+        try {
+            assertEquals(8, tuned.getMaxConnections());
+            assertEquals(0, tuned.getPendingConnections());
+        } finally {
+            tuned.close();
+        }
+
+        options.setMaxConnections(0);
+        assertThrows(IllegalArgumentException.class, () -> new VortexClient(TEST_API_KEY, "http://localhost:8089", options));
+    }
+
+    @Test
+    void testAcceptInvitationsBatchReportsPerItemErrors() throws VortexException {
+        stubFor(post(urlPathEqualTo("/api/v1/invitations/accept"))
+                .withRequestBody(matchingJsonPath("$.user.email", equalTo("ok@example.com")))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"invitations\": [{\"id\": \"inv-1\"}, {\"id\": \"inv-2\"}]}")));
+        stubFor(post(urlPathEqualTo("/api/v1/invitations/accept"))
+                .withRequestBody(matchingJsonPath("$.user.email", equalTo("gone@example.com")))
+                .willReturn(aResponse().withStatus(404).withBody("{\"error\": \"no invitation for gone@example.com\"}")));
+
+        List<AcceptInvitationRequest> items = Arrays.asList(
+                new AcceptInvitationRequest(List.of("inv-1", "inv-2"), new AcceptUser("ok@example.com")),
+                new AcceptInvitationRequest(List.of("inv-3"), new AcceptUser("gone@example.com")),
+                new AcceptInvitationRequest(List.of("inv-4"), new AcceptUser()));
+
+        BatchAcceptInvitationsResult result = client.acceptInvitationsBatch(items, 2);
+
+        assertEquals(2, result.getAccepted().size());
+        assertEquals("inv-2", result.getAccepted().get(1).getId());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertTrue(result.getErrors().get(0).getError().contains("404"));
+        assertFalse(result.getErrors().get(0).getError().contains("gone@example.com"),
+                "API response bodies must not leak into batch errors: " + result.getErrors().get(0).getError());
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        assertEquals(List.of("inv-4"), result.getErrors().get(1).getInvitationIds());
+        verify(2, postRequestedFor(urlPathEqualTo("/api/v1/invitations/accept")));
+    }
+
+    @Test
+    void testBatchErrorMessageDropsResponseBody() {
+        VortexException apiError = VortexClient.apiError(404, "Not Found", "{\"error\": \"no invitation for gone@example.com\"}");
+
+        assertEquals("API request failed: 404 Not Found - {\"error\": \"no invitation for gone@example.com\"}",
+                apiError.getMessage());
+        assertEquals("API request failed: 404 Not Found", VortexClient.batchErrorMessage(apiError));
+        assertEquals("API request failed: 500 Internal Server Error",
+                VortexClient.batchErrorMessage(VortexClient.apiError(500, "Internal Server Error", "")));
+        assertEquals("User must have either email or phone",
+                VortexClient.batchErrorMessage(new VortexException("User must have either email or phone")));
+        assertEquals("Failed to accept invitations",
+                VortexClient.batchErrorMessage(new IllegalStateException("secret - detail")));
+    }
+}
@@ -0,0 +1,173 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for VortexJwtCache
+ */
+public class VortexJwtCacheTest {
+
+    private static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.test-signing-key";
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private VortexClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new VortexClient(TEST_API_KEY, "http://localhost:8089");
+    }
+
+    @Test
+    void testSameClaimsReturnCachedToken() throws VortexException {
+        VortexJwtCache cache = new VortexJwtCache(client, 10, 0.5, now::get);
+
+        String first = cache.generateJwt(params("user-1", "a@example.com"));
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+        String second = cache.generateJwt(params("user-1", "a@example.com"));
+
+        assertEquals(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void testChangedClaimsMintNewEntry() throws VortexException {
+        VortexJwtCache cache = new VortexJwtCache(client, 10, 0.5, now::get);
+
+        cache.generateJwt(params("user-1", "a@example.com"));
+        Map<String, Object> withRole = params("user-1", "a@example.com");
+        withRole.put("role", "admin");
+        cache.generateJwt(withRole);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testTokenRefreshedAfterFractionOfLifetime() throws VortexException {
+        VortexJwtCache cache = new VortexJwtCache(client, 10, 0.5, now::get);
+
+        String first = cache.generateJwt(params("user-1", "a@example.com"));
+        now.addAndGet(Duration.ofDays(14).toMillis());
+        assertEquals(first, cache.generateJwt(params("user-1", "a@example.com")));
+
+        now.addAndGet(Duration.ofDays(2).toMillis());
+        cache.generateJwt(params("user-1", "a@example.com"));
+
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryEvicted() throws VortexException {
+        VortexJwtCache cache = new VortexJwtCache(client, 2, 0.5, now::get);
+
+        cache.generateJwt(params("user-1", null));
+        cache.generateJwt(params("user-2", null));
+        cache.generateJwt(params("user-1", null));
+        cache.generateJwt(params("user-3", null));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.generateJwt(params("user-1", null));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void testConcurrentMissesMintOnce() throws Exception {
+        CountDownLatch minting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger mints = new AtomicInteger();
+        VortexClient slowClient = new VortexClient(TEST_API_KEY, "http://localhost:8089") {
+            @Override
+            public String generateJwt(Map<String, Object> params) throws VortexException {
+                mints.incrementAndGet();
+                minting.countDown();
+                try {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new VortexException("Interrupted", e);
+                }
+                return super.generateJwt(params);
+            }
+        };
+        VortexJwtCache cache = new VortexJwtCache(slowClient, 10, 0.5, now::get);
+
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        new Thread(() -> first.complete(generate(cache))).start();
+        assertTrue(minting.await(5, TimeUnit.SECONDS));
+        Thread waiter = new Thread(() -> second.complete(generate(cache)));
+        waiter.start();
+        // Parked on the first request's mint, or minting a second token if there were no single flight
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && waiter.getState() != Thread.State.TIMED_WAITING
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, mints.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testReportsToMetricsRecorder() throws VortexException {
+        List<String> recorded = new ArrayList<>();
+        client.setMetricsRecorder(new VortexMetricsRecorder() {
+            @Override
+            public void recordJwtCache(String result) {
+                recorded.add(result);
+            }
+        });
+        VortexJwtCache cache = new VortexJwtCache(client, 1, 0.5, now::get);
+
+        cache.generateJwt(params("user-1", null));
+        cache.generateJwt(params("user-1", null));
+        cache.generateJwt(params("user-2", null));
+
+        assertEquals(List.of("miss", "hit", "miss", "eviction"), recorded);
+    }
+
+    @Test
+    void testInvalidParamsRejected() {
+        VortexJwtCache cache = new VortexJwtCache(client);
+
+        assertThrows(VortexException.class, () -> cache.generateJwt(new HashMap<>()));
+        assertThrows(IllegalArgumentException.class, () -> new VortexJwtCache(client, 10, 0));
+    }
+
+    private static String generate(VortexJwtCache cache) {
+        try {
+            return cache.generateJwt(params("user-1", "a@example.com"));
+        } catch (VortexException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> params(String userId, String email) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("user", new User(userId, email));
+        return params;
+    }
+}
@@ -0,0 +1,123 @@
+package com.vortexsoftware.sdk;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VortexMicrometerMetricsTest {
+
+    private static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.test-signing-key";
+    private static final String WEBHOOK_SECRET = "whsec_test_secret_123";
+
+    @Test
+    void connectionGaugesAreTaggedPerClientAndRemovedOnClose() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VortexMicrometerMetrics metrics = new VortexMicrometerMetrics(registry);
+        VortexClient first = new VortexClient("VRTX.test.key");
+        VortexClient second = new VortexClient("VRTX.test.key");
+        first.setName("first");
+        second.setName("second");
+        first.setMetricsRecorder(metrics);
+        second.setMetricsRecorder(metrics);
+
+        assertEquals(8, registry.find("vortex.client.connections").gauges().size());
+        Gauge firstMax = registry.get("vortex.client.connections").tags("client", "first", "state", "max").gauge();
+        assertEquals(VortexClient.DEFAULT_MAX_CONNECTIONS, firstMax.value());
+
+        first.close();
+        assertNull(registry.find("vortex.client.connections").tag("client", "first").gauge());
+        assertEquals(4, registry.find("vortex.client.connections").tag("client", "second").gauges().size());
+
+        second.setMetricsRecorder(null);
+        assertTrue(registry.find("vortex.client.connections").gauges().isEmpty());
+    }
+
+    @Test
+    void apiRequestsAreTaggedByRouteTemplateAndStatusClass() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VortexMicrometerMetrics metrics = new VortexMicrometerMetrics(registry);
+        VortexClient client = new VortexClient(TEST_API_KEY, "http://localhost:1");
+        client.setMetricsRecorder(metrics);
+
+        assertThrows(VortexException.class, () -> client.getInvitation("inv-1"));
+        client.close();
+        metrics.recordApiRequest("POST", "/api/v1/invitations/accept", 201, 1_000_000);
+        metrics.recordApiRequest("POST", "/api/v1/invitations/accept", 404, 1_000_000);
+        metrics.recordApiRequest("POST", "/api/v1/invitations/accept", 503, 1_000_000);
+
+        assertEquals(1, registry.get("vortex.client.requests").tags("method", "GET",
+                "route", "/api/v1/invitations/{invitationId}", "status", "IO_ERROR").timer().count());
+        assertNull(registry.find("vortex.client.requests").tag("route", "/api/v1/invitations/inv-1").timer());
+        for (String status : new String[] {"2xx", "4xx", "5xx"}) {
+            assertEquals(1, registry.get("vortex.client.requests").tags("method", "POST",
+                    "route", "/api/v1/invitations/accept", "status", status).timer().count());
+        }
+        Timer accepted = registry.get("vortex.client.requests").tag("status", "2xx").timer();
+        assertEquals(1, accepted.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void tokenMintsAreTaggedByOperationAndOutcome() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VortexClient client = new VortexClient(TEST_API_KEY, "http://localhost:1");
+        client.setMetricsRecorder(new VortexMicrometerMetrics(registry));
+        Map<String, Object> user = new HashMap<>();
+        user.put("id", "user-123");
+
+        client.sign(user);
+        client.sign(user);
+        assertThrows(VortexException.class, () -> client.sign(new HashMap<>()));
+        client.close();
+
+        assertEquals(2, registry.get("vortex.token.mint").tags("operation", "sign", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, registry.get("vortex.token.mint").tags("operation", "sign", "outcome", "FAILURE").timer().count());
+    }
+
+    @Test
+    void webhooksAreTaggedByPhaseAndOutcome() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VortexWebhooks webhooks = new VortexWebhooks(WEBHOOK_SECRET);
+        webhooks.setMetricsRecorder(new VortexMicrometerMetrics(registry));
+        String payload = "{\"id\":\"evt_1\",\"type\":\"invitation.accepted\",\"data\":{}}";
+
+        webhooks.constructEvent(payload, sign(payload));
+        assertThrows(VortexWebhookSignatureException.class, () -> webhooks.constructEvent(payload, "bad"));
+        assertThrows(VortexException.class, () -> webhooks.constructEvent("not json", sign("not json")));
+
+        assertEquals(2, registry.get("vortex.webhooks").tags("phase", "verify", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, registry.get("vortex.webhooks").tags("phase", "verify", "outcome", "FAILURE").timer().count());
+        assertEquals(1, registry.get("vortex.webhooks").tags("phase", "parse", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, registry.get("vortex.webhooks").tags("phase", "parse", "outcome", "FAILURE").timer().count());
+    }
+
+    @Test
+    void jwtCacheResultsAreCounted() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VortexMicrometerMetrics metrics = new VortexMicrometerMetrics(registry);
+
+        metrics.recordJwtCache("miss");
+        metrics.recordJwtCache("hit");
+        metrics.recordJwtCache("hit");
+
+        assertEquals(2, registry.get("vortex.jwt.cache").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("vortex.jwt.cache").tag("result", "miss").counter().count());
+        assertNull(registry.find("vortex.jwt.cache").tag("result", "eviction").counter());
+    }
+
+    private static String sign(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(WEBHOOK_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
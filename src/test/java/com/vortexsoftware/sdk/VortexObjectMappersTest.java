@@ -0,0 +1,51 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vortexsoftware.sdk.types.InvitationResponse;
+import com.vortexsoftware.sdk.types.VortexTypesModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VortexObjectMappersTest {
+
+    @Test
+    void createRegistersSdkModules() {
+        ObjectMapper mapper = VortexObjectMappers.create();
+        assertTrue(mapper.getRegisteredModuleIds().contains(new VortexTypesModule().getTypeId()));
+        assertTrue(mapper.getRegisteredModuleIds().contains(new JavaTimeModule().getTypeId()));
+    }
+
+    @Test
+    void createAppliesCustomizerAfterSdkModules() {
+        ObjectMapper mapper = VortexObjectMappers.create(m -> {
+            assertTrue(m.getRegisteredModuleIds().contains(new VortexTypesModule().getTypeId()));
+            m.enable(SerializationFeature.INDENT_OUTPUT);
+        });
+        assertTrue(mapper.isEnabled(SerializationFeature.INDENT_OUTPUT));
+        assertThrows(NullPointerException.class, () -> VortexObjectMappers.create(null));
+    }
+
+    @Test
+    void blackbirdDecodesLikeReflection() throws Exception {
+        assertTrue(VortexObjectMappers.isBlackbirdAvailable());
+        ObjectMapper blackbird = new ObjectMapper();
+        VortexObjectMappers.registerBlackbird(blackbird);
+
+        ObjectMapper reflective = new ObjectMapper();
+        byte[] json = fixture("invitation-response-large.json");
+        assertEquals(reflective.writeValueAsString(reflective.readValue(json, InvitationResponse.class)),
+                reflective.writeValueAsString(blackbird.readValue(json, InvitationResponse.class)));
+    }
+
+    private static byte[] fixture(String name) throws Exception {
+        try (InputStream in = VortexObjectMappersTest.class.getClassLoader().getResourceAsStream("fixtures/" + name)) {
+            assertNotNull(in, "Missing fixture " + name);
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.vortexsoftware.sdk;
+
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VortexOrderedDispatcherTest {
+
+    private static VortexWebhookEvent event(String id, String type, String invitationId) {
+        VortexWebhookEvent event = new VortexWebhookEvent();
+        event.setId(id);
+        event.setType(type);
+        event.setData(Map.of("invitationId", invitationId));
+        return event;
+    }
+
+    @Test
+    void preservesOrderPerInvitation() {
+        Map<String, List<String>> seen = new ConcurrentHashMap<>();
+        VortexOrderedDispatcher dispatcher = new VortexOrderedDispatcher(e -> {
+            VortexWebhookEvent we = (VortexWebhookEvent) e;
+            String invitationId = (String) we.getData().get("invitationId");
+            seen.computeIfAbsent(invitationId, k -> new ArrayList<>()).add(we.getType());
+        }, 4, 1_000, VortexOrderedDispatcher.INVITATION_KEY);
+
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(event("evt_c" + i, "invitation.created", "inv_" + i));
+            dispatcher.dispatch(event("evt_a" + i, "invitation.accepted", "inv_" + i));
+        }
+
+        assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+        assertEquals(50, seen.size());
+        for (List<String> types : seen.values()) {
+            assertEquals(List.of("invitation.created", "invitation.accepted"), types);
+        }
+        assertEquals(100, dispatcher.getHandledCount());
+    }
+
+    @Test
+    void sameKeyAlwaysMapsToSameLane() {
+        VortexOrderedDispatcher dispatcher = new VortexOrderedDispatcher(e -> {}, 8, 10,
+                VortexOrderedDispatcher.INVITATION_KEY);
+        assertEquals(dispatcher.laneFor("inv_123"), dispatcher.laneFor("inv_123"));
+        assertEquals(0, dispatcher.laneFor(null));
+        dispatcher.close();
+    }
+
+    @Test
+    void rejectsWhenLaneIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        VortexOrderedDispatcher dispatcher = new VortexOrderedDispatcher(e -> release.await(5, TimeUnit.SECONDS),
+                1, 1, VortexOrderedDispatcher.INVITATION_KEY);
+
+        assertTrue(dispatcher.dispatch(event("evt_1", "invitation.created", "inv_1")));
+        // The first event may still be queued rather than running; fill until the lane refuses.
+        boolean rejected = false;
+        for (int i = 2; i < 5 && !rejected; i++) {
+            rejected = !dispatcher.dispatch(event("evt_" + i, "invitation.created", "inv_1"));
+        }
+
+        assertTrue(rejected);
+        assertTrue(dispatcher.getRejectedCount() > 0);
+        release.countDown();
+        assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void handlerFailureDoesNotStopLane() {
+        VortexOrderedDispatcher dispatcher = new VortexOrderedDispatcher(e -> {
+            if ("evt_1".equals(((VortexWebhookEvent) e).getId())) {
+                throw new IllegalStateException("boom");
+            }
+        }, 1, 10, VortexOrderedDispatcher.INVITATION_KEY);
+
+        dispatcher.dispatch(event("evt_1", "invitation.created", "inv_1"));
+        dispatcher.dispatch(event("evt_2", "invitation.accepted", "inv_1"));
+
+        assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+        assertEquals(1, dispatcher.getFailedCount());
+        assertEquals(1, dispatcher.getHandledCount());
+    }
+}
@@ -0,0 +1,97 @@
+package com.vortexsoftware.sdk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.types.InvitationResponse;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that deduplication leaves listings equal and at least halves the
+ * string heap of a generated listing. StringDeduplicationReport in the
+ * benchmarks profile reports the savings on 50k invitations.
+ */
+public class VortexStringDeduplicatorTest {
+
+    private static final int LISTING_SIZE = 2_000;
+
+    private final ObjectMapper objectMapper = VortexObjectMappers.create();
+
+    @Test
+    void testDeduplicatedListingIsEqual() throws Exception {
+        List<InvitationResult> invitations = decode();
+        String before = objectMapper.writeValueAsString(invitations);
+
+        VortexStringDeduplicator.deduplicate(invitations);
+
+        assertEquals(before, objectMapper.writeValueAsString(invitations));
+        InvitationResult first = invitations.get(0);
+        InvitationResult second = invitations.get(1);
+        assertSame(first.getAccountId(), second.getAccountId());
+        assertSame(first.getDeploymentId(), second.getDeploymentId());
+        assertSame(first.getScopeType(), second.getScopeType());
+        assertSame(first.getMetadata().get("locale"), second.getMetadata().get("locale"));
+        assertSame(first.getAccountId(), first.getGroups().get(0).getAccountId());
+    }
+
+    @Test
+    void testTableIsBounded() {
+        VortexStringDeduplicator strings = new VortexStringDeduplicator(2);
+        String a = strings.canonical(new String("a"));
+        String b = strings.canonical(new String("b"));
+        String c = new String("c");
+
+        assertSame(a, strings.canonical(new String("a")));
+        assertSame(b, strings.canonical(new String("b")));
+        assertSame(c, strings.canonical(c));
+        assertNotSame(c, strings.canonical(new String("c")));
+        assertNull(strings.canonical(null));
+        assertEquals(2, strings.size());
+    }
+
+    @Test
+    void testOneOffMapValuesDoNotFillTable() {
+        VortexStringDeduplicator strings = new VortexStringDeduplicator(4);
+        List<InvitationResult> invitations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            InvitationResult invitation = new InvitationResult();
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("message", "Welcome aboard, invitee number " + i);
+            metadata.put("referralCode", "ref-" + i);
+            metadata.put("locale", new String("en-US"));
+            invitation.setMetadata(metadata);
+            strings.deduplicate(invitation);
+            invitations.add(invitation);
+        }
+
+        assertEquals(1, strings.size());
+        assertSame(invitations.get(0).getMetadata().get("locale"), invitations.get(9).getMetadata().get("locale"));
+    }
+
+    @Test
+    void testHalvesStringHeapOfGeneratedListing() throws Exception {
+        List<InvitationResult> invitations = objectMapper.readValue(
+                InvitationListingFixture.generate(LISTING_SIZE, 42), InvitationResponse.class).getInvitations();
+
+        long before = InvitationListingFixture.retainedStringBytes(invitations);
+        VortexStringDeduplicator.deduplicate(invitations);
+        long after = InvitationListingFixture.retainedStringBytes(invitations);
+
+        assertTrue(after < before / 2, "Deduplication should at least halve the string heap of a listing; "
+                + before + " bytes of strings before, " + after + " after");
+    }
+
+    private List<InvitationResult> decode() throws Exception {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("fixtures/invitation-response-large.json")) {
+            assertNotNull(in, "Missing fixture invitation-response-large.json");
+            return objectMapper.readValue(in, InvitationResponse.class).getInvitations();
+        }
+    }
+}
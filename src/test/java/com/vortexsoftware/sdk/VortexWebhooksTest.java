@@ -1,12 +1,22 @@
 package com.vortexsoftware.sdk;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vortexsoftware.sdk.types.InvitationResult;
 import com.vortexsoftware.sdk.types.VortexAnalyticsEvent;
 import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -101,10 +111,203 @@ class VortexWebhooksTest {
         assertEquals("widget_loaded", ae.getName());
     }
 
+    @Test
+    void constructWebhookEventFromBytes() throws Exception {
+        VortexWebhooks wh = new VortexWebhooks(SECRET);
+        byte[] body = WEBHOOK_EVENT_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        assertTrue(wh.verifySignature(body, sign(WEBHOOK_EVENT_PAYLOAD, SECRET)));
+        Object event = wh.constructEvent(body, sign(WEBHOOK_EVENT_PAYLOAD, SECRET));
+        assertEquals("evt_123", ((VortexWebhookEvent) event).getId());
+    }
+
+    @Test
+    void constructWebhookEventLazily() throws Exception {
+        VortexWebhooks wh = new VortexWebhooks(SECRET, true);
+        VortexWebhookEvent we = (VortexWebhookEvent) wh.constructEvent(
+                WEBHOOK_EVENT_PAYLOAD, sign(WEBHOOK_EVENT_PAYLOAD, SECRET));
+        assertEquals("evt_123", we.getId());
+        assertEquals("invitation.accepted", we.getType());
+        assertEquals("update", we.getOperation());
+        assertNotNull(we.getRawData());
+        assertEquals("{\"invitationId\":\"inv_789\"}", we.getRawData().toString());
+        assertEquals("inv_789", we.getRawData().at("/invitationId", String.class));
+        assertNull(we.getRawData().at("/missing", String.class));
+        assertEquals("inv_789", we.getData().get("invitationId"));
+    }
+
+    @Test
+    void lazyDataBindsToTypedClass() throws Exception {
+        String payload = "{\"id\":\"evt_1\",\"type\":\"invitation.created\"," +
+                "\"data\":{\"id\":\"inv_1\",\"status\":\"accepted\",\"groups\":[{\"id\":\"g1\"},{\"id\":\"g2\"}]}}";
+        VortexWebhooks wh = new VortexWebhooks(SECRET, true);
+        VortexWebhookEvent we = (VortexWebhookEvent) wh.constructEvent(payload, sign(payload, SECRET));
+        InvitationResult invitation = we.getRawData().as(InvitationResult.class);
+        assertEquals("inv_1", invitation.getId());
+        assertEquals("g2", we.getRawData().at("/groups/1/id", String.class));
+        assertNull(we.getRawData().at("/groups/5/id", String.class));
+    }
+
+    @Test
+    void constructAnalyticsEventLazily() throws Exception {
+        String payload = "{\"id\":\"evt_456\",\"name\":\"widget_loaded\",\"payload\":{\"formId\":\"f1\"},\"sessionId\":\"s1\"}";
+        VortexWebhooks wh = new VortexWebhooks(SECRET, true);
+        VortexAnalyticsEvent ae = (VortexAnalyticsEvent) wh.constructEvent(payload, sign(payload, SECRET));
+        assertEquals("widget_loaded", ae.getName());
+        assertEquals("s1", ae.getSessionId());
+        assertEquals("f1", ae.getRawPayload().at("/formId", String.class));
+        assertEquals("f1", ae.getPayload().get("formId"));
+    }
+
+    @Test
+    void lazyParseMatchesEagerParse() throws Exception {
+        String[] payloads = {
+                "{\"id\":\"evt_1\",\"context\":{\"name\":\"nested\",\"tags\":[1,2]},\"type\":\"invitation.created\"," +
+                        "\"data\":{\"invitationId\":\"inv_1\"},\"retries\":[{\"at\":\"2025-01-15T12:00:00.000Z\"}]}",
+                "{\"id\":\"evt_2\",\"name\":\"widget_loaded\",\"context\":{\"locale\":\"en-US\"}," +
+                        "\"payload\":{\"formId\":\"f1\"},\"sessionId\":\"s1\"}",
+                "{\"id\":\"evt_3\",\"name\":\"widget_loaded\",\"segmentation\":{\"plan\":\"team\"}}",
+                "{\"id\":\"evt_4\",\"type\":\"invitation.created\",\"data\":[\"inv_1\"]}",
+                "{\"id\":\"evt_5\",\"type\":\"invitation.created\",\"data\":{\"invitationId\":\"inv_1\"}," +
+                        "\"payload\":{\"formId\":\"f1\"}}",
+                "{\"id\":\"evt_6\",\"payload\":{\"formId\":\"f1\"},\"type\":\"invitation.created\"," +
+                        "\"data\":{\"invitationId\":\"inv_1\"}}",
+                "{\"id\":\"evt_7\",\"name\":\"widget_loaded\",\"payload\":{\"formId\":\"f1\"}," +
+                        "\"data\":{\"invitationId\":\"inv_1\"}}",
+                "{\"id\":\"evt_8\",\"data\":{\"invitationId\":\"inv_1\"},\"name\":\"widget_loaded\"," +
+                        "\"payload\":{\"formId\":\"f1\"}}",
+        };
+        VortexWebhooks eager = new VortexWebhooks(SECRET);
+        VortexWebhooks lazy = new VortexWebhooks(SECRET, true);
+        for (String payload : payloads) {
+            String signature = sign(payload, SECRET);
+            Object expected;
+            try {
+                expected = eager.constructEvent(payload, signature);
+            } catch (VortexException e) {
+                assertThrows(VortexException.class, () -> lazy.constructEvent(payload, signature));
+                continue;
+            }
+            Object actual = lazy.constructEvent(payload, signature);
+            assertEquals(expected.getClass(), actual.getClass(), payload);
+            assertEquals(eager.getObjectMapper().writeValueAsString(expected),
+                    lazy.getObjectMapper().writeValueAsString(actual), payload);
+        }
+    }
+
+    @Test
+    void defaultMapperMatchesPlainJackson() throws Exception {
+        String[] payloads = {
+                WEBHOOK_EVENT_PAYLOAD,
+                ANALYTICS_EVENT_PAYLOAD,
+                "{\"id\":\"evt_1\",\"type\":\"invitation.created\",\"unknown\":{\"a\":[1,null]},\"retries\":3," +
+                        "\"data\":{\"invitationId\":\"inv_1\",\"nested\":{\"ids\":[1,2],\"none\":null}}}",
+                "{\"id\":null,\"type\":null,\"timestamp\":null,\"accountId\":null,\"data\":null}",
+                "{\"id\":\"evt_2\",\"type\":\"invitation.created\",\"data\":{}}",
+                "{\"id\":\"evt_3\",\"type\":\"invitation.created\",\"data\":{\"invitationId\":\"inv_1\"}," +
+                        "\"payload\":{\"formId\":\"f1\"}}",
+                "{\"id\":\"evt_4\",\"name\":\"widget_loaded\",\"unknown\":true,\"sessionId\":null," +
+                        "\"payload\":{\"formId\":\"f1\",\"fields\":[{\"k\":\"v\"}]},\"data\":{\"x\":1}}",
+                "{\"id\":\"evt_5\",\"name\":null,\"payload\":null,\"segmentation\":{\"plan\":null}}",
+                "{\"id\":\"evt_6\",\"type\":\"invitation.created\",\"data\":[\"inv_1\"]}",
+                "{\"id\":\"evt_7\",\"name\":\"widget_loaded\",\"payload\":\"not an object\"}",
+                "{\"id\":[\"evt_8\"],\"type\":\"invitation.created\"}",
+        };
+        ObjectMapper plain = new ObjectMapper();
+        for (boolean lazy : new boolean[] {false, true}) {
+            VortexWebhooks generated = new VortexWebhooks(SECRET, lazy);
+            VortexWebhooks reflective = new VortexWebhooks(SECRET, lazy);
+            reflective.setObjectMapper(plain);
+            for (String payload : payloads) {
+                String signature = sign(payload, SECRET);
+                Object expected;
+                try {
+                    expected = reflective.constructEvent(payload, signature);
+                } catch (VortexException e) {
+                    assertThrows(VortexException.class, () -> generated.constructEvent(payload, signature));
+                    continue;
+                }
+                Object actual = generated.constructEvent(payload, signature);
+                assertEquals(expected.getClass(), actual.getClass(), payload);
+                assertEquals(plain.writeValueAsString(expected), plain.writeValueAsString(actual), payload);
+            }
+        }
+    }
+
+    @Test
+    void describeLeavesOutEventData() throws Exception {
+        VortexWebhooks wh = new VortexWebhooks(SECRET);
+        Object webhook = wh.constructEvent(WEBHOOK_EVENT_PAYLOAD, sign(WEBHOOK_EVENT_PAYLOAD, SECRET));
+        Object analytics = wh.constructEvent(ANALYTICS_EVENT_PAYLOAD, sign(ANALYTICS_EVENT_PAYLOAD, SECRET));
+
+        assertEquals("webhook evt_123 (invitation.accepted)", VortexWebhooks.describe(webhook));
+        assertEquals("analytics event evt_456 (widget_loaded)", VortexWebhooks.describe(analytics));
+        assertFalse(VortexWebhooks.describe(webhook).contains("inv_789"));
+    }
+
     @Test
     void constructEventBadSignature() {
         VortexWebhooks wh = new VortexWebhooks(SECRET);
         assertThrows(VortexWebhookSignatureException.class,
                 () -> wh.constructEvent(WEBHOOK_EVENT_PAYLOAD, "bad"));
     }
+
+    @Test
+    void metricsRecordVerifyAndParse() throws Exception {
+        List<String> recorded = new ArrayList<>();
+        VortexWebhooks wh = new VortexWebhooks(SECRET);
+        wh.setMetricsRecorder(new VortexMetricsRecorder() {
+            @Override
+            public void recordWebhook(String phase, long nanos, boolean success) {
+                assertTrue(nanos >= 0);
+                recorded.add(phase + ":" + success);
+            }
+        });
+
+        wh.constructEvent(WEBHOOK_EVENT_PAYLOAD, sign(WEBHOOK_EVENT_PAYLOAD, SECRET));
+        assertThrows(VortexWebhookSignatureException.class, () -> wh.constructEvent(WEBHOOK_EVENT_PAYLOAD, "bad"));
+        assertThrows(VortexException.class, () -> wh.constructEvent("not json", sign("not json", SECRET)));
+
+        assertEquals(List.of("verify:true", "parse:true", "verify:false", "verify:true", "parse:false"), recorded);
+    }
+
+    @Test
+    void parsesWithCallerMapper() throws Exception {
+        String payload = "/* relayed */ " + WEBHOOK_EVENT_PAYLOAD;
+        for (boolean lazy : new boolean[] {false, true}) {
+            VortexWebhooks wh = new VortexWebhooks(SECRET, lazy);
+            assertThrows(VortexException.class, () -> wh.constructEvent(payload, sign(payload, SECRET)));
+
+            wh.setObjectMapper(VortexObjectMappers.create(mapper -> mapper.enable(JsonParser.Feature.ALLOW_COMMENTS)));
+            VortexWebhookEvent event = (VortexWebhookEvent) wh.constructEvent(payload, sign(payload, SECRET));
+            assertEquals("evt_123", event.getId());
+            assertEquals("inv_789", event.getData().get("invitationId"));
+
+            wh.setObjectMapper(null);
+            assertThrows(VortexException.class, () -> wh.constructEvent(payload, sign(payload, SECRET)));
+        }
+    }
+
+    @Test
+    void flightRecorderEvents() throws Exception {
+        VortexWebhooks wh = new VortexWebhooks(SECRET);
+        Path file = Files.createTempFile("vortex-webhooks", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.vortexsoftware.sdk.WebhookReceived");
+            recording.start();
+            wh.constructEvent(WEBHOOK_EVENT_PAYLOAD, sign(WEBHOOK_EVENT_PAYLOAD, SECRET));
+            assertThrows(VortexWebhookSignatureException.class, () -> wh.constructEvent(WEBHOOK_EVENT_PAYLOAD, "bad"));
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(2, events.size());
+            assertEquals(WEBHOOK_EVENT_PAYLOAD.length(), events.get(0).getLong("payloadBytes"));
+            assertTrue(events.get(0).getBoolean("signatureValid"));
+            assertEquals("invitation.accepted", events.get(0).getString("eventType"));
+            assertFalse(events.get(1).getBoolean("signatureValid"));
+            assertFalse(events.get(1).getBoolean("parsed"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.vortexsoftware.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the SDK in a class loader that hides jackson-module-blackbird, as for
+ * an application that does not add the optional dependency
+ */
+class WithoutBlackbirdTest {
+
+    private static final String TEST_API_KEY = "VRTX.8mNyMrlnR5O7qj6HNxkHmg.test-signing-key";
+
+    @Test
+    void clientWorksWithoutBlackbird() throws Exception {
+        ClassLoader loader = new WithoutBlackbird(getClass().getClassLoader());
+
+        Class<?> mappers = loader.loadClass(VortexObjectMappers.class.getName());
+        assertEquals(false, mappers.getMethod("isBlackbirdAvailable").invoke(null));
+        assertNotNull(mappers.getMethod("create").invoke(null));
+
+        Class<?> clientType = loader.loadClass(VortexClient.class.getName());
+        Object client = clientType.getConstructor(String.class).newInstance(TEST_API_KEY);
+        Method sign = clientType.getMethod("sign", Map.class);
+        Object signature = sign.invoke(client, Map.of("id", "user-123", "email", "user@example.com"));
+        assertNotNull(signature);
+        clientType.getMethod("close").invoke(client);
+    }
+
+    /**
+     * Defines the SDK classes itself, so their references resolve through
+     * this loader, and reports the Blackbird classes as missing
+     */
+    private static final class WithoutBlackbird extends ClassLoader {
+
+        WithoutBlackbird(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("com.fasterxml.jackson.module.blackbird.")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith("com.vortexsoftware.sdk.")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    type = define(name);
+                }
+                if (resolve) {
+                    resolveClass(type);
+                }
+                return type;
+            }
+        }
+
+        private Class<?> define(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                byte[] bytes = in.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the asynchronous controller variant
+ */
+@ExtendWith(MockitoExtension.class)
+public class VortexAsyncControllerTest {
+
+    @Mock
+    private VortexClient mockClient;
+
+    @Mock
+    private VortexConfig mockConfig;
+
+    @Mock
+    private RequestAttributes requestAttributes;
+
+    private ExecutorService executor;
+    private VortexAsyncController controller;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "vortex-controller-test"));
+        controller = new VortexAsyncController(mockClient, mockConfig, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testClientCallRunsOnExecutorWithRequestAttributes() throws Exception {
+        AtomicReference<String> authThread = new AtomicReference<>();
+        AtomicReference<String> callThread = new AtomicReference<>();
+        AtomicReference<RequestAttributes> seen = new AtomicReference<>();
+        VortexConfig.VortexUser user = new VortexConfig.VortexUser("user-123", "test@example.com", false);
+        when(mockConfig.authenticateUser()).thenAnswer(invocation -> {
+            authThread.set(Thread.currentThread().getName());
+            return user;
+        });
+        when(mockConfig.authorizeOperation("JWT", user)).thenReturn(true);
+        when(mockClient.generateJwt(anyMap())).thenAnswer(invocation -> {
+            callThread.set(Thread.currentThread().getName());
+            seen.set(RequestContextHolder.getRequestAttributes());
+            return "test-jwt-token";
+        });
+
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        ResponseEntity<?> response = controller.generateJWT().get(5, TimeUnit.SECONDS);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("test-jwt-token", ((Map<?, ?>) response.getBody()).get("jwt"));
+        assertEquals(Thread.currentThread().getName(), authThread.get());
+        assertEquals("vortex-controller-test", callThread.get());
+        assertSame(requestAttributes, seen.get());
+    }
+
+    @Test
+    void testSecurityContextConfigAuthenticatesOnRequestThread() throws Exception {
+        VortexConfig securityConfig = new VortexConfig() {
+            @Override
+            public VortexUser authenticateUser() {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                return authentication != null
+                        ? new VortexUser(authentication.getName(), authentication.getName() + "@example.com", false)
+                        : null;
+            }
+
+            @Override
+            public boolean authorizeOperation(String operation, VortexUser user) {
+                return "user-123".equals(user.getUserId());
+            }
+        };
+        controller = new VortexAsyncController(mockClient, securityConfig, executor);
+        when(mockClient.getInvitation("inv-123")).thenReturn(new InvitationResult());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("user-123", null, "ROLE_USER"));
+        try {
+            ResponseEntity<?> response = controller.getInvitation("inv-123").get(5, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        ResponseEntity<?> anonymous = controller.getInvitation("inv-123").get(5, TimeUnit.SECONDS);
+        assertEquals(HttpStatus.UNAUTHORIZED, anonymous.getStatusCode());
+        verify(mockClient, times(1)).getInvitation("inv-123");
+    }
+
+    @Test
+    void testErrorResponsesArePreserved() throws Exception {
+        when(mockConfig.authenticateUser()).thenReturn(null);
+
+        ResponseEntity<?> response = controller.getInvitation("inv-123").get(5, TimeUnit.SECONDS);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Authentication required", ((Map<?, ?>) response.getBody()).get("error"));
+        verifyNoInteractions(mockClient);
+    }
+}
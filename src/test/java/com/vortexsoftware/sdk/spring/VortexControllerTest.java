@@ -135,6 +135,22 @@ public class VortexControllerTest {
         assertEquals(InvitationStatus.DELIVERED, returnedInvitation.getStatus());
     }
 
+    @Test
+    void testGetInvitation_SendsConfiguredCacheControl() throws VortexException {
+        controller.setCacheControl("private, max-age=30");
+        when(mockConfig.authenticateUser()).thenReturn(testUser);
+        when(mockConfig.authorizeOperation("GET_INVITATION", testUser)).thenReturn(true);
+        when(mockClient.getInvitation("inv-123")).thenReturn(new InvitationResult());
+        when(mockClient.getInvitation("nonexistent")).thenThrow(new VortexException("Not found"));
+
+        ResponseEntity<?> response = controller.getInvitation("inv-123");
+        assertEquals("private, max-age=30", response.getHeaders().getCacheControl());
+
+        ResponseEntity<?> notFound = controller.getInvitation("nonexistent");
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertNull(notFound.getHeaders().getCacheControl(), "Errors must not be cacheable");
+    }
+
     @Test
     void testGetInvitation_NotFound() throws VortexException {
         when(mockConfig.authenticateUser()).thenReturn(testUser);
@@ -259,4 +275,61 @@ public class VortexControllerTest {
         assertEquals("inv-123", returnedResult.getId());
         assertEquals(InvitationStatus.QUEUED, returnedResult.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAcceptInvitationsBatch_ReturnsPartialFailures() throws VortexException {
+        List<AcceptInvitationRequest> items = List.of(
+                new AcceptInvitationRequest(List.of("inv-1"), new AcceptUser("a@example.com")),
+                new AcceptInvitationRequest(List.of("inv-2"), new AcceptUser("b@example.com")));
+        InvitationResult accepted = new InvitationResult();
+        accepted.setId("inv-1");
+        BatchAcceptInvitationsResult result = new BatchAcceptInvitationsResult(List.of(accepted),
+                List.of(new BatchAcceptInvitationsResult.BatchAcceptError(1, List.of("inv-2"), "API request failed: 404")));
+
+        when(mockConfig.authenticateUser()).thenReturn(testUser);
+        when(mockConfig.authorizeOperation("BATCH_ACCEPT_INVITATIONS", testUser)).thenReturn(true);
+        when(mockClient.acceptInvitationsBatch(items)).thenReturn(result);
+
+        ResponseEntity<?> response = controller.acceptInvitationsBatch(new BatchAcceptInvitationsRequest(items));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BatchAcceptInvitationsResult body = (BatchAcceptInvitationsResult) response.getBody();
+        assertEquals("inv-1", body.getAccepted().get(0).getId());
+        assertEquals(1, body.getErrors().get(0).getIndex());
+    }
+
+    @Test
+    void testAcceptInvitationsBatch_Forbidden() {
+        when(mockConfig.authenticateUser()).thenReturn(testUser);
+        when(mockConfig.authorizeOperation("BATCH_ACCEPT_INVITATIONS", testUser)).thenReturn(false);
+
+        ResponseEntity<?> response = controller.acceptInvitationsBatch(new BatchAcceptInvitationsRequest(List.of()));
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(mockClient);
+    }
+
+    @Test
+    void testAcceptInvitationsBatch_RejectsOversizedBatch() {
+        List<AcceptInvitationRequest> items = List.of(
+                new AcceptInvitationRequest(List.of("inv-1"), new AcceptUser("a@example.com")),
+                new AcceptInvitationRequest(List.of("inv-2"), new AcceptUser("b@example.com")));
+        controller.setMaxBatchItems(1);
+        when(mockConfig.authenticateUser()).thenReturn(testUser);
+        when(mockConfig.authorizeOperation("BATCH_ACCEPT_INVITATIONS", testUser)).thenReturn(true);
+
+        ResponseEntity<?> response = controller.acceptInvitationsBatch(new BatchAcceptInvitationsRequest(items));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(mockClient);
+    }
+
+    @Test
+    void testDefaultConfigDeniesBatchAccept() {
+        VortexConfig defaults = new VortexAutoConfiguration().vortexConfig();
+
+        assertFalse(defaults.authorizeOperation("BATCH_ACCEPT_INVITATIONS", testUser));
+        assertTrue(defaults.authorizeOperation("ACCEPT_INVITATIONS", testUser));
+        assertFalse(defaults.authorizeOperation("ACCEPT_INVITATIONS", null));
+    }
+}
@@ -0,0 +1,103 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexClient;
+import com.vortexsoftware.sdk.types.InvitationResult;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests for the ETag filter registered by VortexAutoConfiguration, run
+ * through MockMvc in front of VortexController
+ */
+@ExtendWith(MockitoExtension.class)
+public class VortexETagFilterTest {
+
+    private static final String INVITATION_URL = VortexRoutes.BASE + "/invitations/inv-123";
+
+    @Mock
+    private VortexClient mockClient;
+
+    @Mock
+    private VortexConfig mockConfig;
+
+    private Filter etagFilter;
+    private String[] etagUrlPatterns;
+
+    @BeforeEach
+    void setUp() {
+        FilterRegistrationBean<?> registration = new VortexAutoConfiguration().vortexETagFilter();
+        etagFilter = registration.getFilter();
+        etagUrlPatterns = registration.getUrlPatterns().toArray(new String[0]);
+        VortexConfig.VortexUser user = new VortexConfig.VortexUser("user-123", List.of(), List.of(), null);
+        when(mockConfig.authenticateUser()).thenReturn(user);
+        when(mockConfig.authorizeOperation("GET_INVITATION", user)).thenReturn(true);
+    }
+
+    @Test
+    void testGetAnswersWithStrongETagAndHonoursIfNoneMatch() throws Exception {
+        InvitationResult invitation = new InvitationResult();
+        invitation.setId("inv-123");
+        when(mockClient.getInvitation("inv-123")).thenReturn(invitation);
+        MockMvc mvc = mockMvc(new VortexController(mockClient, mockConfig));
+
+        MvcResult first = mvc.perform(get(INVITATION_URL))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag, "GET should carry an ETag");
+        assertTrue(etag.startsWith("\""), "ETag should be strong: " + etag);
+
+        mvc.perform(get(INVITATION_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(get(INVITATION_URL).header(HttpHeaders.IF_NONE_MATCH, "\"0123456789abcdef\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(first.getResponse().getContentAsString()));
+    }
+
+    @Test
+    void testPassThroughResponseIsNotBufferedForAnETag() throws Exception {
+        byte[] body = "{\"id\":\"inv-123\"}".getBytes(StandardCharsets.UTF_8);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(body);
+            return null;
+        }).when(mockClient).writeInvitationTo(eq("inv-123"), any(OutputStream.class), anySet());
+        MockMvc mvc = mockMvc(new VortexController(mockClient, mockConfig, true, Set.of()));
+
+        mvc.perform(get(INVITATION_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(content().bytes(body));
+    }
+
+    private MockMvc mockMvc(VortexController controller) {
+        return MockMvcBuilders.standaloneSetup(controller)
+                .addFilter(etagFilter, etagUrlPatterns)
+                .build();
+    }
+}
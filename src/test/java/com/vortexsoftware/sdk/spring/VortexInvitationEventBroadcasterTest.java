@@ -0,0 +1,89 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Server-Sent Events fan-out of invitation webhook events
+ */
+public class VortexInvitationEventBroadcasterTest {
+
+    private static VortexWebhookEvent event(String type, Map<String, Object> data) {
+        VortexWebhookEvent event = new VortexWebhookEvent();
+        event.setId("evt_" + System.nanoTime());
+        event.setType(type);
+        event.setData(data);
+        return event;
+    }
+
+    @Test
+    void testHandle_DeliversOnlyToMatchingScopes() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        try (VortexInvitationEventBroadcaster broadcaster = new VortexInvitationEventBroadcaster(
+                queued::add, 8, Duration.ofMinutes(1), Duration.ofHours(1))) {
+            broadcaster.subscribe("team", "team-1");
+            broadcaster.subscribe("team", "team-2");
+            broadcaster.subscribe("project", "proj-1");
+            assertEquals(3, broadcaster.getSubscriberCount());
+
+            broadcaster.handle(event("invitation.accepted", Map.of(
+                    "invitationId", "inv_1",
+                    "scopeType", "team",
+                    "scope", "team-1",
+                    "groups", List.of(Map.of("type", "project", "groupId", "proj-1")))));
+
+            assertEquals(1, broadcaster.getPublishedCount());
+            assertEquals(2, queued.size(), "team-1 and proj-1 subscribers should be scheduled");
+
+            broadcaster.handle(event("user.created", Map.of("scopeType", "team", "scope", "team-2")));
+            broadcaster.handle(event("invitation.created", Map.of("scopeType", "team", "scope", "team-3")));
+
+            assertEquals(1, broadcaster.getPublishedCount());
+            assertEquals(2, queued.size());
+        }
+    }
+
+    @Test
+    void testHandle_EvictsSubscriberWhoseBufferIsFull() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        try (VortexInvitationEventBroadcaster broadcaster = new VortexInvitationEventBroadcaster(
+                queued::add, 2, Duration.ofMinutes(1), Duration.ofHours(1))) {
+            broadcaster.subscribe("team", "team-1");
+
+            Map<String, Object> data = Map.of("scopeType", "team", "scope", "team-1");
+            broadcaster.handle(event("invitation.created", data));
+            broadcaster.handle(event("invitation.updated", data));
+            assertEquals(1, broadcaster.getSubscriberCount());
+            assertEquals(0, broadcaster.getEvictionCount());
+
+            broadcaster.handle(event("invitation.accepted", data));
+
+            assertEquals(0, broadcaster.getSubscriberCount());
+            assertEquals(1, broadcaster.getEvictionCount());
+            assertEquals(1, queued.size(), "A single drain should be scheduled per subscriber");
+        }
+    }
+
+    @Test
+    void testHandle_SkipsEventThatCannotBeSerialized() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        try (VortexInvitationEventBroadcaster broadcaster = new VortexInvitationEventBroadcaster(
+                queued::add, 8, Duration.ofMinutes(1), Duration.ofHours(1))) {
+            broadcaster.subscribe("team", "team-1");
+
+            broadcaster.handle(event("invitation.created",
+                    Map.of("scopeType", "team", "scope", "team-1", "widget", new Object())));
+
+            assertEquals(0, broadcaster.getPublishedCount());
+            assertTrue(queued.isEmpty());
+            assertEquals(1, broadcaster.getSubscriberCount());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.vortexsoftware.sdk.spring;
+
+import com.vortexsoftware.sdk.VortexEventHandler;
+import com.vortexsoftware.sdk.VortexTracer;
+import com.vortexsoftware.sdk.VortexWebhooks;
+import com.vortexsoftware.sdk.types.VortexWebhookEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Spring Boot webhook endpoint
+ */
+public class VortexWebhookControllerTest {
+
+    private static final String SECRET = "whsec_test_secret_123";
+
+    private static final byte[] PAYLOAD = ("{" +
+            "\"id\":\"evt_123\"," +
+            "\"type\":\"invitation.accepted\"," +
+            "\"timestamp\":\"2025-01-15T12:00:00.000Z\"," +
+            "\"accountId\":\"acc_123\"," +
+            "\"data\":{\"invitationId\":\"inv_789\"}" +
+            "}").getBytes(StandardCharsets.UTF_8);
+
+    private static String sign(byte[] payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : mac.doFinal(payload)) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void testReceiveWebhook_HandsEventToExecutor() throws Exception {
+        List<Object> handled = new ArrayList<>();
+        List<Runnable> queued = new ArrayList<>();
+        VortexWebhookController controller = new VortexWebhookController(
+                new VortexWebhooks(SECRET), handled::add, queued::add, 10);
+
+        ResponseEntity<?> response = controller.receiveWebhook(PAYLOAD, sign(PAYLOAD));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(handled.isEmpty(), "Handler must not run on the request thread");
+        assertEquals(1, controller.getPendingEvents());
+
+        queued.get(0).run();
+        assertEquals(1, handled.size());
+        assertEquals("evt_123", ((VortexWebhookEvent) handled.get(0)).getId());
+        assertEquals(0, controller.getPendingEvents());
+    }
+
+    @Test
+    void testReceiveWebhook_TracesHandlingWithEventId() throws Exception {
+        List<String> traced = new ArrayList<>();
+        List<Object> handled = new ArrayList<>();
+        List<Runnable> queued = new ArrayList<>();
+        VortexWebhookController controller = new VortexWebhookController(
+                new VortexWebhooks(SECRET), handled::add, queued::add, 10);
+        controller.setTracer(new VortexTracer() {
+            @Override
+            public VortexEventHandler traceWebhook(String eventId, String eventType, VortexEventHandler handler) {
+                traced.add("received " + eventId + " " + eventType);
+                return event -> {
+                    traced.add("handling " + eventId);
+                    handler.handle(event);
+                };
+            }
+        });
+
+        controller.receiveWebhook(PAYLOAD, sign(PAYLOAD));
+        assertEquals(List.of("received evt_123 invitation.accepted"), traced);
+
+        queued.get(0).run();
+        assertEquals(List.of("received evt_123 invitation.accepted", "handling evt_123"), traced);
+        assertEquals(1, handled.size());
+    }
+
+    @Test
+    void testReceiveWebhook_InvalidSignature() {
+        List<Object> handled = new ArrayList<>();
+        VortexWebhookController controller = new VortexWebhookController(
+                new VortexWebhooks(SECRET), handled::add, Runnable::run, 10);
+
+        ResponseEntity<?> response = controller.receiveWebhook(PAYLOAD, "bad");
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertTrue(handled.isEmpty());
+    }
+
+    @Test
+    void testReceiveWebhook_SaturatedPipeline() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        VortexWebhookController controller = new VortexWebhookController(
+                new VortexWebhooks(SECRET), event -> {}, queued::add, 1);
+
+        assertEquals(HttpStatus.OK, controller.receiveWebhook(PAYLOAD, sign(PAYLOAD)).getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, controller.receiveWebhook(PAYLOAD, sign(PAYLOAD)).getStatusCode());
+    }
+
+    @Test
+    void testReceiveWebhook_ExecutorRejects() throws Exception {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        VortexWebhookController controller = new VortexWebhookController(
+                new VortexWebhooks(SECRET), event -> {}, rejecting, 10);
+
+        ResponseEntity<?> response = controller.receiveWebhook(PAYLOAD, sign(PAYLOAD));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(0, controller.getPendingEvents());
+    }
+
+    @Test
+    void testCompositeHandler_FailingHandlerDoesNotStopOthers() throws Exception {
+        List<Object> handled = new ArrayList<>();
+        VortexEventHandler failing = event -> {
+            throw new IllegalStateException("handler failed");
+        };
+        List<Runnable> queued = new ArrayList<>();
+        VortexWebhookController controller = new VortexWebhookController(new VortexWebhooks(SECRET),
+                VortexWebhookAutoConfiguration.compositeHandler(List.of(failing, handled::add)), queued::add, 10);
+
+        assertEquals(HttpStatus.OK, controller.receiveWebhook(PAYLOAD, sign(PAYLOAD)).getStatusCode());
+        queued.get(0).run();
+
+        assertEquals(1, handled.size());
+        assertEquals("evt_123", ((VortexWebhookEvent) handled.get(0)).getId());
+        assertEquals(0, controller.getPendingEvents());
+    }
+}
@@ -0,0 +1,672 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Generates VortexTypeCodecs from the Jackson annotations on the types in
+ * this package, using Jackson's own introspection so the generated code binds
+ * the same properties, in the same order, as the reflective path.
+ *
+ * VortexTypesModuleTest fails when the checked-in source is stale; regenerate
+ * it with mvn test -Dtest=VortexTypesModuleTest -Dvortex.codecs.regenerate=true
+ */
+final class VortexTypeCodecsGenerator {
+
+    static final Path SOURCE_DIR = Path.of("src/main/java/com/vortexsoftware/sdk/types");
+    static final Path OUTPUT = SOURCE_DIR.resolve("VortexTypeCodecs.java");
+
+    private static final Set<String> RESERVED = Set.of(
+            "bean", "gen", "provider", "p", "ctxt", "name", "default", "class", "new", "public", "private");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<Class<?>, Bean> beans = new TreeMap<>((a, b) -> a.getName().compareTo(b.getName()));
+    private final Map<String, String> skipped = new TreeMap<>();
+    private final Map<Class<?>, EnumInfo> enums = new TreeMap<>((a, b) -> a.getName().compareTo(b.getName()));
+    private final Set<Class<?>> enumReaders = new LinkedHashSet<>();
+    private final Set<Class<?>> enumListReaders = new LinkedHashSet<>();
+
+    public static void main(String[] args) throws IOException {
+        Files.writeString(OUTPUT, new VortexTypeCodecsGenerator().generate(), StandardCharsets.UTF_8);
+    }
+
+    /** The source of VortexTypeCodecs for the types currently in this package */
+    String generate() throws IOException {
+        for (Class<?> type : candidates()) {
+            String reason = unsupported(type);
+            if (reason != null) {
+                skipped.put(type.getSimpleName(), reason);
+            } else if (!type.isEnum()) {
+                beans.put(type, new Bean(type));
+            }
+        }
+        StringBuilder body = new StringBuilder();
+        for (Bean bean : beans.values()) {
+            bean.writeSerializer(body);
+            bean.writeDeserializer(body);
+        }
+        writeEnumReaders(body);
+        return header(body.toString()) + body + "}\n";
+    }
+
+    private List<Class<?>> candidates() throws IOException {
+        List<Class<?>> types = new ArrayList<>();
+        try (Stream<Path> files = Files.list(SOURCE_DIR)) {
+            for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(".java") || fileName.equals("package-info.java")) {
+                    continue;
+                }
+                try {
+                    addWithNested(Class.forName(getClass().getPackageName() + "."
+                            + fileName.substring(0, fileName.length() - ".java".length())), types);
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Compile the sources before generating codecs", e);
+                }
+            }
+        }
+        return types;
+    }
+
+    private static void addWithNested(Class<?> type, List<Class<?>> types) {
+        if (!Modifier.isPublic(type.getModifiers()) || type.isInterface() || Module.class.isAssignableFrom(type)) {
+            return;
+        }
+        types.add(type);
+        for (Class<?> nested : type.getDeclaredClasses()) {
+            if (Modifier.isStatic(nested.getModifiers())) {
+                addWithNested(nested, types);
+            }
+        }
+    }
+
+    /** Why a type cannot have a generated codec, or null if it can */
+    private String unsupported(Class<?> type) {
+        if (type.isEnum()) {
+            return enumInfo(type) != null ? null : "no @JsonValue String accessor";
+        }
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return "abstract";
+        }
+        BeanDescription ser = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+        BeanDescription deser = mapper.getDeserializationConfig().introspect(mapper.constructType(type));
+        if (ser.findProperties().isEmpty()) {
+            return "no properties";
+        }
+        AnnotatedConstructor constructor = deser.findDefaultConstructor();
+        if (constructor == null || !Modifier.isPublic(constructor.getModifiers())) {
+            return "no public no-argument constructor";
+        }
+        if (deser.getConstructors().stream().anyMatch(c -> c.hasAnnotation(JsonCreator.class))
+                || deser.getFactoryMethods().stream().anyMatch(m -> m.hasAnnotation(JsonCreator.class))) {
+            return "@JsonCreator";
+        }
+        if (ser.findJsonValueAccessor() != null || ser.findAnyGetter() != null || deser.findAnySetterAccessor() != null
+                || ser.getObjectIdInfo() != null
+                || mapper.getSerializationConfig().getAnnotationIntrospector().findFilterId(ser.getClassInfo()) != null
+                || mapper.getSerializationConfig().getAnnotationIntrospector()
+                        .findTypeResolver(mapper.getSerializationConfig(), ser.getClassInfo(), ser.getType()) != null) {
+            return "uses a Jackson feature the generator does not handle";
+        }
+        if (!mapper.getDeserializationConfig().getDefaultPropertyIgnorals(type, deser.getClassInfo())
+                .findIgnoredForDeserialization().isEmpty()) {
+            return "ignores named properties";
+        }
+        JsonInclude.Value classInclusion = classInclusion(ser);
+        for (BeanPropertyDefinition property : ser.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null) {
+                continue;
+            }
+            if (!(accessor instanceof AnnotatedMethod) || !accessor.isPublic()) {
+                return "property " + property.getName() + " has no public getter";
+            }
+            JsonInclude.Include inclusion = VortexTypesModule.inclusion(
+                    mapper.getSerializationConfig(), type, property, classInclusion);
+            if (inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.NON_NULL) {
+                return "property " + property.getName() + " is included " + inclusion;
+            }
+        }
+        for (BeanPropertyDefinition property : deser.findProperties()) {
+            AnnotatedMember mutator = property.getMutator();
+            if (mutator == null) {
+                continue;
+            }
+            if (!(mutator instanceof AnnotatedMethod) || !mutator.isPublic()) {
+                return "property " + property.getName() + " has no public setter";
+            }
+            if (!VortexTypesModule.aliases(mapper.getDeserializationConfig(), property).isEmpty()) {
+                return "property " + property.getName() + " has aliases";
+            }
+        }
+        return null;
+    }
+
+    private JsonInclude.Value classInclusion(BeanDescription ser) {
+        return JsonInclude.Value.merge(ser.findPropertyInclusion(JsonInclude.Value.empty()),
+                mapper.getSerializationConfig().getDefaultPropertyInclusion(ser.getBeanClass(), JsonInclude.Value.empty()));
+    }
+
+    /** How an enum is written, or null if it is not written as a @JsonValue string */
+    private EnumInfo enumInfo(Class<?> type) {
+        if (enums.containsKey(type)) {
+            return enums.get(type);
+        }
+        AnnotatedMember accessor = mapper.getSerializationConfig().introspect(mapper.constructType(type))
+                .findJsonValueAccessor();
+        EnumInfo info = null;
+        if (accessor instanceof AnnotatedMethod && accessor.getRawType() == String.class
+                && accessor.isPublic()) {
+            Method method = ((AnnotatedMethod) accessor).getAnnotated();
+            info = new EnumInfo(method.getName());
+            for (Object constant : type.getEnumConstants()) {
+                try {
+                    String value = (String) method.invoke(constant);
+                    if (value == null || info.constants.put(value, ((Enum<?>) constant).name()) != null) {
+                        info = null;
+                        break;
+                    }
+                } catch (ReflectiveOperationException e) {
+                    info = null;
+                    break;
+                }
+            }
+        }
+        enums.put(type, info);
+        return info;
+    }
+
+    private String header(String body) {
+        StringBuilder out = new StringBuilder();
+        out.append("package com.vortexsoftware.sdk.types;\n\n");
+        for (String name : List.of(
+                "com.fasterxml.jackson.core.JsonGenerator",
+                "com.fasterxml.jackson.core.JsonParser",
+                "com.fasterxml.jackson.core.JsonToken",
+                "com.fasterxml.jackson.core.io.SerializedString",
+                "com.fasterxml.jackson.databind.DeserializationContext",
+                "com.fasterxml.jackson.databind.JsonDeserializer",
+                "com.fasterxml.jackson.databind.JsonMappingException",
+                "com.fasterxml.jackson.databind.JsonSerializer",
+                "com.fasterxml.jackson.databind.SerializerProvider")) {
+            appendImport(out, name, body);
+        }
+        out.append("\n");
+        for (String name : List.of("java.io.IOException", "java.util.ArrayList", "java.util.List", "java.util.Map",
+                "java.util.Set")) {
+            appendImport(out, name, name.endsWith(".Map") || name.endsWith(".Set") ? "Map Set" : body);
+        }
+        out.append("\n/**\n"
+                + " * Serializers and deserializers for the types in this package, generated\n"
+                + " * from their Jackson annotations by VortexTypeCodecsGenerator. Do not edit;\n"
+                + " * regenerate with\n"
+                + " * mvn test -Dtest=VortexTypesModuleTest -Dvortex.codecs.regenerate=true\n");
+        if (!skipped.isEmpty()) {
+            out.append(" *\n * Left to Jackson's reflective codecs:\n * <ul>\n");
+            skipped.forEach((type, reason) ->
+                    out.append(" *   <li>").append(type).append(": ").append(reason).append("</li>\n"));
+            out.append(" * </ul>\n");
+        }
+        out.append(" *\n * @see VortexTypesModule\n */\n");
+        out.append("@SuppressWarnings(\"deprecation\")\nfinal class VortexTypeCodecs {\n\n");
+        out.append("    private static final Map<Class<?>, TypeCodec> CODECS = Map.ofEntries(");
+        String separator = "\n";
+        for (Bean bean : beans.values()) {
+            out.append(separator)
+                    .append("            Map.entry(").append(bean.name).append(".class, new TypeCodec(")
+                    .append(bean.name).append(".class,\n")
+                    .append("                    ").append(literal(bean.serializationSignature)).append(",\n")
+                    .append("                    ").append(literal(bean.deserializationSignature)).append(",\n")
+                    .append("                    ").append(bean.prefix).append("Serializer::new, ")
+                    .append(bean.prefix).append("Deserializer::new))");
+            separator = ",\n";
+        }
+        out.append(");\n\n");
+        out.append("    private VortexTypeCodecs() {\n    }\n\n");
+        out.append("    /** The generated codec for a type, or null if it has none */\n");
+        out.append("    static TypeCodec forType(Class<?> type) {\n        return CODECS.get(type);\n    }\n\n");
+        out.append("    static Set<Class<?>> types() {\n        return CODECS.keySet();\n    }\n");
+        return out.toString();
+    }
+
+    private static void appendImport(StringBuilder out, String name, String body) {
+        String simpleName = name.substring(name.lastIndexOf('.') + 1);
+        if (Pattern.compile("\\b" + simpleName + "\\b").matcher(body).find()) {
+            out.append("import ").append(name).append(";\n");
+        }
+    }
+
+    private void writeEnumReaders(StringBuilder out) {
+        for (Class<?> type : enums.keySet()) {
+            if (enums.get(type) == null) {
+                continue;
+            }
+            String name = sourceName(type);
+            String method = "read" + type.getSimpleName();
+            if (enumReaders.contains(type)) {
+                out.append("\n    static ").append(name).append(" ").append(method)
+                        .append("(JsonParser p, DeserializationContext ctxt, JsonDeserializer<Object> fallback)\n")
+                        .append("            throws IOException {\n")
+                        .append("        if (p.currentToken() == JsonToken.VALUE_STRING) {\n")
+                        .append("            switch (p.getText()) {\n");
+                enums.get(type).constants.forEach((value, constant) ->
+                        out.append("                case ").append(literal(value)).append(":\n")
+                                .append("                    return ").append(name).append(".").append(constant).append(";\n"));
+                out.append("                default:\n")
+                        .append("                    break;\n")
+                        .append("            }\n")
+                        .append("        }\n")
+                        .append("        return TypeCodec.Deserializer.readValue(p, ctxt, fallback);\n")
+                        .append("    }\n");
+            }
+            if (enumListReaders.contains(type)) {
+                out.append("\n    static List<").append(name).append("> ").append(method).append("List(JsonParser p, DeserializationContext ctxt,\n")
+                        .append("            JsonDeserializer<Object> listFallback, JsonDeserializer<Object> fallback) throws IOException {\n")
+                        .append("        if (p.currentToken() != JsonToken.START_ARRAY) {\n")
+                        .append("            return TypeCodec.Deserializer.readValue(p, ctxt, listFallback);\n")
+                        .append("        }\n")
+                        .append("        List<").append(name).append("> values = new ArrayList<>();\n")
+                        .append("        while (p.nextToken() != JsonToken.END_ARRAY) {\n")
+                        .append("            values.add(").append(method).append("(p, ctxt, fallback));\n")
+                        .append("        }\n")
+                        .append("        return values;\n")
+                        .append("    }\n");
+            }
+        }
+    }
+
+    /** How a property value is read and written */
+    private enum Kind { STRING, INT, BOOLEAN, BOOLEAN_OBJECT, ENUM, STRING_LIST, ENUM_LIST, BEAN, BEAN_LIST, OTHER }
+
+    private Kind kind(JavaType type) {
+        Class<?> raw = type.getRawClass();
+        if (raw == String.class) {
+            return Kind.STRING;
+        } else if (raw == int.class) {
+            return Kind.INT;
+        } else if (raw == boolean.class) {
+            return Kind.BOOLEAN;
+        } else if (raw == Boolean.class) {
+            return Kind.BOOLEAN_OBJECT;
+        } else if (raw.isEnum() && beansOrEnums(raw)) {
+            return Kind.ENUM;
+        } else if (beansOrEnums(raw)) {
+            return Kind.BEAN;
+        } else if (raw == List.class) {
+            Kind element = kind(type.getContentType());
+            switch (element) {
+                case STRING:
+                    return Kind.STRING_LIST;
+                case ENUM:
+                    return Kind.ENUM_LIST;
+                case BEAN:
+                    return Kind.BEAN_LIST;
+                default:
+                    return Kind.OTHER;
+            }
+        }
+        return Kind.OTHER;
+    }
+
+    private boolean beansOrEnums(Class<?> raw) {
+        if (raw.isEnum()) {
+            return raw.getPackageName().equals(getClass().getPackageName()) && enumInfo(raw) != null;
+        }
+        return raw.getPackageName().equals(getClass().getPackageName()) && unsupported(raw) == null;
+    }
+
+    /** A JsonSerializer or JsonDeserializer field for a type that is looked up at resolve time */
+    private static String fieldName(JavaType type) {
+        if (type.getRawClass() == Object.class) {
+            return "object";
+        }
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < type.containedTypeCount(); i++) {
+            name.append(type.containedType(i).getRawClass().getSimpleName());
+        }
+        name.append(type.getRawClass().getSimpleName());
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String typeExpression(JavaType type, String context) {
+        Class<?> raw = type.getRawClass();
+        if (raw == List.class) {
+            return context + ".getTypeFactory().constructCollectionType(List.class, "
+                    + sourceName(type.getContentType().getRawClass()) + ".class)";
+        }
+        if (raw == Map.class) {
+            return context + ".getTypeFactory().constructMapType(Map.class, "
+                    + sourceName(type.getKeyType().getRawClass()) + ".class, "
+                    + sourceName(type.getContentType().getRawClass()) + ".class)";
+        }
+        if (type.containedTypeCount() > 0) {
+            throw new IllegalStateException("Unsupported generic type " + type);
+        }
+        return context + ".constructType(" + sourceName(raw) + ".class)";
+    }
+
+    private static String sourceName(Class<?> type) {
+        if (type.isPrimitive()) {
+            return type.getName();
+        }
+        String name = type.getName().substring(type.getPackageName().length() + 1).replace('$', '.');
+        return type.getPackageName().equals("java.lang") || type.getPackageName().equals("java.util")
+                || type.getPackageName().equals(VortexTypeCodecsGenerator.class.getPackageName())
+                ? name : type.getName();
+    }
+
+    private static String constantName(String property) {
+        return property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private static String localName(String property) {
+        return RESERVED.contains(property) ? property + "Value" : property;
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private final class Bean {
+        final Class<?> type;
+        final String name;
+        final String prefix;
+        final BeanDescription ser;
+        final BeanDescription deser;
+        final String serializationSignature;
+        final String deserializationSignature;
+
+        Bean(Class<?> type) {
+            this.type = type;
+            this.name = sourceName(type);
+            this.prefix = type.getSimpleName();
+            this.ser = mapper.getSerializationConfig().introspect(mapper.constructType(type));
+            this.deser = mapper.getDeserializationConfig().introspect(mapper.constructType(type));
+            this.serializationSignature = VortexTypesModule.serializationSignature(mapper.getSerializationConfig(), ser);
+            this.deserializationSignature = VortexTypesModule.deserializationSignature(mapper.getDeserializationConfig(), deser);
+        }
+
+        void writeSerializer(StringBuilder out) {
+            List<BeanPropertyDefinition> properties = new ArrayList<>();
+            for (BeanPropertyDefinition property : ser.findProperties()) {
+                if (property.getAccessor() != null) {
+                    properties.add(property);
+                }
+            }
+            Map<String, JavaType> resolved = new TreeMap<>();
+            StringBuilder write = new StringBuilder();
+            JsonInclude.Value classInclusion = classInclusion(ser);
+            for (BeanPropertyDefinition property : properties) {
+                JavaType propertyType = property.getAccessor().getType();
+                Kind kind = kind(propertyType);
+                String local = localName(property.getName());
+                boolean primitive = kind == Kind.INT || kind == Kind.BOOLEAN;
+                boolean nonNull = !primitive && VortexTypesModule.inclusion(mapper.getSerializationConfig(), type,
+                        property, classInclusion) == JsonInclude.Include.NON_NULL;
+                String value;
+                switch (kind) {
+                    case STRING:
+                        value = "gen.writeString(" + local + ");";
+                        break;
+                    case INT:
+                        value = "gen.writeNumber(" + local + ");";
+                        break;
+                    case BOOLEAN:
+                    case BOOLEAN_OBJECT:
+                        value = "gen.writeBoolean(" + local + ");";
+                        break;
+                    case ENUM:
+                        value = "gen.writeString(" + local + "." + enumInfo(propertyType.getRawClass()).accessor + "());";
+                        break;
+                    case STRING_LIST:
+                        value = "writeStringList(" + local + ", gen, provider);";
+                        break;
+                    case ENUM_LIST: {
+                        Class<?> element = propertyType.getContentType().getRawClass();
+                        value = "gen.writeStartArray(" + local + ", " + local + ".size());\n"
+                                + "for (" + sourceName(element) + " element : " + local + ") {\n"
+                                + "    if (element == null) {\n"
+                                + "        provider.defaultSerializeNull(gen);\n"
+                                + "    } else {\n"
+                                + "        gen.writeString(element." + enumInfo(element).accessor + "());\n"
+                                + "    }\n"
+                                + "}\n"
+                                + "gen.writeEndArray();";
+                        break;
+                    }
+                    case BEAN: {
+                        String field = fieldName(propertyType) + "Serializer";
+                        resolved.put(field, propertyType);
+                        value = "writeValue(" + local + ", " + sourceName(propertyType.getRawClass()) + ".class, "
+                                + field + ", gen, provider);";
+                        break;
+                    }
+                    case BEAN_LIST: {
+                        JavaType element = propertyType.getContentType();
+                        String field = fieldName(element) + "Serializer";
+                        resolved.put(field, element);
+                        value = "writeList(" + local + ", " + sourceName(element.getRawClass()) + ".class, "
+                                + field + ", gen, provider);";
+                        break;
+                    }
+                    default:
+                        value = "provider.defaultSerializeValue(" + local + ", gen);";
+                        break;
+                }
+                write.append("            ").append(sourceName(propertyType.getRawClass())).append(generics(propertyType))
+                        .append(" ").append(local).append(" = bean.").append(property.getAccessor().getName()).append("();\n");
+                String field = "gen.writeFieldName(" + constantName(property.getName()) + ");\n";
+                if (nonNull) {
+                    // Skipped when null, as @JsonInclude(NON_NULL) does
+                    write.append("            if (").append(local).append(" != null) {\n")
+                            .append(indented(field + value, "                "))
+                            .append("            }\n");
+                } else if (primitive || kind == Kind.OTHER) {
+                    write.append(indented(field + value, "            "));
+                } else {
+                    write.append(indented(field
+                            + "if (" + local + " == null) {\n"
+                            + "    provider.defaultSerializeNull(gen);\n"
+                            + "} else {\n"
+                            + indented(value, "    ")
+                            + "}", "            "));
+                }
+            }
+
+            out.append("\n    static final class ").append(prefix).append("Serializer extends TypeCodec.Serializer<")
+                    .append(name).append("> {\n\n");
+            for (BeanPropertyDefinition property : properties) {
+                out.append("        private static final SerializedString ").append(constantName(property.getName()))
+                        .append(" = new SerializedString(").append(literal(property.getName())).append(");\n");
+            }
+            out.append("\n");
+            resolved.keySet().forEach(field ->
+                    out.append("        private JsonSerializer<Object> ").append(field).append(";\n"));
+            if (!resolved.isEmpty()) {
+                out.append("\n");
+            }
+            out.append("        ").append(prefix).append("Serializer(JsonSerializer<Object> fallback) {\n")
+                    .append("            super(").append(name).append(".class, fallback);\n")
+                    .append("        }\n");
+            if (!resolved.isEmpty()) {
+                out.append("\n        @Override\n")
+                        .append("        void resolveProperties(SerializerProvider provider) throws JsonMappingException {\n");
+                resolved.forEach((field, fieldType) ->
+                        out.append("            ").append(field).append(" = provider.findValueSerializer(")
+                                .append(sourceName(fieldType.getRawClass())).append(".class, null);\n"));
+                out.append("        }\n");
+            }
+            out.append("\n        @Override\n")
+                    .append("        void writeProperties(").append(name)
+                    .append(" bean, JsonGenerator gen, SerializerProvider provider) throws IOException {\n")
+                    .append(write)
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+
+        void writeDeserializer(StringBuilder out) {
+            boolean ignoreUnknown = mapper.getDeserializationConfig()
+                    .getDefaultPropertyIgnorals(type, deser.getClassInfo()).getIgnoreUnknown();
+            Map<String, JavaType> resolved = new TreeMap<>();
+            StringBuilder read = new StringBuilder();
+            for (BeanPropertyDefinition property : deser.findProperties()) {
+                AnnotatedMember mutator = property.getMutator();
+                if (mutator == null) {
+                    continue;
+                }
+                JavaType propertyType = ((AnnotatedMethod) mutator).getParameterType(0);
+                String value;
+                switch (kind(propertyType)) {
+                    case STRING:
+                        value = "readString(p, ctxt)";
+                        break;
+                    case INT:
+                        value = "readInt(p, ctxt)";
+                        break;
+                    case BOOLEAN:
+                        value = "readBoolean(p, ctxt)";
+                        break;
+                    case BOOLEAN_OBJECT:
+                        value = "readBooleanObject(p, ctxt)";
+                        break;
+                    case ENUM: {
+                        String field = fieldName(propertyType) + "Deserializer";
+                        resolved.put(field, propertyType);
+                        enumReaders.add(propertyType.getRawClass());
+                        value = "read" + propertyType.getRawClass().getSimpleName() + "(p, ctxt, " + field + ")";
+                        break;
+                    }
+                    case STRING_LIST: {
+                        String field = fieldName(propertyType) + "Deserializer";
+                        resolved.put(field, propertyType);
+                        value = "readStringList(p, ctxt, " + field + ")";
+                        break;
+                    }
+                    case ENUM_LIST: {
+                        JavaType element = propertyType.getContentType();
+                        String listField = fieldName(propertyType) + "Deserializer";
+                        String field = fieldName(element) + "Deserializer";
+                        resolved.put(listField, propertyType);
+                        resolved.put(field, element);
+                        enumReaders.add(element.getRawClass());
+                        enumListReaders.add(element.getRawClass());
+                        value = "read" + element.getRawClass().getSimpleName() + "List(p, ctxt, " + listField + ", " + field + ")";
+                        break;
+                    }
+                    case BEAN_LIST: {
+                        JavaType element = propertyType.getContentType();
+                        String listField = fieldName(propertyType) + "Deserializer";
+                        String field = fieldName(element) + "Deserializer";
+                        resolved.put(listField, propertyType);
+                        resolved.put(field, element);
+                        value = "readList(p, ctxt, " + listField + ", " + field + ")";
+                        break;
+                    }
+                    default: {
+                        String field = fieldName(propertyType) + "Deserializer";
+                        resolved.put(field, propertyType);
+                        value = "readValue(p, ctxt, " + field + ")";
+                        break;
+                    }
+                }
+                read.append("                        case ").append(literal(property.getName())).append(":\n")
+                        .append("                            bean.").append(mutator.getName()).append("(").append(value).append(");\n")
+                        .append("                            continue;\n");
+            }
+
+            out.append("\n    static final class ").append(prefix).append("Deserializer extends TypeCodec.Deserializer<")
+                    .append(name).append("> {\n\n");
+            resolved.keySet().forEach(field ->
+                    out.append("        private JsonDeserializer<Object> ").append(field).append(";\n"));
+            if (!resolved.isEmpty()) {
+                out.append("\n");
+            }
+            out.append("        ").append(prefix).append("Deserializer(JsonDeserializer<Object> fallback) {\n")
+                    .append("            super(").append(name).append(".class, fallback);\n")
+                    .append("        }\n");
+            if (!resolved.isEmpty()) {
+                out.append("\n        @Override\n")
+                        .append("        void resolveProperties(DeserializationContext ctxt) throws JsonMappingException {\n");
+                resolved.forEach((field, fieldType) ->
+                        out.append("            ").append(field).append(" = find(ctxt, ")
+                                .append(fieldType.containedTypeCount() > 0
+                                        ? typeExpression(fieldType, "ctxt")
+                                        : sourceName(fieldType.getRawClass()) + ".class")
+                                .append(");\n"));
+                out.append("        }\n");
+            }
+            out.append("\n        @Override\n")
+                    .append("        ").append(name).append(" readProperties(JsonParser p, DeserializationContext ctxt) throws IOException {\n")
+                    .append("            ").append(name).append(" bean = new ").append(name).append("();\n")
+                    .append("            for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {\n")
+                    .append("                p.nextToken();\n")
+                    .append("                try {\n")
+                    .append("                    switch (name) {\n")
+                    .append(read)
+                    .append("                        default:\n")
+                    .append("                            break;\n")
+                    .append("                    }\n")
+                    .append("                } catch (Exception e) {\n")
+                    .append("                    throw wrap(e, bean, name, ctxt);\n")
+                    .append("                }\n")
+                    .append("                unknownProperty(p, ctxt, bean, name, ").append(ignoreUnknown).append(");\n")
+                    .append("            }\n")
+                    .append("            return bean;\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+    }
+
+    private static String generics(JavaType type) {
+        if (type.containedTypeCount() == 0) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder("<");
+        for (int i = 0; i < type.containedTypeCount(); i++) {
+            JavaType contained = type.containedType(i);
+            out.append(i > 0 ? ", " : "").append(sourceName(contained.getRawClass())).append(generics(contained));
+        }
+        return out.append(">").toString();
+    }
+
+    private static String indented(String code, String indent) {
+        StringBuilder out = new StringBuilder();
+        for (String line : code.split("\n")) {
+            out.append(indent).append(line).append("\n");
+        }
+        return out.toString();
+    }
+
+    private static final class EnumInfo {
+        final String accessor;
+        final Map<String, String> constants = new LinkedHashMap<>();
+
+        EnumInfo(String accessor) {
+            this.accessor = accessor;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.vortexsoftware.sdk.types;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the generated codecs are current and read and write every type
+ * exactly as Jackson's reflective codecs do
+ */
+public class VortexTypesModuleTest {
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper generated = new ObjectMapper().registerModule(new VortexTypesModule());
+
+    @Test
+    void testGeneratedSourceIsUpToDate() throws IOException {
+        assumeTrue(Files.isDirectory(VortexTypeCodecsGenerator.SOURCE_DIR), "Not run from the project directory");
+        String expected = new VortexTypeCodecsGenerator().generate();
+        if (Boolean.getBoolean("vortex.codecs.regenerate")) {
+            Files.writeString(VortexTypeCodecsGenerator.OUTPUT, expected, StandardCharsets.UTF_8);
+        }
+        assertEquals(expected, Files.readString(VortexTypeCodecsGenerator.OUTPUT, StandardCharsets.UTF_8),
+                "VortexTypeCodecs is stale; regenerate it with "
+                        + "mvn test -Dtest=VortexTypesModuleTest -Dvortex.codecs.regenerate=true");
+    }
+
+    @Test
+    void testModuleReplacesReflectiveCodecs() throws Exception {
+        DefaultDeserializationContext ctxt = ((DefaultDeserializationContext) generated.getDeserializationContext())
+                .createDummyInstance(generated.getDeserializationConfig());
+        for (Class<?> type : VortexTypeCodecs.types()) {
+            assertInstanceOf(TypeCodec.Serializer.class,
+                    generated.getSerializerProviderInstance().findValueSerializer(type), type.getName());
+            assertInstanceOf(TypeCodec.Deserializer.class,
+                    ctxt.findRootValueDeserializer(generated.constructType(type)), type.getName());
+        }
+    }
+
+    @Test
+    void testFixturesDecodeAndEncodeIdentically() throws Exception {
+        assertEquivalent(fixture("invitation-response-small.json"), InvitationResponse.class);
+        assertEquivalent(fixture("invitation-response-large.json"), InvitationResponse.class);
+        assertEquivalent(fixture("invitation-result.json"), InvitationResult.class);
+        assertEquivalent(fixture("webhook-event.json"), VortexWebhookEvent.class);
+    }
+
+    @Test
+    void testEveryTypeMatchesReflectivePath() throws Exception {
+        for (Class<?> type : VortexTypeCodecs.types()) {
+            // Every property set, every property null, and none
+            assertEquivalent(sample(reflective.constructType(type), 0).toString(), type);
+            assertEquivalent(nulls(type).toString(), type);
+            assertEquivalent("{}", type);
+
+            // Shapes the codecs hand to Jackson, and properties the type does not declare
+            assertSameOutcome("{\"notAProperty\":{\"nested\":[1]}}", type);
+            assertSameOutcome("\"text\"", type);
+            assertSameOutcome("[]", type);
+            assertSameOutcome("null", type);
+        }
+    }
+
+    @Test
+    void testCoercedScalarsMatchReflectivePath() throws Exception {
+        assertEquivalent("{\"id\":42,\"clickThroughs\":\"7\",\"deactivated\":\"true\",\"views\":2.0}",
+                InvitationResult.class);
+        assertSameOutcome("{\"deliveryTypes\":\"email\"}", InvitationResult.class);
+        assertSameOutcome("{\"clickThroughs\":12345678901}", InvitationResult.class);
+        assertSameOutcome("{\"status\":\"unknown-status\"}", InvitationResult.class);
+        assertSameOutcome("{\"target\":[{\"type\":\"carrier-pigeon\"}]}", InvitationResult.class);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation") // InvitationGroup is the only subclass of InvitationScope
+    void testSubclassElementsUseTheirOwnSerializer() throws Exception {
+        InvitationResult invitation = new InvitationResult();
+        List<InvitationScope> groups = new ArrayList<>();
+        groups.add(new InvitationGroup("id", "account", "team-1", "team", "Team", "2025-01-01T00:00:00Z"));
+        groups.add(null);
+        invitation.setGroups(groups);
+
+        assertEquals(reflective.writeValueAsString(invitation), generated.writeValueAsString(invitation));
+    }
+
+    @Test
+    void testDifferentlyConfiguredMapperKeepsReflectiveCodecs() throws Exception {
+        ObjectMapper sorted = JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .addModule(new VortexTypesModule()).build();
+        ObjectMapper reflectiveSorted = JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build();
+        InvitationResult invitation = reflective.readValue(fixture("invitation-result.json"), InvitationResult.class);
+
+        assertFalse(sorted.getSerializerProviderInstance().findValueSerializer(InvitationResult.class)
+                instanceof TypeCodec.Serializer);
+        assertEquals(reflectiveSorted.writeValueAsString(invitation), sorted.writeValueAsString(invitation));
+        assertNotEquals(reflective.writeValueAsString(invitation), sorted.writeValueAsString(invitation));
+    }
+
+    /**
+     * Decode {@code json} with both mappers, then encode both results with
+     * both mappers: all four encodings must be identical
+     */
+    private void assertEquivalent(String json, Class<?> type) throws Exception {
+        Object expected = reflective.readValue(json, type);
+        Object actual = generated.readValue(json, type);
+        String expectedJson = reflective.writeValueAsString(expected);
+        assertEquals(expectedJson, reflective.writeValueAsString(actual), type.getSimpleName() + " read from " + json);
+        assertEquals(expectedJson, generated.writeValueAsString(expected), type.getSimpleName() + " written");
+        assertEquals(expectedJson, generated.writeValueAsString(actual), type.getSimpleName() + " round trip");
+    }
+
+    /** Both mappers accept {@code json}, or both reject it with the same exception type */
+    private void assertSameOutcome(String json, Class<?> type) throws Exception {
+        String expected;
+        String actual;
+        try {
+            expected = reflective.writeValueAsString(reflective.readValue(json, type));
+        } catch (JsonProcessingException e) {
+            expected = e.getClass().getName();
+        }
+        try {
+            actual = reflective.writeValueAsString(generated.readValue(json, type));
+        } catch (JsonProcessingException e) {
+            actual = e.getClass().getName();
+        }
+        assertEquals(expected, actual, type.getSimpleName() + " read from " + json);
+    }
+
+    /** A JSON value for {@code type} with every property set */
+    private JsonNode sample(JavaType type, int depth) {
+        JsonNodeFactory nodes = JsonNodeFactory.instance;
+        Class<?> raw = type.getRawClass();
+        if (raw == String.class) {
+            return nodes.textNode("value-" + depth);
+        } else if (raw == int.class || raw == Integer.class) {
+            return nodes.numberNode(7 + depth);
+        } else if (raw == boolean.class || raw == Boolean.class) {
+            return nodes.booleanNode(true);
+        } else if (raw.isEnum()) {
+            return reflective.valueToTree(raw.getEnumConstants()[raw.getEnumConstants().length - 1]);
+        } else if (raw == Object.class) {
+            return nodes.textNode("1h");
+        } else if (type.isCollectionLikeType()) {
+            ArrayNode array = nodes.arrayNode();
+            array.add(sample(type.getContentType(), depth + 1));
+            array.addNull();
+            return array;
+        } else if (type.isMapLikeType()) {
+            ObjectNode map = nodes.objectNode();
+            map.set("text", nodes.textNode("value"));
+            map.set("missing", nodes.nullNode());
+            if (type.getContentType().getRawClass() == Object.class) {
+                map.set("number", nodes.numberNode(1.5));
+                map.putObject("nested").putArray("list").add(1).add("two").addNull();
+            }
+            return map;
+        }
+        ObjectNode object = nodes.objectNode();
+        if (depth > 3) {
+            return object;
+        }
+        BeanDescription description = reflective.getDeserializationConfig().introspect(type);
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (property.getMutator() instanceof AnnotatedMethod) {
+                object.set(property.getName(),
+                        sample(((AnnotatedMethod) property.getMutator()).getParameterType(0), depth + 1));
+            }
+        }
+        return object;
+    }
+
+    private ObjectNode nulls(Class<?> type) {
+        ObjectNode object = JsonNodeFactory.instance.objectNode();
+        for (BeanPropertyDefinition property : reflective.getDeserializationConfig()
+                .introspect(reflective.constructType(type)).findProperties()) {
+            object.putNull(property.getName());
+        }
+        return object;
+    }
+
+    private static String fixture(String name) throws IOException {
+        try (InputStream in = VortexTypesModuleTest.class.getClassLoader().getResourceAsStream("fixtures/" + name)) {
+            assertNotNull(in, "Missing fixture " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}